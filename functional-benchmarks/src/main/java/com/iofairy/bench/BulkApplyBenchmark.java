@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.bench;
+
+import com.iofairy.pattern.Pattern;
+import com.iofairy.pattern.compiled.ValueCompiledMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.iofairy.pattern.Pattern.*;
+
+/**
+ * Bulk matching of {@link ValueCompiledMatcher}: rebuilding a fluent chain per element vs.
+ * {@code applyAll} vs. {@code applyAllParallel}. <br>
+ * 逐个元素构建 match 链、{@code applyAll} 与 {@code applyAllParallel} 的吞吐量对比，
+ * 使用 {@code -t} 或改变 {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism} 观察随核数的扩展。
+ *
+ * @since 0.4.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkApplyBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    public List<Integer> values;
+
+    public ValueCompiledMatcher<Integer, String> matcher;
+
+    @Setup
+    public void setup() {
+        values = IntStream.range(0, size).map(i -> ThreadLocalRandom.current().nextInt(16)).boxed().collect(Collectors.toList());
+        matcher = Pattern.<Integer, String>compile(VALUE)
+                .when(1,                v -> "one")
+                .when(in(2, 3, 4),      v -> "small")
+                .when(in(5, 6, 7, 8),   v -> "medium")
+                .orElse(                v -> "large");
+    }
+
+    @Benchmark
+    public List<String> fluentPerElement() {
+        return values.stream().map(value -> match(value)
+                .when(1,                v -> "one")
+                .when(in(2, 3, 4),      v -> "small")
+                .when(in(5, 6, 7, 8),   v -> "medium")
+                .orElse(                v -> "large"))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> applyAll() {
+        return matcher.applyAll(values);
+    }
+
+    @Benchmark
+    public List<String> applyAllParallel() {
+        return matcher.applyAllParallel(values);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.iofairy.pattern.Pattern.*;
+
+/**
+ * Fluent {@code match(v).when(...).orElse(...)} chains of 3 ~ 10 branches. <br>
+ * Run with {@code -prof gc}, {@code gc.alloc.rate.norm} should be ~0 B/op in steady state,
+ * the mapping and matcher objects are scalar replaced after the chain is inlined, so every {@code when} method of the
+ * matchers must stay under {@code -XX:FreqInlineSize} (325 bytes). {@code PatternTest.testFluentChainAllocation} checks
+ * the value and String chains with {@code ThreadMXBean.getThreadAllocatedBytes}. <br>
+ * 运行时加上 {@code -prof gc}，稳定状态下 {@code gc.alloc.rate.norm} 应约等于 0 B/op，匹配器的 {@code when} 方法需要保持在
+ * 内联上限以内，{@code PatternTest.testFluentChainAllocation} 会检查这一点。
+ *
+ * <pre>
+ * mvn -P benchmark -pl functional-benchmarks -am package
+ * java -jar functional-benchmarks/target/benchmarks.jar MatchChainBenchmark -prof gc
+ * </pre>
+ *
+ * @since 0.4.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchChainBenchmark {
+
+    @Param({"1", "5", "42"})
+    public int value;
+
+    public String str;
+
+    @Setup
+    public void setup() {
+        str = "s" + value;
+    }
+
+    @Benchmark
+    public int switchBaseline() {
+        switch (value) {
+            case 1:
+                return 10;
+            case 2:
+                return 20;
+            case 3:
+                return 30;
+            default:
+                return -1;
+        }
+    }
+
+    @Benchmark
+    public int value3() {
+        return match(value)
+                .when(1, v -> 10)
+                .when(2, v -> 20)
+                .when(3, v -> 30)
+                .orElse(v -> -1);
+    }
+
+    @Benchmark
+    public int value10() {
+        return match(value)
+                .when(1,  v -> 10)
+                .when(2,  v -> 20)
+                .when(3,  v -> 30)
+                .when(4,  v -> 40)
+                .when(5,  v -> 50)
+                .when(6,  v -> 60)
+                .when(7,  v -> 70)
+                .when(8,  v -> 80)
+                .when(9,  v -> 90)
+                .when(10, v -> 100)
+                .orElse(v -> -1);
+    }
+
+    @Benchmark
+    public int string5() {
+        return match(str, STRING)
+                .when("s1", v -> 10)
+                .when("s2", v -> 20)
+                .when("s3", v -> 30)
+                .when("s4", v -> 40)
+                .when("s5", v -> 50)
+                .orElse(v -> -1);
+    }
+
+    @Benchmark
+    public String boolean5() {
+        int i = value;
+        return match()
+                .when(i == 0,           v -> "zero")
+                .when(i < 5 && i > 0,   v -> "small")
+                .when(i == 5,           v -> "five")
+                .whenIf(() -> i > 10,   v -> "big")
+                .when(i > 5,            v -> "medium")
+                .orElse(                v -> "negative");
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.bench;
+
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.Tuple3;
+import com.iofairy.tuple.TupleAccessor;
+import com.iofairy.tuple.TupleSchema;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summing a column of aliased {@link Tuple3} rows: field access {@code t._3} vs. {@code t.__("price")} vs.
+ * {@link TupleAccessor}. <br>
+ * 对带别名的 {@link Tuple3} 的某一列求和：字段访问、别名访问与 {@link TupleAccessor} 的对比。
+ *
+ * @since 0.4.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TupleAccessorBenchmark {
+    private static final TupleSchema SCHEMA = TupleSchema.of("id", "name", "price");
+    private static final TupleAccessor<Double> PRICE = SCHEMA.accessor("price", Double.class);
+
+    @Param({"10000"})
+    public int size;
+
+    public Tuple3<Integer, String, Double>[] rows;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        rows = new Tuple3[size];
+        for (int i = 0; i < size; i++) rows[i] = Tuple.of(i, "n" + i, i * 0.5).alias(SCHEMA);
+    }
+
+    @Benchmark
+    public double field() {
+        double sum = 0;
+        for (Tuple3<Integer, String, Double> row : rows) sum += row._3;
+        return sum;
+    }
+
+    @Benchmark
+    public double alias() {
+        double sum = 0;
+        for (Tuple3<Integer, String, Double> row : rows) sum += row.<Double>__("price");
+        return sum;
+    }
+
+    @Benchmark
+    public double accessor() {
+        double sum = 0;
+        for (Tuple3<Integer, String, Double> row : rows) sum += PRICE.get(row);
+        return sum;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.bench;
+
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.Tuple3;
+import com.iofairy.tuple.TupleCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing an aliased {@link Tuple3}: default Java serialization of the tuple object graph (a subclass, so that
+ * the compact proxy is not used) vs. Java serialization through the {@link TupleCodec} proxy vs. {@link TupleCodec}
+ * directly. The encoded sizes are printed in setup. <br>
+ * 序列化带别名的 {@link Tuple3}：默认的 Java 序列化（使用子类，不走紧凑代理）、通过 {@link TupleCodec} 代理的 Java 序列化、
+ * 直接使用 {@link TupleCodec} 三者的对比，编码后的大小在 setup 中输出。
+ *
+ * @since 0.4.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TupleCodecBenchmark {
+
+    /**
+     * 子类不使用 TupleCodec 代理，用于测量默认的 Java 序列化
+     */
+    public static class PlainTuple3<T1, T2, T3> extends Tuple3<T1, T2, T3> {
+        private static final long serialVersionUID = 1L;
+
+        public PlainTuple3(T1 _1, T2 _2, T3 _3) {
+            super(_1, _2, _3);
+        }
+    }
+
+    public Tuple tuple;
+    public Tuple plainTuple;
+    public byte[] javaBytes;
+    public byte[] proxyBytes;
+    public byte[] codecBytes;
+    public ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+    @Setup
+    public void setup() throws IOException {
+        tuple = Tuple.of(42L, "order-20210101-0001", 99.5).alias("id", "orderNo", "amount");
+        plainTuple = new PlainTuple3<>(42L, "order-20210101-0001", 99.5).alias("id", "orderNo", "amount");
+        javaBytes = serialize(plainTuple);
+        proxyBytes = serialize(tuple);
+        codecBytes = TupleCodec.encode(tuple);
+        System.out.println("\nsize: java=" + javaBytes.length + "B, proxy=" + proxyBytes.length + "B, codec=" + codecBytes.length + "B");
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        }
+    }
+
+    @Benchmark
+    public byte[] writeJava() throws IOException {
+        return serialize(plainTuple);
+    }
+
+    @Benchmark
+    public byte[] writeProxy() throws IOException {
+        return serialize(tuple);
+    }
+
+    @Benchmark
+    public byte[] writeCodec() {
+        return TupleCodec.encode(tuple);
+    }
+
+    @Benchmark
+    public int writeCodecBuffer() {
+        buffer.clear();
+        new TupleCodec().write(tuple, buffer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public Object readJava() throws IOException, ClassNotFoundException {
+        return deserialize(javaBytes);
+    }
+
+    @Benchmark
+    public Object readProxy() throws IOException, ClassNotFoundException {
+        return deserialize(proxyBytes);
+    }
+
+    @Benchmark
+    public Object readCodec() {
+        return TupleCodec.decode(codecBytes);
+    }
+}
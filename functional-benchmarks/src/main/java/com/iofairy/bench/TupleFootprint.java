@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.bench;
+
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.Tuple2;
+import com.iofairy.tuple.TupleSchema;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Heap footprint of tuples measured with JOL: a single {@link Tuple2}, and one million aliased rows
+ * sharing a {@link TupleSchema}. <br>
+ * 使用 JOL 测量元组的堆内存占用：单个 {@link Tuple2}，以及共享同一 {@link TupleSchema} 的一百万行带别名的元组。
+ *
+ * <pre>
+ * mvn -P benchmark -pl functional-benchmarks -am package
+ * java -Djdk.attach.allowAttachSelf -cp functional-benchmarks/target/benchmarks.jar com.iofairy.bench.TupleFootprint
+ * </pre>
+ *
+ * @since 0.4.2
+ */
+public class TupleFootprint {
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Integer element = 1;
+
+        Tuple2<Integer, Integer> plain = Tuple.of(element, element);
+        System.out.println(ClassLayout.parseInstance(plain).toPrintable());
+        System.out.println("Tuple2 without aliases: " + GraphLayout.parseInstance(plain).totalSize() + " bytes (elements included)");
+
+        Tuple2<Integer, Integer> aliased = Tuple.of(element, element).alias("id", "quantity");
+        System.out.println("Tuple2 with aliases:    " + GraphLayout.parseInstance(aliased).totalSize() + " bytes (schema included)");
+
+        Object[] table = new Object[rows];
+        for (int i = 0; i < rows; i++) {
+            table[i] = Tuple.of(element, element).alias("id", "quantity");
+        }
+        long total = GraphLayout.parseInstance(table).totalSize();
+        System.out.println(rows + " aliased rows: " + total + " bytes, " + (double) total / rows + " bytes/row");
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.bench;
+
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.Tuple2;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Composite keys in {@link HashMap}: {@link Tuple2} keys vs. string-concatenated keys, for grouping and hash join. <br>
+ * 使用 {@link Tuple2} 与字符串拼接作为 {@link HashMap} 复合键的对比（分组与哈希连接）。
+ * 运行时加上 {@code -prof gc} 观察两者的内存分配。
+ *
+ * @since 0.4.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TupleKeyBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    public String[] regions;
+    public int[] years;
+    public long[] amounts;
+    /**
+     * 预先构建的元组键，模拟上游已经以元组形式产生的数据
+     */
+    public Tuple2<String, Integer>[] tupleKeys;
+
+    public Map<Tuple2<String, Integer>, Long> tupleBuildSide;
+    public Map<String, Long> stringBuildSide;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        regions = new String[size];
+        years = new int[size];
+        amounts = new long[size];
+        tupleKeys = new Tuple2[size];
+        tupleBuildSide = new HashMap<>();
+        stringBuildSide = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            regions[i] = "region-" + random.nextInt(100);
+            years[i] = 2000 + random.nextInt(20);
+            amounts[i] = random.nextInt(1000);
+            tupleKeys[i] = Tuple.of(regions[i], years[i]);
+            tupleBuildSide.put(Tuple.of(regions[i], years[i]), amounts[i]);
+            stringBuildSide.put(regions[i] + "|" + years[i], amounts[i]);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Long> groupByStringKey() {
+        Map<String, Long> sums = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            sums.merge(regions[i] + "|" + years[i], amounts[i], Long::sum);
+        }
+        return sums;
+    }
+
+    @Benchmark
+    public Map<Tuple2<String, Integer>, Long> groupByTupleKey() {
+        Map<Tuple2<String, Integer>, Long> sums = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            sums.merge(Tuple.of(regions[i], years[i]), amounts[i], Long::sum);
+        }
+        return sums;
+    }
+
+    @Benchmark
+    public Map<Tuple2<String, Integer>, Long> groupByExistingTupleKey() {
+        Map<Tuple2<String, Integer>, Long> sums = new HashMap<>();
+        for (Tuple2<String, Integer> key : tupleKeys) {
+            sums.merge(key, 1L, Long::sum);
+        }
+        return sums;
+    }
+
+    @Benchmark
+    public long joinOnStringKey() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            Long amount = stringBuildSide.get(regions[i] + "|" + years[i]);
+            if (amount != null) total += amount;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long joinOnTupleKey() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            Long amount = tupleBuildSide.get(Tuple.of(regions[i], years[i]));
+            if (amount != null) total += amount;
+        }
+        return total;
+    }
+}
@@ -1,15 +1,30 @@
 package com.iofairy.test;
 
+import com.iofairy.except.NonExhaustiveMatchException;
 import com.iofairy.lambda.R1;
+import com.iofairy.pattern.Pattern;
 import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.PatternRange;
+import com.iofairy.pattern.PatternTuple;
+import com.iofairy.pattern.compiled.*;
+import com.iofairy.pattern.rule.*;
 import com.iofairy.tuple.*;
 import com.iofairy.top.G;
 import org.junit.jupiter.api.Test;
 
-import java.util.Objects;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.iofairy.pattern.Pattern.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 
 /**
@@ -329,6 +344,601 @@ public class PatternTest {
         assertEquals("all null", matchRes5);
     }
 
+    @Test
+    public void testStringRegexAndGlob() {
+        String path = "/api/v2/users/10";
+        String res1 = match(path, REGEX)
+                .when("/api/v\\d+/orders/.*",   v -> "orders")
+                .when("/api/v\\d+/users/\\d+",  v -> "users")
+                .orElse(                        v -> "no match");
+        assertEquals("users", res1);
+
+        String res2 = match("report-2021.csv", GLOB)
+                .when("*.{xls,xlsx}",               v -> "excel")
+                .when(in("*.txt", "report-????.*"), v -> "report")
+                .orElse(                            v -> "no match");
+        assertEquals("report", res2);
+
+        String res3 = match((String) null, GLOB)
+                .when("*",              v -> "any")
+                .when((String) null,    v -> "null")
+                .orElse(                v -> "no match");
+        assertEquals("null", res3);
+
+        assertEquals("(?s:.*\\.java)", RegexCache.globToRegex("*.java"));
+        assertEquals("(?s:[^a-c]\\*.)", RegexCache.globToRegex("[!a-c]\\*?"));
+        assertTrue(RegexCache.glob("[!a-c]*").matcher("dog").matches());
+        assertFalse(RegexCache.glob("[!a-c]*").matcher("cat").matches());
+        assertSame(RegexCache.regex("a+b"), RegexCache.regex("a+b"));
+    }
+
+    @Test
+    public void testCompiledStringMatcher() {
+        StringCompiledMatcher<String> router = Pattern.<String>compile(REGEX)
+                .when("/api/v\\d+/orders/.*",       v -> "orders")
+                .when("/api/v(\\d+)/users/.*",      v -> "users")
+                .when(in("/health", "/ping"),       v -> "health")
+                .when("/api/.*",                    v -> "api")
+                .orElse(                            v -> "not found");
+        assertTrue(router.isCombined());
+        assertEquals("users", router.match("/api/v2/users/10"));
+        assertEquals("health", router.match("/ping"));
+        assertEquals("api", router.match("/api/v2/goods"));
+        assertEquals("not found", router.match("/index.html"));
+        assertEquals("not found", router.match(null));
+        assertEquals(1, router.branchOf("/api/v1/users/"));
+        assertEquals(CompiledMatcher.NO_MATCH, router.branchOf("/"));
+
+        // back reference can't be combined, match branch by branch
+        StringCompiledMatcher<Integer> backRef = Pattern.<Integer>compile(REGEX)
+                .when("(\\w)\\1+",  v -> 1)
+                .when("\\w+",       v -> 2)
+                .build();
+        assertFalse(backRef.isCombined());
+        assertEquals(1, backRef.match("aaa"));
+        assertEquals(2, backRef.match("abc"));
+        assertNull(backRef.match("a-b"));
+
+        StringCompiledMatcher<String> files = Pattern.<String>compile(GLOB)
+                .when("*.{png,jpg}",    v -> "image")
+                .when("*.java",         v -> "java")
+                .when((String) null,    v -> "null")
+                .orElse(                v -> "other");
+        assertEquals("image", files.match("logo.jpg"));
+        assertEquals("java", files.match("Pattern.java"));
+        assertEquals("null", files.match(null));
+        assertEquals("other", files.match("pom.xml"));
+
+        StringCompiledMatcher<String> exact = Pattern.<String>compile(STRING)
+                .when("a",          v -> "1")
+                .when(in("b", "a"), v -> "2")
+                .orElse(            v -> "3");
+        assertEquals("1", exact.match("a"));
+        assertEquals("2", exact.match("b"));
+        assertEquals("3", exact.match("c"));
+
+        StringCompiledMatcher<String> icSuffix = Pattern.<String>compile(ICSUFFIX)
+                .when("fghij",  v -> "fGHIj")
+                .when("aBcd",   v -> "aBcd")
+                .orElse(        v -> "no match");
+        assertEquals("fGHIj", icSuffix.match("aBcdE123.$fGHIj"));
+    }
+
+    @Test
+    public void testCompiledMatcherApplyAll() {
+        ValueCompiledMatcher<Integer, String> matcher = Pattern.<Integer, String>compile(VALUE)
+                .when(1,                v -> "one")
+                .when(in(2, 3, 1),      v -> "small")
+                .when((Integer) null,   v -> "null")
+                .orElse(                v -> "other");
+        assertEquals("one", matcher.match(1));
+        assertEquals("small", matcher.match(3));
+        assertEquals("null", matcher.match(null));
+        assertEquals("other", matcher.match(10));
+
+        List<Integer> values = Arrays.asList(1, 2, null, 10, 3);
+        List<String> expected = Arrays.asList("one", "small", "null", "other", "small");
+        assertEquals(expected, matcher.applyAll(values));
+        assertEquals(expected, matcher.applyAll(values.toArray(new Integer[0])));
+        assertEquals(expected, matcher.applyAll(values.stream()).collect(Collectors.toList()));
+        assertEquals(expected, values.stream().collect(matcher.collector()));
+        assertEquals(expected, matcher.applyAllParallel(values));
+        assertEquals("{-1=[other], 0=[one], 1=[small, small], 2=[null]}", matcher.applyAllGrouped(values).toString());
+
+        List<Integer> bigValues = IntStream.range(0, 100_000).map(i -> i % 5).boxed().collect(Collectors.toList());
+        List<String> results = matcher.applyAllParallel(bigValues, 100);
+        assertEquals(matcher.applyAll(bigValues), results);
+        assertEquals(matcher.applyAll(bigValues), bigValues.parallelStream().collect(matcher.collector()));
+        SortedMap<Integer, List<String>> groups = matcher.applyAllParallelGrouped(bigValues, 1000);
+        assertEquals(matcher.applyAllGrouped(bigValues), groups);
+        assertEquals(40_000, groups.get(CompiledMatcher.NO_MATCH).size());
+        assertEquals(matcher.applyAll(new Integer[0]), matcher.applyAllParallel(new Integer[0]));
+
+        assertThrows(IllegalArgumentException.class, () -> matcher.applyAllParallel(values, 0));
+    }
+
+    @Test
+    public void testAdaptiveCompiledMatcher() {
+        AdaptiveCompiledMatcher<Integer, String> matcher = Pattern.<Integer, String>compileAdaptive()
+                .when(v -> v == null,                       v -> "null")
+                .whenDisjoint(v -> v < 0,                   v -> "negative")
+                .whenDisjoint(v -> v >= 0 && v < 10,        v -> "small")
+                .whenDisjoint(v -> v >= 10,                 v -> "big")
+                .when(v -> v % 2 == 0,                      v -> "even")
+                .reorderInterval(100)
+                .orElse(                                    v -> "other");
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, matcher.evaluationOrder());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("big", matcher.match(100 + i));
+        }
+        for (int i = 0; i < 200; i++) {
+            assertEquals("small", matcher.match(i % 10));
+        }
+        // only the disjoint branches are reordered, "null" branch is never moved
+        assertArrayEquals(new int[]{0, 3, 2, 1, 4}, matcher.evaluationOrder());
+        assertArrayEquals(new long[]{0, 0, 200, 1000, 0}, matcher.hitCounts());
+        assertEquals("null", matcher.match(null));
+        assertEquals("negative", matcher.match(-1));
+        assertEquals(0, matcher.missCount());
+
+        matcher.resetMetrics();
+        assertArrayEquals(new long[]{0, 0, 0, 0, 0}, matcher.hitCounts());
+
+        assertThrows(IllegalArgumentException.class, () -> Pattern.<Integer, String>compileAdaptive().reorderInterval(0));
+    }
+
+    @Test
+    public void testCompiledPreAction() {
+        AtomicInteger calls = new AtomicInteger();
+        R1<String, String> preAction = s -> {
+            calls.incrementAndGet();
+            return "123" + (s == null ? null : s.toLowerCase());
+        };
+        ValueCompiledMatcher<String, String> matcher = Pattern.<String, String, String>compile(preAction, String.class)
+                .when("123",                    v -> "1 " + v + "-- 123")
+                .when("123ABC",                 v -> "2 " + v + "-- 123ABC")
+                .when((PatternIn<String>) null, v -> "3 " + v + "-- null")
+                .when(in("abc", "ABC"),         v -> "4 " + v + "-- ABC")
+                .when("ABC",                    v -> "5 " + v + "-- ABC")
+                .orElse(                        v -> "orElse " + v);
+        assertEquals(6, calls.get());
+
+        assertEquals("4 123abc-- ABC", matcher.match("123abc"));
+        assertEquals("1 123123-- 123", matcher.match("123123"));
+        assertEquals("3 123null-- null", matcher.match("123null"));
+        assertEquals("orElse 123", matcher.match("123"));
+        for (String str : Arrays.asList("123abc", "123123", "123", null)) {
+            String expected = match(str, preAction, String.class)
+                    .when("123",                    v -> "1 " + v + "-- 123")
+                    .when("123ABC",                 v -> "2 " + v + "-- 123ABC")
+                    .when((PatternIn<String>) null, v -> "3 " + v + "-- null")
+                    .when(in("abc", "ABC"),         v -> "4 " + v + "-- ABC")
+                    .when("ABC",                    v -> "5 " + v + "-- ABC")
+                    .orElse(                        v -> "orElse " + v);
+            calls.set(6);
+            assertEquals(expected, matcher.match(str));
+            assertEquals(6, calls.get());
+        }
+
+        ValueCompiledMatcher<String, Integer> trimmed = Pattern.<String, Integer>compile(v -> v.trim().toUpperCase())
+                .when(" a ",        v -> 1)
+                .when(in("b", "c"), v -> 2)
+                .orElse(v -> 0);
+        assertEquals(2, trimmed.match("C"));
+        assertEquals(0, trimmed.match("c"));
+    }
+
+    @Test
+    public void testRange() {
+        long latency = 120;
+        String tier = match(latency)
+                .whenRange(below(100),          v -> "fast")
+                .whenRange(between(100, 500),   v -> "normal")
+                .whenRange(atLeast(500.0),      v -> "slow")
+                .orElse(                        v -> "unknown");
+        assertEquals("normal", tier);
+        assertEquals("slow", match(500L).whenRange(below(100), v -> "fast").whenRange(atLeast(500.0), v -> "slow").orElse(v -> "unknown"));
+        assertEquals("unknown", match((Long) null).whenRange(below(100), v -> "fast").orElse(v -> "unknown"));
+        assertTrue(between(new BigDecimal("0.1"), 1).contains(0.5f));
+        assertFalse(between(1, 1).contains(1));
+        assertTrue(between(1, 1).isEmpty());
+        assertEquals("[-∞, 10)", below(10).toString());
+        assertEquals("Q2", match(LocalDate.of(2021, 5, 1))
+                .whenRange(below(LocalDate.of(2021, 4, 1)),                         v -> "Q1")
+                .whenRange(between(LocalDate.of(2021, 4, 1), LocalDate.of(2021, 7, 1)), v -> "Q2")
+                .orElse(                                                            v -> "H2"));
+
+        RangeCompiledMatcher<Number, String> tiers = Pattern.<Number, String>compileRange()
+                .when(between(100, 500),    v -> "normal")
+                .when(below(100),           v -> "fast")
+                .when(atLeast(500L),        v -> "slow")
+                .build();
+        assertFalse(tiers.isOverlapped());
+        assertEquals("fast", tiers.match(-1));
+        assertEquals("normal", tiers.match(100.0));
+        assertEquals("normal", tiers.match(499.9));
+        assertEquals("slow", tiers.match(new BigInteger("100000000000000000000")));
+        assertNull(tiers.match(null));
+
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            List<PatternRange<Integer>> ranges = new ArrayList<>();
+            RangeMatcherBuilder<Integer, Integer> builder = Pattern.compileRange();
+            for (int i = 0; i < 30; i++) {
+                int lower = random.nextInt(1000);
+                PatternRange<Integer> range = i % 10 == 0 ? atLeast(lower) : between(lower, lower + random.nextInt(100));
+                int branch = i;
+                ranges.add(range);
+                builder.when(range, v -> branch);
+            }
+            RangeCompiledMatcher<Integer, Integer> matcher = builder.orElse(v -> -1);
+            assertTrue(matcher.isOverlapped());
+            for (int v = -10; v < 1200; v++) {
+                int expected = -1;
+                for (int i = 0; i < ranges.size(); i++) {
+                    if (ranges.get(i).contains(v)) {
+                        expected = i;
+                        break;
+                    }
+                }
+                assertEquals(expected, matcher.match(v));
+            }
+        }
+    }
+
+    enum State {NEW, RUNNING, PAUSED, STOPPED}
+
+    @Test
+    public void testCompiledEnumMatcher() {
+        EnumCompiledMatcher<State, State> next = Pattern.<State, State>compileEnum(State.class)
+                .when(State.NEW,                            v -> State.RUNNING)
+                .when(in(State.RUNNING, State.PAUSED),      v -> State.STOPPED)
+                .when(State.PAUSED,                         v -> State.RUNNING)
+                .when(State.STOPPED,                        v -> State.STOPPED)
+                .build();
+        assertEquals(State.RUNNING, next.match(State.NEW));
+        assertEquals(State.STOPPED, next.match(State.PAUSED));
+        assertEquals(1, next.branchOf(State.PAUSED));
+        assertNull(next.match(null));
+        assertEquals(CompiledMatcher.NO_MATCH, next.branchOf(null));
+
+        NonExhaustiveMatchException e = assertThrows(NonExhaustiveMatchException.class, () -> Pattern.<State, String>compileEnum(State.class)
+                .when(State.NEW,        v -> "new")
+                .when(State.RUNNING,    v -> "running")
+                .build());
+        assertTrue(e.getMessage().contains("[PAUSED, STOPPED]"));
+
+        EnumCompiledMatcher<State, String> names = Pattern.<State, String>compileEnum(State.class)
+                .when(State.NEW,            v -> "new")
+                .when((State) null,         v -> "null")
+                .orElse(                    v -> "other " + v);
+        assertEquals("new", names.match(State.NEW));
+        assertEquals("null", names.match(null));
+        assertEquals("other STOPPED", names.match(State.STOPPED));
+        assertEquals(Arrays.asList("new", "other RUNNING", "other PAUSED", "other STOPPED"), names.applyAll(State.values()));
+    }
+
+    @Test
+    public void testCompiledTupleMatcher() {
+        TupleCompiledMatcher<Integer> discount = Pattern.<Integer>compileTuple(3)
+                .when(tuple("VIP",  ANY,                ANY),                       v -> 30)
+                .when(tuple(ANY,    in("EU", "US"),     "gold"),                    v -> 20)
+                .when(tuple(ANY,    "CN",               instanceOf(Number.class)),  v -> 10)
+                .when(tuple(ANY,    null,               ANY),                       v -> 1)
+                .orElse(                                                            v -> 0);
+        assertEquals(30, discount.match(Tuple.of("VIP", "US", "gold")));
+        assertEquals(20, discount.match(Tuple.of("NEW", "EU", "gold")));
+        assertEquals(0, discount.match(Tuple.of("NEW", "EU", "silver")));
+        assertEquals(10, discount.match(Tuple.of("NEW", "CN", 1.5)));
+        assertEquals(10, discount.match(Tuple.of("NEW", "CN", 2)));
+        assertEquals(0, discount.match(Tuple.of("NEW", "CN", "2")));
+        assertEquals(1, discount.match(Tuple.of(null, null, null)));
+        assertEquals(0, discount.match(Tuple.of("NEW", "CN")));
+        assertEquals(0, discount.match(null));
+        assertThrows(IllegalArgumentException.class, () -> Pattern.<Integer>compileTuple(2).when(tuple(1, 2, 3), v -> 1));
+
+        // compare with matching branch by branch
+        Object[] choices = {ANY, 1, 2, "a", null, in(1, "a"), in(2, null), instanceOf(Integer.class), instanceOf(CharSequence.class)};
+        Object[] values = {1, 2, 3, "a", "b", null, 1.0, new StringBuilder("a")};
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            List<PatternTuple> patterns = new ArrayList<>();
+            TupleMatcherBuilder<Integer> builder = Pattern.compileTuple(3);
+            for (int i = 0; i < 12; i++) {
+                PatternTuple pattern = tuple(choices[random.nextInt(choices.length)], choices[random.nextInt(choices.length)], choices[random.nextInt(choices.length)]);
+                int branch = i;
+                patterns.add(pattern);
+                builder.when(pattern, v -> branch);
+            }
+            TupleCompiledMatcher<Integer> matcher = builder.build();
+            for (Object v1 : values) {
+                for (Object v2 : values) {
+                    for (Object v3 : values) {
+                        Tuple3<Object, Object, Object> t = Tuple.of(v1, v2, v3);
+                        Integer expected = null;
+                        for (int i = 0; i < patterns.size(); i++) {
+                            if (patterns.get(i).matches(t)) {
+                                expected = i;
+                                break;
+                            }
+                        }
+                        assertEquals(expected, matcher.match(t), patterns + " " + t);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMatchAsync() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2, r -> new Thread(r, "async-matcher"));
+        try {
+            List<String> steps = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch slow = new CountDownLatch(1);
+            CompletableFuture<String> future = matchAsync("user", executor)
+                    .whenNext("user",   v -> CompletableFuture.supplyAsync(() -> {
+                        try {
+                            slow.await();
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        steps.add("audit");
+                        return "audit";
+                    }, executor))
+                    .when("admin",      v -> CompletableFuture.completedFuture("admin"))
+                    .when(in("user"),   v -> {
+                        steps.add("load " + Thread.currentThread().getName());
+                        return CompletableFuture.completedFuture("user loaded");
+                    })
+                    .orElse(            v -> CompletableFuture.completedFuture("unknown"));
+            // the caller thread is not blocked by the slow action
+            assertFalse(future.isDone());
+            slow.countDown();
+            assertEquals("user loaded", future.get(5, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList("audit", "load async-matcher"), steps);
+
+            assertEquals("unknown", matchAsync(1, executor)
+                    .when(2, v -> CompletableFuture.completedFuture("two"))
+                    .orElse(v -> CompletableFuture.completedFuture("unknown"))
+                    .get(5, TimeUnit.SECONDS));
+
+            CompletableFuture<String> failed = matchAsync(1, executor)
+                    .<String>when(1, v -> {
+                        throw new IllegalStateException("io error");
+                    })
+                    .orElse(v -> CompletableFuture.completedFuture("unknown"));
+            ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+            assertEquals("io error", e.getCause().getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRuleTable() {
+        AtomicInteger euCalls = new AtomicInteger();
+        Condition<Tuple3<String, Boolean, Double>> eu = Condition.of("region=EU", t -> {
+            euCalls.incrementAndGet();
+            return "EU".equals(t._1);
+        });
+        Condition<Tuple3<String, Boolean, Double>> vip = Condition.of("vip", t -> t._2);
+        Condition<Tuple3<String, Boolean, Double>> big = Condition.of("amount>=1000", t -> t._3 >= 1000);
+
+        RuleTable<Tuple3<String, Boolean, Double>, String> table = new RuleTableBuilder<Tuple3<String, Boolean, Double>, String>()
+                .rule("eu",             1,  t -> "eu",          eu)
+                .rule("eu-vip-big",     10, t -> "eu-vip-big",  eu, vip, big)
+                .rule("eu-not-vip",     5,  t -> "eu-not-vip",  eu, vip.not())
+                .rule("big",            1,  t -> "big",         big)
+                .rule("contradiction",  99, t -> "never",       vip, vip.not())
+                .orElse(                    t -> "none");
+        assertEquals(3, table.conditionCount());
+        assertEquals("eu-vip-big", table.match(Tuple.of("EU", true, 2000.0)));
+        assertEquals("eu-not-vip", table.match(Tuple.of("EU", false, 2000.0)));
+        assertEquals("eu", table.match(Tuple.of("EU", true, 10.0)));
+        assertEquals("big", table.match(Tuple.of("US", true, 2000.0)));
+        assertEquals("none", table.match(Tuple.of("US", false, 10.0)));
+        assertEquals("eu-vip-big", table.rule(table.branchOf(Tuple.of("EU", true, 2000.0))).getName());
+
+        // the shared condition is evaluated once per input
+        euCalls.set(0);
+        table.match(Tuple.of("EU", true, 10.0));
+        assertEquals(1, euCalls.get());
+
+        assertThrows(IllegalArgumentException.class, () -> new RuleTableBuilder<Integer, String>()
+                .rule("a", 1, v -> "a", Condition.of("c", v -> v > 0))
+                .rule("b", 1, v -> "b", Condition.of("c", v -> v > 1))
+                .build());
+
+        // compare with evaluating rule by rule
+        Random random = new Random(3);
+        List<Condition<Integer>> bits = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int bit = i;
+            bits.add(Condition.of("bit" + i, v -> (v >> bit & 1) == 1));
+        }
+        List<Rule<Integer, Integer>> rules = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            List<Condition<? super Integer>> conditions = new ArrayList<>();
+            for (int j = 0; j < 1 + random.nextInt(3); j++) {
+                Condition<Integer> bit = bits.get(random.nextInt(bits.size()));
+                conditions.add(random.nextBoolean() ? bit : bit.not());
+            }
+            int index = i;
+            rules.add(Rule.of("r" + i, random.nextInt(5), conditions, v -> index));
+        }
+        RuleEngine<Integer, Integer> engine = new RuleEngine<>(new RuleTableBuilder<Integer, Integer>().rules(rules).build());
+        for (int v = 0; v < 256; v++) {
+            Integer expected = null;
+            int priority = Integer.MIN_VALUE;
+            for (int i = 0; i < rules.size(); i++) {
+                Rule<Integer, Integer> rule = rules.get(i);
+                boolean satisfied = true;
+                for (Condition<? super Integer> c : rule.getConditions()) {
+                    if (c.getPredicate().$(v) != c.getExpected()) satisfied = false;
+                }
+                if (satisfied && rule.getPriority() > priority) {
+                    expected = i;
+                    priority = rule.getPriority();
+                }
+            }
+            assertEquals(expected, engine.evaluate(v));
+        }
+
+        RuleTable<Integer, Integer> old = engine.getTable();
+        RuleTable<Integer, Integer> newTable = new RuleTableBuilder<Integer, Integer>().orElse(v -> -1);
+        assertSame(old, engine.swap(newTable));
+        assertEquals(-1, engine.evaluate(3));
+        assertFalse(engine.compareAndSwap(old, old));
+        assertTrue(engine.compareAndSwap(newTable, old));
+    }
+
+    private static final String[] CHAIN_STRINGS = {"s1", "s3", "s5", "s42"};
+
+    private static int valueChain(int value) {
+        return match(value)
+                .when(1, v -> 10)
+                .when(2, v -> 20)
+                .when(3, v -> 30)
+                .when(4, v -> 40)
+                .when(5, v -> 50)
+                .orElse(v -> -1);
+    }
+
+    private static int stringChain(String str) {
+        return match(str, STRING)
+                .when("s1", v -> 10)
+                .when("s2", v -> 20)
+                .when("s3", v -> 30)
+                .when("s4", v -> 40)
+                .when("s5", v -> 50)
+                .orElse(v -> -1);
+    }
+
+    /**
+     * Same chains as {@code MatchChainBenchmark}: once JIT compiled, the mapping and matcher objects are scalar replaced,
+     * so a fluent chain allocates nothing. The methods of the matchers must stay under the inline limit for this.
+     */
+    @Test
+    public void testFluentChainAllocation() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        assumeTrue(ManagementFactory.getCompilationMXBean() != null
+                && !ManagementFactory.getRuntimeMXBean().getInputArguments().contains("-Xint"));
+
+        long threadId = Thread.currentThread().getId();
+        int batch = 100_000;
+        long sink = 0;
+        long bytesPerOp = Long.MAX_VALUE;
+        // warm up until the chains are compiled, at most 30 seconds
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (bytesPerOp > 0 && System.nanoTime() < deadline) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < batch; i++) {
+                sink += valueChain(i & 7) + stringChain(CHAIN_STRINGS[i & 3]);
+            }
+            bytesPerOp = (threads.getThreadAllocatedBytes(threadId) - before) / batch;
+        }
+        assertNotEquals(0, sink);
+        assertEquals(0, bytesPerOp, "bytes allocated per fluent chain");
+    }
+
+    @Test
+    public void testCompiledClassMatcher() {
+        ClassCompiledMatcher<String> exact = Pattern.<String>compileClass()
+                .when(String.class,                     c -> "string")
+                .when(in(Integer.class, Long.class),    c -> "integer")
+                .when(Number.class,                     c -> "number")
+                .orElse(                                c -> "other " + c.getSimpleName());
+        assertFalse(exact.isHierarchy());
+        assertEquals("string", exact.match(String.class));
+        assertEquals("integer", exact.matchClassOf(1L));
+        assertEquals("other Double", exact.matchClassOf(1.0));
+        assertEquals(CompiledMatcher.NO_MATCH, exact.branchOf(null));
+
+        ClassCompiledMatcher<String> serializers = Pattern.<String>compileClass()
+                .when(CharSequence.class,   c -> "chars")
+                .when(Number.class,         c -> "number")
+                .when(Collection.class,     c -> "collection")
+                .when(Object.class,         c -> "object")
+                .when(RandomAccess.class,   c -> "random access")
+                .withHierarchy()
+                .build();
+        assertTrue(serializers.isHierarchy());
+        assertEquals("number", serializers.match(Integer.class));
+        assertEquals("number", serializers.matchClassOf(new BigDecimal("1.5")));
+        // interfaces of each level before the superclass, first declared branch wins, Object last
+        assertEquals("collection", serializers.match(ArrayList.class));
+        assertEquals("collection", serializers.matchClassOf(new LinkedList<>()));
+        assertEquals("chars", serializers.matchClassOf("abc"));
+        assertEquals("chars", serializers.matchClassOf(new StringBuilder()));
+        assertEquals("chars", serializers.match(CharSequence.class));
+        assertEquals("collection", serializers.match(List.class));
+        assertEquals("collection", serializers.match(Set.class));
+        assertEquals("object", serializers.match(Runnable.class));
+        assertEquals("object", serializers.matchClassOf(new Thread()));
+        assertNull(serializers.match(int.class));
+
+        ClassCompiledMatcher<String> randomAccessFirst = Pattern.<String>compileClass()
+                .when(RandomAccess.class,   c -> "random access")
+                .when(Collection.class,     c -> "collection")
+                .withHierarchy()
+                .build();
+        assertEquals("random access", randomAccessFirst.match(ArrayList.class));
+        assertEquals("collection", randomAccessFirst.match(LinkedList.class));
+    }
+
+    @Test
+    public void testInstrumentedMatcher() {
+        InstrumentedMatcher<Integer, String> matcher = Pattern.<Integer, String>compile(VALUE)
+                .when(1,    v -> "one")
+                .when(2,    v -> "two")
+                .orElse(    v -> "other")
+                .instrument("numbers");
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i == 1 ? "one" : i == 2 ? "two" : "other", matcher.match(i));
+        }
+        MatchStats stats = MatcherRegistry.get("numbers");
+        assertSame(stats, matcher.getListener());
+        assertEquals(1, stats.hits(0));
+        assertEquals(1, stats.hits(1));
+        assertEquals(8, stats.hits(CompiledMatcher.NO_MATCH));
+        assertEquals(8, stats.latency(CompiledMatcher.NO_MATCH).count());
+        assertTrue(MatcherRegistry.names().contains("numbers"));
+        assertTrue(MatcherRegistry.dump().contains("orElse: hits=8"));
+
+        matcher.setListener(MatchListener.NOOP);
+        matcher.applyAll(Arrays.asList(1, 1, 1));
+        assertEquals(1, stats.hits(0));
+        assertSame(stats, MatcherRegistry.unregister("numbers"));
+        assertNull(MatcherRegistry.get("numbers"));
+
+        assertSame(MatchListener.NOOP, MatcherRegistry.listener("fluentNumbers"));
+        assertEquals("two", Pattern.named("fluentNumbers", () -> match(2).when(1, v -> "one").when(2, v -> "two").orElse(v -> "other")));
+        MatchStats fluentStats = new MatchStats("fluentNumbers", 1);
+        MatcherRegistry.register(fluentStats);
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            assertEquals(i == 1 ? "one" : "other", Pattern.named("fluentNumbers", () -> match(value).when(1, v -> "one").orElse(v -> "other")));
+        }
+        assertThrows(IllegalStateException.class, () -> Pattern.named("fluentNumbers", () -> match(1).when(1, (R1<Integer, Integer>) v -> {
+            throw new IllegalStateException();
+        }).orElse(v -> 0)));
+        assertEquals(6, fluentStats.hits(0));
+        assertEquals(6, fluentStats.latency(0).count());
+        assertSame(fluentStats, MatcherRegistry.unregister("fluentNumbers"));
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(0);
+        histogram.record(100);
+        histogram.record(1000);
+        assertEquals(3, histogram.count());
+        assertEquals(127, histogram.percentile(50));
+        assertEquals(1023, histogram.percentile(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101));
+    }
+
     @Test
     public void testNone() {
         int i = 10;
@@ -500,6 +1110,63 @@ public class PatternTest {
         assertEquals("i is greater than 5", ifResult);
     }
 
+    @Test
+    public void testPatternLazyCondition() {
+        int i = 10;
+        AtomicInteger counter = new AtomicInteger();
+        R1<Integer, Boolean> expensiveCheck = n -> {
+            counter.incrementAndGet();
+            return i > n;
+        };
+
+        String result = match()
+                .whenIf(() -> expensiveCheck.$(20), v -> "i > 20")
+                .whenIf(() -> expensiveCheck.$(5),  v -> "i > 5")
+                .whenIf(() -> expensiveCheck.$(0),  v -> "i > 0")
+                .when(i > 0,                      v -> "i > 0")
+                .orElse(v -> "i <= 0");
+        assertEquals("i > 5", result);
+        assertEquals(2, counter.get());
+
+        counter.set(0);
+        String res1 = match(i)
+                .when(1,                                v -> "one")
+                .whenIf(v -> expensiveCheck.$(v - 1),     v -> "predicate " + v)
+                .whenIf(v -> expensiveCheck.$(v - 2),     v -> "predicate " + v)
+                .orElse(                                v -> "no match");
+        assertEquals("predicate 10", res1);
+        assertEquals(1, counter.get());
+
+        counter.set(0);
+        String res2 = match("abc", PREFIX)
+                .when("b",                      v -> "b")
+                .whenIf(() -> counter.get() > 0,  v -> "counter")
+                .whenIf(v -> v.length() == 3,     v -> "length 3")
+                .whenIf(v -> expensiveCheck.$(0), v -> "not evaluated")
+                .orElse(                        v -> "no match");
+        assertEquals("length 3", res2);
+        assertEquals(0, counter.get());
+
+        counter.set(0);
+        Object o = 10;
+        String res3 = match(o, TYPE)
+                .whenIf(String.class,  v -> expensiveCheck.$(0),      v -> "string")
+                .whenIf(Integer.class, v -> expensiveCheck.$(v * 2),  v -> "large integer")
+                .whenIf(Integer.class, v -> v > 5,                    v -> "integer > 5")
+                .whenIf(Integer.class, v -> expensiveCheck.$(0),      v -> "not evaluated")
+                .orElse(                                              v -> "no match");
+        assertEquals("integer > 5", res3);
+        assertEquals(1, counter.get());
+
+        List<String> hits = new ArrayList<>();
+        match(o, TYPE)
+                .whenNextIf(Integer.class, v -> v > 5,   v -> { hits.add("next"); })
+                .whenIf(Integer.class,     v -> v < 5,   v -> { hits.add("small"); })
+                .whenIf(Integer.class,     v -> v == 10, v -> { hits.add("ten"); })
+                .orElse(                                 v -> { hits.add("else"); });
+        assertEquals(Arrays.asList("next", "ten"), hits);
+    }
+
     @Test
     public void testPatternClassValue() {
         Class<String> strClass = String.class;
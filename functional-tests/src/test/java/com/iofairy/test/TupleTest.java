@@ -1,12 +1,22 @@
 package com.iofairy.test;
 
 import com.iofairy.except.AliasDuplicateException;
+import com.iofairy.except.AliasNotFoundException;
 import com.iofairy.except.NumberOfAliasesException;
 import com.iofairy.tuple.*;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
-import java.io.Serializable;
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static com.iofairy.test.MyTupleAlias.*;
@@ -117,6 +127,449 @@ public class TupleTest {
         System.out.println("testTupleEquals 全部成功！");
     }
 
+    @Test
+    public void testTupleHashCode() {
+        Tuple2<String, Integer> t1 = Tuple.of("a", 1);
+        Tuple2<Object, Object> t2 = new EasyTuple2<>("a", 1);
+        assertEquals(t1, t2);
+        assertEquals(t1.hashCode(), t2.hashCode());
+        assertEquals(t1.hashCode(), t1.hashCode());
+        assertEquals(Tuple.of(null, null).hashCode(), Tuple.of(null, null).hashCode());
+        assertNotEquals(Tuple.of(1, 2).hashCode(), Tuple.of(2, 1).hashCode());
+
+        Map<Tuple2<String, Integer>, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            counts.merge(Tuple.of("k" + i % 10, i % 2), 1, Integer::sum);
+        }
+        assertEquals(10, counts.size());
+        assertEquals(10, counts.get(Tuple.of("k3", 1)));
+        assertNull(counts.get(Tuple.of("k3", 0)));
+
+        // aliases are not part of hash code, but still part of equals
+        Tuple2<String, Integer> aliased = Tuple.of("a", 1).alias("name", "age");
+        assertEquals(t1.hashCode(), aliased.hashCode());
+        assertFalse(new HashSet<>(Collections.singletonList(t1)).contains(aliased));
+        assertTrue(new HashSet<>(Collections.singletonList(t1.copy())).contains(t1));
+    }
+
+    @Test
+    public void testTupleSchema() {
+        Tuple2<String, Integer> t1 = Tuple.of("Tom", 20).alias("name", "age");
+        Tuple2<String, Integer> t2 = Tuple.of("Jerry", 18).alias("name", "age");
+        assertSame(t1.getSchema(), t2.getSchema());
+        assertSame(TupleSchema.of("name", "age"), t1.getSchema());
+        assertSame(t1.getSchema(), t1.copy().getSchema());
+        assertNull(Tuple.of("Tom", 20).getSchema());
+        assertEquals(1, t1.getSchema().indexOf("age"));
+        assertEquals(-1, t1.getSchema().indexOf("id"));
+
+        TupleSchema schema = TupleSchema.of(ID, NAME, AGE);
+        Tuple3<Integer, String, Integer> user = Tuple.of(1, "Tom", 20).alias(schema);
+        assertEquals("tuple", user.aliasType());
+        assertEquals("Tom", user.__(NAME));
+        assertEquals(Arrays.asList(ID, NAME, AGE), user.getTupleAliases());
+        assertSame(schema, Tuple.of(2, "Jerry", 18).alias(ID, NAME, AGE).getSchema());
+        assertNotSame(schema, TupleSchema.of("ID", "NAME", "AGE"));
+        assertEquals("(ID: 1, NAME: \"Tom\", AGE: 20)", user.toString());
+
+        assertThrows(NumberOfAliasesException.class, () -> Tuple.of(1, 2).alias(schema));
+        assertThrows(AliasDuplicateException.class, () -> TupleSchema.of("a", "a"));
+        assertThrows(UnsupportedOperationException.class, () -> Tuple.empty().alias(schema));
+
+        t1.clearAlias();
+        assertNull(t1.getSchema());
+        assertEquals("string", t2.aliasType());
+    }
+
+    @Test
+    public void testPrimitiveTuple() {
+        IntDoubleTuple t1 = IntDoubleTuple.of(1, 2.5);
+        Tuple2<Integer, Double> boxed = Tuple.of(1, 2.5);
+        assertEquals(t1, boxed);
+        assertEquals(boxed, t1);
+        assertEquals(boxed.hashCode(), t1.hashCode());
+        assertEquals(Integer.valueOf(1), t1.element(0));
+        assertEquals(boxed, t1.toTuple());
+        assertEquals("(1, 2.5)", t1.toString());
+        assertEquals(IntDoubleTuple.of(1, Double.NaN), IntDoubleTuple.of(1, Double.NaN));
+        assertNotEquals(IntDoubleTuple.of(1, 0.0), IntDoubleTuple.of(1, -0.0));
+
+        LongTuple2 aliased = LongTuple2.of(1L, 2L).alias("id", "count");
+        assertEquals(2L, (long) aliased.__("count"));
+        assertNotEquals(LongTuple2.of(1L, 2L), aliased);
+        assertEquals(aliased, aliased.copy());
+        assertSame(aliased.getSchema(), aliased.toTuple().getSchema());
+
+        List<DoubleTuple3> points = new ArrayList<>(Arrays.asList(DoubleTuple3.of(1, 2, 3), DoubleTuple3.of(1, 1, 5), DoubleTuple3.of(0, 9, 9)));
+        Collections.sort(points);
+        assertEquals(Arrays.asList(DoubleTuple3.of(0, 9, 9), DoubleTuple3.of(1, 1, 5), DoubleTuple3.of(1, 2, 3)), points);
+
+        Map<IntTuple2, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 100; i++) counts.merge(IntTuple2.of(i % 3, i % 2), 1, Integer::sum);
+        assertEquals(6, counts.size());
+        assertEquals(17, counts.get(IntTuple2.of(0, 0)));
+        assertThrows(IndexOutOfBoundsException.class, () -> IntTuple2.of(1, 2).element(2));
+    }
+
+    @Test
+    public void testTupleBatch() {
+        TupleBatch batch = new TupleBatch(TupleSchema.of("id", "name", "price"), 2, int.class, String.class, double.class);
+        batch.append(Tuple.of(3, "c", 3.5))
+                .append(Tuple.of(1, "a", 1.5f))
+                .appendRow(2, "b", 2.0)
+                .appendColumns(new int[]{5, 4}, new String[]{"e", "d"}, new double[]{5.5, 4.5});
+        assertEquals(5, batch.size());
+        assertEquals(17.0, batch.sum(batch.indexOf("price")));
+        assertEquals("b", batch.get(2, 1));
+        assertEquals(Tuple.of(3, "c", 3.5).alias("id", "name", "price"), batch.row(0));
+        assertSame(batch.getSchema(), batch.row(0).getSchema());
+
+        batch.sort(0);
+        int[] ids = batch.intColumn(0);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, Arrays.copyOf(ids, batch.size()));
+        assertEquals("a", batch.objectColumn(1)[0]);
+
+        TupleBatch.Cursor cursor = batch.cursor();
+        double total = 0;
+        while (cursor.next()) total += cursor.getDouble(2);
+        assertEquals(17.0, total);
+        assertEquals("d", cursor.moveTo(3).get(1));
+
+        TupleBatch expensive = batch.filter(c -> c.getDouble(2) > 3);
+        assertEquals(3, expensive.size());
+        assertEquals(Arrays.asList("c", "d", "e"), expensive.rows().map(t -> t.<String>__("name")).collect(Collectors.toList()));
+
+        assertThrows(NullPointerException.class, () -> batch.appendRow(null, "x", 1.0));
+        assertThrows(IllegalArgumentException.class, () -> batch.appendRow(3_000_000_000L, "x", 1.0));
+        assertThrows(IllegalArgumentException.class, () -> batch.appendRow(1L, "x", 1.0));
+        assertThrows(IllegalArgumentException.class, () -> batch.appendRow(1.5f, "x", 1.0));
+        assertThrows(IllegalArgumentException.class, () -> batch.appendRow("1", "x", 1.0));
+        assertThrows(IllegalArgumentException.class, () -> batch.appendRow(1, 'x', 1.0));
+        assertThrows(IllegalArgumentException.class, () -> batch.appendRow(1, "x", Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> batch.appendColumns(new int[]{6}, new Integer[]{42}, new double[]{6.5}));
+        assertThrows(IllegalArgumentException.class, () -> batch.appendColumns(new int[]{6}, new Object[]{'f'}, new double[]{6.5}));
+        assertEquals(5, batch.size());
+        batch.appendColumns(new int[]{6}, new Object[]{"f"}, new double[]{6.5});
+        assertEquals("f", batch.get(5, 1));
+        TupleBatch intString = new TupleBatch(int.class, String.class);
+        assertThrows(IllegalArgumentException.class, () -> intString.appendColumns(new int[]{1}, new Integer[]{42}));
+        assertEquals(0, intString.size());
+        assertThrows(IllegalArgumentException.class, () -> batch.append(Tuple.of(1, 2)));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.row(6));
+        assertThrows(UnsupportedOperationException.class, () -> batch.sum(1));
+    }
+
+    @Test
+    public void testMappedTupleStore(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("orders.tps");
+        // small segments, so that rows and strings span several segments
+        try (MappedTupleStore store = MappedTupleStore.create(file, 256, TupleSchema.of("id", "amount", "name"), long.class, double.class, String.class)) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, store.append(Tuple.of((long) i, i * 1.5, i % 10 == 0 ? null : "name-" + i)));
+            }
+            assertEquals(Tuple.of(7L, 10.5, "name-7").alias("id", "amount", "name"), store.row(7));
+            assertThrows(IllegalArgumentException.class, () -> store.getInt(7, 0));
+            assertThrows(NullPointerException.class, () -> store.appendRow(null, 1.0, "x"));
+            assertThrows(IllegalArgumentException.class, () -> store.appendRow(1.5, 1.0, "x"));
+            assertThrows(IllegalArgumentException.class, () -> store.appendRow(1L, 1.0, 1));
+            assertThrows(IllegalArgumentException.class, () -> store.appendRow(1L, Long.MAX_VALUE, "x"));
+            assertEquals(100, store.size());
+        }
+
+        try (MappedTupleStore store = MappedTupleStore.open(file)) {
+            assertEquals(100, store.size());
+            assertEquals(Arrays.asList("id", "amount", "name"), store.getSchema().getAliases());
+            assertEquals(99L, store.getLong(99, 0));
+            assertEquals(148.5, store.getDouble(99, 1));
+            assertEquals("name-99", store.getString(99, 2));
+            assertNull(store.getString(50, 2));
+            assertEquals(100 * 99 / 2 * 1.5, store.rows().mapToDouble(t -> t.<Double>__("amount")).sum());
+            long fileSize = Files.size(file);
+            assertThrows(IndexOutOfBoundsException.class, () -> store.row(100));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.getLong(1L << 40, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.getString(-1, 2));
+            assertEquals(fileSize, Files.size(file));
+
+            store.appendRow(100L, 0.0, "appended");
+            assertEquals("appended", store.row(100).__("name"));
+        }
+        assertThrows(IOException.class, () -> MappedTupleStore.open(Files.createFile(dir.resolve("empty"))));
+    }
+
+    /**
+     * {@code Tuple.of("Tom", 20).alias("name", "age")}, {@code Tuple.of("Tom", 20).alias(NAME, AGE)} and {@code Tuple.of(1, 2)}
+     * serialized by 0.4.1
+     */
+    private static final String TUPLES_0_4_1 =
+            "rO0ABXNyABhjb20uaW9mYWlyeS50dXBsZS5UdXBsZTIAAAACV/m4MgIAAkwAAl8xdAASTGphdmEvbGFuZy9PYmplY3Q7TAACXzJx"
+            + "AH4AAXhyABtjb20uaW9mYWlyeS50dXBsZS5UdXBsZUJhc2UAAAACV/m0ogIAA0wACWFsaWFzTGlzdHQAEExqYXZhL3V0aWwvTGlz"
+            + "dDtMAAthbGlhc19pbmRleHQAD0xqYXZhL3V0aWwvTWFwO0wADnR1cGxlQWxpYXNMaXN0cQB+AAN4cHNyABNqYXZhLnV0aWwuQXJy"
+            + "YXlMaXN0eIHSHZnHYZ0DAAFJAARzaXpleHAAAAACdwQAAAACdAAEbmFtZXQAA2FnZXhzcgARamF2YS51dGlsLkhhc2hNYXAFB9rB"
+            + "wxZg0QMAAkYACmxvYWRGYWN0b3JJAAl0aHJlc2hvbGR4cD9AAAAAAAAMdwgAAAAQAAAAAnEAfgAIc3IAEWphdmEubGFuZy5JbnRl"
+            + "Z2VyEuKgpPeBhzgCAAFJAAV2YWx1ZXhyABBqYXZhLmxhbmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAABxAH4ACXNxAH4ADAAAAAF4"
+            + "c3EAfgAGAAAAAHcEAAAAAHh0AANUb21zcQB+AAwAAAAUc3EAfgAAc3EAfgAGAAAAAncEAAAAAnQABE5BTUV0AANBR0V4c3EAfgAK"
+            + "P0AAAAAAAAx3CAAAABAAAAACcQB+ABVxAH4ADnEAfgAWcQB+AA94c3EAfgAGAAAAAncEAAAAAn5yAB1jb20uaW9mYWlyeS50ZXN0"
+            + "Lk15VHVwbGVBbGlhcwAAAAAAAAAAEgAAeHIADmphdmEubGFuZy5FbnVtAAAAAAAAAAASAAB4cHQABE5BTUV+cQB+ABl0AANBR0V4"
+            + "cQB+ABFxAH4AEnNxAH4AAHNxAH4ABgAAAAB3BAAAAAB4c3EAfgAKP0AAAAAAAAB3CAAAABAAAAAAeHNxAH4ABgAAAAB3BAAAAAB4"
+            + "cQB+AA9zcQB+AAwAAAAC";
+
+    @Test
+    public void testDeserializeOldTuples() throws Exception {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(TUPLES_0_4_1)))) {
+            Tuple2<String, Integer> stringAliased = (Tuple2<String, Integer>) ois.readObject();
+            assertEquals(Tuple.of("Tom", 20).alias("name", "age"), stringAliased);
+            assertEquals("string", stringAliased.aliasType());
+            assertSame(TupleSchema.of("name", "age"), stringAliased.getSchema());
+            assertEquals(20, (int) stringAliased.__("age"));
+
+            Tuple2<String, Integer> enumAliased = (Tuple2<String, Integer>) ois.readObject();
+            assertEquals("tuple", enumAliased.aliasType());
+            assertEquals(Arrays.asList(NAME, AGE), enumAliased.getTupleAliases());
+            assertEquals("Tom", enumAliased.__(NAME));
+
+            Tuple2<Integer, Integer> plain = (Tuple2<Integer, Integer>) ois.readObject();
+            assertEquals(Tuple.of(1, 2), plain);
+            assertNull(plain.getSchema());
+        }
+    }
+
+    static class MyTuple extends Tuple2<String, Integer> {
+        private static final long serialVersionUID = 1L;
+
+        MyTuple(String _1, Integer _2) {
+            super(_1, _2);
+        }
+    }
+
+    static class NamedAlias implements TupleAlias, Serializable {
+        private static final long serialVersionUID = 1L;
+        private final String name;
+
+        NamedAlias(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    @Test
+    public void testTupleCodec() throws Exception {
+        Tuple3<Integer, String, Object> user = Tuple.of(-1, "Tom", (Object) Tuple.of(2.5, null, 'c')).alias(ID, NAME, AGE);
+        byte[] bytes = TupleCodec.encode(user);
+        Tuple decoded = TupleCodec.decode(bytes);
+        assertEquals(user, decoded);
+        assertEquals("tuple", decoded.aliasType());
+        assertSame(user.getSchema(), decoded.getSchema());
+
+        TupleCodec writer = new TupleCodec();
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        writer.write(EasyTuple.of(1L, 2L, 3L).alias("a", "b", "c"), buffer);
+        assertEquals(16, buffer.position());
+        writer.write(LongTuple2.of(Long.MIN_VALUE, 1L).alias("a", "b"), buffer);
+        int second = buffer.position();
+        writer.write(EasyTuple.of(4L, 5L, 6L).alias("a", "b", "c"), buffer);
+        // the schema is written as a reference the second time: kind, arity, ref tag, id, 3 * (tag, varlong)
+        assertEquals(10, buffer.position() - second);
+        buffer.flip();
+        TupleCodec reader = new TupleCodec();
+        assertEquals(EasyTuple.of(1L, 2L, 3L).alias("a", "b", "c"), reader.read(buffer));
+        assertEquals(LongTuple2.class, reader.read(buffer).getClass());
+        EasyTuple3<Long> third = (EasyTuple3<Long>) reader.read(buffer);
+        assertEquals(6L, (long) third.__("c"));
+        assertFalse(buffer.hasRemaining());
+
+        // java serialization goes through the compact proxy
+        Tuple2<String, BigDecimal> tuple = Tuple.of("price", new BigDecimal("1.5")).alias("name", "value");
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(tuple);
+            oos.writeObject(Tuple.empty());
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertEquals(tuple, ois.readObject());
+            assertSame(Tuple.empty(), ois.readObject());
+        }
+
+        // non-enum TupleAlias falls back to the default serialization
+        Tuple2<String, Integer> named = Tuple.of("Tom", 20).alias(new NamedAlias("name"), new NamedAlias("age"));
+        baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(named);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            Tuple2<String, Integer> restored = (Tuple2<String, Integer>) ois.readObject();
+            assertEquals(named, restored);
+            assertEquals("tuple", restored.aliasType());
+            assertEquals(20, (int) restored.__("age"));
+        }
+
+        // nested tuples that the codec can't encode keep their aliases and classes
+        Tuple2<Tuple2<String, Integer>, Integer> nestedNamed = Tuple.of(named, 2);
+        Tuple2<MyTuple, Integer> nestedSubclass = Tuple.of(new MyTuple("a", 1), 2);
+        baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(nestedNamed);
+            oos.writeObject(nestedSubclass);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            Tuple2<Tuple2<String, Integer>, Integer> restoredNamed = (Tuple2<Tuple2<String, Integer>, Integer>) ois.readObject();
+            assertEquals(nestedNamed, restoredNamed);
+            assertEquals("tuple", restoredNamed._1.aliasType());
+            assertEquals("Tom", restoredNamed._1.__("name"));
+            Tuple2<MyTuple, Integer> restoredSubclass = (Tuple2<MyTuple, Integer>) ois.readObject();
+            assertEquals(MyTuple.class, restoredSubclass._1.getClass());
+            assertEquals(nestedSubclass, restoredSubclass);
+        }
+        assertEquals(MyTuple.class, ((Tuple2<?, ?>) TupleCodec.decode(TupleCodec.encode(nestedSubclass)))._1.getClass());
+        assertEquals("tuple", ((Tuple2<Tuple, ?>) TupleCodec.decode(TupleCodec.encode(nestedNamed)))._1.aliasType());
+
+        assertThrows(UncheckedIOException.class, () -> TupleCodec.decode(new byte[]{9}));
+    }
+
+    @Test
+    public void testTupleSort() {
+        List<Tuple3<String, Integer, Double>> rows = new ArrayList<>(Arrays.asList(
+                Tuple.of("b", 1, 1.0), Tuple.of("a", 2, 2.0), Tuple.of(null, 3, 3.0),
+                Tuple.of("a", null, 4.0), Tuple.of("a", 5, 5.0)));
+        TupleSort.parallelSort(rows, TupleComparators.lexicographic(TupleComparators.asc(), TupleComparators.desc(), TupleComparators.asc()));
+        assertEquals(Arrays.asList(3.0, 5.0, 2.0, 4.0, 1.0), rows.stream().map(t -> t._3).collect(Collectors.toList()));
+
+        Tuple[] tuples = {Tuple.of(2, "x"), Tuple.of(1, "y"), Tuple.of(1, null), Tuple.of(1)};
+        TupleSort.parallelSort(tuples);
+        assertArrayEquals(new Tuple[]{Tuple.of(1), Tuple.of(1, null), Tuple.of(1, "y"), Tuple.of(2, "x")}, tuples);
+
+        rows.sort(TupleComparators.<Tuple3<String, Integer, Double>>byPositions(1).reversed());
+        assertEquals(Integer.valueOf(5), rows.get(0)._2);
+        assertNull(rows.get(4)._2);
+
+        TupleBatch batch = new TupleBatch(int.class, String.class);
+        for (int i = 0; i < 1000; i++) batch.appendRow(i % 7, "s" + (999 - i));
+        TupleSort.parallelSort(batch, 0, 1);
+        assertEquals(Tuple.of(0, "s103"), batch.row(0));
+        assertEquals(Tuple.of(6, "s993"), batch.row(999));
+
+        // large enough to fork, stable on equal keys, every column permuted consistently
+        int n = 100_000;
+        TupleBatch large = new TupleBatch(int.class, long.class, double.class, String.class);
+        for (int i = 0; i < n; i++) large.appendRow((i * 7919) % 1000, (long) i, i * 0.5, "r" + i);
+        TupleSort.parallelSort(large, 0);
+        for (int i = 0; i < n; i++) {
+            int row = (int) large.getLong(i, 1);
+            assertEquals((row * 7919) % 1000, large.getInt(i, 0));
+            assertEquals(row * 0.5, large.getDouble(i, 2));
+            assertEquals("r" + row, large.get(i, 3));
+            if (i > 0) {
+                int c = Integer.compare(large.getInt(i - 1, 0), large.getInt(i, 0));
+                assertTrue(c < 0 || c == 0 && large.getLong(i - 1, 1) < row);
+            }
+        }
+    }
+
+    @Test
+    public void testTupleStreams() {
+        List<Integer> ids = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        List<String> names = ids.stream().map(i -> "n" + i).collect(Collectors.toList());
+
+        Spliterator<Tuple2<Integer, String>> spliterator = TupleStreams.zip(ids.stream(), names.stream()).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(10_000, spliterator.getExactSizeIfKnown());
+        assertTrue(TupleStreams.zip(ids.stream().parallel(), names.stream())
+                .allMatch(t -> t._2.equals("n" + t._1)));
+        assertEquals(10_000, TupleStreams.zip(ids.stream().parallel(), names.stream()).count());
+        assertEquals(3, TupleStreams.zip(Stream.of(1, 2, 3), Stream.iterate(0, i -> i + 1)).count());
+        assertEquals(Arrays.asList(Tuple.of(1, "a"), Tuple.of(2, "b")),
+                TupleStreams.zip(Arrays.asList(1, 2, 3), Arrays.asList("a", "b")).collect(Collectors.toList()));
+
+        assertTrue(TupleStreams.zipWithIndex(names.parallelStream()).allMatch(t -> t._1.equals("n" + t._2)));
+        assertEquals(Arrays.asList(Tuple.of("a", 0L), Tuple.of("b", 1L)),
+                TupleStreams.zipWithIndex(Stream.of("a", "b")).collect(Collectors.toList()));
+
+        Collector<Tuple2<? extends Integer, ? extends String>, ?, Tuple2<List<Integer>, List<String>>> unzip = TupleStreams.unzip(ids.size());
+        Tuple2<List<Integer>, List<String>> columns = TupleStreams.zip(ids, names).parallel().collect(unzip);
+        assertEquals(ids, columns._1);
+        assertEquals(names, columns._2);
+        // the collector can be reused
+        assertEquals(Tuple.of(Arrays.asList(1, 2), Arrays.asList("a", "b")), Stream.of(Tuple.of(1, "a"), Tuple.of(2, "b")).collect(unzip));
+        // collections running at the same time don't share state
+        assertEquals(Arrays.asList(Tuple.of(ids, names), Tuple.of(ids, names)), IntStream.range(0, 2).parallel()
+                .mapToObj(i -> TupleStreams.zip(ids, names).collect(unzip)).collect(Collectors.toList()));
+        assertThrows(NullPointerException.class, () -> Stream.<Tuple2<Integer, String>>of(Tuple.of(1, "a"), null).collect(unzip));
+        assertEquals(Tuple.of(Arrays.asList(1), Arrays.asList("a")), Stream.of(Tuple.of(1, "a")).collect(unzip));
+
+        assertEquals(Tuple.of(ids, names), TupleStreams.unzip(TupleStreams.zip(ids, names)));
+        assertEquals(Tuple.of(ids, names), TupleStreams.unzip(TupleStreams.zip(ids, names).parallel()));
+        assertEquals(Tuple.of(Arrays.asList(2), Arrays.asList("b")),
+                TupleStreams.unzip(Stream.of(Tuple.of(1, "a"), Tuple.of(2, "b")).filter(t -> t._1 > 1)));
+
+        Tuple2<Long, Integer> countAndSum = ids.parallelStream()
+                .collect(TupleStreams.teeing(Collectors.counting(), Collectors.summingInt(i -> i)));
+        assertEquals(Tuple.of(10_000L, 49_995_000), countAndSum);
+    }
+
+    @Test
+    public void testTupleAccessor() {
+        TupleSchema schema = TupleSchema.of("id", "name", "price");
+        TupleAccessor<Double> price = schema.accessor("price", Double.class);
+        assertEquals(2, price.position());
+        assertEquals(3, price.arity());
+        assertEquals(Double.class, schema.accessor("price", double.class).type());
+        assertSame(schema.accessor("price"), schema.accessor("price"));
+
+        List<Tuple3<Integer, String, Double>> rows = Arrays.asList(
+                Tuple.of(1, "a", 1.5).alias(schema), Tuple.of(2, "b", 2.5).alias(schema), Tuple.of(3, "c", 3.0));
+        double total = 0;
+        for (Tuple3<Integer, String, Double> row : rows) total += price.get(row);
+        assertEquals(7.0, total);
+        assertEquals(Integer.valueOf(7), TupleAccessor.of(3, 0, Integer.class).get(EasyTuple.of(7, 8, 9)));
+        assertEquals(9, TupleAccessor.of(3, 2).get(EasyTuple.of(7, 8, 9)));
+        // other tuple types fall back to element(n)
+        assertEquals(Double.valueOf(0.5), TupleAccessor.of(2, 1, Double.class).get(IntDoubleTuple.of(1, 0.5)));
+        Tuple9<String, String, String, String, String, String, String, String, String> nine = Tuple.of("v0", "v1", "v2", "v3", "v4", "v5", "v6", "v7", "v8");
+        for (int i = 0; i < 9; i++) assertEquals("v" + i, TupleAccessor.of(9, i, String.class).get(nine));
+        assertEquals("v0", TupleAccessor.of(1, 0, String.class).get(Tuple.of("v0")));
+
+        TupleAccessor<String> name = TupleSchema.of(ID, NAME, AGE).accessor(NAME, String.class);
+        assertEquals("Tom", name.get(Tuple.of(1, "Tom", 20)));
+        // the element type is checked
+        TupleAccessor<String> wrongType = schema.accessor("price", String.class);
+        assertThrows(ClassCastException.class, () -> wrongType.get(rows.get(0)));
+        assertThrows(AliasNotFoundException.class, () -> schema.accessor("amount"));
+        assertThrows(IndexOutOfBoundsException.class, () -> TupleAccessor.of(2, 2));
+    }
+
+    @Test
+    public void testMutableTuple() {
+        // running (min, max, sum) in one reusable container
+        MutableTuple3<Integer, Integer, Long> stats = new MutableTuple3<>(Integer.MAX_VALUE, Integer.MIN_VALUE, 0L);
+        for (int i : new int[]{5, -3, 8, 1}) {
+            stats.set(Math.min(stats._1, i), Math.max(stats._2, i), stats._3 + i);
+        }
+        assertEquals(Tuple.of(-3, 8, 11L), stats);
+        assertEquals(Tuple.of(-3, 8, 11L).hashCode(), stats.hashCode());
+
+        Tuple3<Integer, Integer, Long> frozen = stats.alias("min", "max", "sum").freeze();
+        stats.set1(0).set3(0L);
+        assertEquals(Tuple.of(-3, 8, 11L).alias("min", "max", "sum"), frozen);
+        assertEquals(0, (int) stats.__("min"));
+        int hash = stats.hashCode();
+        stats.set2(100);
+        assertNotEquals(hash, stats.hashCode());
+
+        MutableDoubleTuple3 sums = IntStream.range(0, 1000).parallel().collect(MutableDoubleTuple3::new,
+                (acc, i) -> acc.set(acc._1 + 1, acc._2 + i, acc._3 + (double) i * i),
+                (a, b) -> a.set(a._1 + b._1, a._2 + b._2, a._3 + b._3));
+        assertEquals(DoubleTuple3.of(1000, 499500, 332833500), sums.freeze());
+        assertEquals(sums, sums.copy());
+        assertEquals(Double.valueOf(1000), sums.element(0));
+
+        MutableIntTuple2 counter = MutableIntTuple2.of(1, 2).set2(3);
+        assertEquals(IntTuple2.of(1, 3), counter.freeze());
+        assertEquals(IntTuple2.of(1, 3).hashCode(), counter.hashCode());
+    }
+
     @Test
     public void testCloneAndCopy() {
         Tuple2<String, Integer> t2 = new Tuple2<>("zs", 20).alias("NAME", "AGE");
@@ -1,6 +1,10 @@
 package com.iofairy.test.nullpattern;
 
 import com.iofairy.lambda.R1;
+import com.iofairy.pattern.Pattern;
+import com.iofairy.pattern.compiled.NullChain;
+import com.iofairy.pattern.compiled.NullChainBuilder;
+import com.iofairy.pattern.compiled.NullChainReport;
 import com.iofairy.top.G;
 import com.iofairy.top.S;
 import com.iofairy.tuple.*;
@@ -8,6 +12,8 @@ import org.junit.jupiter.api.Test;
 
 import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.iofairy.pattern.Pattern.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -238,4 +244,87 @@ public class PatternNullTest {
         return "";
     }
 
+    @Test
+    public void testNullChain() {
+        NullChainBuilder<Order, String> builder = compileNull();
+        NullChainBuilder<Order, String>.Step<User> buyer = builder
+                .check(v -> v.buyer,        "order is null or order.buyer is null!");
+        NullChain<Order, String> chain = buyer
+                .then(v -> v.account,       v -> "user " + v.name + "'s account is null!")
+                .then(v -> v.id,            S::isBlank, "order.buyer.account.id is blank!")
+                .check(v -> v.orderId,      S::isBlank, "order.orderId is blank!")
+                .check(v -> v.price,        v -> v < 0, "order.price < 0!")
+                .from(buyer, v -> v.name,   S::isEmpty, "order.buyer.name is empty!")
+                .from(buyer, v -> v.age,    v -> v < 0, "order.buyer.age < 0!")
+                .build();
+        assertEquals(7, chain.size());
+
+        Order order = new Order("order_123456", 10.5, new User("zs", 10, new Account("12345", "abc", "aaaa")));
+        assertNull(chain.firstFailure(order));
+        assertTrue(chain.test(order));
+        assertEquals(NullChain.PASSED, chain.failedStep(order));
+
+        assertEquals("order is null or order.buyer is null!", chain.firstFailure(null));
+        assertEquals("user zs's account is null!", chain.firstFailure(new Order("order_123456", 10.5, new User("zs", 10, null))));
+        assertEquals(1, chain.failedStep(new Order("order_123456", 10.5, new User("zs", 10, null))));
+        assertEquals("order.price < 0!", chain.firstFailure(new Order("order_123456", -1.0, new User("zs", 10, new Account("1", "a", "a")))));
+        assertEquals("order.buyer.age < 0!", chain.firstFailure(new Order("order_123456", 1.0, new User("zs", -1, new Account("1", "a", "a")))));
+
+        // more than 9 steps
+        NullChainBuilder<Integer, Integer> deepBuilder = compileNull();
+        NullChainBuilder<Integer, Integer>.Step<Integer> step = deepBuilder.check(v -> v - 1, v -> v < 0, 0);
+        for (int i = 1; i < 20; i++) {
+            int index = i;
+            step = step.then(v -> v - 1, v -> v < 0, v -> index);
+        }
+        NullChain<Integer, Integer> deep = step.build();
+        assertEquals(20, deep.size());
+        assertNull(deep.firstFailure(20));
+        assertEquals(14, deep.firstFailure(14));
+
+        NullChainBuilder<Order, String> other = compileNull();
+        assertThrows(IllegalArgumentException.class, () -> other.from(buyer, v -> v.name, "name is null"));
+    }
+
+    @Test
+    public void testNullChainValidateAll() {
+        NullChain<Order, String> chain = Pattern.<Order, String>compileNull()
+                .check(v -> v.buyer,        "order is null or order.buyer is null!")
+                .then(v -> v.account,       v -> "user " + v.name + "'s account is null!")
+                .check(v -> v.price,        v -> v < 0, "order.price < 0!")
+                .build();
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 100 == 0) {
+                orders.add(null);
+            } else if (i % 7 == 0) {
+                orders.add(new Order("order_" + i, -1.0, new User("u" + i, 10, new Account("1", "a", "a"))));
+            } else if (i % 11 == 0) {
+                orders.add(new Order("order_" + i, 1.0, new User("u" + i, 10, null)));
+            } else {
+                orders.add(new Order("order_" + i, 1.0, new User("u" + i, 10, new Account("1", "a", "a"))));
+            }
+        }
+
+        NullChainReport<String> report = chain.validateAll(orders);
+        NullChainReport<String> parallelReport = chain.validateAllParallel(orders, 64);
+        assertEquals(10_000, report.total());
+        assertFalse(report.allPassed());
+        assertEquals(report.failed(), parallelReport.failed());
+        assertEquals(report.failedCount(), parallelReport.failedCount());
+        assertEquals(report.failed().cardinality(), report.failedCount());
+        for (int i = 0; i < orders.size(); i++) {
+            assertEquals(chain.firstFailure(orders.get(i)), report.message(i));
+            assertEquals(report.message(i), parallelReport.message(i));
+        }
+        assertEquals("order is null or order.buyer is null!", parallelReport.message(0));
+        assertEquals("order.price < 0!", parallelReport.message(7));
+        assertEquals("user u11's account is null!", parallelReport.message(11));
+        assertNull(parallelReport.message(1));
+        assertFalse(parallelReport.isFailed(1));
+
+        assertTrue(chain.validateAllParallel(new ArrayList<>()).allPassed());
+        assertThrows(IllegalArgumentException.class, () -> chain.validateAllParallel(orders, 0));
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.except;
+
+/**
+ * When a compiled matcher without {@code orElse} does not cover all possible values, will throw NonExhaustiveMatchException<br>
+ * 编译匹配器未设置 orElse 且分支没有覆盖所有可能的值（如：枚举常量）时，将会抛出此异常
+ * @since 0.4.2
+ */
+public class NonExhaustiveMatchException extends RuntimeException {
+    private static final long serialVersionUID = 656057300L;
+
+
+    /**
+     * Constructs an {@code NonExhaustiveMatchException} with {@code null}
+     * as its error detail message.
+     */
+    public NonExhaustiveMatchException() {
+        super();
+    }
+
+    /**
+     * Constructs an {@code NonExhaustiveMatchException} with the specified detail message.
+     *
+     * @param message
+     *        The detail message (which is saved for later retrieval
+     *        by the {@link #getMessage()} method)
+     */
+    public NonExhaustiveMatchException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs an {@code NonExhaustiveMatchException} with the specified detail message
+     * and cause.
+     *
+     * @param message
+     *        The detail message (which is saved for later retrieval
+     *        by the {@link #getMessage()} method)
+     *
+     * @param cause
+     *        The cause (which is saved for later retrieval by the
+     *        {@link #getCause()} method).  (A null value is permitted,
+     *        and indicates that the cause is nonexistent or unknown.)
+     */
+    public NonExhaustiveMatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Constructs an {@code NonExhaustiveMatchException} with the specified cause and a
+     * detail message of {@code (cause==null ? null : cause.toString())}
+     * (which typically contains the class and detail message of {@code cause}).
+     *
+     * @param cause
+     *        The cause (which is saved for later retrieval by the
+     *        {@link #getCause()} method).  (A null value is permitted,
+     *        and indicates that the cause is nonexistent or unknown.)
+     *
+     */
+    public NonExhaustiveMatchException(Throwable cause) {
+        super(cause);
+    }
+
+}
@@ -17,9 +17,12 @@ package com.iofairy.pattern;
 
 import com.iofairy.base.None;
 import com.iofairy.lambda.R1;
+import com.iofairy.lambda.RT0;
+import com.iofairy.pattern.compiled.*;
 import com.iofairy.pattern.mapping.*;
 import com.iofairy.pattern.type.*;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * Pattern Matching for Java
@@ -37,6 +40,9 @@ public class Pattern {
     public static final PatternString ICCONTAIN = PatternString.ICCONTAIN;    // ignore case for contain
     public static final PatternString ICPREFIX = PatternString.ICPREFIX;      // ignore case for prefix
     public static final PatternString ICSUFFIX = PatternString.ICSUFFIX;      // ignore case for suffix
+    public static final PatternString REGEX = PatternString.REGEX;            // match by regular expression
+    public static final PatternString GLOB = PatternString.GLOB;              // match by glob
+    public static final PatternAny ANY = PatternAny.ANY;                      // match any value at a position of tuple pattern
 
     public static None NONE = None.NONE;
     /*
@@ -200,6 +206,239 @@ public class Pattern {
         return new StringMatcherMapping(value, patternString);
     }
 
+    /**
+     * Match value asynchronously. The conditions are evaluated on the caller thread, the matched actions return
+     * {@link java.util.concurrent.CompletableFuture} and run on the executor. <br>
+     * 异步匹配。条件在调用线程中判断，匹配的 action 返回 {@link java.util.concurrent.CompletableFuture}，并在 executor 中执行。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * CompletableFuture&lt;String&gt; future = matchAsync(type, ioExecutor)
+     *         .whenNext("audit",  v -&gt; auditLog.write(v))          // runs first
+     *         .when("user",       v -&gt; userService.load(id))       // runs after audit completed
+     *         .orElse(            v -&gt; CompletableFuture.completedFuture("unknown"));
+     * </pre>
+     * @param value value
+     * @param executor executor for running actions
+     * @param <V> value type
+     * @return AsyncMatcherMapping
+     * @since 0.4.2
+     */
+    public static <V> AsyncMatcherMapping<V> matchAsync(V value, Executor executor) {
+        Objects.requireNonNull(executor);
+        return new AsyncMatcherMapping<>(value, executor);
+    }
+
+    /**
+     * Compile a reusable String matcher. The patterns are compiled only once when building,
+     * and the REGEX or GLOB patterns are combined into one regex when possible. <br>
+     * 构建可重复使用的字符串匹配器。所有分支在构建时只编译一次，REGEX 或 GLOB 模式下会尽可能合并成一个正则表达式。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * StringCompiledMatcher&lt;String&gt; router = Pattern.&lt;String&gt;compile(REGEX)
+     *         .when("/api/v\\d+/users/.*",  v -&gt; "users")
+     *         .when(in("/health", "/ping"), v -&gt; "health")
+     *         .orElse(v -&gt; "not found");
+     *
+     * String res = router.match("/api/v2/users/10");     // users
+     * </pre>
+     * @param patternString {@link PatternString}
+     * @param <R> return type
+     * @return StringMatcherBuilder
+     * @since 0.4.2
+     */
+    public static <R> StringMatcherBuilder<R> compile(PatternString patternString) {
+        Objects.requireNonNull(patternString);
+        return new StringMatcherBuilder<>(patternString);
+    }
+
+    /**
+     * Compile a reusable value matcher, values are compared by {@link Object#equals(Object)}
+     * and found by one hash lookup. <br>
+     * 构建可重复使用的值匹配器，所有分支的值在构建时放入哈希表，匹配时只需一次哈希查找。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * ValueCompiledMatcher&lt;Integer, String&gt; matcher = Pattern.&lt;Integer, String&gt;compile(VALUE)
+     *         .when(1,             v -&gt; "one")
+     *         .when(in(2, 3, 4),   v -&gt; "small")
+     *         .orElse(v -&gt; "other");
+     *
+     * List&lt;String&gt; res = matcher.applyAllParallel(records);
+     * </pre>
+     * @param patternValue {@link PatternValue}
+     * @param <V> value type
+     * @param <R> return type
+     * @return ValueMatcherBuilder
+     * @since 0.4.2
+     */
+    public static <V, R> ValueMatcherBuilder<V, R> compile(PatternValue patternValue) {
+        Objects.requireNonNull(patternValue);
+        return new ValueMatcherBuilder<>();
+    }
+
+    /**
+     * Compile an adaptive matcher, which counts the hits of each branch and reorders the disjoint branches
+     * by the observed frequency. <br>
+     * 构建自适应匹配器，统计每个分支的命中次数，并按命中频率重排互斥的分支。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * AdaptiveCompiledMatcher&lt;Integer, String&gt; matcher = Pattern.&lt;Integer, String&gt;compileAdaptive()
+     *         .when(v -&gt; v == null,                  v -&gt; "null")      // never moved
+     *         .whenDisjoint(v -&gt; v &lt; 0,              v -&gt; "negative")
+     *         .whenDisjoint(v -&gt; v &gt;= 0 &amp;&amp; v &lt; 10,   v -&gt; "small")
+     *         .whenDisjoint(v -&gt; v &gt;= 10,            v -&gt; "big")
+     *         .orElse(v -&gt; "other");
+     *
+     * long[] hits = matcher.hitCounts();
+     * </pre>
+     * @param <V> value type
+     * @param <R> return type
+     * @return AdaptiveMatcherBuilder
+     * @since 0.4.2
+     */
+    public static <V, R> AdaptiveMatcherBuilder<V, R> compileAdaptive() {
+        return new AdaptiveMatcherBuilder<>();
+    }
+
+    /**
+     * Compile a reusable null-check chain, see {@link NullChainBuilder}. Unlike {@link #matchNull()},
+     * it creates no matchers or tuples when evaluated, and the number of steps is unlimited. <br>
+     * 构建可重复使用的空值检查链。与 {@link #matchNull()} 不同，求值时不会创建匹配器和元组，且步骤数量没有限制。
+     *
+     * @param <T> root object type
+     * @param <M> message type
+     * @return NullChainBuilder
+     * @since 0.4.2
+     */
+    public static <T, M> NullChainBuilder<T, M> compileNull() {
+        return new NullChainBuilder<>();
+    }
+
+    /**
+     * Compile a reusable range matcher, the ranges are sorted when building, and the branch is found by binary search,
+     * or by an interval tree if the ranges overlap. <br>
+     * 构建可重复使用的区间匹配器。构建时对所有区间排序，匹配时使用二分查找，区间存在重叠时使用区间树。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * RangeCompiledMatcher&lt;Long, String&gt; tiers = Pattern.&lt;Long, String&gt;compileRange()
+     *         .when(below(100),         v -&gt; "fast")
+     *         .when(between(100, 500),  v -&gt; "normal")
+     *         .when(atLeast(500),       v -&gt; "slow")
+     *         .build();
+     *
+     * String res = tiers.match(120L);     // normal
+     * </pre>
+     * @param <V> value type
+     * @param <R> return type
+     * @return RangeMatcherBuilder
+     * @since 0.4.2
+     */
+    public static <V, R> RangeMatcherBuilder<V, R> compileRange() {
+        return new RangeMatcherBuilder<>();
+    }
+
+    /**
+     * Compile a reusable enum matcher, the branch is found by {@link Enum#ordinal()} from a jump table.
+     * When {@code orElse} is not set, all enum constants must be matched by the branches. <br>
+     * 构建可重复使用的枚举匹配器，以 {@link Enum#ordinal()} 为下标查表获取分支。未设置 orElse 时，必须覆盖所有的枚举常量。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * EnumCompiledMatcher&lt;State, State&gt; next = Pattern.&lt;State, State&gt;compileEnum(State.class)
+     *         .when(NEW,                  v -&gt; RUNNING)
+     *         .when(in(RUNNING, PAUSED),  v -&gt; STOPPED)
+     *         .when(STOPPED,              v -&gt; STOPPED)
+     *         .build();       // throws NonExhaustiveMatchException if a constant is missing
+     * </pre>
+     * @param enumClass enum class
+     * @param <E> enum type
+     * @param <R> return type
+     * @return EnumMatcherBuilder
+     * @since 0.4.2
+     */
+    public static <E extends Enum<E>, R> EnumMatcherBuilder<E, R> compileEnum(Class<E> enumClass) {
+        Objects.requireNonNull(enumClass);
+        return new EnumMatcherBuilder<>(enumClass);
+    }
+
+    /**
+     * Compile a reusable tuple matcher, the branches are compiled into a decision tree over positions,
+     * and each element of the tuple is read at most once. <br>
+     * 构建可重复使用的元组匹配器，所有分支编译成按位置判断的决策树，元组的每个元素最多只读取一次。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * TupleCompiledMatcher&lt;Integer&gt; discount = Pattern.&lt;Integer&gt;compileTuple(3)
+     *         .when(tuple("VIP",  ANY,              ANY),                   v -&gt; 30)
+     *         .when(tuple(ANY,    in("EU", "US"),   "gold"),                v -&gt; 20)
+     *         .when(tuple(ANY,    ANY,              instanceOf(String.class)), v -&gt; 5)
+     *         .orElse(v -&gt; 0);
+     *
+     * int res = discount.match(Tuple.of("NEW", "EU", "gold"));     // 20
+     * </pre>
+     * @param arity the number of elements of tuples
+     * @param <R> return type
+     * @return TupleMatcherBuilder
+     * @since 0.4.2
+     */
+    public static <R> TupleMatcherBuilder<R> compileTuple(int arity) {
+        return new TupleMatcherBuilder<>(arity);
+    }
+
+    /**
+     * Compile a reusable class matcher, the branch of each class is resolved once and cached in a {@link ClassValue}. <br>
+     * 构建可重复使用的类匹配器，每个类的分支只解析一次并缓存在 {@link ClassValue} 中。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * ClassCompiledMatcher&lt;Serializer&gt; serializers = Pattern.&lt;Serializer&gt;compileClass()
+     *         .when(String.class,     c -&gt; STRING_SERIALIZER)
+     *         .when(Number.class,     c -&gt; NUMBER_SERIALIZER)
+     *         .when(Collection.class, c -&gt; COLLECTION_SERIALIZER)
+     *         .withHierarchy()        // Integer -&gt; Number, ArrayList -&gt; Collection
+     *         .orElse(c -&gt; OBJECT_SERIALIZER);
+     *
+     * Serializer serializer = serializers.matchClassOf(message);
+     * </pre>
+     * @param <R> return type
+     * @return ClassMatcherBuilder
+     * @since 0.4.2
+     */
+    public static <R> ClassMatcherBuilder<R> compileClass() {
+        return new ClassMatcherBuilder<>();
+    }
+
+    /**
+     * Run a named fluent match chain, when a {@link MatchStats} with the same name is registered in {@link MatcherRegistry},
+     * the chain is timed and reported to it, otherwise the chain just runs. Fluent matchers don't track which branch
+     * is matched, so each run is reported as branch {@code 0}. <br>
+     * 执行命名的流式匹配链。{@link MatcherRegistry} 中注册了同名的 {@link MatchStats} 时，记录整个匹配链的耗时，
+     * 否则直接执行。流式匹配器不记录命中的分支，所以每次执行都记录为分支 {@code 0}。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * MatcherRegistry.register(new MatchStats("orderStatus", 1));
+     *
+     * String status = Pattern.named("orderStatus", () -&gt; match(code)
+     *         .when(1, v -&gt; "NEW")
+     *         .when(2, v -&gt; "PAID")
+     *         .orElse(v -&gt; "UNKNOWN"));
+     * </pre>
+     * @param name  name of the chain
+     * @param chain fluent match chain
+     * @param <R>   return type
+     * @param <E>   exception type
+     * @return result of the chain
+     * @throws E exception thrown by the chain
+     * @since 0.4.2
+     */
+    public static <R, E extends Throwable> R named(String name, RT0<? extends R, E> chain) throws E {
+        Objects.requireNonNull(chain);
+        MatchListener listener = MatcherRegistry.listener(name);
+        if (listener == MatchListener.NOOP) return chain.$();
+        long start = System.nanoTime();
+        try {
+            return chain.$();
+        } finally {
+            listener.onMatch(0, System.nanoTime() - start);
+        }
+    }
+
     public static ClassValueMatcherMapping<Class<?>> match(Class<?> clazz) {
         return new ClassValueMatcherMapping<>(clazz);
     }
@@ -235,6 +474,35 @@ public class Pattern {
         return new ActionValueMatcherMapping<>(value, preAction);
     }
 
+    /**
+     * Compile a reusable {@code match(value, preAction)}, the {@code preAction} is applied to each branch value
+     * only once when building, and the branch is found by one hash lookup. <br>
+     * 构建可重复使用的 {@code match(value, preAction)} 匹配器，构建时对每个分支的值只执行一次 preAction，匹配时只需一次哈希查找。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * ValueCompiledMatcher&lt;String, Integer&gt; matcher = Pattern.&lt;String, Integer&gt;compile(v -&gt; v.trim().toUpperCase())
+     *         .when(" a ",         v -&gt; 1)
+     *         .when(in("b", "c"),  v -&gt; 2)
+     *         .orElse(v -&gt; 0);
+     *
+     * int res = matcher.match("C");     // 2
+     * </pre>
+     * @param preAction action applied to branch values
+     * @param <V> value type
+     * @param <R> return type
+     * @return ActionValueMatcherBuilder
+     * @since 0.4.2
+     */
+    public static <V, R> ActionValueMatcherBuilder<V, V, R> compile(R1<? super V, V> preAction) {
+        Objects.requireNonNull(preAction);
+        return new ActionValueMatcherBuilder<>(preAction);
+    }
+
+    public static <V, T, R> ActionValueMatcherBuilder<V, T, R> compile(R1<? super T, V> preAction, Class<T> clazz) {
+        Objects.requireNonNull(preAction);
+        return new ActionValueMatcherBuilder<>(preAction);
+    }
+
     public static <T> ActionNoneMatcherMapping<T> match(R1<? super T, Boolean> preAction, Class<T> clazz) {
         Objects.requireNonNull(preAction);
         return new ActionNoneMatcherMapping<>(NONE, preAction);
@@ -319,4 +587,24 @@ public class Pattern {
         return PatternIn.in(values);
     }
 
+    public static <T extends Comparable<?>> PatternRange<T> between(T lower, T upper) {
+        return PatternRange.between(lower, upper);
+    }
+
+    public static <T extends Comparable<?>> PatternRange<T> atLeast(T lower) {
+        return PatternRange.atLeast(lower);
+    }
+
+    public static <T extends Comparable<?>> PatternRange<T> below(T upper) {
+        return PatternRange.below(upper);
+    }
+
+    public static PatternTuple tuple(Object... elements) {
+        return PatternTuple.of(elements);
+    }
+
+    public static PatternTuple.InstanceOf instanceOf(Class<?> clazz) {
+        return PatternTuple.instanceOf(clazz);
+    }
+
 }
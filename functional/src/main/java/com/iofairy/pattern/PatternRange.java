@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern;
+
+import com.iofairy.top.O;
+
+import java.util.Objects;
+
+/**
+ * PatternRange for matching a value in a half-open interval {@code [lower, upper)}. <br>
+ * 判断待匹配的值是否在左闭右开区间 {@code [lower, upper)} 内，{@code null} 边界表示无界。<br>
+ * Two {@link Number}s are compared by {@link O#compare(Number, Number)}, so mixed number types can be compared,
+ * such as {@code Integer} and {@code Double}; other values are compared by {@link Comparable#compareTo(Object)}. <br>
+ * 两个 {@link Number} 使用 {@link O#compare(Number, Number)} 比较，支持不同的数值类型混合比较，
+ * 其他值使用 {@link Comparable#compareTo(Object)} 比较。
+ *
+ * @param <V> bound type
+ * @since 0.4.2
+ */
+public class PatternRange<V extends Comparable<?>> {
+
+    private final V lower;
+    private final V upper;
+
+    private PatternRange(V lower, V upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * Match value in {@code [lower, upper)}. <br>
+     * 匹配区间 {@code [lower, upper)} 内的值：<br>
+     * <b>Examples:</b>
+     * <pre>
+     * .when(between(0, 100),   v -&gt; "fast")
+     * .when(between(100, 500), v -&gt; "normal")
+     * .when(atLeast(500),      v -&gt; "slow")
+     * </pre>
+     * @param lower lower bound (inclusive)
+     * @param upper upper bound (exclusive)
+     * @param <T> bound type
+     * @return PatternRange
+     * @since 0.4.2
+     */
+    public static <T extends Comparable<?>> PatternRange<T> between(T lower, T upper) {
+        Objects.requireNonNull(lower, "Parameter `lower` must be non-null!");
+        Objects.requireNonNull(upper, "Parameter `upper` must be non-null!");
+        return new PatternRange<>(lower, upper);
+    }
+
+    /**
+     * Match value {@code >= lower}. 匹配大于等于 lower 的值
+     *
+     * @param lower lower bound (inclusive)
+     * @param <T> bound type
+     * @return PatternRange
+     * @since 0.4.2
+     */
+    public static <T extends Comparable<?>> PatternRange<T> atLeast(T lower) {
+        Objects.requireNonNull(lower, "Parameter `lower` must be non-null!");
+        return new PatternRange<>(lower, null);
+    }
+
+    /**
+     * Match value {@code < upper}. 匹配小于 upper 的值
+     *
+     * @param upper upper bound (exclusive)
+     * @param <T> bound type
+     * @return PatternRange
+     * @since 0.4.2
+     */
+    public static <T extends Comparable<?>> PatternRange<T> below(T upper) {
+        Objects.requireNonNull(upper, "Parameter `upper` must be non-null!");
+        return new PatternRange<>(null, upper);
+    }
+
+    /**
+     * Whether the value is in this range, {@code null} value is never in any range. <br>
+     * 值是否在区间内，{@code null} 值不在任何区间内
+     *
+     * @param value value
+     * @return {@code true} if the value is in this range
+     */
+    public boolean contains(Object value) {
+        if (value == null) return false;
+        return (lower == null || compare(value, lower) >= 0) && (upper == null || compare(value, upper) < 0);
+    }
+
+    /**
+     * Whether no value can be in this range. 区间是否为空
+     *
+     * @return {@code true} if {@code lower >= upper}
+     */
+    public boolean isEmpty() {
+        return lower != null && upper != null && compare(lower, upper) >= 0;
+    }
+
+    /**
+     * Compare two non-null values. Numbers are compared by {@link O#compare(Number, Number)}. <br>
+     * 比较两个非 null 的值，数值使用 {@link O#compare(Number, Number)} 比较
+     *
+     * @param v1 value1
+     * @param v2 value2
+     * @return negative, zero, or positive
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static int compare(Object v1, Object v2) {
+        if (v1 instanceof Number && v2 instanceof Number) return O.compare((Number) v1, (Number) v2);
+        return ((Comparable) v1).compareTo(v2);
+    }
+
+    /**
+     * Lower bound, {@code null} if unbounded. 下界（包含），{@code null} 表示无界
+     *
+     * @return lower bound
+     */
+    public V getLower() {
+        return lower;
+    }
+
+    /**
+     * Upper bound, {@code null} if unbounded. 上界（不包含），{@code null} 表示无界
+     *
+     * @return upper bound
+     */
+    public V getUpper() {
+        return upper;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PatternRange<?> that = (PatternRange<?>) o;
+        return Objects.equals(lower, that.lower) && Objects.equals(upper, that.upper);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lower, upper);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + (lower == null ? "-∞" : lower) + ", " + (upper == null ? "+∞" : upper) + ")";
+    }
+}
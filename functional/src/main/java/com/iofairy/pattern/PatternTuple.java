@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern;
+
+import com.iofairy.pattern.type.PatternAny;
+import com.iofairy.tuple.Tuple;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * PatternTuple for matching a {@link Tuple} position by position. <br>
+ * 按位置匹配元组，每个位置可以是：<br>
+ * 1. {@link PatternAny#ANY}: 匹配任意值（包括 {@code null}）；<br>
+ * 2. {@link PatternIn}: 匹配集合中的任意一个值；<br>
+ * 3. {@link InstanceOf}: 匹配指定类型的实例（{@link #instanceOf(Class)}）；<br>
+ * 4. 其他值: 使用 {@link Object#equals(Object)} 匹配。
+ * <b>Examples:</b>
+ * <pre>
+ * .when(tuple(ANY, in("EU", "US"), "gold"),   v -&gt; ...)
+ * .when(tuple(404, instanceOf(String.class)), v -&gt; ...)
+ * </pre>
+ *
+ * @since 0.4.2
+ */
+public class PatternTuple {
+
+    private final Object[] elements;
+
+    private PatternTuple(Object[] elements) {
+        this.elements = elements;
+    }
+
+    public static PatternTuple of(Object... elements) {
+        Objects.requireNonNull(elements, "Parameter `elements` must be non-null!");
+        return new PatternTuple(elements.clone());
+    }
+
+    public static InstanceOf instanceOf(Class<?> clazz) {
+        return new InstanceOf(clazz);
+    }
+
+    /**
+     * Whether the tuple matches this pattern. 元组是否匹配此模式
+     *
+     * @param tuple tuple
+     * @return {@code true} if matched
+     */
+    public boolean matches(Tuple tuple) {
+        if (tuple == null || tuple.arity() != elements.length) return false;
+        for (int i = 0; i < elements.length; i++) {
+            if (!matches(elements[i], tuple.element(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Whether the value matches the element pattern. 值是否匹配某个位置的模式
+     *
+     * @param element element pattern
+     * @param value value
+     * @return {@code true} if matched
+     */
+    public static boolean matches(Object element, Object value) {
+        if (element == PatternAny.ANY) return true;
+        if (element instanceof PatternIn) return ((PatternIn<?>) element).getVs().contains(value);
+        if (element instanceof InstanceOf) return ((InstanceOf) element).clazz.isInstance(value);
+        return Objects.equals(element, value);
+    }
+
+    public int arity() {
+        return elements.length;
+    }
+
+    /**
+     * The element pattern of the position. 获取某个位置的模式
+     *
+     * @param n index
+     * @return element pattern
+     */
+    public Object element(int n) {
+        return elements[n];
+    }
+
+    @Override
+    public String toString() {
+        return "PatternTuple" + Arrays.toString(elements);
+    }
+
+    /**
+     * Type test of a position. 某个位置的类型检查
+     */
+    public static final class InstanceOf {
+        private final Class<?> clazz;
+
+        private InstanceOf(Class<?> clazz) {
+            this.clazz = Objects.requireNonNull(clazz, "Parameter `clazz` must be non-null!");
+        }
+
+        public Class<?> getClazz() {
+            return clazz;
+        }
+
+        @Override
+        public String toString() {
+            return "instanceOf(" + clazz.getSimpleName() + ")";
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.PatternIn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builder of compiled {@code match(value, preAction)}. The {@code preAction} is applied to each branch value
+ * exactly once when building, and the compiled matcher finds the branch by one hash lookup. <br>
+ * {@code match(value, preAction)} 的编译构建器。构建时对每个分支的值只执行一次 preAction，
+ * 编译后的匹配器只需一次哈希查找即可找到第一个匹配的分支。
+ *
+ * @param <V> 待匹配的值的类型
+ * @param <P> 分支的值的类型（preAction 的参数类型）
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class ActionValueMatcherBuilder<V, P, R> extends CompiledMatcherBuilder<V, List<P>, R, ValueCompiledMatcher<V, R>> {
+
+    private final R1<? super P, V> preAction;
+
+    public ActionValueMatcherBuilder(R1<? super P, V> preAction) {
+        this.preAction = Objects.requireNonNull(preAction);
+    }
+
+    public ActionValueMatcherBuilder<V, P, R> when(P matchValue, R1<? super V, ? extends R> action) {
+        addBranch(Collections.singletonList(matchValue), action);
+        return this;
+    }
+
+    public ActionValueMatcherBuilder<V, P, R> when(PatternIn<P> matchValues, R1<? super V, ? extends R> action) {
+        addBranch(matchValues == null ? Collections.singletonList(null) : matchValues.getVs(), action);
+        return this;
+    }
+
+    @Override
+    protected ValueCompiledMatcher<V, R> compile(R1<? super V, ? extends R> orElse) {
+        List<List<V>> keys = new ArrayList<>(patterns.size());
+        for (List<P> branchPatterns : patterns) {
+            List<V> branchKeys = new ArrayList<>(branchPatterns.size());
+            for (P p : branchPatterns) branchKeys.add(preAction.$(p));
+            keys.add(branchKeys);
+        }
+        return new ValueCompiledMatcher<>(keys, actions, orElse);
+    }
+}
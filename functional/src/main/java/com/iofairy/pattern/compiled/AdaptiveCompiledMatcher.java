@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive Compiled Matcher. It counts the hits of each branch, and periodically reorders the evaluation
+ * of <b>disjoint</b> branches by the observed frequency. <br>
+ * 自适应编译匹配器。统计每个分支的命中次数，并定期按命中频率重排<b>互斥</b>分支的求值顺序。<br>
+ * Adjacent branches declared by {@link AdaptiveMatcherBuilder#whenDisjoint(R1, R1)} make up a segment,
+ * only branches in the same segment are reordered; a branch declared by {@link AdaptiveMatcherBuilder#when(R1, R1)}
+ * may overlap with others, so it is never moved, and the declared priority is always preserved. <br>
+ * 相邻的 whenDisjoint 分支组成一个段，只在段内重排；when 分支可能与其他分支重叠，其位置始终不变，保证声明的优先级。
+ *
+ * @param <V> 待匹配的值的类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class AdaptiveCompiledMatcher<V, R> extends CompiledMatcher<V, R> {
+    /**
+     * Default number of matches between two reorderings. 默认每匹配多少次重排一次
+     */
+    public static final int DEFAULT_REORDER_INTERVAL = 10_000;
+
+    private final R1<? super V, Boolean>[] predicates;
+    /**
+     * 每个段在 {@link #order} 中的起始位置，最后一个元素为分支数量
+     */
+    private final int[] segments;
+    private final LongAdder[] hits;
+    private final LongAdder misses = new LongAdder();
+    private final int reorderInterval;
+    /**
+     * 分支的求值顺序，重排时整体替换
+     */
+    private volatile int[] order;
+    /**
+     * 距上次重排的匹配次数。非原子计数，并发时可能少计，只影响重排的时机，不影响匹配结果
+     */
+    private int ticks;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected AdaptiveCompiledMatcher(List<R1<? super V, Boolean>> predicates,
+                                      List<Boolean> disjoint,
+                                      List<R1<? super V, ? extends R>> actions,
+                                      R1<? super V, ? extends R> orElse,
+                                      int reorderInterval) {
+        super(actions, orElse);
+        this.predicates = predicates.toArray(new R1[0]);
+        this.reorderInterval = reorderInterval;
+
+        int size = this.predicates.length;
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || !disjoint.get(i) || !disjoint.get(i - 1)) starts.add(i);
+        }
+        starts.add(size);
+        segments = starts.stream().mapToInt(Integer::intValue).toArray();
+
+        hits = new LongAdder[size];
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            hits[i] = new LongAdder();
+            order[i] = i;
+        }
+        this.order = order;
+    }
+
+    @Override
+    public int branchOf(V value) {
+        for (int branch : order) {
+            if (Boolean.TRUE.equals(predicates[branch].$(value))) {
+                hits[branch].increment();
+                tick();
+                return branch;
+            }
+        }
+        misses.increment();
+        tick();
+        return NO_MATCH;
+    }
+
+    private void tick() {
+        if (++ticks >= reorderInterval) {
+            ticks = 0;
+            reorder();
+        }
+    }
+
+    /**
+     * Reorder the branches of each segment by hits now, the most frequent first. <br>
+     * 立即按命中次数对每个段内的分支重新排序，命中次数多的排在前面，次数相同时按声明顺序
+     */
+    public synchronized void reorder() {
+        long[] counts = hitCounts();
+        Integer[] newOrder = new Integer[counts.length];
+        for (int i = 0; i < newOrder.length; i++) newOrder[i] = i;
+        for (int s = 0; s < segments.length - 1; s++) {
+            // 段内的分支声明顺序连续，排序是稳定的，所以只需按次数倒序
+            Arrays.sort(newOrder, segments[s], segments[s + 1], (b1, b2) -> Long.compare(counts[b2], counts[b1]));
+        }
+        order = Arrays.stream(newOrder).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Hits of each branch, the index of array is the index of branch. <br>
+     * 每个分支的命中次数，数组下标即分支序号
+     *
+     * @return hits of branches
+     */
+    public long[] hitCounts() {
+        long[] counts = new long[hits.length];
+        for (int i = 0; i < hits.length; i++) counts[i] = hits[i].sum();
+        return counts;
+    }
+
+    /**
+     * Number of values that matched no branch. 没有匹配任何分支的次数
+     *
+     * @return misses
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * The current evaluation order of branches. 当前分支的求值顺序
+     *
+     * @return indexes of branches in evaluation order
+     */
+    public int[] evaluationOrder() {
+        return order.clone();
+    }
+
+    /**
+     * Reset all counters, the evaluation order is kept until the next reordering. <br>
+     * 重置所有计数器，求值顺序保持不变直到下次重排
+     */
+    public void resetMetrics() {
+        for (LongAdder hit : hits) hit.reset();
+        misses.reset();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builder of {@link AdaptiveCompiledMatcher}
+ *
+ * @param <V> 待匹配的值的类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class AdaptiveMatcherBuilder<V, R> extends CompiledMatcherBuilder<V, R1<? super V, Boolean>, R, AdaptiveCompiledMatcher<V, R>> {
+
+    private final List<Boolean> disjoint = new ArrayList<>();
+    private int reorderInterval = AdaptiveCompiledMatcher.DEFAULT_REORDER_INTERVAL;
+
+    /**
+     * Add a branch that may overlap with other branches, its position is never changed. <br>
+     * 添加一个可能与其他分支重叠的分支，它的求值位置永远不会改变
+     *
+     * @param predicate predicate
+     * @param action action
+     * @return this builder
+     */
+    public AdaptiveMatcherBuilder<V, R> when(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        return addPredicate(predicate, false, action);
+    }
+
+    /**
+     * Add a branch whose predicate is <b>side-effect-free</b> and <b>never matches the same value as the adjacent
+     * whenDisjoint branches</b>, so it can be reordered among them. <br>
+     * 添加一个分支，其断言<b>无副作用</b>，并且<b>与相邻的 whenDisjoint 分支互斥</b>，所以可以在它们之间重新排序
+     *
+     * @param predicate predicate
+     * @param action action
+     * @return this builder
+     */
+    public AdaptiveMatcherBuilder<V, R> whenDisjoint(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        return addPredicate(predicate, true, action);
+    }
+
+    /**
+     * Number of matches between two reorderings. 每匹配多少次重排一次
+     *
+     * @param reorderInterval number of matches, must be greater than 0
+     * @return this builder
+     */
+    public AdaptiveMatcherBuilder<V, R> reorderInterval(int reorderInterval) {
+        if (reorderInterval <= 0) throw new IllegalArgumentException("Parameter `reorderInterval` must be greater than 0. ");
+        this.reorderInterval = reorderInterval;
+        return this;
+    }
+
+    private AdaptiveMatcherBuilder<V, R> addPredicate(R1<? super V, Boolean> predicate, boolean isDisjoint, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(predicate);
+        addBranch(predicate, action);
+        disjoint.add(isDisjoint);
+        return this;
+    }
+
+    @Override
+    protected AdaptiveCompiledMatcher<V, R> compile(R1<? super V, ? extends R> orElse) {
+        return new AdaptiveCompiledMatcher<>(patterns, disjoint, actions, orElse, reorderInterval);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ForkJoin task of {@link CompiledMatcher#applyAllParallel(Object[], int)}.
+ * Split the values into chunks, and write the branch and result of each value to the same index. <br>
+ * 将待匹配的值拆分成多个块并行匹配，结果写入相同的下标，所以结果与输入的顺序一致。
+ *
+ * @since 0.4.2
+ */
+class BulkApplyTask<V, R> extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final CompiledMatcher<V, R> matcher;
+    private final V[] values;
+    private final Object[] results;
+    /**
+     * 每个值匹配的分支，为 null 时不记录
+     */
+    private final int[] branches;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    BulkApplyTask(CompiledMatcher<V, R> matcher, V[] values, Object[] results, int[] branches, int from, int to, int chunkSize) {
+        this.matcher = matcher;
+        this.values = values;
+        this.results = results;
+        this.branches = branches;
+        this.from = from;
+        this.to = to;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= chunkSize) {
+            for (int i = from; i < to; i++) {
+                V value = values[i];
+                int branch = matcher.branchOf(value);
+                if (branches != null) branches[i] = branch;
+                results[i] = matcher.apply(branch, value);
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        invokeAll(new BulkApplyTask<>(matcher, values, results, branches, from, mid, chunkSize),
+                new BulkApplyTask<>(matcher, values, results, branches, mid, to, chunkSize));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+
+import java.util.*;
+
+/**
+ * Compiled Class Matcher, the branch of each class is resolved only once and cached in a {@link ClassValue}. <br>
+ * 编译后的类匹配器。每个类的分支只解析一次并缓存在 {@link ClassValue} 中，之后的匹配只需一次查找，没有线性扫描，也不会分配内存。<br>
+ * With hierarchy fallback, a class without its own branch walks up its superclass chain: at each level the class itself
+ * is tried first, then every interface it declares (including their super interfaces), and when several of those
+ * interfaces have branches, the first declared branch wins. A branch of {@link Object} is only used as the last resort. <br>
+ * 启用继承回退时，没有直接分支的类沿父类链逐级向上查找：每一级先查该类本身，再查它声明的所有接口（包括接口的父接口），
+ * 同一级有多个接口命中时取最先声明的分支。{@link Object} 的分支只作为最后的兜底。
+ *
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class ClassCompiledMatcher<R> extends CompiledMatcher<Class<?>, R> {
+    private final Map<Class<?>, Integer> exactBranches;
+    private final boolean hierarchy;
+    private final ClassValue<Integer> cache = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    protected ClassCompiledMatcher(List<List<Class<?>>> patterns,
+                                   boolean hierarchy,
+                                   List<R1<? super Class<?>, ? extends R>> actions,
+                                   R1<? super Class<?>, ? extends R> orElse) {
+        super(actions, orElse);
+        this.hierarchy = hierarchy;
+        exactBranches = new HashMap<>();
+        for (int i = 0; i < patterns.size(); i++) {
+            for (Class<?> clazz : patterns.get(i)) exactBranches.putIfAbsent(clazz, i);
+        }
+    }
+
+    @Override
+    public int branchOf(Class<?> clazz) {
+        return clazz == null ? NO_MATCH : cache.get(clazz);
+    }
+
+    /**
+     * Match the class of the object. 匹配对象的类型
+     *
+     * @param object object
+     * @return result of action
+     */
+    public R matchClassOf(Object object) {
+        return match(object == null ? null : object.getClass());
+    }
+
+    private int resolve(Class<?> type) {
+        Integer branch = exactBranches.get(type);
+        if (branch != null || !hierarchy) return branch == null ? NO_MATCH : branch;
+
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            if (c != type) {
+                branch = exactBranches.get(c);
+                if (branch != null) return branch;
+            }
+            int best = NO_MATCH;
+            queue.addAll(Arrays.asList(c.getInterfaces()));
+            while (!queue.isEmpty()) {
+                Class<?> i = queue.poll();
+                if (!visited.add(i)) continue;
+                branch = exactBranches.get(i);
+                if (branch != null && (best == NO_MATCH || branch < best)) best = branch;
+                queue.addAll(Arrays.asList(i.getInterfaces()));
+            }
+            if (best != NO_MATCH) return best;
+        }
+        branch = type.isPrimitive() ? null : exactBranches.get(Object.class);
+        return branch == null ? NO_MATCH : branch;
+    }
+
+    /**
+     * Whether superclass and interface fallback is enabled. 是否启用继承回退
+     *
+     * @return {@code true} if enabled
+     */
+    public boolean isHierarchy() {
+        return hierarchy;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.PatternIn;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Builder of {@link ClassCompiledMatcher}
+ *
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class ClassMatcherBuilder<R> extends CompiledMatcherBuilder<Class<?>, List<Class<?>>, R, ClassCompiledMatcher<R>> {
+
+    private boolean hierarchy;
+
+    public ClassMatcherBuilder<R> when(Class<?> matchValue, R1<? super Class<?>, ? extends R> action) {
+        Objects.requireNonNull(matchValue);
+        addBranch(Collections.singletonList(matchValue), action);
+        return this;
+    }
+
+    public ClassMatcherBuilder<R> when(PatternIn<Class<?>> matchValues, R1<? super Class<?>, ? extends R> action) {
+        Objects.requireNonNull(matchValues);
+        addBranch(matchValues.getVs().stream().filter(Objects::nonNull).collect(Collectors.toList()), action);
+        return this;
+    }
+
+    /**
+     * Enable superclass and interface fallback. 启用父类与接口回退
+     *
+     * @return this builder
+     */
+    public ClassMatcherBuilder<R> withHierarchy() {
+        this.hierarchy = true;
+        return this;
+    }
+
+    @Override
+    protected ClassCompiledMatcher<R> compile(R1<? super Class<?>, ? extends R> orElse) {
+        return new ClassCompiledMatcher<>(patterns, hierarchy, actions, orElse);
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Compiled Matcher. The branches are built only once, and can be reused to match many values. <b>It's thread-safe</b>.<br>
+ * 编译后的匹配器。所有分支只构建一次，可重复用于匹配多个值<b>（线程安全）</b>。<br>
+ * A compiled matcher is made of two parts: <br>
+ * 1. {@link #branchOf(Object)}: find the index of the first matched branch; <br>
+ * 2. actions: the action of each branch, and the {@code orElse} action.
+ *
+ * @param <V> 待匹配的值的类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public abstract class CompiledMatcher<V, R> {
+    /**
+     * No branch matched. 没有匹配任何分支
+     */
+    public static final int NO_MATCH = -1;
+    /**
+     * The minimum chunk size of {@link #applyAllParallel(Object[])}. 并行匹配时每个块的最小大小
+     */
+    public static final int MIN_CHUNK_SIZE = 1024;
+
+    protected final R1<? super V, ? extends R>[] actions;
+    protected final R1<? super V, ? extends R> orElse;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected CompiledMatcher(List<R1<? super V, ? extends R>> actions, R1<? super V, ? extends R> orElse) {
+        this.actions = actions.toArray(new R1[0]);
+        this.orElse = orElse;
+    }
+
+    /**
+     * Get the index of the first matched branch (the same order as {@code .when} calls), or {@link #NO_MATCH}. <br>
+     * 获取第一个匹配的分支的序号（与 when 的调用顺序一致），没有匹配时返回 {@link #NO_MATCH}
+     *
+     * @param value value
+     * @return index of branch
+     */
+    public abstract int branchOf(V value);
+
+    /**
+     * Match the value, and apply the action of the first matched branch,
+     * or {@code orElse} action if no branch matched. <br>
+     * 匹配值并执行第一个匹配的分支的action，都没有匹配时执行 orElse 的action（未设置orElse时返回 null）
+     *
+     * @param value value
+     * @return result of action
+     */
+    public R match(V value) {
+        return apply(branchOf(value), value);
+    }
+
+    /**
+     * Match all values in order. <br>
+     * 按顺序匹配所有的值，返回的结果与输入的顺序一致
+     *
+     * @param values values
+     * @return results
+     */
+    public List<R> applyAll(Iterable<? extends V> values) {
+        Objects.requireNonNull(values);
+        List<R> results = values instanceof Collection ? new ArrayList<>(((Collection<?>) values).size()) : new ArrayList<>();
+        for (V value : values) {
+            results.add(match(value));
+        }
+        return results;
+    }
+
+    /**
+     * Match all values in order. <br>
+     * 按顺序匹配所有的值，返回的结果与输入的顺序一致
+     *
+     * @param values values
+     * @return results
+     */
+    public List<R> applyAll(V[] values) {
+        Objects.requireNonNull(values);
+        List<R> results = new ArrayList<>(values.length);
+        for (V value : values) {
+            results.add(match(value));
+        }
+        return results;
+    }
+
+    /**
+     * Match all values of the stream lazily, a parallel stream stays parallel. <br>
+     * 延迟匹配流中的所有值，并行流仍然是并行流
+     *
+     * @param values values
+     * @return stream of results
+     */
+    public Stream<R> applyAll(Stream<? extends V> values) {
+        Objects.requireNonNull(values);
+        return values.map(this::match);
+    }
+
+    /**
+     * A {@link Collector} that matches every element and accumulates the results into a {@link List}. <br>
+     * 匹配每个元素并将结果收集到 {@link List} 中的 {@link Collector}，可以用于并行流
+     *
+     * @return Collector
+     */
+    public Collector<V, ?, List<R>> collector() {
+        return Collector.of(ArrayList::new,
+                (List<R> results, V value) -> results.add(match(value)),
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                });
+    }
+
+    /**
+     * Match all values in parallel with {@link ForkJoinPool#commonPool()}, the results are in the same order as the values. <br>
+     * 使用 {@link ForkJoinPool#commonPool()} 并行匹配所有的值，返回的结果与输入的顺序一致。<br>
+     * <b>Note:</b> the actions may be called concurrently, so they should be thread-safe.
+     *
+     * @param values values
+     * @return results
+     */
+    public List<R> applyAllParallel(V[] values) {
+        Objects.requireNonNull(values);
+        return applyAllParallel(values, defaultChunkSize(values.length));
+    }
+
+    /**
+     * Match all values in parallel with {@link ForkJoinPool#commonPool()}, the results are in the same order as the values. <br>
+     * 使用 {@link ForkJoinPool#commonPool()} 并行匹配所有的值，返回的结果与输入的顺序一致
+     *
+     * @param values values
+     * @param chunkSize the maximum number of values matched by one task. 每个任务最多匹配的值的数量
+     * @return results
+     */
+    @SuppressWarnings("unchecked")
+    public List<R> applyAllParallel(V[] values, int chunkSize) {
+        Objects.requireNonNull(values);
+        Object[] results = new Object[values.length];
+        applyParallel(values, results, null, chunkSize);
+        return (List<R>) Arrays.asList(results);
+    }
+
+    /**
+     * Match all values in parallel with {@link ForkJoinPool#commonPool()}, the results are in the same order as the values. <br>
+     * 使用 {@link ForkJoinPool#commonPool()} 并行匹配所有的值，返回的结果与输入的顺序一致
+     *
+     * @param values values
+     * @return results
+     */
+    public List<R> applyAllParallel(Collection<? extends V> values) {
+        Objects.requireNonNull(values);
+        return applyAllParallel(values, defaultChunkSize(values.size()));
+    }
+
+    /**
+     * Match all values in parallel with {@link ForkJoinPool#commonPool()}, the results are in the same order as the values. <br>
+     * 使用 {@link ForkJoinPool#commonPool()} 并行匹配所有的值，返回的结果与输入的顺序一致
+     *
+     * @param values values
+     * @param chunkSize the maximum number of values matched by one task. 每个任务最多匹配的值的数量
+     * @return results
+     */
+    @SuppressWarnings("unchecked")
+    public List<R> applyAllParallel(Collection<? extends V> values, int chunkSize) {
+        Objects.requireNonNull(values);
+        return applyAllParallel((V[]) values.toArray(), chunkSize);
+    }
+
+    /**
+     * Match all values and group the results by the index of matched branch. <br>
+     * 匹配所有的值，并按匹配的分支序号分组。分组按分支的序号排序（没有匹配的分组 {@link #NO_MATCH} 排在最前面），
+     * 每个分组中的结果与输入的顺序一致
+     *
+     * @param values values
+     * @return results grouped by branch
+     */
+    public SortedMap<Integer, List<R>> applyAllGrouped(Iterable<? extends V> values) {
+        Objects.requireNonNull(values);
+        SortedMap<Integer, List<R>> groups = new TreeMap<>();
+        for (V value : values) {
+            int branch = branchOf(value);
+            groups.computeIfAbsent(branch, k -> new ArrayList<>()).add(apply(branch, value));
+        }
+        return groups;
+    }
+
+    /**
+     * Match all values in parallel and group the results by the index of matched branch. <br>
+     * 并行匹配所有的值，并按匹配的分支序号分组。分组按分支的序号排序，每个分组中的结果与输入的顺序一致
+     *
+     * @param values values
+     * @param chunkSize the maximum number of values matched by one task. 每个任务最多匹配的值的数量
+     * @return results grouped by branch
+     */
+    @SuppressWarnings("unchecked")
+    public SortedMap<Integer, List<R>> applyAllParallelGrouped(Collection<? extends V> values, int chunkSize) {
+        Objects.requireNonNull(values);
+        V[] vs = (V[]) values.toArray();
+        Object[] results = new Object[vs.length];
+        int[] branches = new int[vs.length];
+        applyParallel(vs, results, branches, chunkSize);
+
+        SortedMap<Integer, List<R>> groups = new TreeMap<>();
+        for (int i = 0; i < vs.length; i++) {
+            groups.computeIfAbsent(branches[i], k -> new ArrayList<>()).add((R) results[i]);
+        }
+        return groups;
+    }
+
+    private void applyParallel(V[] values, Object[] results, int[] branches, int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Parameter `chunkSize` must be greater than 0. ");
+        if (values.length == 0) return;
+        ForkJoinPool.commonPool().invoke(new BulkApplyTask<>(this, values, results, branches, 0, values.length, chunkSize));
+    }
+
+    /**
+     * About 4 chunks per thread, so that the busy threads can steal the remaining chunks. <br>
+     * 每个线程约 4 个块，便于工作窃取时负载均衡
+     */
+    static int defaultChunkSize(int size) {
+        int chunks = ForkJoinPool.getCommonPoolParallelism() * 4;
+        return Math.max(MIN_CHUNK_SIZE, (size + chunks - 1) / chunks);
+    }
+
+    /**
+     * Instrument this matcher: record the hits and action latency of each branch into a {@link MatchStats},
+     * which is registered in {@link MatcherRegistry} with the name. <br>
+     * 对此匹配器插桩：记录每个分支的命中次数与 action 延迟，统计信息以 name 注册到 {@link MatcherRegistry} 中
+     *
+     * @param name name of matcher
+     * @return instrumented matcher
+     */
+    public InstrumentedMatcher<V, R> instrument(String name) {
+        MatchStats stats = new MatchStats(name, branchCount());
+        MatcherRegistry.register(stats);
+        return instrument(name, stats);
+    }
+
+    /**
+     * Instrument this matcher with a custom listener. 使用自定义的监听器对此匹配器插桩
+     *
+     * @param name name of matcher
+     * @param listener listener
+     * @return instrumented matcher
+     */
+    public InstrumentedMatcher<V, R> instrument(String name, MatchListener listener) {
+        return new InstrumentedMatcher<>(name, this, listener);
+    }
+
+    /**
+     * Apply the action of the branch. 执行指定分支的action
+     *
+     * @param branch index of branch, or {@link #NO_MATCH}
+     * @param value value
+     * @return result of action
+     */
+    protected R apply(int branch, V value) {
+        if (branch == NO_MATCH) return orElse == null ? null : orElse.$(value);
+        return actions[branch].$(value);
+    }
+
+    /**
+     * The number of branches. 分支数量
+     * @return number of branches
+     */
+    public int branchCount() {
+        return actions.length;
+    }
+
+    /**
+     * Whether {@code orElse} action is set. 是否设置了 orElse
+     * @return {@code true} if {@code orElse} action is set
+     */
+    public boolean hasDefault() {
+        return orElse != null;
+    }
+}
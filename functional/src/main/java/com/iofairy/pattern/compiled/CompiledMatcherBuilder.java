@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builder of {@link CompiledMatcher}. <b>It's not thread-safe</b>.<br>
+ * 编译匹配器的构建器<b>（非线程安全）</b>
+ *
+ * @param <V> 待匹配的值的类型
+ * @param <P> 分支的模式的类型
+ * @param <R> 返回值类型
+ * @param <M> 编译后的匹配器类型
+ * @since 0.4.2
+ */
+public abstract class CompiledMatcherBuilder<V, P, R, M extends CompiledMatcher<V, R>> {
+    protected final List<P> patterns = new ArrayList<>();
+    protected final List<R1<? super V, ? extends R>> actions = new ArrayList<>();
+
+    protected void addBranch(P pattern, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(action);
+        patterns.add(pattern);
+        actions.add(action);
+    }
+
+    /**
+     * Build the matcher with {@code orElse} action. <br>
+     * 设置 orElse 的 action 并构建匹配器
+     *
+     * @param action action for no branch matched
+     * @return compiled matcher
+     */
+    public M orElse(R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(action);
+        return compile(action);
+    }
+
+    /**
+     * Build the matcher without {@code orElse} action, it returns {@code null} when no branch matched. <br>
+     * 构建不带 orElse 的匹配器，没有匹配的分支时返回 {@code null}
+     *
+     * @return compiled matcher
+     */
+    public M build() {
+        return compile(null);
+    }
+
+    protected abstract M compile(R1<? super V, ? extends R> orElse);
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiled Enum Matcher, the branch is found by the {@link Enum#ordinal()} of the value from a jump table. <br>
+ * 编译后的枚举匹配器。构建时生成以 {@link Enum#ordinal()} 为下标的分支表和action表，匹配时只需一次数组访问。
+ *
+ * @param <E> 枚举类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class EnumCompiledMatcher<E extends Enum<E>, R> extends CompiledMatcher<E, R> {
+
+    private final Class<E> enumClass;
+    private final int nullBranch;
+    /**
+     * 以 ordinal 为下标的分支序号
+     */
+    private final int[] branchTable;
+    /**
+     * 以 ordinal 为下标的 action，没有匹配的分支时为 orElse（可能为 null）
+     */
+    private final R1<? super E, ? extends R>[] actionTable;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected EnumCompiledMatcher(Class<E> enumClass,
+                                  List<List<E>> patterns,
+                                  List<R1<? super E, ? extends R>> actions,
+                                  R1<? super E, ? extends R> orElse) {
+        super(actions, orElse);
+        this.enumClass = enumClass;
+        E[] constants = enumClass.getEnumConstants();
+        branchTable = new int[constants.length];
+        Arrays.fill(branchTable, NO_MATCH);
+        int nullBranch = NO_MATCH;
+        for (int i = 0; i < patterns.size(); i++) {
+            for (E e : patterns.get(i)) {
+                if (e == null) {
+                    if (nullBranch == NO_MATCH) nullBranch = i;
+                } else if (branchTable[e.ordinal()] == NO_MATCH) {
+                    branchTable[e.ordinal()] = i;
+                }
+            }
+        }
+        this.nullBranch = nullBranch;
+
+        actionTable = new R1[constants.length];
+        for (int i = 0; i < constants.length; i++) {
+            actionTable[i] = branchTable[i] == NO_MATCH ? orElse : this.actions[branchTable[i]];
+        }
+    }
+
+    @Override
+    public int branchOf(E value) {
+        return value == null ? nullBranch : branchTable[value.ordinal()];
+    }
+
+    @Override
+    public R match(E value) {
+        if (value == null) return apply(nullBranch, null);
+        R1<? super E, ? extends R> action = actionTable[value.ordinal()];
+        return action == null ? null : action.$(value);
+    }
+
+    public Class<E> getEnumClass() {
+        return enumClass;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.except.NonExhaustiveMatchException;
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.PatternIn;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Builder of {@link EnumCompiledMatcher}. {@link #build()} checks the exhaustiveness:
+ * every enum constant must be matched by a branch when there is no {@code orElse}. <br>
+ * {@link EnumCompiledMatcher} 的构建器。未设置 orElse 时，{@link #build()} 会检查是否覆盖了所有的枚举常量，
+ * 否则抛出 {@link NonExhaustiveMatchException}
+ *
+ * @param <E> 枚举类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class EnumMatcherBuilder<E extends Enum<E>, R> extends CompiledMatcherBuilder<E, List<E>, R, EnumCompiledMatcher<E, R>> {
+
+    private final Class<E> enumClass;
+
+    public EnumMatcherBuilder(Class<E> enumClass) {
+        this.enumClass = Objects.requireNonNull(enumClass);
+    }
+
+    public EnumMatcherBuilder<E, R> when(E matchValue, R1<? super E, ? extends R> action) {
+        addBranch(Collections.singletonList(matchValue), action);
+        return this;
+    }
+
+    public EnumMatcherBuilder<E, R> when(PatternIn<E> matchValues, R1<? super E, ? extends R> action) {
+        addBranch(matchValues == null ? Collections.singletonList(null) : matchValues.getVs(), action);
+        return this;
+    }
+
+    /**
+     * Build the matcher without {@code orElse} action. <br>
+     * 构建不带 orElse 的匹配器，所有的枚举常量都必须被分支覆盖（{@code null} 值不要求覆盖，没有匹配时返回 {@code null}）
+     *
+     * @return compiled matcher
+     * @throws NonExhaustiveMatchException if some enum constants are not matched by any branch
+     */
+    @Override
+    public EnumCompiledMatcher<E, R> build() {
+        EnumSet<E> missing = EnumSet.allOf(enumClass);
+        for (List<E> branchPatterns : patterns) {
+            branchPatterns.forEach(missing::remove);
+        }
+        if (!missing.isEmpty()) {
+            throw new NonExhaustiveMatchException("The enum constants " + missing.stream().map(Enum::name).collect(Collectors.joining(", ", "[", "]"))
+                    + " of " + enumClass.getName() + " are not matched, add the branches or use `orElse`. ");
+        }
+        return super.build();
+    }
+
+    @Override
+    protected EnumCompiledMatcher<E, R> compile(R1<? super E, ? extends R> orElse) {
+        return new EnumCompiledMatcher<>(enumClass, patterns, actions, orElse);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compiled matcher that notifies a {@link MatchListener} after each match, created by
+ * {@link CompiledMatcher#instrument(String)}. The wrapped matcher itself is unchanged, so matchers that are not
+ * instrumented cost nothing. <br>
+ * 每次匹配后通知 {@link MatchListener} 的编译匹配器。被包装的匹配器本身不变，所以未插桩的匹配器没有任何额外开销。
+ *
+ * @param <V> 待匹配的值的类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class InstrumentedMatcher<V, R> extends CompiledMatcher<V, R> {
+    private final String name;
+    private final CompiledMatcher<V, R> delegate;
+    private volatile MatchListener listener;
+
+    protected InstrumentedMatcher(String name, CompiledMatcher<V, R> delegate, MatchListener listener) {
+        super(Arrays.asList(delegate.actions), delegate.orElse);
+        this.name = Objects.requireNonNull(name);
+        this.delegate = delegate;
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    @Override
+    public int branchOf(V value) {
+        return delegate.branchOf(value);
+    }
+
+    @Override
+    protected R apply(int branch, V value) {
+        MatchListener listener = this.listener;
+        if (listener == MatchListener.NOOP) return delegate.apply(branch, value);
+        long start = System.nanoTime();
+        try {
+            return delegate.apply(branch, value);
+        } finally {
+            listener.onMatch(branch, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Replace the listener, {@link MatchListener#NOOP} disables the instrumentation. <br>
+     * 替换监听器，设置为 {@link MatchListener#NOOP} 时关闭插桩
+     *
+     * @param listener listener
+     */
+    public void setListener(MatchListener listener) {
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    public MatchListener getListener() {
+        return listener;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CompiledMatcher<V, R> getDelegate() {
+        return delegate;
+    }
+}
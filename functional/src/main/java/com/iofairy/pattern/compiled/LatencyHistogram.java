@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power-of-two buckets: bucket {@code i} counts latencies in {@code [2^i, 2^(i+1))} nanoseconds
+ * (bucket 0 also counts 0). <br>
+ * 无锁的延迟直方图，按2的幂分桶：第 i 个桶统计 {@code [2^i, 2^(i+1))} 纳秒的延迟（第0个桶也包括0）。
+ *
+ * @since 0.4.2
+ */
+public class LatencyHistogram {
+    public static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets.incrementAndGet(nanos == 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos));
+        count.increment();
+        totalNanos.add(nanos);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Mean latency in nanoseconds. 平均延迟（纳秒）
+     *
+     * @return mean latency, or 0 if nothing recorded
+     */
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) totalNanos() / count;
+    }
+
+    /**
+     * The upper bound of the bucket containing the percentile. 百分位所在桶的上界（纳秒）
+     *
+     * @param percentile percentile in {@code [0, 100]}
+     * @return upper bound of the bucket in nanoseconds, or 0 if nothing recorded
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) throw new IllegalArgumentException("Parameter `percentile` must be in [0, 100]. ");
+        long[] counts = buckets();
+        long total = 0;
+        for (long c : counts) total += c;
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(rank, 1)) return i == 63 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Counts of all buckets. 所有桶的计数
+     *
+     * @return counts of buckets
+     */
+    public long[] buckets() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) counts[i] = buckets.get(i);
+        return counts;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) buckets.set(i, 0);
+        count.reset();
+        totalNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count() + ", mean=" + Math.round(mean()) + "ns, p50<=" + percentile(50) + "ns, p99<=" + percentile(99) + "ns";
+    }
+}
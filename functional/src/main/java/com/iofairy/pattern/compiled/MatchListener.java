@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+/**
+ * Listener of an instrumented matcher, see {@link CompiledMatcher#instrument(String, MatchListener)}. <br>
+ * 插桩匹配器的监听器，每次匹配后被调用，实现必须是线程安全的，且应尽量轻量。
+ *
+ * @since 0.4.2
+ */
+@FunctionalInterface
+public interface MatchListener {
+    /**
+     * A listener that does nothing. 什么都不做的监听器
+     */
+    MatchListener NOOP = (branch, nanos) -> {
+    };
+
+    /**
+     * Called after a value is matched and the action is applied (even if the action throws). <br>
+     * 匹配并执行 action 后调用（action 抛出异常时也会调用）
+     *
+     * @param branch index of the matched branch, or {@link CompiledMatcher#NO_MATCH}
+     * @param nanos  elapsed nanoseconds of the action. action 的耗时（纳秒）
+     */
+    void onMatch(int branch, long nanos);
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link MatchListener} that records the hits and action latency of each branch. <br>
+ * 记录每个分支的命中次数与 action 延迟的监听器
+ *
+ * @since 0.4.2
+ */
+public class MatchStats implements MatchListener {
+    private final String name;
+    /**
+     * 下标为分支序号，最后一个元素对应 {@link CompiledMatcher#NO_MATCH}
+     */
+    private final LongAdder[] hits;
+    private final LatencyHistogram[] latencies;
+
+    public MatchStats(String name, int branchCount) {
+        this.name = name;
+        hits = new LongAdder[branchCount + 1];
+        latencies = new LatencyHistogram[branchCount + 1];
+        for (int i = 0; i <= branchCount; i++) {
+            hits[i] = new LongAdder();
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    @Override
+    public void onMatch(int branch, long nanos) {
+        int index = slot(branch);
+        hits[index].increment();
+        latencies[index].record(nanos);
+    }
+
+    /**
+     * Hits of the branch. 分支的命中次数
+     *
+     * @param branch index of branch, or {@link CompiledMatcher#NO_MATCH}
+     * @return hits
+     */
+    public long hits(int branch) {
+        return hits[slot(branch)].sum();
+    }
+
+    /**
+     * Action latency histogram of the branch. 分支的 action 延迟直方图
+     *
+     * @param branch index of branch, or {@link CompiledMatcher#NO_MATCH}
+     * @return latency histogram
+     */
+    public LatencyHistogram latency(int branch) {
+        return latencies[slot(branch)];
+    }
+
+    public int branchCount() {
+        return hits.length - 1;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void reset() {
+        for (int i = 0; i < hits.length; i++) {
+            hits[i].reset();
+            latencies[i].reset();
+        }
+    }
+
+    private int slot(int branch) {
+        return branch == CompiledMatcher.NO_MATCH ? hits.length - 1 : branch;
+    }
+
+    /**
+     * Dump the stats as text, one line per branch. 以文本形式输出统计信息，每个分支一行
+     *
+     * @return stats
+     */
+    public String dump() {
+        StringBuilder sb = new StringBuilder(name).append(":");
+        for (int i = 0; i < hits.length; i++) {
+            sb.append("\n  ").append(i == hits.length - 1 ? "orElse" : "branch " + i)
+                    .append(": hits=").append(hits[i].sum())
+                    .append(", ").append(latencies[i]);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return dump();
+    }
+}
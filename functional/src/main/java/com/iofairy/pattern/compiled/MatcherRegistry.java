@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of named {@link MatchStats}, instrumented matchers register their stats here, so that
+ * all the stats can be dumped or exported. <br>
+ * 命名统计信息的注册表，插桩的匹配器在此注册其统计信息，以便统一输出或导出。
+ *
+ * @since 0.4.2
+ */
+public final class MatcherRegistry {
+    private static final Map<String, MatchStats> STATS = new ConcurrentHashMap<>();
+
+    private MatcherRegistry() {
+    }
+
+    /**
+     * Register the stats, replace the old stats with the same name. 注册统计信息，替换同名的旧统计信息
+     *
+     * @param stats stats
+     * @return the old stats with the same name, or {@code null}
+     */
+    public static MatchStats register(MatchStats stats) {
+        Objects.requireNonNull(stats);
+        return STATS.put(stats.getName(), stats);
+    }
+
+    public static MatchStats get(String name) {
+        return STATS.get(name);
+    }
+
+    /**
+     * The registered stats with the name as a listener, or {@link MatchListener#NOOP}, used by
+     * {@link com.iofairy.pattern.Pattern#named(String, com.iofairy.lambda.RT0)}. <br>
+     * 返回已注册的同名统计信息作为监听器，未注册时返回 {@link MatchListener#NOOP}
+     *
+     * @param name name
+     * @return listener
+     */
+    public static MatchListener listener(String name) {
+        MatchStats stats = STATS.get(name);
+        return stats == null ? MatchListener.NOOP : stats;
+    }
+
+    public static MatchStats unregister(String name) {
+        return STATS.remove(name);
+    }
+
+    /**
+     * Names of all registered stats, sorted. 所有已注册的名称（已排序）
+     *
+     * @return names
+     */
+    public static List<String> names() {
+        return STATS.keySet().stream().sorted().collect(Collectors.toList());
+    }
+
+    /**
+     * Snapshot of all registered stats. 所有已注册的统计信息的快照
+     *
+     * @return name to stats
+     */
+    public static Map<String, MatchStats> snapshot() {
+        return Collections.unmodifiableMap(new TreeMap<>(STATS));
+    }
+
+    /**
+     * Dump all registered stats as text. 以文本形式输出所有已注册的统计信息
+     *
+     * @return stats
+     */
+    public static String dump() {
+        return snapshot().values().stream().map(MatchStats::dump).collect(Collectors.joining("\n"));
+    }
+
+    public static void clear() {
+        STATS.clear();
+    }
+}
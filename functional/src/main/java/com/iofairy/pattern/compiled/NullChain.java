@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compiled null-check chain, the compiled form of {@code Pattern.matchNull().whenV(...).whenW(...)}. <b>It's thread-safe</b>.<br>
+ * 编译后的空值检查链，对应 {@code Pattern.matchNull()} 的链式调用<b>（线程安全）</b>。<br>
+ * The chain is built once by {@link NullChainBuilder}, and evaluated step by step without creating matchers or tuples,
+ * the message is computed only when a step fails. There is no limit on the number of steps. <br>
+ * 检查链只构建一次，求值时不会创建中间的匹配器和元组，只有检查失败时才会计算失败信息，且步骤数量没有限制。<br>
+ * A step fails when its source value is {@code null}, the computed value is {@code null},
+ * or the {@code breakIf} condition returns {@code true}. <br>
+ * 当步骤的源值为 {@code null}、计算出的值为 {@code null} 或 breakIf 条件返回 {@code true} 时，该步骤失败。
+ *
+ * @param <T> 根对象的类型
+ * @param <M> 失败信息的类型
+ * @since 0.4.2
+ */
+public class NullChain<T, M> {
+    /**
+     * No step failed. 没有步骤失败
+     */
+    public static final int PASSED = -1;
+    /**
+     * 源为根对象
+     */
+    static final int ROOT = -1;
+    private static final Object OK = new Object();
+
+    /**
+     * 每个步骤的源步骤序号，{@link #ROOT} 表示根对象
+     */
+    private final int[] sources;
+    private final R1<Object, Object>[] accessors;
+    private final R1<Object, Boolean>[] breakIfs;
+    private final R1<Object, ? extends M>[] msgActions;
+    /**
+     * 需要保存值的步骤在槽位数组中的下标，-1 表示不需要保存（只被下一个步骤或不被任何步骤引用）
+     */
+    private final int[] slotOf;
+    private final int slotCount;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    NullChain(List<Integer> sources, List<R1<Object, Object>> accessors, List<R1<Object, Boolean>> breakIfs, List<R1<Object, ? extends M>> msgActions) {
+        int size = sources.size();
+        this.sources = sources.stream().mapToInt(Integer::intValue).toArray();
+        this.accessors = accessors.toArray(new R1[0]);
+        this.breakIfs = breakIfs.toArray(new R1[0]);
+        this.msgActions = msgActions.toArray(new R1[0]);
+
+        slotOf = new int[size];
+        Arrays.fill(slotOf, -1);
+        int slotCount = 0;
+        for (int i = 0; i < size; i++) {
+            int source = this.sources[i];
+            if (source != ROOT && source != i - 1 && slotOf[source] == -1) slotOf[source] = slotCount++;
+        }
+        this.slotCount = slotCount;
+    }
+
+    /**
+     * Evaluate the chain, and return the message of the first failed step, or {@code null} if all steps passed. <br>
+     * 执行检查链，返回第一个失败的步骤的信息，全部通过时返回 {@code null}
+     *
+     * @param root root object
+     * @return message of the first failed step, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public M firstFailure(T root) {
+        Object res = run(root, true);
+        return res == OK ? null : (M) res;
+    }
+
+    /**
+     * Evaluate the chain, and return the index of the first failed step, or {@link #PASSED}. <br>
+     * 执行检查链，返回第一个失败的步骤的序号，全部通过时返回 {@link #PASSED}，不会计算失败信息
+     *
+     * @param root root object
+     * @return index of the first failed step
+     */
+    public int failedStep(T root) {
+        Object res = run(root, false);
+        return res == OK ? PASSED : (Integer) res;
+    }
+
+    /**
+     * Whether all steps passed. 是否所有的步骤都通过
+     *
+     * @param root root object
+     * @return {@code true} if all steps passed
+     */
+    public boolean test(T root) {
+        return run(root, false) == OK;
+    }
+
+    /**
+     * Validate all records in order. <br>
+     * 按顺序校验所有的记录，只收集失败记录的下标与信息
+     *
+     * @param records records
+     * @return report
+     */
+    public NullChainReport<M> validateAll(Iterable<? extends T> records) {
+        Objects.requireNonNull(records);
+        NullChainValidateTask.Failures failures = new NullChainValidateTask.Failures();
+        int index = 0;
+        for (T record : records) {
+            collect(record, index++, failures);
+        }
+        return failures.toReport(index);
+    }
+
+    /**
+     * Validate all records in parallel with {@link ForkJoinPool#commonPool()}. <br>
+     * 使用 {@link ForkJoinPool#commonPool()} 并行校验所有的记录。<br>
+     * <b>Note:</b> the lambdas of the chain may be called concurrently, so they should be thread-safe.
+     *
+     * @param records records
+     * @return report
+     */
+    public NullChainReport<M> validateAllParallel(Collection<? extends T> records) {
+        Objects.requireNonNull(records);
+        return validateAllParallel(records, CompiledMatcher.defaultChunkSize(records.size()));
+    }
+
+    /**
+     * Validate all records in parallel with {@link ForkJoinPool#commonPool()}. <br>
+     * 使用 {@link ForkJoinPool#commonPool()} 并行校验所有的记录
+     *
+     * @param records records
+     * @param chunkSize the maximum number of records validated by one task. 每个任务最多校验的记录数
+     * @return report
+     */
+    @SuppressWarnings("unchecked")
+    public NullChainReport<M> validateAllParallel(Collection<? extends T> records, int chunkSize) {
+        Objects.requireNonNull(records);
+        if (chunkSize <= 0) throw new IllegalArgumentException("Parameter `chunkSize` must be greater than 0. ");
+        T[] rs = (T[]) records.toArray();
+        if (rs.length == 0) return new NullChainReport<>(0, new int[0], new Object[0]);
+        return ForkJoinPool.commonPool().invoke(new NullChainValidateTask<>(this, rs, 0, rs.length, chunkSize)).toReport(rs.length);
+    }
+
+    /**
+     * Validate the record and add it to failures if failed. 校验记录，失败时加入到 failures 中
+     */
+    void collect(T record, int index, NullChainValidateTask.Failures failures) {
+        Object res = run(record, true);
+        if (res != OK) failures.add(index, res);
+    }
+
+    /**
+     * The message of a failed step. 获取失败步骤的信息
+     *
+     * @param step index of step
+     * @param source the source value of the step
+     * @return message
+     */
+    M message(int step, Object source) {
+        return msgActions[step].$(source);
+    }
+
+    /**
+     * 求值。只有当步骤引用了非相邻的前置步骤时才分配槽位数组，其余情况下只使用局部变量
+     *
+     * @return {@link #OK}, or the message or index of the first failed step
+     */
+    private Object run(T root, boolean withMessage) {
+        Object[] slots = slotCount == 0 ? null : new Object[slotCount];
+        Object prev = null;
+        for (int i = 0; i < sources.length; i++) {
+            int source = sources[i];
+            Object in = source == ROOT ? root : (source == i - 1 ? prev : slots[slotOf[source]]);
+            Object value = in == null ? null : accessors[i].$(in);
+            if (value == null || (breakIfs[i] != null && Boolean.TRUE.equals(breakIfs[i].$(value)))) {
+                return withMessage ? message(i, in) : Integer.valueOf(i);
+            }
+            if (slotOf[i] != -1) slots[slotOf[i]] = value;
+            prev = value;
+        }
+        return OK;
+    }
+
+    /**
+     * Number of steps. 步骤数量
+     *
+     * @return number of steps
+     */
+    public int size() {
+        return sources.length;
+    }
+}
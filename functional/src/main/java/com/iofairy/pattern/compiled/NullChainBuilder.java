@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builder of {@link NullChain}. <b>It's not thread-safe</b>.<br>
+ * {@link NullChain} 的构建器<b>（非线程安全）</b>。<br>
+ * Each {@code check} returns a {@link Step}, a later step can compute its value from the root object ({@code check}),
+ * from the previous step ({@link Step#then}), or from any earlier step ({@code from}). <br>
+ * 每个 check 返回一个 {@link Step}，后续步骤可以从根对象（check）、上一个步骤（then）或任意之前的步骤（from）计算值。<br>
+ * The {@code msgAction} receives the source value of the step, which is {@code null} only when the root object is {@code null}. <br>
+ * msgAction 的参数为该步骤的源值，只有根对象为 {@code null} 时才为 {@code null}。
+ * <b>Examples:</b>
+ * <pre>
+ * NullChain&lt;Order, String&gt; chain = Pattern.&lt;Order, String&gt;compileNull()
+ *         .check(o -&gt; o.buyer,                         "order is null or order.buyer is null!")
+ *         .then(u -&gt; u.account,                        u -&gt; "user " + u.name + "'s account is null!")
+ *         .then(a -&gt; a.userName,   G::isEmpty,         "order.buyer.account.userName is empty!")
+ *         .check(o -&gt; o.orderId,   G::isBlank,         "order.orderId is blank!")
+ *         .build();
+ *
+ * String msg = chain.firstFailure(order);     // null if passed
+ * </pre>
+ *
+ * @param <T> 根对象的类型
+ * @param <M> 失败信息的类型
+ * @since 0.4.2
+ */
+public class NullChainBuilder<T, M> {
+    private final List<Integer> sources = new ArrayList<>();
+    private final List<R1<Object, Object>> accessors = new ArrayList<>();
+    private final List<R1<Object, Boolean>> breakIfs = new ArrayList<>();
+    private final List<R1<Object, ? extends M>> msgActions = new ArrayList<>();
+
+    public <X> Step<X> check(R1<? super T, ? extends X> computeValue, M msg) {
+        return addStep(NullChain.ROOT, computeValue, null, v -> msg);
+    }
+
+    public <X> Step<X> check(R1<? super T, ? extends X> computeValue, R1<? super X, Boolean> breakIf, M msg) {
+        return addStep(NullChain.ROOT, computeValue, breakIf, v -> msg);
+    }
+
+    public <X> Step<X> check(R1<? super T, ? extends X> computeValue, R1<? super T, ? extends M> msgAction) {
+        return addStep(NullChain.ROOT, computeValue, null, msgAction);
+    }
+
+    public <X> Step<X> check(R1<? super T, ? extends X> computeValue, R1<? super X, Boolean> breakIf, R1<? super T, ? extends M> msgAction) {
+        return addStep(NullChain.ROOT, computeValue, breakIf, msgAction);
+    }
+
+    public <S, X> Step<X> from(Step<S> source, R1<? super S, ? extends X> computeValue, M msg) {
+        return addStep(indexOf(source), computeValue, null, v -> msg);
+    }
+
+    public <S, X> Step<X> from(Step<S> source, R1<? super S, ? extends X> computeValue, R1<? super X, Boolean> breakIf, M msg) {
+        return addStep(indexOf(source), computeValue, breakIf, v -> msg);
+    }
+
+    public <S, X> Step<X> from(Step<S> source, R1<? super S, ? extends X> computeValue, R1<? super S, ? extends M> msgAction) {
+        return addStep(indexOf(source), computeValue, null, msgAction);
+    }
+
+    public <S, X> Step<X> from(Step<S> source, R1<? super S, ? extends X> computeValue, R1<? super X, Boolean> breakIf, R1<? super S, ? extends M> msgAction) {
+        return addStep(indexOf(source), computeValue, breakIf, msgAction);
+    }
+
+    public NullChain<T, M> build() {
+        return new NullChain<>(sources, accessors, breakIfs, msgActions);
+    }
+
+    private int indexOf(Step<?> source) {
+        Objects.requireNonNull(source);
+        if (source.builder() != this) throw new IllegalArgumentException("The `source` step belongs to another NullChainBuilder. ");
+        return source.index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <X> Step<X> addStep(int source, R1<?, ? extends X> computeValue, R1<? super X, Boolean> breakIf, R1<?, ? extends M> msgAction) {
+        Objects.requireNonNull(computeValue);
+        Objects.requireNonNull(msgAction);
+        sources.add(source);
+        accessors.add((R1<Object, Object>) computeValue);
+        breakIfs.add((R1<Object, Boolean>) breakIf);
+        msgActions.add((R1<Object, ? extends M>) msgAction);
+        return new Step<>(sources.size() - 1);
+    }
+
+    /**
+     * A step of the chain, whose value type is {@code X}. <br>
+     * 检查链中的一个步骤，其值的类型为 {@code X}
+     *
+     * @param <X> 步骤的值的类型
+     */
+    public class Step<X> {
+        private final int index;
+
+        private Step(int index) {
+            this.index = index;
+        }
+
+        public <NX> Step<NX> then(R1<? super X, ? extends NX> computeValue, M msg) {
+            return from(this, computeValue, msg);
+        }
+
+        public <NX> Step<NX> then(R1<? super X, ? extends NX> computeValue, R1<? super NX, Boolean> breakIf, M msg) {
+            return from(this, computeValue, breakIf, msg);
+        }
+
+        public <NX> Step<NX> then(R1<? super X, ? extends NX> computeValue, R1<? super X, ? extends M> msgAction) {
+            return from(this, computeValue, msgAction);
+        }
+
+        public <NX> Step<NX> then(R1<? super X, ? extends NX> computeValue, R1<? super NX, Boolean> breakIf, R1<? super X, ? extends M> msgAction) {
+            return from(this, computeValue, breakIf, msgAction);
+        }
+
+        public <NX> Step<NX> check(R1<? super T, ? extends NX> computeValue, M msg) {
+            return NullChainBuilder.this.check(computeValue, msg);
+        }
+
+        public <NX> Step<NX> check(R1<? super T, ? extends NX> computeValue, R1<? super NX, Boolean> breakIf, M msg) {
+            return NullChainBuilder.this.check(computeValue, breakIf, msg);
+        }
+
+        public <NX> Step<NX> check(R1<? super T, ? extends NX> computeValue, R1<? super T, ? extends M> msgAction) {
+            return NullChainBuilder.this.check(computeValue, msgAction);
+        }
+
+        public <NX> Step<NX> check(R1<? super T, ? extends NX> computeValue, R1<? super NX, Boolean> breakIf, R1<? super T, ? extends M> msgAction) {
+            return NullChainBuilder.this.check(computeValue, breakIf, msgAction);
+        }
+
+        public <S, NX> Step<NX> from(Step<S> source, R1<? super S, ? extends NX> computeValue, M msg) {
+            return NullChainBuilder.this.from(source, computeValue, msg);
+        }
+
+        public <S, NX> Step<NX> from(Step<S> source, R1<? super S, ? extends NX> computeValue, R1<? super NX, Boolean> breakIf, M msg) {
+            return NullChainBuilder.this.from(source, computeValue, breakIf, msg);
+        }
+
+        public <S, NX> Step<NX> from(Step<S> source, R1<? super S, ? extends NX> computeValue, R1<? super S, ? extends M> msgAction) {
+            return NullChainBuilder.this.from(source, computeValue, msgAction);
+        }
+
+        public <S, NX> Step<NX> from(Step<S> source, R1<? super S, ? extends NX> computeValue, R1<? super NX, Boolean> breakIf, R1<? super S, ? extends M> msgAction) {
+            return NullChainBuilder.this.from(source, computeValue, breakIf, msgAction);
+        }
+
+        public NullChain<T, M> build() {
+            return NullChainBuilder.this.build();
+        }
+
+        private NullChainBuilder<T, M> builder() {
+            return NullChainBuilder.this;
+        }
+    }
+}
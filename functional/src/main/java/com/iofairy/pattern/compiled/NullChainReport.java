@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Result of validating many records by {@link NullChain#validateAll(Iterable)}. <br>
+ * 批量校验的结果。只记录失败的记录：失败记录的下标集合（{@link BitSet}）以及对应的失败信息，通过的记录不占用额外空间。
+ *
+ * @param <M> 失败信息的类型
+ * @since 0.4.2
+ */
+public class NullChainReport<M> {
+    private final int total;
+    /**
+     * 失败记录的下标，升序
+     */
+    private final int[] failedIndexes;
+    private final Object[] messages;
+    private final BitSet failed;
+
+    NullChainReport(int total, int[] failedIndexes, Object[] messages) {
+        this.total = total;
+        this.failedIndexes = failedIndexes;
+        this.messages = messages;
+        this.failed = new BitSet(total);
+        for (int index : failedIndexes) failed.set(index);
+    }
+
+    /**
+     * Number of validated records. 校验的记录总数
+     *
+     * @return total
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Number of failed records. 失败的记录数
+     *
+     * @return number of failed records
+     */
+    public int failedCount() {
+        return failedIndexes.length;
+    }
+
+    /**
+     * Whether all records passed. 是否所有的记录都通过
+     *
+     * @return {@code true} if all records passed
+     */
+    public boolean allPassed() {
+        return failedIndexes.length == 0;
+    }
+
+    /**
+     * Indexes of failed records. 失败记录的下标集合
+     *
+     * @return a copy of the failed indexes
+     */
+    public BitSet failed() {
+        return (BitSet) failed.clone();
+    }
+
+    /**
+     * Whether the record at the index failed. 指定下标的记录是否失败
+     *
+     * @param index index of record
+     * @return {@code true} if failed
+     */
+    public boolean isFailed(int index) {
+        return failed.get(index);
+    }
+
+    /**
+     * The message of the record at the index, or {@code null} if the record passed. <br>
+     * 获取指定下标的记录的失败信息，记录通过时返回 {@code null}
+     *
+     * @param index index of record
+     * @return message
+     */
+    @SuppressWarnings("unchecked")
+    public M message(int index) {
+        if (!failed.get(index)) return null;
+        return (M) messages[Arrays.binarySearch(failedIndexes, index)];
+    }
+
+    @Override
+    public String toString() {
+        return "NullChainReport{total=" + total + ", failed=" + failedIndexes.length + "}";
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * ForkJoin task of {@link NullChain#validateAllParallel(java.util.Collection, int)}.
+ * Each chunk only collects its failed records, and the chunks are concatenated in order. <br>
+ * 每个块只收集失败的记录，合并时按顺序拼接，所以结果的下标始终是升序的。
+ *
+ * @since 0.4.2
+ */
+class NullChainValidateTask<T> extends RecursiveTask<NullChainValidateTask.Failures> {
+    private static final long serialVersionUID = 1L;
+
+    private final NullChain<T, ?> chain;
+    private final T[] records;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    NullChainValidateTask(NullChain<T, ?> chain, T[] records, int from, int to, int chunkSize) {
+        this.chain = chain;
+        this.records = records;
+        this.from = from;
+        this.to = to;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected Failures compute() {
+        if (to - from <= chunkSize) {
+            Failures failures = new Failures();
+            for (int i = from; i < to; i++) {
+                chain.collect(records[i], i, failures);
+            }
+            return failures;
+        }
+        int mid = (from + to) >>> 1;
+        NullChainValidateTask<T> left = new NullChainValidateTask<>(chain, records, from, mid, chunkSize);
+        NullChainValidateTask<T> right = new NullChainValidateTask<>(chain, records, mid, to, chunkSize);
+        right.fork();
+        Failures failures = left.compute();
+        return failures.append(right.join());
+    }
+
+    /**
+     * Failed records: indexes and messages, grows on demand. 失败的记录（下标与信息），按需扩容
+     */
+    static final class Failures {
+        int[] indexes = new int[0];
+        Object[] messages = new Object[0];
+        int size;
+
+        void add(int index, Object message) {
+            if (size == indexes.length) grow(size + 1);
+            indexes[size] = index;
+            messages[size] = message;
+            size++;
+        }
+
+        Failures append(Failures other) {
+            if (other.size == 0) return this;
+            if (size == 0) return other;
+            grow(size + other.size);
+            System.arraycopy(other.indexes, 0, indexes, size, other.size);
+            System.arraycopy(other.messages, 0, messages, size, other.size);
+            size += other.size;
+            return this;
+        }
+
+        private void grow(int minCapacity) {
+            if (minCapacity <= indexes.length) return;
+            int capacity = Math.max(minCapacity, Math.max(8, indexes.length * 2));
+            indexes = Arrays.copyOf(indexes, capacity);
+            messages = Arrays.copyOf(messages, capacity);
+        }
+
+        <M> NullChainReport<M> toReport(int total) {
+            return new NullChainReport<>(total, Arrays.copyOf(indexes, size), Arrays.copyOf(messages, size));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.PatternRange;
+
+import java.util.*;
+
+/**
+ * Compiled Range Matcher. <br>
+ * 编译后的区间匹配器。构建时按下界排序所有的区间：
+ * 区间互不重叠时使用二分查找；存在重叠时使用区间树（按下界排序的隐式平衡二叉树，每个节点记录子树中最大的上界），
+ * 并返回包含该值的区间中序号最小的分支，保证与声明顺序一致。
+ *
+ * @param <V> 待匹配的值的类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class RangeCompiledMatcher<V, R> extends CompiledMatcher<V, R> {
+    /**
+     * 按下界排序的区间的下界、上界（{@code null} 表示无界）和分支序号
+     */
+    private final Object[] lowers;
+    private final Object[] uppers;
+    private final int[] branches;
+    /**
+     * 区间树中每个子树的最大上界，为 null 时表示区间互不重叠（使用二分查找）
+     */
+    private final Object[] maxUppers;
+
+    protected RangeCompiledMatcher(List<List<PatternRange<?>>> patterns,
+                                   List<R1<? super V, ? extends R>> actions,
+                                   R1<? super V, ? extends R> orElse) {
+        super(actions, orElse);
+        List<PatternRange<?>> ranges = new ArrayList<>();
+        List<Integer> rangeBranches = new ArrayList<>();
+        for (int i = 0; i < patterns.size(); i++) {
+            for (PatternRange<?> range : patterns.get(i)) {
+                if (range.isEmpty()) continue;
+                ranges.add(range);
+                rangeBranches.add(i);
+            }
+        }
+
+        Integer[] sorted = new Integer[ranges.size()];
+        for (int i = 0; i < sorted.length; i++) sorted[i] = i;
+        Arrays.sort(sorted, (i1, i2) -> compareLower(ranges.get(i1).getLower(), ranges.get(i2).getLower()));
+
+        int size = sorted.length;
+        lowers = new Object[size];
+        uppers = new Object[size];
+        branches = new int[size];
+        boolean overlapped = false;
+        for (int i = 0; i < size; i++) {
+            PatternRange<?> range = ranges.get(sorted[i]);
+            lowers[i] = range.getLower();
+            uppers[i] = range.getUpper();
+            branches[i] = rangeBranches.get(sorted[i]);
+            if (i > 0 && compareUpper(uppers[i - 1], lowers[i]) > 0) overlapped = true;
+        }
+
+        if (overlapped) {
+            maxUppers = new Object[size];
+            buildTree(0, size);
+        } else {
+            maxUppers = null;
+        }
+    }
+
+    /**
+     * 构建以 {@code [from, to)} 的中点为根的子树，返回子树的最大上界
+     */
+    private Object buildTree(int from, int to) {
+        int mid = (from + to) >>> 1;
+        Object max = uppers[mid];
+        if (from < mid) max = maxUpper(max, buildTree(from, mid));
+        if (mid + 1 < to) max = maxUpper(max, buildTree(mid + 1, to));
+        maxUppers[mid] = max;
+        return max;
+    }
+
+    /**
+     * 较大的上界，{@code null} 表示正无穷
+     */
+    private static Object maxUpper(Object u1, Object u2) {
+        if (u1 == null || u2 == null) return null;
+        return PatternRange.compare(u1, u2) >= 0 ? u1 : u2;
+    }
+
+    @Override
+    public int branchOf(V value) {
+        if (value == null || branches.length == 0) return NO_MATCH;
+        if (maxUppers == null) {
+            // 最后一个下界 <= value 的区间
+            int low = 0, high = lowers.length - 1, found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (lowers[mid] == null || PatternRange.compare(value, lowers[mid]) >= 0) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found != -1 && (uppers[found] == null || PatternRange.compare(value, uppers[found]) < 0) ? branches[found] : NO_MATCH;
+        }
+        int branch = search(value, 0, lowers.length, Integer.MAX_VALUE);
+        return branch == Integer.MAX_VALUE ? NO_MATCH : branch;
+    }
+
+    /**
+     * 在区间树 {@code [from, to)} 中查找包含 value 的区间的最小分支序号
+     */
+    private int search(Object value, int from, int to, int best) {
+        if (from >= to) return best;
+        int mid = (from + to) >>> 1;
+        // 子树中所有区间的上界都 <= value，不可能包含 value
+        if (maxUppers[mid] != null && PatternRange.compare(value, maxUppers[mid]) >= 0) return best;
+        best = search(value, from, mid, best);
+        if (lowers[mid] != null && PatternRange.compare(value, lowers[mid]) < 0) return best;    // 右子树的下界更大
+        if (branches[mid] < best && (uppers[mid] == null || PatternRange.compare(value, uppers[mid]) < 0)) best = branches[mid];
+        return search(value, mid + 1, to, best);
+    }
+
+    /**
+     * Whether the ranges overlap, and an interval tree is used. 区间是否存在重叠（使用区间树）
+     *
+     * @return {@code true} if the ranges overlap
+     */
+    public boolean isOverlapped() {
+        return maxUppers != null;
+    }
+
+    /**
+     * 比较下界，{@code null} 表示负无穷
+     */
+    private static int compareLower(Object l1, Object l2) {
+        if (l1 == null || l2 == null) return l1 == l2 ? 0 : (l1 == null ? -1 : 1);
+        return PatternRange.compare(l1, l2);
+    }
+
+    /**
+     * 比较上界，{@code null} 表示正无穷；与下界比较时 {@code null} 下界表示负无穷
+     */
+    private static int compareUpper(Object upper, Object other) {
+        if (upper == null) return 1;
+        if (other == null) return 1;
+        return PatternRange.compare(upper, other);
+    }
+}
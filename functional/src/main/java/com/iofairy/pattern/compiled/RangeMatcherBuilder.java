@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.PatternRange;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builder of {@link RangeCompiledMatcher}
+ *
+ * @param <V> 待匹配的值的类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class RangeMatcherBuilder<V, R> extends CompiledMatcherBuilder<V, List<PatternRange<?>>, R, RangeCompiledMatcher<V, R>> {
+
+    public RangeMatcherBuilder<V, R> when(PatternRange<?> range, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(range);
+        addBranch(Collections.singletonList(range), action);
+        return this;
+    }
+
+    @Override
+    protected RangeCompiledMatcher<V, R> compile(R1<? super V, ? extends R> orElse) {
+        return new RangeCompiledMatcher<>(patterns, actions, orElse);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.pattern.type.PatternString;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded and thread-safe cache of compiled {@link PatternString#REGEX} and {@link PatternString#GLOB} patterns. <br>
+ * 已编译的正则表达式与通配符的缓存（有界，线程安全），同一个表达式只会编译一次。
+ *
+ * @since 0.4.2
+ */
+public final class RegexCache {
+
+    private final static int CACHE_SIZE = 1024;
+    private final static Map<String, Pattern> REGEX_CACHE = new ConcurrentHashMap<>();
+    private final static Map<String, Pattern> GLOB_CACHE = new ConcurrentHashMap<>();
+
+    private RegexCache() {
+    }
+
+    /**
+     * Get compiled pattern of regex or glob. <br>
+     * 获取正则表达式或通配符编译后的 {@link Pattern}
+     *
+     * @param pattern regex or glob
+     * @param patternString only {@link PatternString#REGEX} or {@link PatternString#GLOB}
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the regex's syntax is invalid
+     */
+    public static Pattern compile(String pattern, PatternString patternString) {
+        switch (patternString) {
+            case REGEX:
+                return regex(pattern);
+            case GLOB:
+                return glob(pattern);
+            default:
+                throw new IllegalArgumentException("Only REGEX or GLOB can be compiled, but got " + patternString + ". 仅支持编译 REGEX 与 GLOB 模式。");
+        }
+    }
+
+    public static Pattern regex(String regex) {
+        Objects.requireNonNull(regex);
+        Pattern pattern = REGEX_CACHE.get(regex);
+        return pattern == null ? put(REGEX_CACHE, regex, Pattern.compile(regex)) : pattern;
+    }
+
+    public static Pattern glob(String glob) {
+        Objects.requireNonNull(glob);
+        Pattern pattern = GLOB_CACHE.get(glob);
+        return pattern == null ? put(GLOB_CACHE, glob, Pattern.compile(globToRegex(glob))) : pattern;
+    }
+
+    /**
+     * Convert glob to regular expression. <br>
+     * 将通配符转成正则表达式。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * globToRegex("*.java")           // (?s:.*\.java)
+     * globToRegex("img-??.{png,jpg}")  // (?s:img\-..\.(?:png|jpg))
+     * globToRegex("[!a-c]*")          // (?s:[^a-c].*)
+     * </pre>
+     * @param glob glob
+     * @return regular expression
+     */
+    public static String globToRegex(String glob) {
+        Objects.requireNonNull(glob);
+        StringBuilder regex = new StringBuilder(glob.length() + 16).append("(?s:");
+        boolean inClass = false;
+        int braces = 0;
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (inClass) {
+                if (c == ']') {
+                    inClass = false;
+                    regex.append(c);
+                } else {
+                    if (c == '\\' && i + 1 < glob.length()) c = glob.charAt(++i);
+                    if (c == '[' || c == '&' || c == '\\') regex.append('\\');
+                    regex.append(c);
+                }
+                continue;
+            }
+            switch (c) {
+                case '*':
+                    regex.append(".*");
+                    break;
+                case '?':
+                    regex.append('.');
+                    break;
+                case '[':
+                    inClass = true;
+                    regex.append('[');
+                    if (i + 1 < glob.length() && glob.charAt(i + 1) == '!') {
+                        regex.append('^');
+                        i++;
+                    } else if (i + 1 < glob.length() && glob.charAt(i + 1) == '^') {
+                        regex.append("\\^");
+                        i++;
+                    }
+                    break;
+                case '{':
+                    braces++;
+                    regex.append("(?:");
+                    break;
+                case '}':
+                    if (braces > 0) {
+                        braces--;
+                        regex.append(')');
+                    } else {
+                        regex.append("\\}");
+                    }
+                    break;
+                case ',':
+                    regex.append(braces > 0 ? "|" : ",");
+                    break;
+                case '\\':
+                    if (i + 1 < glob.length()) c = glob.charAt(++i);
+                    quote(regex, c);
+                    break;
+                default:
+                    quote(regex, c);
+            }
+        }
+        if (inClass) throw new IllegalArgumentException("Missing `]` in glob: " + glob + ". 通配符中缺少`]`。");
+        if (braces > 0) throw new IllegalArgumentException("Missing `}` in glob: " + glob + ". 通配符中缺少`}`。");
+        return regex.append(')').toString();
+    }
+
+    /**
+     * Number of cached patterns. <br>
+     * 已缓存的表达式数量
+     * @return number of cached patterns
+     */
+    public static int size() {
+        return REGEX_CACHE.size() + GLOB_CACHE.size();
+    }
+
+    public static void clear() {
+        REGEX_CACHE.clear();
+        GLOB_CACHE.clear();
+    }
+
+    private static void quote(StringBuilder regex, char c) {
+        if ("\\.[]{}()<>*+-=!?^$|".indexOf(c) != -1) regex.append('\\');
+        regex.append(c);
+    }
+
+    private static Pattern put(Map<String, Pattern> cache, String key, Pattern pattern) {
+        if (cache.size() >= CACHE_SIZE) {
+            // 缓存已满时随机淘汰一个条目，避免全局加锁
+            Iterator<String> iterator = cache.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        Pattern old = cache.putIfAbsent(key, pattern);
+        return old == null ? pattern : old;
+    }
+}
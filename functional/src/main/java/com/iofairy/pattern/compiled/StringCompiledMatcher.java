@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.type.PatternString;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiled String Matcher. <br>
+ * 编译后的字符串匹配器。{@link PatternString#STRING} 模式使用哈希查找；
+ * {@link PatternString#REGEX} 与 {@link PatternString#GLOB} 模式在构建时编译，
+ * 并尽可能合并成一个多分支的正则表达式，只需扫描一次即可确定匹配的分支。
+ *
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class StringCompiledMatcher<R> extends CompiledMatcher<String, R> {
+    /**
+     * 匹配数字反向引用，如：\1，合并正则时会改变分组序号，所以含有反向引用的正则不能合并
+     */
+    private static final Pattern BACK_REFERENCE = Pattern.compile("(?<!\\\\)(?:\\\\\\\\)*\\\\[1-9]");
+
+    private final PatternString patternString;
+    private final boolean ignoreCase;
+    /**
+     * 匹配 {@code null} 值的分支
+     */
+    private final int nullBranch;
+    /**
+     * {@link PatternString#STRING} 模式下，字符串与分支序号的映射
+     */
+    private final Map<String, Integer> exactBranches;
+    private final String[][] literals;
+    private final Pattern[][] regexes;
+    /**
+     * 所有分支合并后的正则表达式，为 null 时表示不能合并
+     */
+    private final Pattern automaton;
+    /**
+     * 每个分支在 {@link #automaton} 中的分组序号，0 表示该分支没有表达式
+     */
+    private final int[] groups;
+
+    protected StringCompiledMatcher(PatternString patternString,
+                                    List<List<String>> patterns,
+                                    List<R1<? super String, ? extends R>> actions,
+                                    R1<? super String, ? extends R> orElse) {
+        super(actions, orElse);
+        this.patternString = Objects.requireNonNull(patternString);
+        this.ignoreCase = patternString == PatternString.ICCONTAIN
+                || patternString == PatternString.ICPREFIX
+                || patternString == PatternString.ICSUFFIX;
+
+        int size = patterns.size();
+        int nullBranch = NO_MATCH;
+        literals = new String[size][];
+        for (int i = 0; i < size; i++) {
+            List<String> branchPatterns = patterns.get(i);
+            if (nullBranch == NO_MATCH && branchPatterns.contains(null)) nullBranch = i;
+            literals[i] = branchPatterns.stream().filter(Objects::nonNull)
+                    .map(p -> ignoreCase ? p.toUpperCase() : p).toArray(String[]::new);
+        }
+        this.nullBranch = nullBranch;
+
+        if (patternString == PatternString.STRING) {
+            exactBranches = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                for (String literal : literals[i]) exactBranches.putIfAbsent(literal, i);
+            }
+        } else {
+            exactBranches = null;
+        }
+
+        if (patternString == PatternString.REGEX || patternString == PatternString.GLOB) {
+            regexes = new Pattern[size][];
+            for (int i = 0; i < size; i++) {
+                regexes[i] = Arrays.stream(literals[i]).map(p -> RegexCache.compile(p, patternString)).toArray(Pattern[]::new);
+            }
+            groups = new int[size];
+            automaton = combine(regexes, groups);
+        } else {
+            regexes = null;
+            groups = null;
+            automaton = null;
+        }
+    }
+
+    /**
+     * Combine all regexes into one regex: {@code ((?:a1)|(?:a2))|((?:b1))|...}, each branch is a capturing group. <br>
+     * 将所有分支合并成一个正则表达式，每个分支是一个捕获组。正则的分支按声明顺序回溯，所以首先完整匹配的分支即为第一个匹配的分支。
+     *
+     * @param regexes regexes of branches
+     * @param groups group index of each branch, filled by this method
+     * @return combined regex, or {@code null} if the regexes can't be combined
+     */
+    private static Pattern combine(Pattern[][] regexes, int[] groups) {
+        StringBuilder combined = new StringBuilder();
+        int group = 1;
+        for (int i = 0; i < regexes.length; i++) {
+            if (regexes[i].length == 0) continue;
+            if (combined.length() > 0) combined.append('|');
+            combined.append('(');
+            groups[i] = group++;
+            for (int j = 0; j < regexes[i].length; j++) {
+                Pattern regex = regexes[i][j];
+                if (BACK_REFERENCE.matcher(regex.pattern()).find()) return null;
+                if (j > 0) combined.append('|');
+                combined.append("(?:").append(regex.pattern()).append(')');
+                group += regex.matcher("").groupCount();
+            }
+            combined.append(')');
+        }
+        if (combined.length() == 0) return null;
+        try {
+            return Pattern.compile(combined.toString());
+        } catch (PatternSyntaxException e) {
+            // 如：不同分支中存在同名的命名分组
+            return null;
+        }
+    }
+
+    @Override
+    public int branchOf(String value) {
+        if (value == null) return nullBranch;
+
+        switch (patternString) {
+            case STRING:
+                Integer branch = exactBranches.get(value);
+                return branch == null ? NO_MATCH : branch;
+            case REGEX:
+            case GLOB:
+                if (automaton != null) {
+                    Matcher matcher = automaton.matcher(value);
+                    if (matcher.matches()) {
+                        for (int i = 0; i < groups.length; i++) {
+                            if (groups[i] != 0 && matcher.start(groups[i]) != -1) return i;
+                        }
+                    }
+                    return NO_MATCH;
+                }
+                for (int i = 0; i < regexes.length; i++) {
+                    for (Pattern regex : regexes[i]) {
+                        if (regex.matcher(value).matches()) return i;
+                    }
+                }
+                return NO_MATCH;
+            default:
+                String ucValue = ignoreCase ? value.toUpperCase() : value;
+                for (int i = 0; i < literals.length; i++) {
+                    for (String literal : literals[i]) {
+                        if (matches(ucValue, literal)) return i;
+                    }
+                }
+                return NO_MATCH;
+        }
+    }
+
+    private boolean matches(String ucValue, String literal) {
+        switch (patternString) {
+            case IGNORECASE:
+                return ucValue.equalsIgnoreCase(literal);
+            case CONTAIN:
+            case ICCONTAIN:
+                return ucValue.contains(literal);
+            case PREFIX:
+            case ICPREFIX:
+                return ucValue.startsWith(literal);
+            case SUFFIX:
+            case ICSUFFIX:
+                return ucValue.endsWith(literal);
+            default:
+                return ucValue.equals(literal);
+        }
+    }
+
+    public PatternString getPatternString() {
+        return patternString;
+    }
+
+    /**
+     * Whether all regexes are combined into one regex. <br>
+     * 所有分支的正则是否已合并成一个正则表达式
+     * @return {@code true} if combined
+     */
+    public boolean isCombined() {
+        return automaton != null;
+    }
+}
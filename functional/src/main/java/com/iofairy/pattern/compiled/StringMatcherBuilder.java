@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.type.PatternString;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builder of {@link StringCompiledMatcher}
+ *
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class StringMatcherBuilder<R> extends CompiledMatcherBuilder<String, List<String>, R, StringCompiledMatcher<R>> {
+
+    private final PatternString patternString;
+
+    public StringMatcherBuilder(PatternString patternString) {
+        this.patternString = Objects.requireNonNull(patternString);
+    }
+
+    public StringMatcherBuilder<R> when(String matchValue, R1<? super String, ? extends R> action) {
+        addBranch(Collections.singletonList(matchValue), action);
+        return this;
+    }
+
+    public StringMatcherBuilder<R> when(PatternIn<String> matchValues, R1<? super String, ? extends R> action) {
+        addBranch(matchValues == null ? Collections.singletonList(null) : matchValues.getVs(), action);
+        return this;
+    }
+
+    @Override
+    protected StringCompiledMatcher<R> compile(R1<? super String, ? extends R> orElse) {
+        return new StringCompiledMatcher<>(patternString, patterns, actions, orElse);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.PatternTuple;
+import com.iofairy.pattern.type.PatternAny;
+import com.iofairy.tuple.Tuple;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+/**
+ * Compiled Tuple Matcher, the branches are compiled into a decision tree over positions. <br>
+ * 编译后的元组匹配器。所有分支编译成按位置判断的决策树（相同的子树共享，实际上是有向无环图），
+ * 每个位置的元素最多只取一次，通过一次哈希查找进入下一层，所以匹配的开销只与元组的元素数量线性相关。<br>
+ * 决策树的每个节点对应一个位置和一组候选分支：字面量（包括 {@code in(...)} 中的值）的边在构建时生成；
+ * 类型检查只取决于值的类型，所以其边在匹配时按值的 {@link Class} 延迟生成并缓存。
+ *
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class TupleCompiledMatcher<R> extends CompiledMatcher<Tuple, R> {
+    private static final Object NULL_KEY = new Object();
+    private static final int[] NO_CANDIDATES = new int[0];
+
+    private final int arity;
+    private final Object[][] patterns;
+    /**
+     * 节点缓存，key 为 位置 + 候选分支
+     */
+    private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+    private final Node root;
+
+    protected TupleCompiledMatcher(int arity,
+                                   List<PatternTuple> patterns,
+                                   List<R1<? super Tuple, ? extends R>> actions,
+                                   R1<? super Tuple, ? extends R> orElse) {
+        super(actions, orElse);
+        this.arity = arity;
+        this.patterns = new Object[patterns.size()][];
+        int[] candidates = new int[patterns.size()];
+        for (int i = 0; i < patterns.size(); i++) {
+            PatternTuple pattern = patterns.get(i);
+            this.patterns[i] = new Object[arity];
+            for (int j = 0; j < arity; j++) this.patterns[i][j] = pattern.element(j);
+            candidates[i] = i;
+        }
+        root = node(0, candidates);
+    }
+
+    @Override
+    public int branchOf(Tuple tuple) {
+        if (tuple == null || tuple.arity() != arity) return NO_MATCH;
+        Node node = root;
+        while (node.position != -1) {
+            Object value = tuple.element(node.position);
+            Node next = node.exact.isEmpty() ? null : node.exact.get(value == null ? NULL_KEY : value);
+            node = next == null ? fallback(node, value) : next;
+        }
+        return node.branch;
+    }
+
+    private Node fallback(Node node, Object value) {
+        if (node.byClass == null) return node.fallback;
+        if (value == null) return node.fallback;
+        Class<?> clazz = value.getClass();
+        Node next = node.byClass.get(clazz);
+        if (next == null) {
+            // 不在字面量中的值：只有 ANY 与类型检查可能匹配
+            next = node(node.position + 1, filter(node.candidates, b -> {
+                Object p = patterns[b][node.position];
+                return p == PatternAny.ANY || (p instanceof PatternTuple.InstanceOf && ((PatternTuple.InstanceOf) p).getClazz().isAssignableFrom(clazz));
+            }));
+            Node old = node.byClass.putIfAbsent(clazz, next);
+            if (old != null) next = old;
+        }
+        return next;
+    }
+
+    /**
+     * 获取或构建第 position 个位置、候选分支为 candidates 的节点
+     */
+    private Node node(int position, int[] candidates) {
+        if (candidates.length == 0) return leaf(NO_MATCH);
+        if (position == arity || allAny(candidates[0], position)) return leaf(candidates[0]);
+
+        String key = position + ":" + Arrays.toString(candidates);
+        Node node = nodes.get(key);
+        if (node != null) return node;
+
+        Map<Object, Node> exact = new HashMap<>();
+        boolean hasTypeTest = false;
+        for (int b : candidates) {
+            Object p = patterns[b][position];
+            if (p instanceof PatternTuple.InstanceOf) {
+                hasTypeTest = true;
+            } else if (p instanceof PatternIn) {
+                for (Object literal : ((PatternIn<?>) p).getVs()) exact.put(literal == null ? NULL_KEY : literal, null);
+            } else if (p != PatternAny.ANY) {
+                exact.put(p == null ? NULL_KEY : p, null);
+            }
+        }
+        for (Map.Entry<Object, Node> entry : exact.entrySet()) {
+            Object literal = entry.getKey() == NULL_KEY ? null : entry.getKey();
+            entry.setValue(node(position + 1, filter(candidates, b -> PatternTuple.matches(patterns[b][position], literal))));
+        }
+        // 非字面量的值（类型检查只对 null 值失败）
+        Node fallback = node(position + 1, filter(candidates, b -> patterns[b][position] == PatternAny.ANY));
+        node = new Node(position, NO_MATCH, candidates, exact, fallback, hasTypeTest ? new ConcurrentHashMap<>() : null);
+        Node old = nodes.putIfAbsent(key, node);
+        return old == null ? node : old;
+    }
+
+    private Node leaf(int branch) {
+        return new Node(-1, branch, NO_CANDIDATES, Collections.emptyMap(), null, null);
+    }
+
+    private boolean allAny(int branch, int from) {
+        for (int i = from; i < arity; i++) {
+            if (patterns[branch][i] != PatternAny.ANY) return false;
+        }
+        return true;
+    }
+
+    private static int[] filter(int[] candidates, IntPredicate filter) {
+        return Arrays.stream(candidates).filter(filter).toArray();
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * Number of nodes of the decision tree built so far. 当前决策树中已构建的节点数量
+     *
+     * @return number of nodes
+     */
+    public int nodeCount() {
+        return nodes.size();
+    }
+
+    private static final class Node {
+        /**
+         * 当前节点判断的位置，-1 表示叶子节点
+         */
+        final int position;
+        final int branch;
+        final int[] candidates;
+        final Map<Object, Node> exact;
+        /**
+         * 不在字面量中且类型检查都不匹配（或没有类型检查）时的下一个节点
+         */
+        final Node fallback;
+        /**
+         * 有类型检查时，按值的类型缓存下一个节点
+         */
+        final Map<Class<?>, Node> byClass;
+
+        Node(int position, int branch, int[] candidates, Map<Object, Node> exact, Node fallback, Map<Class<?>, Node> byClass) {
+            this.position = position;
+            this.branch = branch;
+            this.candidates = candidates;
+            this.exact = exact;
+            this.fallback = fallback;
+            this.byClass = byClass;
+        }
+    }
+}
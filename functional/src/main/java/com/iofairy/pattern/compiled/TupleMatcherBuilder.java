@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.PatternTuple;
+import com.iofairy.tuple.Tuple;
+
+import java.util.Objects;
+
+/**
+ * Builder of {@link TupleCompiledMatcher}
+ *
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class TupleMatcherBuilder<R> extends CompiledMatcherBuilder<Tuple, PatternTuple, R, TupleCompiledMatcher<R>> {
+
+    private final int arity;
+
+    public TupleMatcherBuilder(int arity) {
+        if (arity < 0) throw new IllegalArgumentException("Parameter `arity` must be greater than or equal to 0. ");
+        this.arity = arity;
+    }
+
+    public TupleMatcherBuilder<R> when(PatternTuple pattern, R1<? super Tuple, ? extends R> action) {
+        Objects.requireNonNull(pattern);
+        if (pattern.arity() != arity)
+            throw new IllegalArgumentException("The arity of " + pattern + " is not equals " + arity + ". 模式的元素数量不等于" + arity + "。");
+        addBranch(pattern, action);
+        return this;
+    }
+
+    @Override
+    protected TupleCompiledMatcher<R> compile(R1<? super Tuple, ? extends R> orElse) {
+        return new TupleCompiledMatcher<>(arity, patterns, actions, orElse);
+    }
+}
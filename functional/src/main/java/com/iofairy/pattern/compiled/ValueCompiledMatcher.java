@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.compiled;
+
+import com.iofairy.lambda.R1;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled Value Matcher. Values are compared by {@link Object#equals(Object)}, the same as {@code match(value)}. <br>
+ * 编译后的值匹配器，所有分支的值在构建时放入哈希表，匹配时只需一次哈希查找。
+ *
+ * @param <V> 待匹配的值的类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class ValueCompiledMatcher<V, R> extends CompiledMatcher<V, R> {
+    /**
+     * 匹配 {@code null} 值的分支
+     */
+    private final int nullBranch;
+    /**
+     * 值与第一个匹配的分支序号的映射
+     */
+    private final Map<V, Integer> branches;
+
+    protected ValueCompiledMatcher(List<List<V>> patterns,
+                                   List<R1<? super V, ? extends R>> actions,
+                                   R1<? super V, ? extends R> orElse) {
+        super(actions, orElse);
+        int nullBranch = NO_MATCH;
+        branches = new HashMap<>();
+        for (int i = 0; i < patterns.size(); i++) {
+            for (V v : patterns.get(i)) {
+                if (v == null) {
+                    if (nullBranch == NO_MATCH) nullBranch = i;
+                } else {
+                    branches.putIfAbsent(v, i);
+                }
+            }
+        }
+        this.nullBranch = nullBranch;
+    }
+
+    @Override
+    public int branchOf(V value) {
+        if (value == null) return nullBranch;
+        Integer branch = branches.get(value);
+        return branch == null ? NO_MATCH : branch;
+    }
+}
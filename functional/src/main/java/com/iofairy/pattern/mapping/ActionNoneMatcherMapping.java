@@ -94,6 +94,46 @@ public class ActionNoneMatcherMapping<T> extends PatternMatcherMapping<None> {
         return actionNoneRMatcher.whenNext(matchValue, action);
     }
 
+    public ActionNoneVMatcher<T> whenIf(R0<Boolean> condition, V1<? super T> action) {
+        ActionNoneVMatcher<T> actionNoneVMatcher = new ActionNoneVMatcher<>(value, preAction);
+        return actionNoneVMatcher.whenIf(condition, action);
+    }
+
+    public ActionNoneVMatcher<T> whenIf(R1<? super None, Boolean> predicate, V1<? super T> action) {
+        ActionNoneVMatcher<T> actionNoneVMatcher = new ActionNoneVMatcher<>(value, preAction);
+        return actionNoneVMatcher.whenIf(predicate, action);
+    }
+
+    public ActionNoneVMatcher<T> whenNextIf(R0<Boolean> condition, V1<? super T> action) {
+        ActionNoneVMatcher<T> actionNoneVMatcher = new ActionNoneVMatcher<>(value, preAction);
+        return actionNoneVMatcher.whenNextIf(condition, action);
+    }
+
+    public ActionNoneVMatcher<T> whenNextIf(R1<? super None, Boolean> predicate, V1<? super T> action) {
+        ActionNoneVMatcher<T> actionNoneVMatcher = new ActionNoneVMatcher<>(value, preAction);
+        return actionNoneVMatcher.whenNextIf(predicate, action);
+    }
+
+    public <R> ActionNoneRMatcher<T, R> whenIf(R0<Boolean> condition, R1<? super T, ? extends R> action) {
+        ActionNoneRMatcher<T, R> actionNoneRMatcher = new ActionNoneRMatcher<>(value, preAction);
+        return actionNoneRMatcher.whenIf(condition, action);
+    }
+
+    public <R> ActionNoneRMatcher<T, R> whenIf(R1<? super None, Boolean> predicate, R1<? super T, ? extends R> action) {
+        ActionNoneRMatcher<T, R> actionNoneRMatcher = new ActionNoneRMatcher<>(value, preAction);
+        return actionNoneRMatcher.whenIf(predicate, action);
+    }
+
+    public <R> ActionNoneRMatcher<T, R> whenNextIf(R0<Boolean> condition, R1<? super T, ? extends R> action) {
+        ActionNoneRMatcher<T, R> actionNoneRMatcher = new ActionNoneRMatcher<>(value, preAction);
+        return actionNoneRMatcher.whenNextIf(condition, action);
+    }
+
+    public <R> ActionNoneRMatcher<T, R> whenNextIf(R1<? super None, Boolean> predicate, R1<? super T, ? extends R> action) {
+        ActionNoneRMatcher<T, R> actionNoneRMatcher = new ActionNoneRMatcher<>(value, preAction);
+        return actionNoneRMatcher.whenNextIf(predicate, action);
+    }
+
     /*
      * ######################################################
      * ******************************************************
@@ -161,4 +201,44 @@ public class ActionNoneMatcherMapping<T> extends PatternMatcherMapping<None> {
         return actionNoneRMatcher.withNext(matchValue, action);
     }
 
+    public <E extends Throwable> ActionNoneVMatcher<T> withIf(R0<Boolean> condition, VT1<? super T, E> action) throws E {
+        ActionNoneVMatcher<T> actionNoneVMatcher = new ActionNoneVMatcher<>(value, preAction);
+        return actionNoneVMatcher.withIf(condition, action);
+    }
+
+    public <E extends Throwable> ActionNoneVMatcher<T> withIf(R1<? super None, Boolean> predicate, VT1<? super T, E> action) throws E {
+        ActionNoneVMatcher<T> actionNoneVMatcher = new ActionNoneVMatcher<>(value, preAction);
+        return actionNoneVMatcher.withIf(predicate, action);
+    }
+
+    public <E extends Throwable> ActionNoneVMatcher<T> withNextIf(R0<Boolean> condition, VT1<? super T, E> action) throws E {
+        ActionNoneVMatcher<T> actionNoneVMatcher = new ActionNoneVMatcher<>(value, preAction);
+        return actionNoneVMatcher.withNextIf(condition, action);
+    }
+
+    public <E extends Throwable> ActionNoneVMatcher<T> withNextIf(R1<? super None, Boolean> predicate, VT1<? super T, E> action) throws E {
+        ActionNoneVMatcher<T> actionNoneVMatcher = new ActionNoneVMatcher<>(value, preAction);
+        return actionNoneVMatcher.withNextIf(predicate, action);
+    }
+
+    public <R, E extends Throwable> ActionNoneRMatcher<T, R> withIf(R0<Boolean> condition, RT1<? super T, ? extends R, E> action) throws E {
+        ActionNoneRMatcher<T, R> actionNoneRMatcher = new ActionNoneRMatcher<>(value, preAction);
+        return actionNoneRMatcher.withIf(condition, action);
+    }
+
+    public <R, E extends Throwable> ActionNoneRMatcher<T, R> withIf(R1<? super None, Boolean> predicate, RT1<? super T, ? extends R, E> action) throws E {
+        ActionNoneRMatcher<T, R> actionNoneRMatcher = new ActionNoneRMatcher<>(value, preAction);
+        return actionNoneRMatcher.withIf(predicate, action);
+    }
+
+    public <R, E extends Throwable> ActionNoneRMatcher<T, R> withNextIf(R0<Boolean> condition, RT1<? super T, ? extends R, E> action) throws E {
+        ActionNoneRMatcher<T, R> actionNoneRMatcher = new ActionNoneRMatcher<>(value, preAction);
+        return actionNoneRMatcher.withNextIf(condition, action);
+    }
+
+    public <R, E extends Throwable> ActionNoneRMatcher<T, R> withNextIf(R1<? super None, Boolean> predicate, RT1<? super T, ? extends R, E> action) throws E {
+        ActionNoneRMatcher<T, R> actionNoneRMatcher = new ActionNoneRMatcher<>(value, preAction);
+        return actionNoneRMatcher.withNextIf(predicate, action);
+    }
+
 }
@@ -93,6 +93,46 @@ public class ActionValueMatcherMapping<V, T> extends PatternMatcherMapping<V> {
         return actionValueRMatcher.whenNext(matchValue, action);
     }
 
+    public ActionValueVMatcher<V, T> whenIf(R0<Boolean> condition, V1<? super V> action) {
+        ActionValueVMatcher<V, T> actionValueVMatcher = new ActionValueVMatcher<>(value, preAction);
+        return actionValueVMatcher.whenIf(condition, action);
+    }
+
+    public ActionValueVMatcher<V, T> whenIf(R1<? super V, Boolean> predicate, V1<? super V> action) {
+        ActionValueVMatcher<V, T> actionValueVMatcher = new ActionValueVMatcher<>(value, preAction);
+        return actionValueVMatcher.whenIf(predicate, action);
+    }
+
+    public ActionValueVMatcher<V, T> whenNextIf(R0<Boolean> condition, V1<? super V> action) {
+        ActionValueVMatcher<V, T> actionValueVMatcher = new ActionValueVMatcher<>(value, preAction);
+        return actionValueVMatcher.whenNextIf(condition, action);
+    }
+
+    public ActionValueVMatcher<V, T> whenNextIf(R1<? super V, Boolean> predicate, V1<? super V> action) {
+        ActionValueVMatcher<V, T> actionValueVMatcher = new ActionValueVMatcher<>(value, preAction);
+        return actionValueVMatcher.whenNextIf(predicate, action);
+    }
+
+    public <R> ActionValueRMatcher<V, T, R> whenIf(R0<Boolean> condition, R1<? super V, ? extends R> action) {
+        ActionValueRMatcher<V, T, R> actionValueRMatcher = new ActionValueRMatcher<>(value, preAction);
+        return actionValueRMatcher.whenIf(condition, action);
+    }
+
+    public <R> ActionValueRMatcher<V, T, R> whenIf(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        ActionValueRMatcher<V, T, R> actionValueRMatcher = new ActionValueRMatcher<>(value, preAction);
+        return actionValueRMatcher.whenIf(predicate, action);
+    }
+
+    public <R> ActionValueRMatcher<V, T, R> whenNextIf(R0<Boolean> condition, R1<? super V, ? extends R> action) {
+        ActionValueRMatcher<V, T, R> actionValueRMatcher = new ActionValueRMatcher<>(value, preAction);
+        return actionValueRMatcher.whenNextIf(condition, action);
+    }
+
+    public <R> ActionValueRMatcher<V, T, R> whenNextIf(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        ActionValueRMatcher<V, T, R> actionValueRMatcher = new ActionValueRMatcher<>(value, preAction);
+        return actionValueRMatcher.whenNextIf(predicate, action);
+    }
+
     /*
      * ######################################################
      * ******************************************************
@@ -159,5 +199,45 @@ public class ActionValueMatcherMapping<V, T> extends PatternMatcherMapping<V> {
         ActionValueRMatcher<V, T, R> actionValueRMatcher = new ActionValueRMatcher<>(value, preAction);
         return actionValueRMatcher.withNext(matchValue, action);
     }
+
+    public <E extends Throwable> ActionValueVMatcher<V, T> withIf(R0<Boolean> condition, VT1<? super V, E> action) throws E {
+        ActionValueVMatcher<V, T> actionValueVMatcher = new ActionValueVMatcher<>(value, preAction);
+        return actionValueVMatcher.withIf(condition, action);
+    }
+
+    public <E extends Throwable> ActionValueVMatcher<V, T> withIf(R1<? super V, Boolean> predicate, VT1<? super V, E> action) throws E {
+        ActionValueVMatcher<V, T> actionValueVMatcher = new ActionValueVMatcher<>(value, preAction);
+        return actionValueVMatcher.withIf(predicate, action);
+    }
+
+    public <E extends Throwable> ActionValueVMatcher<V, T> withNextIf(R0<Boolean> condition, VT1<? super V, E> action) throws E {
+        ActionValueVMatcher<V, T> actionValueVMatcher = new ActionValueVMatcher<>(value, preAction);
+        return actionValueVMatcher.withNextIf(condition, action);
+    }
+
+    public <E extends Throwable> ActionValueVMatcher<V, T> withNextIf(R1<? super V, Boolean> predicate, VT1<? super V, E> action) throws E {
+        ActionValueVMatcher<V, T> actionValueVMatcher = new ActionValueVMatcher<>(value, preAction);
+        return actionValueVMatcher.withNextIf(predicate, action);
+    }
+
+    public <R, E extends Throwable> ActionValueRMatcher<V, T, R> withIf(R0<Boolean> condition, RT1<? super V, ? extends R, E> action) throws E {
+        ActionValueRMatcher<V, T, R> actionValueRMatcher = new ActionValueRMatcher<>(value, preAction);
+        return actionValueRMatcher.withIf(condition, action);
+    }
+
+    public <R, E extends Throwable> ActionValueRMatcher<V, T, R> withIf(R1<? super V, Boolean> predicate, RT1<? super V, ? extends R, E> action) throws E {
+        ActionValueRMatcher<V, T, R> actionValueRMatcher = new ActionValueRMatcher<>(value, preAction);
+        return actionValueRMatcher.withIf(predicate, action);
+    }
+
+    public <R, E extends Throwable> ActionValueRMatcher<V, T, R> withNextIf(R0<Boolean> condition, RT1<? super V, ? extends R, E> action) throws E {
+        ActionValueRMatcher<V, T, R> actionValueRMatcher = new ActionValueRMatcher<>(value, preAction);
+        return actionValueRMatcher.withNextIf(condition, action);
+    }
+
+    public <R, E extends Throwable> ActionValueRMatcher<V, T, R> withNextIf(R1<? super V, Boolean> predicate, RT1<? super V, ? extends R, E> action) throws E {
+        ActionValueRMatcher<V, T, R> actionValueRMatcher = new ActionValueRMatcher<>(value, preAction);
+        return actionValueRMatcher.withNextIf(predicate, action);
+    }
     
 }
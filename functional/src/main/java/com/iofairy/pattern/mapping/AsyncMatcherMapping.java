@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.mapping;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.matcher.AsyncMatcher;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Async Matcher Mapping
+ *
+ * @since 0.4.2
+ */
+public class AsyncMatcherMapping<V> extends PatternMatcherMapping<V> {
+    protected final Executor executor;
+
+    public AsyncMatcherMapping(V value, Executor executor) {
+        super(value);
+        this.executor = executor;
+    }
+
+    public <R> AsyncMatcher<V, R> when(V matchValue, R1<? super V, ? extends CompletionStage<R>> action) {
+        AsyncMatcher<V, R> asyncMatcher = new AsyncMatcher<>(value, executor);
+        return asyncMatcher.when(matchValue, action);
+    }
+
+    public <R> AsyncMatcher<V, R> whenNext(V matchValue, R1<? super V, ? extends CompletionStage<R>> action) {
+        AsyncMatcher<V, R> asyncMatcher = new AsyncMatcher<>(value, executor);
+        return asyncMatcher.whenNext(matchValue, action);
+    }
+
+    public <R> AsyncMatcher<V, R> when(PatternIn<V> matchValues, R1<? super V, ? extends CompletionStage<R>> action) {
+        AsyncMatcher<V, R> asyncMatcher = new AsyncMatcher<>(value, executor);
+        return asyncMatcher.when(matchValues, action);
+    }
+
+    public <R> AsyncMatcher<V, R> whenNext(PatternIn<V> matchValues, R1<? super V, ? extends CompletionStage<R>> action) {
+        AsyncMatcher<V, R> asyncMatcher = new AsyncMatcher<>(value, executor);
+        return asyncMatcher.whenNext(matchValues, action);
+    }
+
+    public <R> AsyncMatcher<V, R> when(boolean matchValue, R1<? super V, ? extends CompletionStage<R>> action) {
+        AsyncMatcher<V, R> asyncMatcher = new AsyncMatcher<>(value, executor);
+        return asyncMatcher.when(matchValue, action);
+    }
+
+    public <R> AsyncMatcher<V, R> whenNext(boolean matchValue, R1<? super V, ? extends CompletionStage<R>> action) {
+        AsyncMatcher<V, R> asyncMatcher = new AsyncMatcher<>(value, executor);
+        return asyncMatcher.whenNext(matchValue, action);
+    }
+}
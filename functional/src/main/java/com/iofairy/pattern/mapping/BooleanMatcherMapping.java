@@ -48,6 +48,46 @@ public class BooleanMatcherMapping<V> extends PatternMatcherMapping<V> {
         return booleanRMatcher.whenNext(matchValue, action);
     }
 
+    public BooleanVMatcher<V> whenIf(R0<Boolean> condition, V1<? super V> action) {
+        BooleanVMatcher<V> booleanVMatcher = new BooleanVMatcher<V>(value);
+        return booleanVMatcher.whenIf(condition, action);
+    }
+
+    public BooleanVMatcher<V> whenIf(R1<? super V, Boolean> predicate, V1<? super V> action) {
+        BooleanVMatcher<V> booleanVMatcher = new BooleanVMatcher<V>(value);
+        return booleanVMatcher.whenIf(predicate, action);
+    }
+
+    public BooleanVMatcher<V> whenNextIf(R0<Boolean> condition, V1<? super V> action) {
+        BooleanVMatcher<V> booleanVMatcher = new BooleanVMatcher<V>(value);
+        return booleanVMatcher.whenNextIf(condition, action);
+    }
+
+    public BooleanVMatcher<V> whenNextIf(R1<? super V, Boolean> predicate, V1<? super V> action) {
+        BooleanVMatcher<V> booleanVMatcher = new BooleanVMatcher<V>(value);
+        return booleanVMatcher.whenNextIf(predicate, action);
+    }
+
+    public <R> BooleanRMatcher<V, R> whenIf(R0<Boolean> condition, R1<? super V, ? extends R> action) {
+        BooleanRMatcher<V, R> booleanRMatcher = new BooleanRMatcher<>(value);
+        return booleanRMatcher.whenIf(condition, action);
+    }
+
+    public <R> BooleanRMatcher<V, R> whenIf(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        BooleanRMatcher<V, R> booleanRMatcher = new BooleanRMatcher<>(value);
+        return booleanRMatcher.whenIf(predicate, action);
+    }
+
+    public <R> BooleanRMatcher<V, R> whenNextIf(R0<Boolean> condition, R1<? super V, ? extends R> action) {
+        BooleanRMatcher<V, R> booleanRMatcher = new BooleanRMatcher<>(value);
+        return booleanRMatcher.whenNextIf(condition, action);
+    }
+
+    public <R> BooleanRMatcher<V, R> whenNextIf(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        BooleanRMatcher<V, R> booleanRMatcher = new BooleanRMatcher<>(value);
+        return booleanRMatcher.whenNextIf(predicate, action);
+    }
+
     /*
      * ######################################################
      * ******************************************************
@@ -75,4 +115,44 @@ public class BooleanMatcherMapping<V> extends PatternMatcherMapping<V> {
         return booleanRMatcher.withNext(matchValue, action);
     }
 
+    public <E extends Throwable> BooleanVMatcher<V> withIf(R0<Boolean> condition, VT1<? super V, E> action) throws E {
+        BooleanVMatcher<V> booleanVMatcher = new BooleanVMatcher<V>(value);
+        return booleanVMatcher.withIf(condition, action);
+    }
+
+    public <E extends Throwable> BooleanVMatcher<V> withIf(R1<? super V, Boolean> predicate, VT1<? super V, E> action) throws E {
+        BooleanVMatcher<V> booleanVMatcher = new BooleanVMatcher<V>(value);
+        return booleanVMatcher.withIf(predicate, action);
+    }
+
+    public <E extends Throwable> BooleanVMatcher<V> withNextIf(R0<Boolean> condition, VT1<? super V, E> action) throws E {
+        BooleanVMatcher<V> booleanVMatcher = new BooleanVMatcher<V>(value);
+        return booleanVMatcher.withNextIf(condition, action);
+    }
+
+    public <E extends Throwable> BooleanVMatcher<V> withNextIf(R1<? super V, Boolean> predicate, VT1<? super V, E> action) throws E {
+        BooleanVMatcher<V> booleanVMatcher = new BooleanVMatcher<V>(value);
+        return booleanVMatcher.withNextIf(predicate, action);
+    }
+
+    public <R, E extends Throwable> BooleanRMatcher<V, R> withIf(R0<Boolean> condition, RT1<? super V, ? extends R, E> action) throws E {
+        BooleanRMatcher<V, R> booleanRMatcher = new BooleanRMatcher<>(value);
+        return booleanRMatcher.withIf(condition, action);
+    }
+
+    public <R, E extends Throwable> BooleanRMatcher<V, R> withIf(R1<? super V, Boolean> predicate, RT1<? super V, ? extends R, E> action) throws E {
+        BooleanRMatcher<V, R> booleanRMatcher = new BooleanRMatcher<>(value);
+        return booleanRMatcher.withIf(predicate, action);
+    }
+
+    public <R, E extends Throwable> BooleanRMatcher<V, R> withNextIf(R0<Boolean> condition, RT1<? super V, ? extends R, E> action) throws E {
+        BooleanRMatcher<V, R> booleanRMatcher = new BooleanRMatcher<>(value);
+        return booleanRMatcher.withNextIf(condition, action);
+    }
+
+    public <R, E extends Throwable> BooleanRMatcher<V, R> withNextIf(R1<? super V, Boolean> predicate, RT1<? super V, ? extends R, E> action) throws E {
+        BooleanRMatcher<V, R> booleanRMatcher = new BooleanRMatcher<>(value);
+        return booleanRMatcher.withNextIf(predicate, action);
+    }
+
 }
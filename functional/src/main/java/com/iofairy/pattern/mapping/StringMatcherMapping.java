@@ -98,6 +98,46 @@ public class StringMatcherMapping extends PatternMatcherMapping<String> {
         return stringRMatcher.whenNext(matchValue, action);
     }
 
+    public StringVMatcher whenIf(R0<Boolean> condition, V1<? super String> action) {
+        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        return stringVMatcher.whenIf(condition, action);
+    }
+
+    public StringVMatcher whenIf(R1<? super String, Boolean> predicate, V1<? super String> action) {
+        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        return stringVMatcher.whenIf(predicate, action);
+    }
+
+    public StringVMatcher whenNextIf(R0<Boolean> condition, V1<? super String> action) {
+        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        return stringVMatcher.whenNextIf(condition, action);
+    }
+
+    public StringVMatcher whenNextIf(R1<? super String, Boolean> predicate, V1<? super String> action) {
+        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        return stringVMatcher.whenNextIf(predicate, action);
+    }
+
+    public <R> StringRMatcher<R> whenIf(R0<Boolean> condition, R1<? super String, ? extends R> action) {
+        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        return stringRMatcher.whenIf(condition, action);
+    }
+
+    public <R> StringRMatcher<R> whenIf(R1<? super String, Boolean> predicate, R1<? super String, ? extends R> action) {
+        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        return stringRMatcher.whenIf(predicate, action);
+    }
+
+    public <R> StringRMatcher<R> whenNextIf(R0<Boolean> condition, R1<? super String, ? extends R> action) {
+        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        return stringRMatcher.whenNextIf(condition, action);
+    }
+
+    public <R> StringRMatcher<R> whenNextIf(R1<? super String, Boolean> predicate, R1<? super String, ? extends R> action) {
+        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        return stringRMatcher.whenNextIf(predicate, action);
+    }
+
     /*
      * ######################################################
      * ******************************************************
@@ -164,5 +204,45 @@ public class StringMatcherMapping extends PatternMatcherMapping<String> {
         StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
         return stringRMatcher.withNext(matchValue, action);
     }
+
+    public <E extends Throwable> StringVMatcher withIf(R0<Boolean> condition, VT1<? super String, E> action) throws E {
+        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        return stringVMatcher.withIf(condition, action);
+    }
+
+    public <E extends Throwable> StringVMatcher withIf(R1<? super String, Boolean> predicate, VT1<? super String, E> action) throws E {
+        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        return stringVMatcher.withIf(predicate, action);
+    }
+
+    public <E extends Throwable> StringVMatcher withNextIf(R0<Boolean> condition, VT1<? super String, E> action) throws E {
+        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        return stringVMatcher.withNextIf(condition, action);
+    }
+
+    public <E extends Throwable> StringVMatcher withNextIf(R1<? super String, Boolean> predicate, VT1<? super String, E> action) throws E {
+        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        return stringVMatcher.withNextIf(predicate, action);
+    }
+
+    public <R, E extends Throwable> StringRMatcher<R> withIf(R0<Boolean> condition, RT1<? super String, ? extends R, E> action) throws E {
+        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        return stringRMatcher.withIf(condition, action);
+    }
+
+    public <R, E extends Throwable> StringRMatcher<R> withIf(R1<? super String, Boolean> predicate, RT1<? super String, ? extends R, E> action) throws E {
+        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        return stringRMatcher.withIf(predicate, action);
+    }
+
+    public <R, E extends Throwable> StringRMatcher<R> withNextIf(R0<Boolean> condition, RT1<? super String, ? extends R, E> action) throws E {
+        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        return stringRMatcher.withNextIf(condition, action);
+    }
+
+    public <R, E extends Throwable> StringRMatcher<R> withNextIf(R1<? super String, Boolean> predicate, RT1<? super String, ? extends R, E> action) throws E {
+        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        return stringRMatcher.withNextIf(predicate, action);
+    }
     
 }
@@ -49,6 +49,26 @@ public class TypeMatcherMapping<V> extends PatternMatcherMapping<V> {
         return typeRMatcher.whenNext(matchValue, action);
     }
 
+    public <C> TypeVMatcher<V> whenIf(Class<C> matchValue, R1<? super C, Boolean> predicate, V1<? super C> action) {
+        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value);
+        return typeVMatcher.whenIf(matchValue, predicate, action);
+    }
+
+    public <C> TypeVMatcher<V> whenNextIf(Class<C> matchValue, R1<? super C, Boolean> predicate, V1<? super C> action) {
+        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value);
+        return typeVMatcher.whenNextIf(matchValue, predicate, action);
+    }
+
+    public <C, R> TypeRMatcher<V, R> whenIf(Class<C> matchValue, R1<? super C, Boolean> predicate, R1<? super C, ? extends R> action) {
+        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value);
+        return typeRMatcher.whenIf(matchValue, predicate, action);
+    }
+
+    public <C, R> TypeRMatcher<V, R> whenNextIf(Class<C> matchValue, R1<? super C, Boolean> predicate, R1<? super C, ? extends R> action) {
+        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value);
+        return typeRMatcher.whenNextIf(matchValue, predicate, action);
+    }
+
     /*
      * ######################################################
      * ******************************************************
@@ -76,4 +96,24 @@ public class TypeMatcherMapping<V> extends PatternMatcherMapping<V> {
         return typeRMatcher.withNext(matchValue, action);
     }
 
+    public <C, E extends Throwable> TypeVMatcher<V> withIf(Class<C> matchValue, R1<? super C, Boolean> predicate, VT1<? super C, E> action) throws E {
+        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value);
+        return typeVMatcher.withIf(matchValue, predicate, action);
+    }
+
+    public <C, E extends Throwable> TypeVMatcher<V> withNextIf(Class<C> matchValue, R1<? super C, Boolean> predicate, VT1<? super C, E> action) throws E {
+        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value);
+        return typeVMatcher.withNextIf(matchValue, predicate, action);
+    }
+
+    public <C, R, E extends Throwable> TypeRMatcher<V, R> withIf(Class<C> matchValue, R1<? super C, Boolean> predicate, RT1<? super C, ? extends R, E> action) throws E {
+        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value);
+        return typeRMatcher.withIf(matchValue, predicate, action);
+    }
+
+    public <C, R, E extends Throwable> TypeRMatcher<V, R> withNextIf(Class<C> matchValue, R1<? super C, Boolean> predicate, RT1<? super C, ? extends R, E> action) throws E {
+        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value);
+        return typeRMatcher.withNextIf(matchValue, predicate, action);
+    }
+
 }
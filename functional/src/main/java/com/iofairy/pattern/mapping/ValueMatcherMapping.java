@@ -17,6 +17,7 @@ package com.iofairy.pattern.mapping;
 
 import com.iofairy.lambda.*;
 import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.PatternRange;
 import com.iofairy.pattern.matcher.ValueRMatcher;
 import com.iofairy.pattern.matcher.ValueVMatcher;
 
@@ -69,6 +70,26 @@ public class ValueMatcherMapping<V> extends PatternMatcherMapping<V> {
         return valueRMatcher.whenNext(matchValues, action);
     }
 
+    public ValueVMatcher<V> whenRange(PatternRange<?> range, V1<? super V> action) {
+        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        return valueVMatcher.whenRange(range, action);
+    }
+
+    public ValueVMatcher<V> whenNextRange(PatternRange<?> range, V1<? super V> action) {
+        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        return valueVMatcher.whenNextRange(range, action);
+    }
+
+    public <R> ValueRMatcher<V, R> whenRange(PatternRange<?> range, R1<? super V, ? extends R> action) {
+        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        return valueRMatcher.whenRange(range, action);
+    }
+
+    public <R> ValueRMatcher<V, R> whenNextRange(PatternRange<?> range, R1<? super V, ? extends R> action) {
+        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        return valueRMatcher.whenNextRange(range, action);
+    }
+
     public ValueVMatcher<V> when(boolean matchValue, V1<? super V> action) {
         ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
         return valueVMatcher.when(matchValue, action);
@@ -89,6 +110,46 @@ public class ValueMatcherMapping<V> extends PatternMatcherMapping<V> {
         return valueRMatcher.whenNext(matchValue, action);
     }
 
+    public ValueVMatcher<V> whenIf(R0<Boolean> condition, V1<? super V> action) {
+        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        return valueVMatcher.whenIf(condition, action);
+    }
+
+    public ValueVMatcher<V> whenIf(R1<? super V, Boolean> predicate, V1<? super V> action) {
+        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        return valueVMatcher.whenIf(predicate, action);
+    }
+
+    public ValueVMatcher<V> whenNextIf(R0<Boolean> condition, V1<? super V> action) {
+        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        return valueVMatcher.whenNextIf(condition, action);
+    }
+
+    public ValueVMatcher<V> whenNextIf(R1<? super V, Boolean> predicate, V1<? super V> action) {
+        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        return valueVMatcher.whenNextIf(predicate, action);
+    }
+
+    public <R> ValueRMatcher<V, R> whenIf(R0<Boolean> condition, R1<? super V, ? extends R> action) {
+        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        return valueRMatcher.whenIf(condition, action);
+    }
+
+    public <R> ValueRMatcher<V, R> whenIf(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        return valueRMatcher.whenIf(predicate, action);
+    }
+
+    public <R> ValueRMatcher<V, R> whenNextIf(R0<Boolean> condition, R1<? super V, ? extends R> action) {
+        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        return valueRMatcher.whenNextIf(condition, action);
+    }
+
+    public <R> ValueRMatcher<V, R> whenNextIf(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        return valueRMatcher.whenNextIf(predicate, action);
+    }
+
     /*
      * ######################################################
      * ******************************************************
@@ -136,6 +197,26 @@ public class ValueMatcherMapping<V> extends PatternMatcherMapping<V> {
         return valueRMatcher.withNext(matchValues, action);
     }
 
+    public <E extends Throwable> ValueVMatcher<V> withRange(PatternRange<?> range, VT1<? super V, E> action) throws E {
+        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        return valueVMatcher.withRange(range, action);
+    }
+
+    public <E extends Throwable> ValueVMatcher<V> withNextRange(PatternRange<?> range, VT1<? super V, E> action) throws E {
+        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        return valueVMatcher.withNextRange(range, action);
+    }
+
+    public <R, E extends Throwable> ValueRMatcher<V, R> withRange(PatternRange<?> range, RT1<? super V, ? extends R, E> action) throws E {
+        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        return valueRMatcher.withRange(range, action);
+    }
+
+    public <R, E extends Throwable> ValueRMatcher<V, R> withNextRange(PatternRange<?> range, RT1<? super V, ? extends R, E> action) throws E {
+        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        return valueRMatcher.withNextRange(range, action);
+    }
+
     public <E extends Throwable> ValueVMatcher<V> with(boolean matchValue, VT1<? super V, E> action) throws E {
         ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
         return valueVMatcher.with(matchValue, action);
@@ -156,4 +237,44 @@ public class ValueMatcherMapping<V> extends PatternMatcherMapping<V> {
         return valueRMatcher.withNext(matchValue, action);
     }
 
+    public <E extends Throwable> ValueVMatcher<V> withIf(R0<Boolean> condition, VT1<? super V, E> action) throws E {
+        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        return valueVMatcher.withIf(condition, action);
+    }
+
+    public <E extends Throwable> ValueVMatcher<V> withIf(R1<? super V, Boolean> predicate, VT1<? super V, E> action) throws E {
+        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        return valueVMatcher.withIf(predicate, action);
+    }
+
+    public <E extends Throwable> ValueVMatcher<V> withNextIf(R0<Boolean> condition, VT1<? super V, E> action) throws E {
+        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        return valueVMatcher.withNextIf(condition, action);
+    }
+
+    public <E extends Throwable> ValueVMatcher<V> withNextIf(R1<? super V, Boolean> predicate, VT1<? super V, E> action) throws E {
+        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        return valueVMatcher.withNextIf(predicate, action);
+    }
+
+    public <R, E extends Throwable> ValueRMatcher<V, R> withIf(R0<Boolean> condition, RT1<? super V, ? extends R, E> action) throws E {
+        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        return valueRMatcher.withIf(condition, action);
+    }
+
+    public <R, E extends Throwable> ValueRMatcher<V, R> withIf(R1<? super V, Boolean> predicate, RT1<? super V, ? extends R, E> action) throws E {
+        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        return valueRMatcher.withIf(predicate, action);
+    }
+
+    public <R, E extends Throwable> ValueRMatcher<V, R> withNextIf(R0<Boolean> condition, RT1<? super V, ? extends R, E> action) throws E {
+        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        return valueRMatcher.withNextIf(condition, action);
+    }
+
+    public <R, E extends Throwable> ValueRMatcher<V, R> withNextIf(R1<? super V, Boolean> predicate, RT1<? super V, ? extends R, E> action) throws E {
+        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        return valueRMatcher.withNextIf(predicate, action);
+    }
+
 }
@@ -16,6 +16,7 @@
 package com.iofairy.pattern.matcher;
 
 import com.iofairy.base.None;
+import com.iofairy.lambda.R0;
 import com.iofairy.lambda.R1;
 import com.iofairy.lambda.RT1;
 import com.iofairy.pattern.PatternIn;
@@ -42,8 +43,9 @@ public class ActionNoneRMatcher<P, R> extends SimpleRInMatcher<None, P, P, R> {
 
     @Override
     public ActionNoneRMatcher<P, R> when(P value, R1<? super P, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && preAction.$(value)) {
+        if (preAction.$(value)) {
             isMatch = true;
             returnValue = action.$(value);
         }
@@ -52,8 +54,9 @@ public class ActionNoneRMatcher<P, R> extends SimpleRInMatcher<None, P, P, R> {
 
     @Override
     public ActionNoneRMatcher<P, R> whenNext(P value, R1<? super P, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && preAction.$(value)) {
+        if (preAction.$(value)) {
             returnValue = action.$(value);
         }
         return this;
@@ -61,8 +64,9 @@ public class ActionNoneRMatcher<P, R> extends SimpleRInMatcher<None, P, P, R> {
 
     @Override
     public <E extends Throwable> ActionNoneRMatcher<P, R> with(P value, RT1<? super P, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && preAction.$(value)) {
+        if (preAction.$(value)) {
             isMatch = true;
             returnValue = action.$(value);
         }
@@ -71,8 +75,9 @@ public class ActionNoneRMatcher<P, R> extends SimpleRInMatcher<None, P, P, R> {
 
     @Override
     public <E extends Throwable> ActionNoneRMatcher<P, R> withNext(P value, RT1<? super P, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && preAction.$(value)) {
+        if (preAction.$(value)) {
             returnValue = action.$(value);
         }
         return this;
@@ -80,8 +85,9 @@ public class ActionNoneRMatcher<P, R> extends SimpleRInMatcher<None, P, P, R> {
 
     @Override
     public ActionNoneRMatcher<P, R> when(boolean value, R1<? super P, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             returnValue = action.$(null);
         }
@@ -90,8 +96,9 @@ public class ActionNoneRMatcher<P, R> extends SimpleRInMatcher<None, P, P, R> {
 
     @Override
     public ActionNoneRMatcher<P, R> whenNext(boolean value, R1<? super P, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             returnValue = action.$(null);
         }
         return this;
@@ -99,8 +106,9 @@ public class ActionNoneRMatcher<P, R> extends SimpleRInMatcher<None, P, P, R> {
 
     @Override
     public <E extends Throwable> ActionNoneRMatcher<P, R> with(boolean value, RT1<? super P, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             returnValue = action.$(null);
         }
@@ -109,29 +117,77 @@ public class ActionNoneRMatcher<P, R> extends SimpleRInMatcher<None, P, P, R> {
 
     @Override
     public <E extends Throwable> ActionNoneRMatcher<P, R> withNext(boolean value, RT1<? super P, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             returnValue = action.$(null);
         }
         return this;
     }
 
+    @Override
+    public ActionNoneRMatcher<P, R> whenIf(R0<Boolean> condition, R1<? super P, ? extends R> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : when(condition.$(), action);
+    }
+
+    @Override
+    public ActionNoneRMatcher<P, R> whenIf(R1<? super None, Boolean> predicate, R1<? super P, ? extends R> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : when(predicate.$(this.value), action);
+    }
+
+    @Override
+    public ActionNoneRMatcher<P, R> whenNextIf(R0<Boolean> condition, R1<? super P, ? extends R> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : whenNext(condition.$(), action);
+    }
+
+    @Override
+    public ActionNoneRMatcher<P, R> whenNextIf(R1<? super None, Boolean> predicate, R1<? super P, ? extends R> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : whenNext(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionNoneRMatcher<P, R> withIf(R0<Boolean> condition, RT1<? super P, ? extends R, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : with(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionNoneRMatcher<P, R> withIf(R1<? super None, Boolean> predicate, RT1<? super P, ? extends R, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : with(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionNoneRMatcher<P, R> withNextIf(R0<Boolean> condition, RT1<? super P, ? extends R, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : withNext(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionNoneRMatcher<P, R> withNextIf(R1<? super None, Boolean> predicate, RT1<? super P, ? extends R, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : withNext(predicate.$(this.value), action);
+    }
+
     @Override
     public ActionNoneRMatcher<P, R> when(PatternIn<P> values, R1<? super P, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (preAction.$(null)) {
+        if (values == null) {
+            if (preAction.$(null)) {
+                isMatch = true;
+                returnValue = action.$(null);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (preAction.$(v)) {
                     isMatch = true;
-                    returnValue = action.$(null);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (preAction.$(v)) {
-                        isMatch = true;
-                        returnValue = action.$(v);
-                        break;
-                    }
+                    returnValue = action.$(v);
+                    break;
                 }
             }
         }
@@ -140,18 +196,17 @@ public class ActionNoneRMatcher<P, R> extends SimpleRInMatcher<None, P, P, R> {
 
     @Override
     public ActionNoneRMatcher<P, R> whenNext(PatternIn<P> values, R1<? super P, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (preAction.$(null)) {
-                    returnValue = action.$(null);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (preAction.$(v)) {
-                        returnValue = action.$(v);
-                        break;
-                    }
+        if (values == null) {
+            if (preAction.$(null)) {
+                returnValue = action.$(null);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (preAction.$(v)) {
+                    returnValue = action.$(v);
+                    break;
                 }
             }
         }
@@ -160,20 +215,19 @@ public class ActionNoneRMatcher<P, R> extends SimpleRInMatcher<None, P, P, R> {
 
     @Override
     public <E extends Throwable> ActionNoneRMatcher<P, R> with(PatternIn<P> values, RT1<? super P, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (preAction.$(null)) {
+        if (values == null) {
+            if (preAction.$(null)) {
+                isMatch = true;
+                returnValue = action.$(null);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (preAction.$(v)) {
                     isMatch = true;
-                    returnValue = action.$(null);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (preAction.$(v)) {
-                        isMatch = true;
-                        returnValue = action.$(v);
-                        break;
-                    }
+                    returnValue = action.$(v);
+                    break;
                 }
             }
         }
@@ -182,18 +236,17 @@ public class ActionNoneRMatcher<P, R> extends SimpleRInMatcher<None, P, P, R> {
 
     @Override
     public <E extends Throwable> ActionNoneRMatcher<P, R> withNext(PatternIn<P> values, RT1<? super P, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (preAction.$(null)) {
-                    returnValue = action.$(null);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (preAction.$(v)) {
-                        returnValue = action.$(v);
-                        break;
-                    }
+        if (values == null) {
+            if (preAction.$(null)) {
+                returnValue = action.$(null);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (preAction.$(v)) {
+                    returnValue = action.$(v);
+                    break;
                 }
             }
         }
@@ -41,8 +41,9 @@ public class ActionNoneVMatcher<P> extends SimpleVInMatcher<None, P, P> {
 
     @Override
     public ActionNoneVMatcher<P> when(P value, V1<? super P> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && preAction.$(value)) {
+        if (preAction.$(value)) {
             isMatch = true;
             action.$(value);
         }
@@ -51,8 +52,9 @@ public class ActionNoneVMatcher<P> extends SimpleVInMatcher<None, P, P> {
 
     @Override
     public ActionNoneVMatcher<P> whenNext(P value, V1<? super P> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && preAction.$(value)) {
+        if (preAction.$(value)) {
             action.$(value);
         }
         return this;
@@ -60,8 +62,9 @@ public class ActionNoneVMatcher<P> extends SimpleVInMatcher<None, P, P> {
 
     @Override
     public <E extends Throwable> ActionNoneVMatcher<P> with(P value, VT1<? super P, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && preAction.$(value)) {
+        if (preAction.$(value)) {
             isMatch = true;
             action.$(value);
         }
@@ -70,8 +73,9 @@ public class ActionNoneVMatcher<P> extends SimpleVInMatcher<None, P, P> {
 
     @Override
     public <E extends Throwable> ActionNoneVMatcher<P> withNext(P value, VT1<? super P, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && preAction.$(value)) {
+        if (preAction.$(value)) {
             action.$(value);
         }
         return this;
@@ -79,8 +83,9 @@ public class ActionNoneVMatcher<P> extends SimpleVInMatcher<None, P, P> {
 
     @Override
     public ActionNoneVMatcher<P> when(boolean value, V1<? super P> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             action.$(null);
         }
@@ -89,8 +94,9 @@ public class ActionNoneVMatcher<P> extends SimpleVInMatcher<None, P, P> {
 
     @Override
     public ActionNoneVMatcher<P> whenNext(boolean value, V1<? super P> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             action.$(null);
         }
         return this;
@@ -98,8 +104,9 @@ public class ActionNoneVMatcher<P> extends SimpleVInMatcher<None, P, P> {
 
     @Override
     public <E extends Throwable> ActionNoneVMatcher<P> with(boolean value, VT1<? super P, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             action.$(null);
         }
@@ -108,29 +115,77 @@ public class ActionNoneVMatcher<P> extends SimpleVInMatcher<None, P, P> {
 
     @Override
     public <E extends Throwable> ActionNoneVMatcher<P> withNext(boolean value, VT1<? super P, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             action.$(null);
         }
         return this;
     }
 
+    @Override
+    public ActionNoneVMatcher<P> whenIf(R0<Boolean> condition, V1<? super P> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : when(condition.$(), action);
+    }
+
+    @Override
+    public ActionNoneVMatcher<P> whenIf(R1<? super None, Boolean> predicate, V1<? super P> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : when(predicate.$(this.value), action);
+    }
+
+    @Override
+    public ActionNoneVMatcher<P> whenNextIf(R0<Boolean> condition, V1<? super P> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : whenNext(condition.$(), action);
+    }
+
+    @Override
+    public ActionNoneVMatcher<P> whenNextIf(R1<? super None, Boolean> predicate, V1<? super P> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : whenNext(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionNoneVMatcher<P> withIf(R0<Boolean> condition, VT1<? super P, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : with(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionNoneVMatcher<P> withIf(R1<? super None, Boolean> predicate, VT1<? super P, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : with(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionNoneVMatcher<P> withNextIf(R0<Boolean> condition, VT1<? super P, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : withNext(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionNoneVMatcher<P> withNextIf(R1<? super None, Boolean> predicate, VT1<? super P, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : withNext(predicate.$(this.value), action);
+    }
+
     @Override
     public ActionNoneVMatcher<P> when(PatternIn<P> values, V1<? super P> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (preAction.$(null)) {
+        if (values == null) {
+            if (preAction.$(null)) {
+                isMatch = true;
+                action.$(null);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (preAction.$(v)) {
                     isMatch = true;
-                    action.$(null);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (preAction.$(v)) {
-                        isMatch = true;
-                        action.$(v);
-                        break;
-                    }
+                    action.$(v);
+                    break;
                 }
             }
         }
@@ -139,18 +194,17 @@ public class ActionNoneVMatcher<P> extends SimpleVInMatcher<None, P, P> {
 
     @Override
     public ActionNoneVMatcher<P> whenNext(PatternIn<P> values, V1<? super P> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (preAction.$(null)) {
-                    action.$(null);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (preAction.$(v)) {
-                        action.$(v);
-                        break;
-                    }
+        if (values == null) {
+            if (preAction.$(null)) {
+                action.$(null);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (preAction.$(v)) {
+                    action.$(v);
+                    break;
                 }
             }
         }
@@ -159,20 +213,19 @@ public class ActionNoneVMatcher<P> extends SimpleVInMatcher<None, P, P> {
 
     @Override
     public <E extends Throwable> ActionNoneVMatcher<P> with(PatternIn<P> values, VT1<? super P, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (preAction.$(null)) {
+        if (values == null) {
+            if (preAction.$(null)) {
+                isMatch = true;
+                action.$(null);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (preAction.$(v)) {
                     isMatch = true;
-                    action.$(null);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (preAction.$(v)) {
-                        isMatch = true;
-                        action.$(v);
-                        break;
-                    }
+                    action.$(v);
+                    break;
                 }
             }
         }
@@ -181,18 +234,17 @@ public class ActionNoneVMatcher<P> extends SimpleVInMatcher<None, P, P> {
 
     @Override
     public <E extends Throwable> ActionNoneVMatcher<P> withNext(PatternIn<P> values, VT1<? super P, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (preAction.$(null)) {
-                    action.$(null);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (preAction.$(v)) {
-                        action.$(v);
-                        break;
-                    }
+        if (values == null) {
+            if (preAction.$(null)) {
+                action.$(null);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (preAction.$(v)) {
+                    action.$(v);
+                    break;
                 }
             }
         }
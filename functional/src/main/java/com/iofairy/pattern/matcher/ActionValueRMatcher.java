@@ -15,6 +15,7 @@
  */
 package com.iofairy.pattern.matcher;
 
+import com.iofairy.lambda.R0;
 import com.iofairy.lambda.R1;
 import com.iofairy.lambda.RT1;
 import com.iofairy.pattern.PatternIn;
@@ -41,8 +42,9 @@ public class ActionValueRMatcher<V, P, R> extends SimpleRInMatcher<V, P, V, R> {
 
     @Override
     public ActionValueRMatcher<V, P, R> when(P value, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(preAction.$(value), this.value)) {
+        if (Objects.equals(preAction.$(value), this.value)) {
             isMatch = true;
             returnValue = action.$(this.value);
         }
@@ -51,8 +53,9 @@ public class ActionValueRMatcher<V, P, R> extends SimpleRInMatcher<V, P, V, R> {
 
     @Override
     public ActionValueRMatcher<V, P, R> whenNext(P value, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(preAction.$(value), this.value)) {
+        if (Objects.equals(preAction.$(value), this.value)) {
             returnValue = action.$(this.value);
         }
         return this;
@@ -60,8 +63,9 @@ public class ActionValueRMatcher<V, P, R> extends SimpleRInMatcher<V, P, V, R> {
 
     @Override
     public <E extends Throwable> ActionValueRMatcher<V, P, R> with(P value, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(preAction.$(value), this.value)) {
+        if (Objects.equals(preAction.$(value), this.value)) {
             isMatch = true;
             returnValue = action.$(this.value);
         }
@@ -70,8 +74,9 @@ public class ActionValueRMatcher<V, P, R> extends SimpleRInMatcher<V, P, V, R> {
 
     @Override
     public <E extends Throwable> ActionValueRMatcher<V, P, R> withNext(P value, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(preAction.$(value), this.value)) {
+        if (Objects.equals(preAction.$(value), this.value)) {
             returnValue = action.$(this.value);
         }
         return this;
@@ -79,8 +84,9 @@ public class ActionValueRMatcher<V, P, R> extends SimpleRInMatcher<V, P, V, R> {
 
     @Override
     public ActionValueRMatcher<V, P, R> when(boolean value, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             returnValue = action.$(this.value);
         }
@@ -89,8 +95,9 @@ public class ActionValueRMatcher<V, P, R> extends SimpleRInMatcher<V, P, V, R> {
 
     @Override
     public ActionValueRMatcher<V, P, R> whenNext(boolean value, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             returnValue = action.$(this.value);
         }
         return this;
@@ -98,8 +105,9 @@ public class ActionValueRMatcher<V, P, R> extends SimpleRInMatcher<V, P, V, R> {
 
     @Override
     public <E extends Throwable> ActionValueRMatcher<V, P, R> with(boolean value, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             returnValue = action.$(this.value);
         }
@@ -108,29 +116,77 @@ public class ActionValueRMatcher<V, P, R> extends SimpleRInMatcher<V, P, V, R> {
 
     @Override
     public <E extends Throwable> ActionValueRMatcher<V, P, R> withNext(boolean value, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             returnValue = action.$(this.value);
         }
         return this;
     }
 
+    @Override
+    public ActionValueRMatcher<V, P, R> whenIf(R0<Boolean> condition, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : when(condition.$(), action);
+    }
+
+    @Override
+    public ActionValueRMatcher<V, P, R> whenIf(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : when(predicate.$(this.value), action);
+    }
+
+    @Override
+    public ActionValueRMatcher<V, P, R> whenNextIf(R0<Boolean> condition, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : whenNext(condition.$(), action);
+    }
+
+    @Override
+    public ActionValueRMatcher<V, P, R> whenNextIf(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : whenNext(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionValueRMatcher<V, P, R> withIf(R0<Boolean> condition, RT1<? super V, ? extends R, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : with(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionValueRMatcher<V, P, R> withIf(R1<? super V, Boolean> predicate, RT1<? super V, ? extends R, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : with(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionValueRMatcher<V, P, R> withNextIf(R0<Boolean> condition, RT1<? super V, ? extends R, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : withNext(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionValueRMatcher<V, P, R> withNextIf(R1<? super V, Boolean> predicate, RT1<? super V, ? extends R, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : withNext(predicate.$(this.value), action);
+    }
+
     @Override
     public ActionValueRMatcher<V, P, R> when(PatternIn<P> values, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (Objects.equals(this.value, preAction.$(null))) {
+        if (values == null) {
+            if (Objects.equals(this.value, preAction.$(null))) {
+                isMatch = true;
+                returnValue = action.$(this.value);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (Objects.equals(this.value, preAction.$(v))) {
                     isMatch = true;
                     returnValue = action.$(this.value);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (Objects.equals(this.value, preAction.$(v))) {
-                        isMatch = true;
-                        returnValue = action.$(this.value);
-                        break;
-                    }
+                    break;
                 }
             }
         }
@@ -139,18 +195,17 @@ public class ActionValueRMatcher<V, P, R> extends SimpleRInMatcher<V, P, V, R> {
 
     @Override
     public ActionValueRMatcher<V, P, R> whenNext(PatternIn<P> values, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (Objects.equals(this.value, preAction.$(null))) {
+        if (values == null) {
+            if (Objects.equals(this.value, preAction.$(null))) {
+                returnValue = action.$(this.value);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (Objects.equals(this.value, preAction.$(v))) {
                     returnValue = action.$(this.value);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (Objects.equals(this.value, preAction.$(v))) {
-                        returnValue = action.$(this.value);
-                        break;
-                    }
+                    break;
                 }
             }
         }
@@ -159,20 +214,19 @@ public class ActionValueRMatcher<V, P, R> extends SimpleRInMatcher<V, P, V, R> {
 
     @Override
     public <E extends Throwable> ActionValueRMatcher<V, P, R> with(PatternIn<P> values, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (Objects.equals(this.value, preAction.$(null))) {
+        if (values == null) {
+            if (Objects.equals(this.value, preAction.$(null))) {
+                isMatch = true;
+                returnValue = action.$(this.value);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (Objects.equals(this.value, preAction.$(v))) {
                     isMatch = true;
                     returnValue = action.$(this.value);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (Objects.equals(this.value, preAction.$(v))) {
-                        isMatch = true;
-                        returnValue = action.$(this.value);
-                        break;
-                    }
+                    break;
                 }
             }
         }
@@ -181,18 +235,17 @@ public class ActionValueRMatcher<V, P, R> extends SimpleRInMatcher<V, P, V, R> {
 
     @Override
     public <E extends Throwable> ActionValueRMatcher<V, P, R> withNext(PatternIn<P> values, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (Objects.equals(this.value, preAction.$(null))) {
+        if (values == null) {
+            if (Objects.equals(this.value, preAction.$(null))) {
+                returnValue = action.$(this.value);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (Objects.equals(this.value, preAction.$(v))) {
                     returnValue = action.$(this.value);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (Objects.equals(this.value, preAction.$(v))) {
-                        returnValue = action.$(this.value);
-                        break;
-                    }
+                    break;
                 }
             }
         }
@@ -40,8 +40,9 @@ public class ActionValueVMatcher<V, P> extends SimpleVInMatcher<V, P, V> {
 
     @Override
     public ActionValueVMatcher<V, P> when(P value, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(preAction.$(value), this.value)) {
+        if (Objects.equals(preAction.$(value), this.value)) {
             isMatch = true;
             action.$(this.value);
         }
@@ -50,8 +51,9 @@ public class ActionValueVMatcher<V, P> extends SimpleVInMatcher<V, P, V> {
 
     @Override
     public ActionValueVMatcher<V, P> whenNext(P value, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(preAction.$(value), this.value)) {
+        if (Objects.equals(preAction.$(value), this.value)) {
             action.$(this.value);
         }
         return this;
@@ -59,8 +61,9 @@ public class ActionValueVMatcher<V, P> extends SimpleVInMatcher<V, P, V> {
 
     @Override
     public <E extends Throwable> ActionValueVMatcher<V, P> with(P value, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(preAction.$(value), this.value)) {
+        if (Objects.equals(preAction.$(value), this.value)) {
             isMatch = true;
             action.$(this.value);
         }
@@ -69,8 +72,9 @@ public class ActionValueVMatcher<V, P> extends SimpleVInMatcher<V, P, V> {
 
     @Override
     public <E extends Throwable> ActionValueVMatcher<V, P> withNext(P value, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(preAction.$(value), this.value)) {
+        if (Objects.equals(preAction.$(value), this.value)) {
             action.$(this.value);
         }
         return this;
@@ -78,8 +82,9 @@ public class ActionValueVMatcher<V, P> extends SimpleVInMatcher<V, P, V> {
 
     @Override
     public ActionValueVMatcher<V, P> when(boolean value, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             action.$(this.value);
         }
@@ -88,8 +93,9 @@ public class ActionValueVMatcher<V, P> extends SimpleVInMatcher<V, P, V> {
 
     @Override
     public ActionValueVMatcher<V, P> whenNext(boolean value, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             action.$(this.value);
         }
         return this;
@@ -97,8 +103,9 @@ public class ActionValueVMatcher<V, P> extends SimpleVInMatcher<V, P, V> {
 
     @Override
     public <E extends Throwable> ActionValueVMatcher<V, P> with(boolean value, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             action.$(this.value);
         }
@@ -107,29 +114,77 @@ public class ActionValueVMatcher<V, P> extends SimpleVInMatcher<V, P, V> {
 
     @Override
     public <E extends Throwable> ActionValueVMatcher<V, P> withNext(boolean value, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             action.$(this.value);
         }
         return this;
     }
+
+    @Override
+    public ActionValueVMatcher<V, P> whenIf(R0<Boolean> condition, V1<? super V> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : when(condition.$(), action);
+    }
+
+    @Override
+    public ActionValueVMatcher<V, P> whenIf(R1<? super V, Boolean> predicate, V1<? super V> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : when(predicate.$(this.value), action);
+    }
+
+    @Override
+    public ActionValueVMatcher<V, P> whenNextIf(R0<Boolean> condition, V1<? super V> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : whenNext(condition.$(), action);
+    }
+
+    @Override
+    public ActionValueVMatcher<V, P> whenNextIf(R1<? super V, Boolean> predicate, V1<? super V> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : whenNext(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionValueVMatcher<V, P> withIf(R0<Boolean> condition, VT1<? super V, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : with(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionValueVMatcher<V, P> withIf(R1<? super V, Boolean> predicate, VT1<? super V, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : with(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionValueVMatcher<V, P> withNextIf(R0<Boolean> condition, VT1<? super V, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : withNext(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> ActionValueVMatcher<V, P> withNextIf(R1<? super V, Boolean> predicate, VT1<? super V, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : withNext(predicate.$(this.value), action);
+    }
     
     @Override
     public ActionValueVMatcher<V, P> when(PatternIn<P> values, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (Objects.equals(this.value, preAction.$(null))) {
+        if (values == null) {
+            if (Objects.equals(this.value, preAction.$(null))) {
+                isMatch = true;
+                action.$(this.value);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (Objects.equals(this.value, preAction.$(v))) {
                     isMatch = true;
                     action.$(this.value);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (Objects.equals(this.value, preAction.$(v))) {
-                        isMatch = true;
-                        action.$(this.value);
-                        break;
-                    }
+                    break;
                 }
             }
         }
@@ -138,18 +193,17 @@ public class ActionValueVMatcher<V, P> extends SimpleVInMatcher<V, P, V> {
 
     @Override
     public ActionValueVMatcher<V, P> whenNext(PatternIn<P> values, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (Objects.equals(this.value, preAction.$(null))) {
+        if (values == null) {
+            if (Objects.equals(this.value, preAction.$(null))) {
+                action.$(this.value);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (Objects.equals(this.value, preAction.$(v))) {
                     action.$(this.value);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (Objects.equals(this.value, preAction.$(v))) {
-                        action.$(this.value);
-                        break;
-                    }
+                    break;
                 }
             }
         }
@@ -158,20 +212,19 @@ public class ActionValueVMatcher<V, P> extends SimpleVInMatcher<V, P, V> {
 
     @Override
     public <E extends Throwable> ActionValueVMatcher<V, P> with(PatternIn<P> values, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (Objects.equals(this.value, preAction.$(null))) {
+        if (values == null) {
+            if (Objects.equals(this.value, preAction.$(null))) {
+                isMatch = true;
+                action.$(this.value);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (Objects.equals(this.value, preAction.$(v))) {
                     isMatch = true;
                     action.$(this.value);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (Objects.equals(this.value, preAction.$(v))) {
-                        isMatch = true;
-                        action.$(this.value);
-                        break;
-                    }
+                    break;
                 }
             }
         }
@@ -180,18 +233,17 @@ public class ActionValueVMatcher<V, P> extends SimpleVInMatcher<V, P, V> {
 
     @Override
     public <E extends Throwable> ActionValueVMatcher<V, P> withNext(PatternIn<P> values, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (values == null) {
-                if (Objects.equals(this.value, preAction.$(null))) {
+        if (values == null) {
+            if (Objects.equals(this.value, preAction.$(null))) {
+                action.$(this.value);
+            }
+        } else {
+            for (P v : values.getVs()) {
+                if (Objects.equals(this.value, preAction.$(v))) {
                     action.$(this.value);
-                }
-            } else {
-                for (P v : values.getVs()) {
-                    if (Objects.equals(this.value, preAction.$(v))) {
-                        action.$(this.value);
-                        break;
-                    }
+                    break;
                 }
             }
         }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.matcher;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.PatternIn;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Async Matcher. The conditions are evaluated on the caller thread, and the matched actions run on the executor. <br>
+ * 异步匹配器。条件在调用线程中判断，匹配的 action 在指定的 executor 中执行，调用线程不会被 action 阻塞。<br>
+ * The actions of {@code whenNext} and the final {@code when} (or {@code orElse}) are composed in order:
+ * each action starts after the previous one completed, and the returned future completes with the result of the last action.
+ * If an action fails, the following actions are skipped and the returned future completes exceptionally. <br>
+ * whenNext 与最后匹配的 when（或 orElse）的 action 按顺序组合：前一个 action 完成后才执行下一个，
+ * 返回的 future 以最后一个 action 的结果完成；某个 action 失败时，后续的 action 不再执行，返回的 future 异常完成。
+ *
+ * @since 0.4.2
+ */
+public class AsyncMatcher<V, R> implements PatternMatcher {
+    protected final V value;
+    protected final Executor executor;
+    protected boolean isMatch;
+    /**
+     * 已匹配的 action 组合成的 future，为 null 时表示还没有匹配的 action
+     */
+    protected CompletableFuture<R> future;
+
+    public AsyncMatcher(V value, Executor executor) {
+        this.value = value;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public AsyncMatcher<V, R> when(V value, R1<? super V, ? extends CompletionStage<R>> action) {
+        return when(Objects.equals(this.value, value), action);
+    }
+
+    public AsyncMatcher<V, R> whenNext(V value, R1<? super V, ? extends CompletionStage<R>> action) {
+        return whenNext(Objects.equals(this.value, value), action);
+    }
+
+    public AsyncMatcher<V, R> when(PatternIn<V> values, R1<? super V, ? extends CompletionStage<R>> action) {
+        return when(in(values), action);
+    }
+
+    public AsyncMatcher<V, R> whenNext(PatternIn<V> values, R1<? super V, ? extends CompletionStage<R>> action) {
+        return whenNext(in(values), action);
+    }
+
+    public AsyncMatcher<V, R> when(boolean value, R1<? super V, ? extends CompletionStage<R>> action) {
+        if (isMatch) return this;
+        Objects.requireNonNull(action);
+        if (value) {
+            isMatch = true;
+            schedule(action);
+        }
+        return this;
+    }
+
+    public AsyncMatcher<V, R> whenNext(boolean value, R1<? super V, ? extends CompletionStage<R>> action) {
+        if (isMatch) return this;
+        Objects.requireNonNull(action);
+        if (value) schedule(action);
+        return this;
+    }
+
+    /**
+     * Run the {@code orElse} action on the executor if no {@code when} branch matched,
+     * and return the future of the composed actions. <br>
+     * 没有 when 分支匹配时，在 executor 中执行 orElse 的 action，并返回所有已匹配的 action 组合后的 future
+     *
+     * @param action action for no branch matched
+     * @return future of result
+     */
+    public CompletableFuture<R> orElse(R1<? super V, ? extends CompletionStage<R>> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch) schedule(action);
+        return future;
+    }
+
+    private void schedule(R1<? super V, ? extends CompletionStage<R>> action) {
+        CompletableFuture<R> previous = future == null ? CompletableFuture.completedFuture(null) : future;
+        future = previous.thenComposeAsync(r -> action.$(this.value), executor);
+    }
+
+    private boolean in(PatternIn<V> values) {
+        return values == null ? this.value == null : values.getVs().contains(this.value);
+    }
+}
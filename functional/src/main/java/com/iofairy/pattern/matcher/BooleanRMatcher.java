@@ -15,6 +15,7 @@
  */
 package com.iofairy.pattern.matcher;
 
+import com.iofairy.lambda.R0;
 import com.iofairy.lambda.R1;
 import com.iofairy.lambda.RT1;
 
@@ -40,8 +41,9 @@ public class BooleanRMatcher<V, R> implements PatternMatcher {
     }
 
     public BooleanRMatcher<V, R> when(boolean value, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             returnValue = action.$(this.value);
         }
@@ -49,16 +51,18 @@ public class BooleanRMatcher<V, R> implements PatternMatcher {
     }
 
     public BooleanRMatcher<V, R> whenNext(boolean value, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             returnValue = action.$(this.value);
         }
         return this;
     }
 
     public <E extends Throwable> BooleanRMatcher<V, R> with(boolean value, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             returnValue = action.$(this.value);
         }
@@ -66,13 +70,54 @@ public class BooleanRMatcher<V, R> implements PatternMatcher {
     }
 
     public <E extends Throwable> BooleanRMatcher<V, R> withNext(boolean value, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             returnValue = action.$(this.value);
         }
         return this;
     }
 
+    public BooleanRMatcher<V, R> whenIf(R0<Boolean> condition, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : when(condition.$(), action);
+    }
+
+    public BooleanRMatcher<V, R> whenIf(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : when(predicate.$(this.value), action);
+    }
+
+    public BooleanRMatcher<V, R> whenNextIf(R0<Boolean> condition, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : whenNext(condition.$(), action);
+    }
+
+    public BooleanRMatcher<V, R> whenNextIf(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : whenNext(predicate.$(this.value), action);
+    }
+
+    public <E extends Throwable> BooleanRMatcher<V, R> withIf(R0<Boolean> condition, RT1<? super V, ? extends R, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : with(condition.$(), action);
+    }
+
+    public <E extends Throwable> BooleanRMatcher<V, R> withIf(R1<? super V, Boolean> predicate, RT1<? super V, ? extends R, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : with(predicate.$(this.value), action);
+    }
+
+    public <E extends Throwable> BooleanRMatcher<V, R> withNextIf(R0<Boolean> condition, RT1<? super V, ? extends R, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : withNext(condition.$(), action);
+    }
+
+    public <E extends Throwable> BooleanRMatcher<V, R> withNextIf(R1<? super V, Boolean> predicate, RT1<? super V, ? extends R, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : withNext(predicate.$(this.value), action);
+    }
+
     public R orElse(R1<? super V, ? extends R> action) {
         Objects.requireNonNull(action);
         if (!isMatch) {
@@ -15,6 +15,8 @@
  */
 package com.iofairy.pattern.matcher;
 
+import com.iofairy.lambda.R0;
+import com.iofairy.lambda.R1;
 import com.iofairy.lambda.V1;
 import com.iofairy.lambda.VT1;
 
@@ -40,8 +42,9 @@ public class BooleanVMatcher<V> implements PatternMatcher {
     }
 
     public BooleanVMatcher<V> when(boolean value, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             action.$(this.value);
         }
@@ -49,16 +52,18 @@ public class BooleanVMatcher<V> implements PatternMatcher {
     }
 
     public BooleanVMatcher<V> whenNext(boolean value, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             action.$(this.value);
         }
         return this;
     }
 
     public <E extends Throwable> BooleanVMatcher<V> with(boolean value, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             action.$(this.value);
         }
@@ -66,13 +71,54 @@ public class BooleanVMatcher<V> implements PatternMatcher {
     }
 
     public <E extends Throwable> BooleanVMatcher<V> withNext(boolean value, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             action.$(this.value);
         }
         return this;
     }
 
+    public BooleanVMatcher<V> whenIf(R0<Boolean> condition, V1<? super V> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : when(condition.$(), action);
+    }
+
+    public BooleanVMatcher<V> whenIf(R1<? super V, Boolean> predicate, V1<? super V> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : when(predicate.$(this.value), action);
+    }
+
+    public BooleanVMatcher<V> whenNextIf(R0<Boolean> condition, V1<? super V> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : whenNext(condition.$(), action);
+    }
+
+    public BooleanVMatcher<V> whenNextIf(R1<? super V, Boolean> predicate, V1<? super V> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : whenNext(predicate.$(this.value), action);
+    }
+
+    public <E extends Throwable> BooleanVMatcher<V> withIf(R0<Boolean> condition, VT1<? super V, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : with(condition.$(), action);
+    }
+
+    public <E extends Throwable> BooleanVMatcher<V> withIf(R1<? super V, Boolean> predicate, VT1<? super V, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : with(predicate.$(this.value), action);
+    }
+
+    public <E extends Throwable> BooleanVMatcher<V> withNextIf(R0<Boolean> condition, VT1<? super V, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : withNext(condition.$(), action);
+    }
+
+    public <E extends Throwable> BooleanVMatcher<V> withNextIf(R1<? super V, Boolean> predicate, VT1<? super V, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : withNext(predicate.$(this.value), action);
+    }
+
     public Void orElse(V1<? super V> action) {
         Objects.requireNonNull(action);
         if (!isMatch) {
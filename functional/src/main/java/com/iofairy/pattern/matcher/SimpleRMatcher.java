@@ -51,6 +51,39 @@ public abstract class SimpleRMatcher<V, P, L, R> extends SimpleMatcher<V, P, L,
 
     public abstract <E extends Throwable> SimpleRMatcher<V, P, L, R> withNext(boolean value, RT1<? super L, ? extends R, E> action) throws E;
 
+    /**
+     * Lazily evaluated condition, the {@code condition} will not be evaluated when a previous branch is matched. <br>
+     * 延迟计算的条件，当前面的分支已经匹配时，不会再执行 {@code condition}。<br>
+     * 未重载 {@code when} 方法，是为了避免 {@code when(null, action)} 产生歧义。
+     * @param condition condition
+     * @param action action
+     * @return this matcher
+     * @since 0.4.2
+     */
+    public abstract SimpleRMatcher<V, P, L, R> whenIf(R0<Boolean> condition, R1<? super L, ? extends R> action);
+
+    /**
+     * Lazily evaluated predicate for the value, the {@code predicate} will not be evaluated when a previous branch is matched. <br>
+     * 对待匹配的值进行判断，当前面的分支已经匹配时，不会再执行 {@code predicate}
+     * @param predicate predicate
+     * @param action action
+     * @return this matcher
+     * @since 0.4.2
+     */
+    public abstract SimpleRMatcher<V, P, L, R> whenIf(R1<? super V, Boolean> predicate, R1<? super L, ? extends R> action);
+
+    public abstract SimpleRMatcher<V, P, L, R> whenNextIf(R0<Boolean> condition, R1<? super L, ? extends R> action);
+
+    public abstract SimpleRMatcher<V, P, L, R> whenNextIf(R1<? super V, Boolean> predicate, R1<? super L, ? extends R> action);
+
+    public abstract <E extends Throwable> SimpleRMatcher<V, P, L, R> withIf(R0<Boolean> condition, RT1<? super L, ? extends R, E> action) throws E;
+
+    public abstract <E extends Throwable> SimpleRMatcher<V, P, L, R> withIf(R1<? super V, Boolean> predicate, RT1<? super L, ? extends R, E> action) throws E;
+
+    public abstract <E extends Throwable> SimpleRMatcher<V, P, L, R> withNextIf(R0<Boolean> condition, RT1<? super L, ? extends R, E> action) throws E;
+
+    public abstract <E extends Throwable> SimpleRMatcher<V, P, L, R> withNextIf(R1<? super V, Boolean> predicate, RT1<? super L, ? extends R, E> action) throws E;
+
     public abstract R orElse(R1<? super V, ? extends R> action);
 
     public abstract <E extends Throwable> R orWith(RT1<? super V, ? extends R, E> action) throws E;
@@ -51,6 +51,39 @@ public abstract class SimpleVMatcher<V, P, L> extends SimpleMatcher<V, P, L, Voi
 
     public abstract <E extends Throwable> SimpleVMatcher<V, P, L> withNext(boolean value, VT1<? super L, E> action) throws E;
 
+    /**
+     * Lazily evaluated condition, the {@code condition} will not be evaluated when a previous branch is matched. <br>
+     * 延迟计算的条件，当前面的分支已经匹配时，不会再执行 {@code condition}。<br>
+     * 未重载 {@code when} 方法，是为了避免 {@code when(null, action)} 产生歧义。
+     * @param condition condition
+     * @param action action
+     * @return this matcher
+     * @since 0.4.2
+     */
+    public abstract SimpleVMatcher<V, P, L> whenIf(R0<Boolean> condition, V1<? super L> action);
+
+    /**
+     * Lazily evaluated predicate for the value, the {@code predicate} will not be evaluated when a previous branch is matched. <br>
+     * 对待匹配的值进行判断，当前面的分支已经匹配时，不会再执行 {@code predicate}
+     * @param predicate predicate
+     * @param action action
+     * @return this matcher
+     * @since 0.4.2
+     */
+    public abstract SimpleVMatcher<V, P, L> whenIf(R1<? super V, Boolean> predicate, V1<? super L> action);
+
+    public abstract SimpleVMatcher<V, P, L> whenNextIf(R0<Boolean> condition, V1<? super L> action);
+
+    public abstract SimpleVMatcher<V, P, L> whenNextIf(R1<? super V, Boolean> predicate, V1<? super L> action);
+
+    public abstract <E extends Throwable> SimpleVMatcher<V, P, L> withIf(R0<Boolean> condition, VT1<? super L, E> action) throws E;
+
+    public abstract <E extends Throwable> SimpleVMatcher<V, P, L> withIf(R1<? super V, Boolean> predicate, VT1<? super L, E> action) throws E;
+
+    public abstract <E extends Throwable> SimpleVMatcher<V, P, L> withNextIf(R0<Boolean> condition, VT1<? super L, E> action) throws E;
+
+    public abstract <E extends Throwable> SimpleVMatcher<V, P, L> withNextIf(R1<? super V, Boolean> predicate, VT1<? super L, E> action) throws E;
+
     public abstract Void orElse(V1<? super V> action);
 
     public abstract <E extends Throwable> Void orWith(VT1<? super V, E> action) throws E;
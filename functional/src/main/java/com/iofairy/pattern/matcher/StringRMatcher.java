@@ -15,9 +15,11 @@
  */
 package com.iofairy.pattern.matcher;
 
+import com.iofairy.lambda.R0;
 import com.iofairy.lambda.R1;
 import com.iofairy.lambda.RT1;
 import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.compiled.RegexCache;
 import com.iofairy.pattern.type.*;
 import java.util.List;
 import java.util.Objects;
@@ -59,218 +61,83 @@ public class StringRMatcher<R> extends SimpleRInMatcher<String, String, String,
 
     @Override
     public StringRMatcher<R> when(String value, R1<? super String, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == value) {
-                    isMatch = true;
-                    returnValue = action.$(this.value);
-                }
-                return this;
-            }
-
-            String ucValue = ignoreCase ? value.toUpperCase() : value;
-
-            switch (patternString) {
-                case IGNORECASE:
-                    if (ucValue.equalsIgnoreCase(this.ucValue)) {
-                        isMatch = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                case CONTAIN:
-                case ICCONTAIN:
-                    if (this.ucValue.contains(ucValue)) {
-                        isMatch = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                case PREFIX:
-                case ICPREFIX:
-                    if (this.ucValue.startsWith(ucValue)) {
-                        isMatch = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                case SUFFIX:
-                case ICSUFFIX:
-                    if (this.ucValue.endsWith(ucValue)) {
-                        isMatch = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                default:
-                    if (this.ucValue.equals(ucValue)) {
-                        isMatch = true;
-                        returnValue = action.$(this.value);
-                    }
+        if (value == null || this.value == null) {
+            if (this.value == value) {
+                isMatch = true;
+                returnValue = action.$(this.value);
             }
+            return this;
         }
 
+        if (matches(value)) {
+            isMatch = true;
+            returnValue = action.$(this.value);
+        }
         return this;
     }
 
     @Override
     public StringRMatcher<R> whenNext(String value, R1<? super String, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == value) {
-                    returnValue = action.$(this.value);
-                }
-                return this;
-            }
-
-            String ucValue = ignoreCase ? value.toUpperCase() : value;
-
-            switch (patternString) {
-                case IGNORECASE:
-                    if (ucValue.equalsIgnoreCase(this.ucValue)) {
-                        isMatchForNext = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                case CONTAIN:
-                case ICCONTAIN:
-                    if (this.ucValue.contains(ucValue)) {
-                        isMatchForNext = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                case PREFIX:
-                case ICPREFIX:
-                    if (this.ucValue.startsWith(ucValue)) {
-                        isMatchForNext = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                case SUFFIX:
-                case ICSUFFIX:
-                    if (this.ucValue.endsWith(ucValue)) {
-                        isMatchForNext = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                default:
-                    if (this.ucValue.equals(ucValue)) {
-                        isMatchForNext = true;
-                        returnValue = action.$(this.value);
-                    }
+        if (value == null || this.value == null) {
+            if (this.value == value) {
+                returnValue = action.$(this.value);
             }
+            return this;
         }
 
+        if (matches(value)) {
+            isMatchForNext = true;
+            returnValue = action.$(this.value);
+        }
         return this;
     }
 
     @Override
     public <E extends Throwable> StringRMatcher<R> with(String value, RT1<? super String, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == value) {
-                    isMatch = true;
-                    returnValue = action.$(this.value);
-                }
-                return this;
-            }
-
-            String ucValue = ignoreCase ? value.toUpperCase() : value;
-
-            switch (patternString) {
-                case IGNORECASE:
-                    if (ucValue.equalsIgnoreCase(this.ucValue)) {
-                        isMatch = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                case CONTAIN:
-                case ICCONTAIN:
-                    if (this.ucValue.contains(ucValue)) {
-                        isMatch = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                case PREFIX:
-                case ICPREFIX:
-                    if (this.ucValue.startsWith(ucValue)) {
-                        isMatch = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                case SUFFIX:
-                case ICSUFFIX:
-                    if (this.ucValue.endsWith(ucValue)) {
-                        isMatch = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                default:
-                    if (this.ucValue.equals(ucValue)) {
-                        isMatch = true;
-                        returnValue = action.$(this.value);
-                    }
+        if (value == null || this.value == null) {
+            if (this.value == value) {
+                isMatch = true;
+                returnValue = action.$(this.value);
             }
+            return this;
         }
 
+        if (matches(value)) {
+            isMatch = true;
+            returnValue = action.$(this.value);
+        }
         return this;
     }
 
     @Override
     public <E extends Throwable> StringRMatcher<R> withNext(String value, RT1<? super String, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == value) {
-                    returnValue = action.$(this.value);
-                }
-                return this;
-            }
-
-            String ucValue = ignoreCase ? value.toUpperCase() : value;
-
-            switch (patternString) {
-                case IGNORECASE:
-                    if (ucValue.equalsIgnoreCase(this.ucValue)) {
-                        isMatchForNext = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                case CONTAIN:
-                case ICCONTAIN:
-                    if (this.ucValue.contains(ucValue)) {
-                        isMatchForNext = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                case PREFIX:
-                case ICPREFIX:
-                    if (this.ucValue.startsWith(ucValue)) {
-                        isMatchForNext = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                case SUFFIX:
-                case ICSUFFIX:
-                    if (this.ucValue.endsWith(ucValue)) {
-                        isMatchForNext = true;
-                        returnValue = action.$(this.value);
-                    }
-                    break;
-                default:
-                    if (this.ucValue.equals(ucValue)) {
-                        isMatchForNext = true;
-                        returnValue = action.$(this.value);
-                    }
+        if (value == null || this.value == null) {
+            if (this.value == value) {
+                returnValue = action.$(this.value);
             }
+            return this;
         }
 
+        if (matches(value)) {
+            isMatchForNext = true;
+            returnValue = action.$(this.value);
+        }
         return this;
     }
 
     @Override
     public StringRMatcher<R> when(boolean value, R1<? super String, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             returnValue = action.$(this.value);
         }
@@ -279,8 +146,9 @@ public class StringRMatcher<R> extends SimpleRInMatcher<String, String, String,
 
     @Override
     public StringRMatcher<R> whenNext(boolean value, R1<? super String, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             returnValue = action.$(this.value);
         }
         return this;
@@ -288,8 +156,9 @@ public class StringRMatcher<R> extends SimpleRInMatcher<String, String, String,
 
     @Override
     public <E extends Throwable> StringRMatcher<R> with(boolean value, RT1<? super String, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             returnValue = action.$(this.value);
         }
@@ -298,32 +167,80 @@ public class StringRMatcher<R> extends SimpleRInMatcher<String, String, String,
 
     @Override
     public <E extends Throwable> StringRMatcher<R> withNext(boolean value, RT1<? super String, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             returnValue = action.$(this.value);
         }
         return this;
     }
 
+    @Override
+    public StringRMatcher<R> whenIf(R0<Boolean> condition, R1<? super String, ? extends R> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : when(condition.$(), action);
+    }
+
+    @Override
+    public StringRMatcher<R> whenIf(R1<? super String, Boolean> predicate, R1<? super String, ? extends R> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : when(predicate.$(this.value), action);
+    }
+
+    @Override
+    public StringRMatcher<R> whenNextIf(R0<Boolean> condition, R1<? super String, ? extends R> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : whenNext(condition.$(), action);
+    }
+
+    @Override
+    public StringRMatcher<R> whenNextIf(R1<? super String, Boolean> predicate, R1<? super String, ? extends R> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : whenNext(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> StringRMatcher<R> withIf(R0<Boolean> condition, RT1<? super String, ? extends R, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : with(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> StringRMatcher<R> withIf(R1<? super String, Boolean> predicate, RT1<? super String, ? extends R, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : with(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> StringRMatcher<R> withNextIf(R0<Boolean> condition, RT1<? super String, ? extends R, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : withNext(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> StringRMatcher<R> withNextIf(R1<? super String, Boolean> predicate, RT1<? super String, ? extends R, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : withNext(predicate.$(this.value), action);
+    }
+
     @Override
     public StringRMatcher<R> when(PatternIn<String> values, R1<? super String, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
-                    isMatch = true;
-                    returnValue = action.$(this.value);
-                }
-                return this;
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) {
+                isMatch = true;
+                returnValue = action.$(this.value);
             }
+            return this;
+        }
 
-            if (values != null) {
-                List<String> vs = values.getVs();
-                for (String v : vs) {
-                    if (v != null) {
-                        when(v, action);
-                        if (isMatch) break;
-                    }
+        if (values != null) {
+            List<String> vs = values.getVs();
+            for (String v : vs) {
+                if (v != null) {
+                    when(v, action);
+                    if (isMatch) break;
                 }
             }
         }
@@ -332,21 +249,20 @@ public class StringRMatcher<R> extends SimpleRInMatcher<String, String, String,
 
     @Override
     public StringRMatcher<R> whenNext(PatternIn<String> values, R1<? super String, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
-                    returnValue = action.$(this.value);
-                }
-                return this;
-            }else {
-                if (values != null) {
-                    List<String> vs = values.getVs();
-                    for (String v : vs) {
-                        if (v != null) {
-                            whenNext(v, action);
-                            if (isMatchForNext) break;
-                        }
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) {
+                returnValue = action.$(this.value);
+            }
+            return this;
+        }else {
+            if (values != null) {
+                List<String> vs = values.getVs();
+                for (String v : vs) {
+                    if (v != null) {
+                        whenNext(v, action);
+                        if (isMatchForNext) break;
                     }
                 }
             }
@@ -356,23 +272,22 @@ public class StringRMatcher<R> extends SimpleRInMatcher<String, String, String,
 
     @Override
     public <E extends Throwable> StringRMatcher<R> with(PatternIn<String> values, RT1<? super String, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
-                    isMatch = true;
-                    returnValue = action.$(this.value);
-                }
-                return this;
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) {
+                isMatch = true;
+                returnValue = action.$(this.value);
             }
+            return this;
+        }
 
-            if (values != null) {
-                List<String> vs = values.getVs();
-                for (String v : vs) {
-                    if (v != null) {
-                        with(v, action);
-                        if (isMatch) break;
-                    }
+        if (values != null) {
+            List<String> vs = values.getVs();
+            for (String v : vs) {
+                if (v != null) {
+                    with(v, action);
+                    if (isMatch) break;
                 }
             }
         }
@@ -381,21 +296,20 @@ public class StringRMatcher<R> extends SimpleRInMatcher<String, String, String,
 
     @Override
     public <E extends Throwable> StringRMatcher<R> withNext(PatternIn<String> values, RT1<? super String, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
-                    returnValue = action.$(this.value);
-                }
-                return this;
-            }else {
-                if (values != null) {
-                    List<String> vs = values.getVs();
-                    for (String v : vs) {
-                        if (v != null) {
-                            withNext(v, action);
-                            if (isMatchForNext) break;
-                        }
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) {
+                returnValue = action.$(this.value);
+            }
+            return this;
+        }else {
+            if (values != null) {
+                List<String> vs = values.getVs();
+                for (String v : vs) {
+                    if (v != null) {
+                        withNext(v, action);
+                        if (isMatchForNext) break;
                     }
                 }
             }
@@ -421,4 +335,30 @@ public class StringRMatcher<R> extends SimpleRInMatcher<String, String, String,
         }
         return returnValue;
     }
+
+    private boolean matches(String value) {
+        String ucValue = ignoreCase ? value.toUpperCase() : value;
+        switch (patternString) {
+            case IGNORECASE:
+                return ucValue.equalsIgnoreCase(this.ucValue);
+            case CONTAIN:
+            case ICCONTAIN:
+                return this.ucValue.contains(ucValue);
+            case PREFIX:
+            case ICPREFIX:
+                return this.ucValue.startsWith(ucValue);
+            case SUFFIX:
+            case ICSUFFIX:
+                return this.ucValue.endsWith(ucValue);
+            case REGEX:
+            case GLOB:
+                return matchesRegex(ucValue);
+            default:
+                return this.ucValue.equals(ucValue);
+        }
+    }
+
+    private boolean matchesRegex(String pattern) {
+        return RegexCache.compile(pattern, patternString).matcher(this.ucValue).matches();
+    }
 }
@@ -15,9 +15,12 @@
  */
 package com.iofairy.pattern.matcher;
 
+import com.iofairy.lambda.R0;
+import com.iofairy.lambda.R1;
 import com.iofairy.lambda.V1;
 import com.iofairy.lambda.VT1;
 import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.compiled.RegexCache;
 import com.iofairy.pattern.type.*;
 import java.util.List;
 import java.util.Objects;
@@ -60,218 +63,83 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
 
     @Override
     public StringVMatcher when(String value, V1<? super String> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == value) {
-                    isMatch = true;
-                    action.$(this.value);
-                }
-                return this;
-            }
-
-            String ucValue = ignoreCase ? value.toUpperCase() : value;
-
-            switch (patternString) {
-                case IGNORECASE:
-                    if (ucValue.equalsIgnoreCase(this.ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case CONTAIN:
-                case ICCONTAIN:
-                    if (this.ucValue.contains(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case PREFIX:
-                case ICPREFIX:
-                    if (this.ucValue.startsWith(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case SUFFIX:
-                case ICSUFFIX:
-                    if (this.ucValue.endsWith(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                default:
-                    if (this.ucValue.equals(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
+        if (value == null || this.value == null) {
+            if (this.value == value) {
+                isMatch = true;
+                action.$(this.value);
             }
+            return this;
         }
 
+        if (matches(value)) {
+            isMatch = true;
+            action.$(this.value);
+        }
         return this;
     }
 
     @Override
     public StringVMatcher whenNext(String value, V1<? super String> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == value) {
-                    action.$(this.value);
-                }
-                return this;
-            }
-
-            String ucValue = ignoreCase ? value.toUpperCase() : value;
-
-            switch (patternString) {
-                case IGNORECASE:
-                    if (ucValue.equalsIgnoreCase(this.ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case CONTAIN:
-                case ICCONTAIN:
-                    if (this.ucValue.contains(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case PREFIX:
-                case ICPREFIX:
-                    if (this.ucValue.startsWith(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case SUFFIX:
-                case ICSUFFIX:
-                    if (this.ucValue.endsWith(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                default:
-                    if (this.ucValue.equals(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
+        if (value == null || this.value == null) {
+            if (this.value == value) {
+                action.$(this.value);
             }
+            return this;
         }
 
+        if (matches(value)) {
+            isMatchForNext = true;
+            action.$(this.value);
+        }
         return this;
     }
 
     @Override
     public <E extends Throwable> StringVMatcher with(String value, VT1<? super String, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == value) {
-                    isMatch = true;
-                    action.$(this.value);
-                }
-                return this;
-            }
-
-            String ucValue = ignoreCase ? value.toUpperCase() : value;
-
-            switch (patternString) {
-                case IGNORECASE:
-                    if (ucValue.equalsIgnoreCase(this.ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case CONTAIN:
-                case ICCONTAIN:
-                    if (this.ucValue.contains(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case PREFIX:
-                case ICPREFIX:
-                    if (this.ucValue.startsWith(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case SUFFIX:
-                case ICSUFFIX:
-                    if (this.ucValue.endsWith(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                default:
-                    if (this.ucValue.equals(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
+        if (value == null || this.value == null) {
+            if (this.value == value) {
+                isMatch = true;
+                action.$(this.value);
             }
+            return this;
         }
 
+        if (matches(value)) {
+            isMatch = true;
+            action.$(this.value);
+        }
         return this;
     }
 
     @Override
     public <E extends Throwable> StringVMatcher withNext(String value, VT1<? super String, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == value) {
-                    action.$(this.value);
-                }
-                return this;
-            }
-
-            String ucValue = ignoreCase ? value.toUpperCase() : value;
-
-            switch (patternString) {
-                case IGNORECASE:
-                    if (ucValue.equalsIgnoreCase(this.ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case CONTAIN:
-                case ICCONTAIN:
-                    if (this.ucValue.contains(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case PREFIX:
-                case ICPREFIX:
-                    if (this.ucValue.startsWith(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case SUFFIX:
-                case ICSUFFIX:
-                    if (this.ucValue.endsWith(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                default:
-                    if (this.ucValue.equals(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
+        if (value == null || this.value == null) {
+            if (this.value == value) {
+                action.$(this.value);
             }
+            return this;
         }
 
+        if (matches(value)) {
+            isMatchForNext = true;
+            action.$(this.value);
+        }
         return this;
     }
 
     @Override
     public StringVMatcher when(boolean value, V1<? super String> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             action.$(this.value);
         }
@@ -280,8 +148,9 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
 
     @Override
     public StringVMatcher whenNext(boolean value, V1<? super String> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             action.$(this.value);
         }
         return this;
@@ -289,8 +158,9 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
 
     @Override
     public <E extends Throwable> StringVMatcher with(boolean value, VT1<? super String, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             action.$(this.value);
         }
@@ -299,32 +169,80 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
 
     @Override
     public <E extends Throwable> StringVMatcher withNext(boolean value, VT1<? super String, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             action.$(this.value);
         }
         return this;
     }
 
+    @Override
+    public StringVMatcher whenIf(R0<Boolean> condition, V1<? super String> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : when(condition.$(), action);
+    }
+
+    @Override
+    public StringVMatcher whenIf(R1<? super String, Boolean> predicate, V1<? super String> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : when(predicate.$(this.value), action);
+    }
+
+    @Override
+    public StringVMatcher whenNextIf(R0<Boolean> condition, V1<? super String> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : whenNext(condition.$(), action);
+    }
+
+    @Override
+    public StringVMatcher whenNextIf(R1<? super String, Boolean> predicate, V1<? super String> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : whenNext(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> StringVMatcher withIf(R0<Boolean> condition, VT1<? super String, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : with(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> StringVMatcher withIf(R1<? super String, Boolean> predicate, VT1<? super String, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : with(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> StringVMatcher withNextIf(R0<Boolean> condition, VT1<? super String, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : withNext(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> StringVMatcher withNextIf(R1<? super String, Boolean> predicate, VT1<? super String, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : withNext(predicate.$(this.value), action);
+    }
+
     @Override
     public StringVMatcher when(PatternIn<String> values, V1<? super String> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
-                    isMatch = true;
-                    action.$(this.value);
-                }
-                return this;
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) {
+                isMatch = true;
+                action.$(this.value);
             }
+            return this;
+        }
 
-            if (values != null) {
-                List<String> vs = values.getVs();
-                for (String v : vs) {
-                    if (v != null) {
-                        when(v, action);
-                        if (isMatch) break;
-                    }
+        if (values != null) {
+            List<String> vs = values.getVs();
+            for (String v : vs) {
+                if (v != null) {
+                    when(v, action);
+                    if (isMatch) break;
                 }
             }
         }
@@ -333,21 +251,20 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
 
     @Override
     public StringVMatcher whenNext(PatternIn<String> values, V1<? super String> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
-                    action.$(this.value);
-                }
-                return this;
-            }else {
-                if (values != null) {
-                    List<String> vs = values.getVs();
-                    for (String v : vs) {
-                        if (v != null) {
-                            whenNext(v, action);
-                            if (isMatchForNext) break;
-                        }
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) {
+                action.$(this.value);
+            }
+            return this;
+        }else {
+            if (values != null) {
+                List<String> vs = values.getVs();
+                for (String v : vs) {
+                    if (v != null) {
+                        whenNext(v, action);
+                        if (isMatchForNext) break;
                     }
                 }
             }
@@ -357,23 +274,22 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
 
     @Override
     public <E extends Throwable> StringVMatcher with(PatternIn<String> values, VT1<? super String, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
-                    isMatch = true;
-                    action.$(this.value);
-                }
-                return this;
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) {
+                isMatch = true;
+                action.$(this.value);
             }
+            return this;
+        }
 
-            if (values != null) {
-                List<String> vs = values.getVs();
-                for (String v : vs) {
-                    if (v != null) {
-                        with(v, action);
-                        if (isMatch) break;
-                    }
+        if (values != null) {
+            List<String> vs = values.getVs();
+            for (String v : vs) {
+                if (v != null) {
+                    with(v, action);
+                    if (isMatch) break;
                 }
             }
         }
@@ -382,21 +298,20 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
 
     @Override
     public <E extends Throwable> StringVMatcher withNext(PatternIn<String> values, VT1<? super String, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
-                    action.$(this.value);
-                }
-                return this;
-            }else {
-                if (values != null) {
-                    List<String> vs = values.getVs();
-                    for (String v : vs) {
-                        if (v != null) {
-                            withNext(v, action);
-                            if (isMatchForNext) break;
-                        }
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) {
+                action.$(this.value);
+            }
+            return this;
+        }else {
+            if (values != null) {
+                List<String> vs = values.getVs();
+                for (String v : vs) {
+                    if (v != null) {
+                        withNext(v, action);
+                        if (isMatchForNext) break;
                     }
                 }
             }
@@ -421,4 +336,30 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
         }
         return returnValue;
     }
+
+    private boolean matches(String value) {
+        String ucValue = ignoreCase ? value.toUpperCase() : value;
+        switch (patternString) {
+            case IGNORECASE:
+                return ucValue.equalsIgnoreCase(this.ucValue);
+            case CONTAIN:
+            case ICCONTAIN:
+                return this.ucValue.contains(ucValue);
+            case PREFIX:
+            case ICPREFIX:
+                return this.ucValue.startsWith(ucValue);
+            case SUFFIX:
+            case ICSUFFIX:
+                return this.ucValue.endsWith(ucValue);
+            case REGEX:
+            case GLOB:
+                return matchesRegex(ucValue);
+            default:
+                return this.ucValue.equals(ucValue);
+        }
+    }
+
+    private boolean matchesRegex(String pattern) {
+        return RegexCache.compile(pattern, patternString).matcher(this.ucValue).matches();
+    }
 }
@@ -41,59 +41,108 @@ public class TypeRMatcher<V, R> implements PatternMatcher {
     }
 
     public <C> TypeRMatcher<V, R> when(Class<C> value, R1<? super C, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == null && value == null) {
-                    isMatch = true;
-                    returnValue = action.$((C) this.value);
-                }
-            } else if (this.value.getClass() == value) {
+        if (value == null || this.value == null) {
+            if (this.value == null && value == null) {
                 isMatch = true;
                 returnValue = action.$((C) this.value);
             }
+        } else if (this.value.getClass() == value) {
+            isMatch = true;
+            returnValue = action.$((C) this.value);
         }
         return this;
     }
 
     public <C> TypeRMatcher<V, R> whenNext(Class<C> value, R1<? super C, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == null && value == null)
-                    returnValue = action.$((C) this.value);
-            } else if (this.value.getClass() == value) returnValue = action.$((C) this.value);
-        }
+        if (value == null || this.value == null) {
+            if (this.value == null && value == null)
+                returnValue = action.$((C) this.value);
+        } else if (this.value.getClass() == value) returnValue = action.$((C) this.value);
         return this;
     }
 
     public <C, E extends Throwable> TypeRMatcher<V, R> with(Class<C> value, RT1<? super C, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == null && value == null) {
-                    isMatch = true;
-                    returnValue = action.$((C) this.value);
-                }
-            } else if (this.value.getClass() == value) {
+        if (value == null || this.value == null) {
+            if (this.value == null && value == null) {
                 isMatch = true;
                 returnValue = action.$((C) this.value);
             }
+        } else if (this.value.getClass() == value) {
+            isMatch = true;
+            returnValue = action.$((C) this.value);
         }
         return this;
     }
 
     public <C, E extends Throwable> TypeRMatcher<V, R> withNext(Class<C> value, RT1<? super C, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == null && value == null)
-                    returnValue = action.$((C) this.value);
-            } else if (this.value.getClass() == value) returnValue = action.$((C) this.value);
+        if (value == null || this.value == null) {
+            if (this.value == null && value == null)
+                returnValue = action.$((C) this.value);
+        } else if (this.value.getClass() == value) returnValue = action.$((C) this.value);
+        return this;
+    }
+
+    /**
+     * Match the type, and then the predicate of the value. The predicate is evaluated lazily,
+     * only when no earlier branch has matched and the type matches. <br>
+     * 先匹配类型，再判断值是否满足 predicate。predicate 延迟求值：只有之前的分支都没有匹配且类型匹配时才会计算。
+     *
+     * @param value     type. 类型
+     * @param predicate predicate of the value. 值的判断条件
+     * @param action    action. 匹配成功后执行的操作
+     * @param <C>       type. 类型
+     * @return this matcher
+     */
+    public <C> TypeRMatcher<V, R> whenIf(Class<C> value, R1<? super C, Boolean> predicate, R1<? super C, ? extends R> action) {
+        if (isMatch) return this;
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(action);
+        if (isType(value) && predicate.$((C) this.value)) {
+            isMatch = true;
+            returnValue = action.$((C) this.value);
+        }
+        return this;
+    }
+
+    public <C> TypeRMatcher<V, R> whenNextIf(Class<C> value, R1<? super C, Boolean> predicate, R1<? super C, ? extends R> action) {
+        if (isMatch) return this;
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(action);
+        if (isType(value) && predicate.$((C) this.value)) returnValue = action.$((C) this.value);
+        return this;
+    }
+
+    public <C, E extends Throwable> TypeRMatcher<V, R> withIf(Class<C> value, R1<? super C, Boolean> predicate, RT1<? super C, ? extends R, E> action) throws E {
+        if (isMatch) return this;
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(action);
+        if (isType(value) && predicate.$((C) this.value)) {
+            isMatch = true;
+            returnValue = action.$((C) this.value);
         }
         return this;
     }
 
+    public <C, E extends Throwable> TypeRMatcher<V, R> withNextIf(Class<C> value, R1<? super C, Boolean> predicate, RT1<? super C, ? extends R, E> action) throws E {
+        if (isMatch) return this;
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(action);
+        if (isType(value) && predicate.$((C) this.value)) returnValue = action.$((C) this.value);
+        return this;
+    }
+
+    private boolean isType(Class<?> value) {
+        return value == null || this.value == null ? this.value == null && value == null : this.value.getClass() == value;
+    }
+
     public R orElse(R1<? super V, ? extends R> action) {
         Objects.requireNonNull(action);
         if (!isMatch) {
@@ -15,6 +15,7 @@
  */
 package com.iofairy.pattern.matcher;
 
+import com.iofairy.lambda.R1;
 import com.iofairy.lambda.V1;
 import com.iofairy.lambda.VT1;
 
@@ -41,59 +42,108 @@ public class TypeVMatcher<V> implements PatternMatcher {
     }
 
     public <C> TypeVMatcher<V> when(Class<C> value, V1<? super C> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == null && value == null) {
-                    isMatch = true;
-                    action.$((C) this.value);
-                }
-            } else if (this.value.getClass() == value) {
+        if (value == null || this.value == null) {
+            if (this.value == null && value == null) {
                 isMatch = true;
                 action.$((C) this.value);
             }
+        } else if (this.value.getClass() == value) {
+            isMatch = true;
+            action.$((C) this.value);
         }
         return this;
     }
 
     public <C> TypeVMatcher<V> whenNext(Class<C> value, V1<? super C> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == null && value == null)
-                    action.$((C) this.value);
-            } else if (this.value.getClass() == value) action.$((C) this.value);
-        }
+        if (value == null || this.value == null) {
+            if (this.value == null && value == null)
+                action.$((C) this.value);
+        } else if (this.value.getClass() == value) action.$((C) this.value);
         return this;
     }
 
     public <C, E extends Throwable> TypeVMatcher<V> with(Class<C> value, VT1<? super C, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == null && value == null) {
-                    isMatch = true;
-                    action.$((C) this.value);
-                }
-            } else if (this.value.getClass() == value) {
+        if (value == null || this.value == null) {
+            if (this.value == null && value == null) {
                 isMatch = true;
                 action.$((C) this.value);
             }
+        } else if (this.value.getClass() == value) {
+            isMatch = true;
+            action.$((C) this.value);
         }
         return this;
     }
 
     public <C, E extends Throwable> TypeVMatcher<V> withNext(Class<C> value, VT1<? super C, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (value == null || this.value == null) {
-                if (this.value == null && value == null)
-                    action.$((C) this.value);
-            } else if (this.value.getClass() == value) action.$((C) this.value);
+        if (value == null || this.value == null) {
+            if (this.value == null && value == null)
+                action.$((C) this.value);
+        } else if (this.value.getClass() == value) action.$((C) this.value);
+        return this;
+    }
+
+    /**
+     * Match the type, and then the predicate of the value. The predicate is evaluated lazily,
+     * only when no earlier branch has matched and the type matches. <br>
+     * 先匹配类型，再判断值是否满足 predicate。predicate 延迟求值：只有之前的分支都没有匹配且类型匹配时才会计算。
+     *
+     * @param value     type. 类型
+     * @param predicate predicate of the value. 值的判断条件
+     * @param action    action. 匹配成功后执行的操作
+     * @param <C>       type. 类型
+     * @return this matcher
+     */
+    public <C> TypeVMatcher<V> whenIf(Class<C> value, R1<? super C, Boolean> predicate, V1<? super C> action) {
+        if (isMatch) return this;
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(action);
+        if (isType(value) && predicate.$((C) this.value)) {
+            isMatch = true;
+            action.$((C) this.value);
+        }
+        return this;
+    }
+
+    public <C> TypeVMatcher<V> whenNextIf(Class<C> value, R1<? super C, Boolean> predicate, V1<? super C> action) {
+        if (isMatch) return this;
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(action);
+        if (isType(value) && predicate.$((C) this.value)) action.$((C) this.value);
+        return this;
+    }
+
+    public <C, E extends Throwable> TypeVMatcher<V> withIf(Class<C> value, R1<? super C, Boolean> predicate, VT1<? super C, E> action) throws E {
+        if (isMatch) return this;
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(action);
+        if (isType(value) && predicate.$((C) this.value)) {
+            isMatch = true;
+            action.$((C) this.value);
         }
         return this;
     }
 
+    public <C, E extends Throwable> TypeVMatcher<V> withNextIf(Class<C> value, R1<? super C, Boolean> predicate, VT1<? super C, E> action) throws E {
+        if (isMatch) return this;
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(action);
+        if (isType(value) && predicate.$((C) this.value)) action.$((C) this.value);
+        return this;
+    }
+
+    private boolean isType(Class<?> value) {
+        return value == null || this.value == null ? this.value == null && value == null : this.value.getClass() == value;
+    }
+
     public Void orElse(V1<? super V> action) {
         Objects.requireNonNull(action);
         if (!isMatch) {
@@ -15,9 +15,11 @@
  */
 package com.iofairy.pattern.matcher;
 
+import com.iofairy.lambda.R0;
 import com.iofairy.lambda.R1;
 import com.iofairy.lambda.RT1;
 import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.PatternRange;
 
 import java.util.Objects;
 
@@ -38,8 +40,9 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
 
     @Override
     public ValueRMatcher<V, R> when(V value, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(this.value, value)) {
+        if (Objects.equals(this.value, value)) {
             isMatch = true;
             returnValue = action.$(this.value);
         }
@@ -48,8 +51,9 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
 
     @Override
     public ValueRMatcher<V, R> whenNext(V value, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(this.value, value)) {
+        if (Objects.equals(this.value, value)) {
             returnValue = action.$(this.value);
         }
         return this;
@@ -57,8 +61,9 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
 
     @Override
     public <E extends Throwable> ValueRMatcher<V, R> with(V value, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(this.value, value)) {
+        if (Objects.equals(this.value, value)) {
             isMatch = true;
             returnValue = action.$(this.value);
         }
@@ -67,8 +72,9 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
 
     @Override
     public <E extends Throwable> ValueRMatcher<V, R> withNext(V value, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(this.value, value)) {
+        if (Objects.equals(this.value, value)) {
             returnValue = action.$(this.value);
         }
         return this;
@@ -76,8 +82,9 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
 
     @Override
     public ValueRMatcher<V, R> when(boolean value, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             returnValue = action.$(this.value);
         }
@@ -86,8 +93,9 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
 
     @Override
     public ValueRMatcher<V, R> whenNext(boolean value, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             returnValue = action.$(this.value);
         }
         return this;
@@ -95,8 +103,9 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
 
     @Override
     public <E extends Throwable> ValueRMatcher<V, R> with(boolean value, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             returnValue = action.$(this.value);
         }
@@ -105,27 +114,75 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
 
     @Override
     public <E extends Throwable> ValueRMatcher<V, R> withNext(boolean value, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             returnValue = action.$(this.value);
         }
         return this;
     }
 
+    @Override
+    public ValueRMatcher<V, R> whenIf(R0<Boolean> condition, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : when(condition.$(), action);
+    }
+
+    @Override
+    public ValueRMatcher<V, R> whenIf(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : when(predicate.$(this.value), action);
+    }
+
+    @Override
+    public ValueRMatcher<V, R> whenNextIf(R0<Boolean> condition, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : whenNext(condition.$(), action);
+    }
+
+    @Override
+    public ValueRMatcher<V, R> whenNextIf(R1<? super V, Boolean> predicate, R1<? super V, ? extends R> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : whenNext(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> ValueRMatcher<V, R> withIf(R0<Boolean> condition, RT1<? super V, ? extends R, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : with(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> ValueRMatcher<V, R> withIf(R1<? super V, Boolean> predicate, RT1<? super V, ? extends R, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : with(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> ValueRMatcher<V, R> withNextIf(R0<Boolean> condition, RT1<? super V, ? extends R, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : withNext(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> ValueRMatcher<V, R> withNextIf(R1<? super V, Boolean> predicate, RT1<? super V, ? extends R, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : withNext(predicate.$(this.value), action);
+    }
+
     @Override
     public ValueRMatcher<V, R> when(PatternIn<V> values, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
-                    isMatch = true;
-                    returnValue = action.$(this.value);
-                }
-            }else {
-                if (values != null && values.getVs().contains(this.value)) {
-                    isMatch = true;
-                    returnValue = action.$(this.value);
-                }
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) {
+                isMatch = true;
+                returnValue = action.$(this.value);
+            }
+        }else {
+            if (values != null && values.getVs().contains(this.value)) {
+                isMatch = true;
+                returnValue = action.$(this.value);
             }
         }
         return this;
@@ -133,33 +190,31 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
 
     @Override
     public ValueRMatcher<V, R> whenNext(PatternIn<V> values, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value))
-                    returnValue = action.$(this.value);
-            }else {
-                if (values != null && values.getVs().contains(this.value))
-                    returnValue = action.$(this.value);
-            }
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value))
+                returnValue = action.$(this.value);
+        }else {
+            if (values != null && values.getVs().contains(this.value))
+                returnValue = action.$(this.value);
         }
         return this;
     }
 
     @Override
     public <E extends Throwable> ValueRMatcher<V, R> with(PatternIn<V> values, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
-                    isMatch = true;
-                    returnValue = action.$(this.value);
-                }
-            }else {
-                if (values != null && values.getVs().contains(this.value)) {
-                    isMatch = true;
-                    returnValue = action.$(this.value);
-                }
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) {
+                isMatch = true;
+                returnValue = action.$(this.value);
+            }
+        }else {
+            if (values != null && values.getVs().contains(this.value)) {
+                isMatch = true;
+                returnValue = action.$(this.value);
             }
         }
         return this;
@@ -167,15 +222,65 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
 
     @Override
     public <E extends Throwable> ValueRMatcher<V, R> withNext(PatternIn<V> values, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value))
-                    returnValue = action.$(this.value);
-            }else {
-                if (values != null && values.getVs().contains(this.value))
-                    returnValue = action.$(this.value);
-            }
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value))
+                returnValue = action.$(this.value);
+        }else {
+            if (values != null && values.getVs().contains(this.value))
+                returnValue = action.$(this.value);
+        }
+        return this;
+    }
+
+    /**
+     * Match the value in the range. It's not an overload of {@code when}, so that {@code when(null, action)} is not ambiguous. <br>
+     * 匹配区间内的值。不作为 when 的重载方法，以免 {@code when(null, action)} 产生歧义
+     *
+     * @param range range, see {@link PatternRange}
+     * @param action action
+     * @return this matcher
+     * @since 0.4.2
+     */
+    public ValueRMatcher<V, R> whenRange(PatternRange<?> range, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(range);
+        if (range.contains(this.value)) {
+            isMatch = true;
+            returnValue = action.$(this.value);
+        }
+        return this;
+    }
+
+    public ValueRMatcher<V, R> whenNextRange(PatternRange<?> range, R1<? super V, ? extends R> action) {
+        if (isMatch) return this;
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(range);
+        if (range.contains(this.value)) {
+            returnValue = action.$(this.value);
+        }
+        return this;
+    }
+
+    public <E extends Throwable> ValueRMatcher<V, R> withRange(PatternRange<?> range, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(range);
+        if (range.contains(this.value)) {
+            isMatch = true;
+            returnValue = action.$(this.value);
+        }
+        return this;
+    }
+
+    public <E extends Throwable> ValueRMatcher<V, R> withNextRange(PatternRange<?> range, RT1<? super V, ? extends R, E> action) throws E {
+        if (isMatch) return this;
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(range);
+        if (range.contains(this.value)) {
+            returnValue = action.$(this.value);
         }
         return this;
     }
@@ -15,9 +15,12 @@
  */
 package com.iofairy.pattern.matcher;
 
+import com.iofairy.lambda.R0;
+import com.iofairy.lambda.R1;
 import com.iofairy.lambda.V1;
 import com.iofairy.lambda.VT1;
 import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.PatternRange;
 import java.util.Objects;
 
 /**
@@ -37,8 +40,9 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
 
     @Override
     public ValueVMatcher<V> when(V value, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(this.value, value)) {
+        if (Objects.equals(this.value, value)) {
             isMatch = true;
             action.$(this.value);
         }
@@ -47,8 +51,9 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
 
     @Override
     public ValueVMatcher<V> whenNext(V value, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(this.value, value)) {
+        if (Objects.equals(this.value, value)) {
             action.$(this.value);
         }
         return this;
@@ -56,8 +61,9 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
 
     @Override
     public <E extends Throwable> ValueVMatcher<V> with(V value, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(this.value, value)) {
+        if (Objects.equals(this.value, value)) {
             isMatch = true;
             action.$(this.value);
         }
@@ -66,8 +72,9 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
 
     @Override
     public <E extends Throwable> ValueVMatcher<V> withNext(V value, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && Objects.equals(this.value, value)) {
+        if (Objects.equals(this.value, value)) {
             action.$(this.value);
         }
         return this;
@@ -75,8 +82,9 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
 
     @Override
     public ValueVMatcher<V> when(boolean value, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             action.$(this.value);
         }
@@ -85,8 +93,9 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
 
     @Override
     public ValueVMatcher<V> whenNext(boolean value, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             action.$(this.value);
         }
         return this;
@@ -94,8 +103,9 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
 
     @Override
     public <E extends Throwable> ValueVMatcher<V> with(boolean value, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             isMatch = true;
             action.$(this.value);
         }
@@ -104,27 +114,75 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
 
     @Override
     public <E extends Throwable> ValueVMatcher<V> withNext(boolean value, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch && value) {
+        if (value) {
             action.$(this.value);
         }
         return this;
     }
 
+    @Override
+    public ValueVMatcher<V> whenIf(R0<Boolean> condition, V1<? super V> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : when(condition.$(), action);
+    }
+
+    @Override
+    public ValueVMatcher<V> whenIf(R1<? super V, Boolean> predicate, V1<? super V> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : when(predicate.$(this.value), action);
+    }
+
+    @Override
+    public ValueVMatcher<V> whenNextIf(R0<Boolean> condition, V1<? super V> action) {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : whenNext(condition.$(), action);
+    }
+
+    @Override
+    public ValueVMatcher<V> whenNextIf(R1<? super V, Boolean> predicate, V1<? super V> action) {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : whenNext(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> ValueVMatcher<V> withIf(R0<Boolean> condition, VT1<? super V, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : with(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> ValueVMatcher<V> withIf(R1<? super V, Boolean> predicate, VT1<? super V, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : with(predicate.$(this.value), action);
+    }
+
+    @Override
+    public <E extends Throwable> ValueVMatcher<V> withNextIf(R0<Boolean> condition, VT1<? super V, E> action) throws E {
+        Objects.requireNonNull(condition);
+        return isMatch ? this : withNext(condition.$(), action);
+    }
+
+    @Override
+    public <E extends Throwable> ValueVMatcher<V> withNextIf(R1<? super V, Boolean> predicate, VT1<? super V, E> action) throws E {
+        Objects.requireNonNull(predicate);
+        return isMatch ? this : withNext(predicate.$(this.value), action);
+    }
+
     @Override
     public ValueVMatcher<V> when(PatternIn<V> values, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
-                    isMatch = true;
-                    action.$(this.value);
-                }
-            }else {
-                if (values != null && values.getVs().contains(this.value)) {
-                    isMatch = true;
-                    action.$(this.value);
-                }
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) {
+                isMatch = true;
+                action.$(this.value);
+            }
+        }else {
+            if (values != null && values.getVs().contains(this.value)) {
+                isMatch = true;
+                action.$(this.value);
             }
         }
         return this;
@@ -132,31 +190,29 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
 
     @Override
     public ValueVMatcher<V> whenNext(PatternIn<V> values, V1<? super V> action) {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) action.$(this.value);
-            }else {
-                if (values != null && values.getVs().contains(this.value)) action.$(this.value);
-            }
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) action.$(this.value);
+        }else {
+            if (values != null && values.getVs().contains(this.value)) action.$(this.value);
         }
         return this;
     }
 
     @Override
     public <E extends Throwable> ValueVMatcher<V> with(PatternIn<V> values, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
-                    isMatch = true;
-                    action.$(this.value);
-                }
-            }else {
-                if (values != null && values.getVs().contains(this.value)) {
-                    isMatch = true;
-                    action.$(this.value);
-                }
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) {
+                isMatch = true;
+                action.$(this.value);
+            }
+        }else {
+            if (values != null && values.getVs().contains(this.value)) {
+                isMatch = true;
+                action.$(this.value);
             }
         }
         return this;
@@ -164,13 +220,54 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
 
     @Override
     public <E extends Throwable> ValueVMatcher<V> withNext(PatternIn<V> values, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
         Objects.requireNonNull(action);
-        if (!isMatch) {
-            if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) action.$(this.value);
-            }else {
-                if (values != null && values.getVs().contains(this.value)) action.$(this.value);
-            }
+        if (this.value == null) {
+            if (values == null || values.getVs().contains(this.value)) action.$(this.value);
+        }else {
+            if (values != null && values.getVs().contains(this.value)) action.$(this.value);
+        }
+        return this;
+    }
+
+    public ValueVMatcher<V> whenRange(PatternRange<?> range, V1<? super V> action) {
+        if (isMatch) return this;
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(range);
+        if (range.contains(this.value)) {
+            isMatch = true;
+            action.$(this.value);
+        }
+        return this;
+    }
+
+    public ValueVMatcher<V> whenNextRange(PatternRange<?> range, V1<? super V> action) {
+        if (isMatch) return this;
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(range);
+        if (range.contains(this.value)) {
+            action.$(this.value);
+        }
+        return this;
+    }
+
+    public <E extends Throwable> ValueVMatcher<V> withRange(PatternRange<?> range, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(range);
+        if (range.contains(this.value)) {
+            isMatch = true;
+            action.$(this.value);
+        }
+        return this;
+    }
+
+    public <E extends Throwable> ValueVMatcher<V> withNextRange(PatternRange<?> range, VT1<? super V, E> action) throws E {
+        if (isMatch) return this;
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(range);
+        if (range.contains(this.value)) {
+            action.$(this.value);
         }
         return this;
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.rule;
+
+import com.iofairy.lambda.R1;
+
+import java.util.Objects;
+
+/**
+ * A named condition of rules. Conditions with the same name are the same condition,
+ * which is evaluated at most once per input no matter how many rules use it. <br>
+ * 规则的条件。同名的条件即为同一个条件，无论被多少条规则使用，每次求值最多只执行一次。
+ *
+ * @param <T> 输入的类型
+ * @since 0.4.2
+ */
+public final class Condition<T> {
+    private final String name;
+    private final R1<? super T, Boolean> predicate;
+    private final boolean expected;
+
+    private Condition(String name, R1<? super T, Boolean> predicate, boolean expected) {
+        this.name = name;
+        this.predicate = predicate;
+        this.expected = expected;
+    }
+
+    public static <T> Condition<T> of(String name, R1<? super T, Boolean> predicate) {
+        Objects.requireNonNull(name, "Parameter `name` must be non-null!");
+        Objects.requireNonNull(predicate, "Parameter `predicate` must be non-null!");
+        return new Condition<>(name, predicate, true);
+    }
+
+    /**
+     * The negation of this condition, it shares the evaluation with this condition. <br>
+     * 此条件的否定，与此条件共享同一次求值
+     *
+     * @return negated condition
+     */
+    public Condition<T> not() {
+        return new Condition<>(name, predicate, !expected);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public R1<? super T, Boolean> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * {@code true} if the predicate must return {@code true}, {@code false} if it's negated. <br>
+     * 要求断言的结果，为 {@code false} 时表示否定
+     *
+     * @return expected result of predicate
+     */
+    public boolean getExpected() {
+        return expected;
+    }
+
+    @Override
+    public String toString() {
+        return expected ? name : "!" + name;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.rule;
+
+import com.iofairy.lambda.R1;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A rule: all conditions are satisfied → action. When several rules are satisfied, the rule with the
+ * highest priority wins, and rules with the same priority keep the declared order. <br>
+ * 规则：所有条件都满足时执行 action。多条规则都满足时，优先级（数值）最大的规则胜出，优先级相同时按声明顺序。
+ *
+ * @param <T> 输入的类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public final class Rule<T, R> {
+    private final String name;
+    private final int priority;
+    private final List<Condition<? super T>> conditions;
+    private final R1<? super T, ? extends R> action;
+
+    private Rule(String name, int priority, List<Condition<? super T>> conditions, R1<? super T, ? extends R> action) {
+        this.name = name;
+        this.priority = priority;
+        this.conditions = conditions;
+        this.action = action;
+    }
+
+    public static <T, R> Rule<T, R> of(String name, int priority, List<Condition<? super T>> conditions, R1<? super T, ? extends R> action) {
+        Objects.requireNonNull(name, "Parameter `name` must be non-null!");
+        Objects.requireNonNull(conditions, "Parameter `conditions` must be non-null!");
+        Objects.requireNonNull(action, "Parameter `action` must be non-null!");
+        conditions.forEach(c -> Objects.requireNonNull(c, "Element of `conditions` must be non-null!"));
+        return new Rule<>(name, priority, Collections.unmodifiableList(conditions), action);
+    }
+
+    @SafeVarargs
+    public static <T, R> Rule<T, R> of(String name, int priority, R1<? super T, ? extends R> action, Condition<? super T>... conditions) {
+        Objects.requireNonNull(conditions, "Parameter `conditions` must be non-null!");
+        return of(name, priority, Arrays.asList(conditions), action);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public List<Condition<? super T>> getConditions() {
+        return conditions;
+    }
+
+    public R1<? super T, ? extends R> getAction() {
+        return action;
+    }
+
+    @Override
+    public String toString() {
+        return "Rule{" + name + ", priority=" + priority + ", conditions=" + conditions + "}";
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.rule;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Rule engine holding the current {@link RuleTable}, the table can be replaced atomically for hot reloading. <br>
+ * 规则引擎，持有当前的 {@link RuleTable}，可以原子地替换规则表以支持热加载。
+ * 每次求值只读取一次当前的规则表，所以正在进行的求值不受替换的影响。
+ * <b>Examples:</b>
+ * <pre>
+ * Condition&lt;Order&gt; eu = Condition.of("region=EU", o -&gt; "EU".equals(o.region));
+ * Condition&lt;Order&gt; vip = Condition.of("vip", o -&gt; o.vip);
+ *
+ * RuleEngine&lt;Order, Double&gt; engine = new RuleEngine&lt;&gt;(new RuleTableBuilder&lt;Order, Double&gt;()
+ *         .rule("eu-vip", 10, o -&gt; 0.7, eu, vip)
+ *         .rule("eu",      1, o -&gt; 0.9, eu)
+ *         .orElse(o -&gt; 1.0));
+ *
+ * double discount = engine.evaluate(order);
+ * engine.swap(newTable);      // hot reload
+ * </pre>
+ *
+ * @param <T> 输入的类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class RuleEngine<T, R> {
+    private final AtomicReference<RuleTable<T, R>> table;
+
+    public RuleEngine(RuleTable<T, R> table) {
+        this.table = new AtomicReference<>(Objects.requireNonNull(table));
+    }
+
+    /**
+     * Evaluate the input with the current rule table. 使用当前的规则表求值
+     *
+     * @param input input
+     * @return result of the action of the winning rule, or {@code orElse}
+     */
+    public R evaluate(T input) {
+        return table.get().match(input);
+    }
+
+    public RuleTable<T, R> getTable() {
+        return table.get();
+    }
+
+    /**
+     * Replace the rule table. 替换规则表
+     *
+     * @param newTable new rule table
+     * @return the old rule table
+     */
+    public RuleTable<T, R> swap(RuleTable<T, R> newTable) {
+        return table.getAndSet(Objects.requireNonNull(newTable));
+    }
+
+    /**
+     * Replace the rule table only if the current table is {@code expected}, used to avoid lost updates
+     * when several threads reload the rules. <br>
+     * 只有当前的规则表为 expected 时才替换，用于避免多个线程同时重新加载规则时丢失更新
+     *
+     * @param expected expected current rule table
+     * @param newTable new rule table
+     * @return {@code true} if replaced
+     */
+    public boolean compareAndSwap(RuleTable<T, R> expected, RuleTable<T, R> newTable) {
+        return table.compareAndSet(expected, Objects.requireNonNull(newTable));
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.rule;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.compiled.CompiledMatcher;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Compiled rule table. <b>It's thread-safe</b>.<br>
+ * 编译后的规则表<b>（线程安全）</b>。<br>
+ * The rules are compiled into a decision DAG: each node tests one condition and removes the rules that
+ * conflict with the result, so a condition shared by many rules is evaluated at most once per input,
+ * and a failed condition eliminates all rules using it at once. The nodes are built lazily on first use and shared
+ * by all the inputs that reach the same state. <br>
+ * 所有规则编译成决策有向无环图：每个节点判断一个条件，并移除与结果冲突的规则，所以多条规则共享的条件每次求值最多只执行一次，
+ * 一个不满足的条件会一次性淘汰所有使用它的规则。节点在第一次使用时延迟构建，到达相同状态的输入共享同一个节点。<br>
+ * The branch index is the declared index of the rule. 分支序号即为规则的声明序号。
+ *
+ * @param <T> 输入的类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class RuleTable<T, R> extends CompiledMatcher<T, R> {
+    private static final int[] EMPTY = new int[0];
+
+    private final List<Rule<T, R>> rules;
+    private final R1<Object, Boolean>[] predicates;
+    private final String[] conditionNames;
+    /**
+     * 每条规则的条件，编码为 条件序号 * 2 + (期望结果 ? 1 : 0)，升序
+     */
+    private final int[][] literals;
+    private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+    private final Node root;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected RuleTable(List<Rule<T, R>> rules, List<R1<? super T, ? extends R>> actions, R1<? super T, ? extends R> orElse) {
+        super(actions, orElse);
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+
+        Map<String, Integer> ids = new LinkedHashMap<>();
+        List<R1<Object, Boolean>> predicates = new ArrayList<>();
+        literals = new int[rules.size()][];
+        for (int i = 0; i < rules.size(); i++) {
+            Set<Integer> ruleLiterals = new TreeSet<>();
+            for (Condition<?> condition : rules.get(i).getConditions()) {
+                Integer id = ids.get(condition.getName());
+                if (id == null) {
+                    id = ids.size();
+                    ids.put(condition.getName(), id);
+                    predicates.add((R1<Object, Boolean>) condition.getPredicate());
+                } else if (predicates.get(id) != condition.getPredicate()) {
+                    throw new IllegalArgumentException("Different predicates use the same condition name: " + condition.getName() + ". ");
+                }
+                ruleLiterals.add(id * 2 + (condition.getExpected() ? 1 : 0));
+            }
+            literals[i] = ruleLiterals.stream().mapToInt(Integer::intValue).toArray();
+        }
+        this.predicates = predicates.toArray(new R1[0]);
+        this.conditionNames = ids.keySet().toArray(new String[0]);
+
+        // 按优先级从大到小排序，优先级相同时按声明顺序；包含矛盾条件（c 与 !c）的规则永远不会满足
+        int[] candidates = IntStream.range(0, rules.size()).boxed()
+                .filter(i -> !contradictory(literals[i]))
+                .sorted((i1, i2) -> Integer.compare(rules.get(i2).getPriority(), rules.get(i1).getPriority()))
+                .mapToInt(Integer::intValue).toArray();
+        root = node(candidates, EMPTY);
+    }
+
+    private static boolean contradictory(int[] literals) {
+        for (int i = 1; i < literals.length; i++) {
+            if (literals[i] / 2 == literals[i - 1] / 2) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int branchOf(T value) {
+        Node node = root;
+        while (node.condition != -1) {
+            boolean result = Boolean.TRUE.equals(predicates[node.condition].$(value));
+            Node next = result ? node.whenTrue : node.whenFalse;
+            if (next == null) {
+                next = child(node, result);
+                if (result) {
+                    node.whenTrue = next;
+                } else {
+                    node.whenFalse = next;
+                }
+            }
+            node = next;
+        }
+        return node.rule;
+    }
+
+    /**
+     * 条件 node.condition 的结果为 result 时的下一个节点
+     */
+    private Node child(Node node, boolean result) {
+        int literal = node.condition * 2 + (result ? 1 : 0);
+        int conflict = node.condition * 2 + (result ? 0 : 1);
+        int[] candidates = Arrays.stream(node.candidates).filter(r -> Arrays.binarySearch(literals[r], conflict) < 0).toArray();
+        int[] decided = Arrays.copyOf(node.decided, node.decided.length + 1);
+        decided[decided.length - 1] = literal;
+        Arrays.sort(decided);
+        return node(candidates, decided);
+    }
+
+    /**
+     * 获取或构建状态为 (candidates, decided) 的节点。候选规则已按优先级排序，且都与已确定的条件不冲突
+     */
+    private Node node(int[] candidates, int[] decided) {
+        if (candidates.length == 0) return new Node(-1, NO_MATCH, EMPTY, EMPTY);
+        int first = candidates[0];
+        int condition = -1;
+        for (int literal : literals[first]) {
+            if (Arrays.binarySearch(decided, literal) < 0) {
+                condition = literal / 2;
+                break;
+            }
+        }
+        // 优先级最高的候选规则的条件都已满足
+        if (condition == -1) return new Node(-1, first, EMPTY, EMPTY);
+
+        String key = Arrays.toString(candidates) + Arrays.toString(decided);
+        Node node = nodes.get(key);
+        if (node == null) {
+            node = new Node(condition, NO_MATCH, candidates, decided);
+            Node old = nodes.putIfAbsent(key, node);
+            if (old != null) node = old;
+        }
+        return node;
+    }
+
+    /**
+     * The rule of the branch. 获取分支对应的规则
+     *
+     * @param branch index of branch
+     * @return rule
+     */
+    public Rule<T, R> rule(int branch) {
+        return rules.get(branch);
+    }
+
+    public List<Rule<T, R>> getRules() {
+        return rules;
+    }
+
+    /**
+     * Number of distinct conditions. 不同条件的数量
+     *
+     * @return number of conditions
+     */
+    public int conditionCount() {
+        return conditionNames.length;
+    }
+
+    /**
+     * Number of decision nodes built so far. 当前已构建的决策节点数量
+     *
+     * @return number of nodes
+     */
+    public int nodeCount() {
+        return nodes.size();
+    }
+
+    private static final class Node {
+        /**
+         * 当前节点判断的条件序号，-1 表示叶子节点
+         */
+        final int condition;
+        final int rule;
+        final int[] candidates;
+        final int[] decided;
+        /**
+         * 延迟构建的子节点，并发时可能重复构建，但结果相同
+         */
+        volatile Node whenTrue;
+        volatile Node whenFalse;
+
+        Node(int condition, int rule, int[] candidates, int[] decided) {
+            this.condition = condition;
+            this.rule = rule;
+            this.candidates = candidates;
+            this.decided = decided;
+        }
+    }
+}
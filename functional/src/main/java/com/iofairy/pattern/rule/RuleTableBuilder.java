@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.rule;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.compiled.CompiledMatcherBuilder;
+
+import java.util.Objects;
+
+/**
+ * Builder of {@link RuleTable}
+ *
+ * @param <T> 输入的类型
+ * @param <R> 返回值类型
+ * @since 0.4.2
+ */
+public class RuleTableBuilder<T, R> extends CompiledMatcherBuilder<T, Rule<T, R>, R, RuleTable<T, R>> {
+
+    public RuleTableBuilder<T, R> rule(Rule<T, R> rule) {
+        Objects.requireNonNull(rule);
+        addBranch(rule, rule.getAction());
+        return this;
+    }
+
+    @SafeVarargs
+    public final RuleTableBuilder<T, R> rule(String name, int priority, R1<? super T, ? extends R> action, Condition<? super T>... conditions) {
+        return rule(Rule.of(name, priority, action, conditions));
+    }
+
+    public RuleTableBuilder<T, R> rules(Iterable<Rule<T, R>> rules) {
+        Objects.requireNonNull(rules);
+        rules.forEach(this::rule);
+        return this;
+    }
+
+    @Override
+    protected RuleTable<T, R> compile(R1<? super T, ? extends R> orElse) {
+        return new RuleTable<>(patterns, actions, orElse);
+    }
+}
@@ -59,5 +59,17 @@ public enum PatternString implements PatternTypes {
      * ignore case for suffix<br>
      * 忽略大小写的后缀匹配
      */
-    ICSUFFIX
+    ICSUFFIX,
+    /**
+     * regular expression, the whole string must match the expression<br>
+     * 正则表达式匹配（整个字符串须匹配正则表达式）
+     * @since 0.4.2
+     */
+    REGEX,
+    /**
+     * glob, supports {@code *}, {@code ?}, {@code [...]}, {@code [!...]} and {@code {a,b}}<br>
+     * 通配符匹配，支持 {@code *}, {@code ?}, {@code [...]}, {@code [!...]} 与 {@code {a,b}}
+     * @since 0.4.2
+     */
+    GLOB
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A tuple of 2 {@code double} elements, without boxing.
+ * Can be used as any other {@link Tuple} (the elements are boxed by {@link #element(int)}), and is equal to the
+ * {@link Tuple2} with the same boxed elements.<br>
+ * 2个 {@code double} 元素的元组，元素不装箱。可以当作普通的 {@link Tuple} 使用（{@link #element(int)} 会对元素装箱），
+ * 与元素装箱后相等的 {@link Tuple2} 相等。
+ *
+ * @since 0.4.2
+ */
+public final class DoubleTuple2 extends TupleBase implements Comparable<DoubleTuple2> {
+    private static final long serialVersionUID = 10065918042L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public final double _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public final double _2;
+
+    /**
+     * Constructs a {@code DoubleTuple2}.　DoubleTuple2构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     */
+    public DoubleTuple2(double _1, double _2) {
+        this._1 = _1;
+        this._2 = _2;
+    }
+
+    public static DoubleTuple2 of(double _1, double _2) {
+        return new DoubleTuple2(_1, _2);
+    }
+
+    @Override
+    public int arity() {
+        return 2;
+    }
+
+    @Override
+    public DoubleTuple2 alias(TupleAlias... aliases) {
+        return (DoubleTuple2) super.alias(aliases);
+    }
+
+    @Override
+    public DoubleTuple2 alias(String... aliases) {
+        return (DoubleTuple2) super.alias(aliases);
+    }
+
+    @Override
+    public DoubleTuple2 alias(TupleSchema schema) {
+        return (DoubleTuple2) super.alias(schema);
+    }
+
+    @Override
+    public DoubleTuple2 copyAliases(Tuple tuple) {
+        return (DoubleTuple2) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) Double.valueOf(_1);
+            case 1:
+                return (R) Double.valueOf(_2);
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public DoubleTuple2 copy() {
+        return new DoubleTuple2(_1, _2).copyAliases(this);
+    }
+
+    /**
+     * Box the elements to a {@link Tuple2}, the aliases are kept. <br>
+     * 将元素装箱成 {@link Tuple2}，保留别名
+     *
+     * @return boxed tuple
+     */
+    public Tuple2<Double, Double> toTuple() {
+        return new Tuple2<>(_1, _2).copyAliases(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj instanceof DoubleTuple2) {
+            DoubleTuple2 other = (DoubleTuple2) obj;
+            return Double.doubleToLongBits(_1) == Double.doubleToLongBits(other._1) && Double.doubleToLongBits(_2) == Double.doubleToLongBits(other._2) && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * The same as {@link TupleBase#hashCode()} of the boxed elements, computed without boxing. <br>
+     * 与装箱后的元素的 {@link TupleBase#hashCode()} 相同，但不需要装箱。
+     *
+     * @return hash code
+     */
+    @Override
+    public int hashCode() {
+        int h = 2;
+        h = 31 * h + Double.hashCode(_1);
+        h = 31 * h + Double.hashCode(_2);
+        return h;
+    }
+
+    /**
+     * Compare the elements in order, aliases are ignored. 按顺序比较元素，忽略别名
+     *
+     * @param o other tuple
+     * @return comparison result
+     */
+    @Override
+    public int compareTo(DoubleTuple2 o) {
+        int c1 = Double.compare(_1, o._1);
+        if (c1 != 0) return c1;
+        return Double.compare(_2, o._2);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A tuple of 3 {@code double} elements, without boxing.
+ * Can be used as any other {@link Tuple} (the elements are boxed by {@link #element(int)}), and is equal to the
+ * {@link Tuple3} with the same boxed elements.<br>
+ * 3个 {@code double} 元素的元组，元素不装箱。可以当作普通的 {@link Tuple} 使用（{@link #element(int)} 会对元素装箱），
+ * 与元素装箱后相等的 {@link Tuple3} 相等。
+ *
+ * @since 0.4.2
+ */
+public final class DoubleTuple3 extends TupleBase implements Comparable<DoubleTuple3> {
+    private static final long serialVersionUID = 10065918043L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public final double _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public final double _2;
+    /**
+     * The 3rd element of this tuple.
+     */
+    public final double _3;
+
+    /**
+     * Constructs a {@code DoubleTuple3}.　DoubleTuple3构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @param _3 The value of 3rd element
+     */
+    public DoubleTuple3(double _1, double _2, double _3) {
+        this._1 = _1;
+        this._2 = _2;
+        this._3 = _3;
+    }
+
+    public static DoubleTuple3 of(double _1, double _2, double _3) {
+        return new DoubleTuple3(_1, _2, _3);
+    }
+
+    @Override
+    public int arity() {
+        return 3;
+    }
+
+    @Override
+    public DoubleTuple3 alias(TupleAlias... aliases) {
+        return (DoubleTuple3) super.alias(aliases);
+    }
+
+    @Override
+    public DoubleTuple3 alias(String... aliases) {
+        return (DoubleTuple3) super.alias(aliases);
+    }
+
+    @Override
+    public DoubleTuple3 alias(TupleSchema schema) {
+        return (DoubleTuple3) super.alias(schema);
+    }
+
+    @Override
+    public DoubleTuple3 copyAliases(Tuple tuple) {
+        return (DoubleTuple3) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) Double.valueOf(_1);
+            case 1:
+                return (R) Double.valueOf(_2);
+            case 2:
+                return (R) Double.valueOf(_3);
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public DoubleTuple3 copy() {
+        return new DoubleTuple3(_1, _2, _3).copyAliases(this);
+    }
+
+    /**
+     * Box the elements to a {@link Tuple3}, the aliases are kept. <br>
+     * 将元素装箱成 {@link Tuple3}，保留别名
+     *
+     * @return boxed tuple
+     */
+    public Tuple3<Double, Double, Double> toTuple() {
+        return new Tuple3<>(_1, _2, _3).copyAliases(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj instanceof DoubleTuple3) {
+            DoubleTuple3 other = (DoubleTuple3) obj;
+            return Double.doubleToLongBits(_1) == Double.doubleToLongBits(other._1) && Double.doubleToLongBits(_2) == Double.doubleToLongBits(other._2) && Double.doubleToLongBits(_3) == Double.doubleToLongBits(other._3) && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * The same as {@link TupleBase#hashCode()} of the boxed elements, computed without boxing. <br>
+     * 与装箱后的元素的 {@link TupleBase#hashCode()} 相同，但不需要装箱。
+     *
+     * @return hash code
+     */
+    @Override
+    public int hashCode() {
+        int h = 3;
+        h = 31 * h + Double.hashCode(_1);
+        h = 31 * h + Double.hashCode(_2);
+        h = 31 * h + Double.hashCode(_3);
+        return h;
+    }
+
+    /**
+     * Compare the elements in order, aliases are ignored. 按顺序比较元素，忽略别名
+     *
+     * @param o other tuple
+     * @return comparison result
+     */
+    @Override
+    public int compareTo(DoubleTuple3 o) {
+        int c1 = Double.compare(_1, o._1);
+        if (c1 != 0) return c1;
+        int c2 = Double.compare(_2, o._2);
+        if (c2 != 0) return c2;
+        return Double.compare(_3, o._3);
+    }
+}
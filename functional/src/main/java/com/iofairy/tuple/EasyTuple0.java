@@ -56,6 +56,11 @@ public class EasyTuple0 extends TupleBase implements EasyTuple {
         return (EasyTuple0)super.alias(aliases);
     }
 
+    @Override
+    public EasyTuple0 alias(TupleSchema schema) {
+        return (EasyTuple0)super.alias(schema);
+    }
+
     @Override
     public EasyTuple0 copyAliases(Tuple tuple) {
         return (EasyTuple0)super.copyAliases(tuple);
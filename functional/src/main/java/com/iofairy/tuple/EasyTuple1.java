@@ -58,6 +58,11 @@ public class EasyTuple1<T> extends Tuple1<T> implements EasyTuple {
         return (EasyTuple1<T>)super.alias(aliases);
     }
 
+    @Override
+    public EasyTuple1<T> alias(TupleSchema schema) {
+        return (EasyTuple1<T>)super.alias(schema);
+    }
+
     @Override
     public EasyTuple1<T> copyAliases(Tuple tuple) {
         return (EasyTuple1<T>)super.copyAliases(tuple);
@@ -54,6 +54,11 @@ public class EasyTuple2<T> extends Tuple2<T, T> implements EasyTuple {
         return (EasyTuple2<T>)super.alias(aliases);
     }
 
+    @Override
+    public EasyTuple2<T> alias(TupleSchema schema) {
+        return (EasyTuple2<T>)super.alias(schema);
+    }
+
     @Override
     public EasyTuple2<T> copyAliases(Tuple tuple) {
         return (EasyTuple2<T>)super.copyAliases(tuple);
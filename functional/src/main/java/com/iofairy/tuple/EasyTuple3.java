@@ -54,6 +54,11 @@ public class EasyTuple3<T> extends Tuple3<T, T, T> implements EasyTuple {
         return (EasyTuple3<T>)super.alias(aliases);
     }
 
+    @Override
+    public EasyTuple3<T> alias(TupleSchema schema) {
+        return (EasyTuple3<T>)super.alias(schema);
+    }
+
     @Override
     public EasyTuple3<T> copyAliases(Tuple tuple) {
         return (EasyTuple3<T>)super.copyAliases(tuple);
@@ -54,6 +54,11 @@ public class EasyTuple4<T> extends Tuple4<T, T, T, T> implements EasyTuple {
         return (EasyTuple4<T>)super.alias(aliases);
     }
 
+    @Override
+    public EasyTuple4<T> alias(TupleSchema schema) {
+        return (EasyTuple4<T>)super.alias(schema);
+    }
+
     @Override
     public EasyTuple4<T> copyAliases(Tuple tuple) {
         return (EasyTuple4<T>)super.copyAliases(tuple);
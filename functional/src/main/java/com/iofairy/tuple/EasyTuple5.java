@@ -54,6 +54,11 @@ public class EasyTuple5<T> extends Tuple5<T, T, T, T, T> implements EasyTuple {
         return (EasyTuple5<T>)super.alias(aliases);
     }
 
+    @Override
+    public EasyTuple5<T> alias(TupleSchema schema) {
+        return (EasyTuple5<T>)super.alias(schema);
+    }
+
     @Override
     public EasyTuple5<T> copyAliases(Tuple tuple) {
         return (EasyTuple5<T>)super.copyAliases(tuple);
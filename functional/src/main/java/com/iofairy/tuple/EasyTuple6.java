@@ -54,6 +54,11 @@ public class EasyTuple6<T> extends Tuple6<T, T, T, T, T, T> implements EasyTuple
         return (EasyTuple6<T>)super.alias(aliases);
     }
 
+    @Override
+    public EasyTuple6<T> alias(TupleSchema schema) {
+        return (EasyTuple6<T>)super.alias(schema);
+    }
+
     @Override
     public EasyTuple6<T> copyAliases(Tuple tuple) {
         return (EasyTuple6<T>)super.copyAliases(tuple);
@@ -54,6 +54,11 @@ public class EasyTuple7<T> extends Tuple7<T, T, T, T, T, T, T> implements EasyTu
         return (EasyTuple7<T>)super.alias(aliases);
     }
 
+    @Override
+    public EasyTuple7<T> alias(TupleSchema schema) {
+        return (EasyTuple7<T>)super.alias(schema);
+    }
+
     @Override
     public EasyTuple7<T> copyAliases(Tuple tuple) {
         return (EasyTuple7<T>)super.copyAliases(tuple);
@@ -54,6 +54,11 @@ public class EasyTuple8<T> extends Tuple8<T, T, T, T, T, T, T, T> implements Eas
         return (EasyTuple8<T>)super.alias(aliases);
     }
 
+    @Override
+    public EasyTuple8<T> alias(TupleSchema schema) {
+        return (EasyTuple8<T>)super.alias(schema);
+    }
+
     @Override
     public EasyTuple8<T> copyAliases(Tuple tuple) {
         return (EasyTuple8<T>)super.copyAliases(tuple);
@@ -54,6 +54,11 @@ public class EasyTuple9<T> extends Tuple9<T, T, T, T, T, T, T, T, T> implements
         return (EasyTuple9<T>)super.alias(aliases);
     }
 
+    @Override
+    public EasyTuple9<T> alias(TupleSchema schema) {
+        return (EasyTuple9<T>)super.alias(schema);
+    }
+
     @Override
     public EasyTuple9<T> copyAliases(Tuple tuple) {
         return (EasyTuple9<T>)super.copyAliases(tuple);
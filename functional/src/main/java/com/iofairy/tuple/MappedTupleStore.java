@@ -0,0 +1,455 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Off-heap tuple store backed by memory-mapped file segments. Each row has a fixed binary layout:
+ * {@code int}, {@code long} and {@code double} columns are stored inline, {@code String} columns store an offset
+ * into a side heap file ({@code <file>.heap}). The store persists to disk and is reopened by {@link #open(Path)}
+ * without deserialization, rows are only materialized as {@link Tuple} on demand. <br>
+ * 基于内存映射文件分段的堆外元组存储。每行使用固定的二进制布局：{@code int}、{@code long}、{@code double} 列内联存储，
+ * {@code String} 列存储指向旁路堆文件（{@code <file>.heap}）的偏移量。数据持久化到磁盘，通过 {@link #open(Path)} 重新打开时不需要反序列化，
+ * 仅在需要时才将行转成 {@link Tuple}。<br>
+ * <b>注：</b>此类不是线程安全的；映射的内存在 buffer 被 GC 回收后才会释放。
+ *
+ * @since 0.4.2
+ */
+public class MappedTupleStore implements Closeable {
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    private static final int MAGIC = 0x54504C53;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4096;
+    private static final int SIZE_OFFSET = 16;
+    private static final int HEAP_END_OFFSET = 24;
+    private static final int TYPES_OFFSET = 32;
+    private static final long NULL_STRING = -1;
+
+    private static final byte INT = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte STRING = 3;
+    private static final Class<?>[] TYPES = {int.class, long.class, double.class, String.class};
+    private static final int[] WIDTHS = {4, 8, 8, 8};
+
+    private final FileChannel dataChannel;
+    private final FileChannel heapChannel;
+    private final MappedByteBuffer header;
+    private final List<MappedByteBuffer> dataSegments = new ArrayList<>();
+    private final List<MappedByteBuffer> heapSegments = new ArrayList<>();
+
+    private final byte[] kinds;
+    private final int[] offsets;
+    private final int rowSize;
+    private final int segmentSize;
+    private final int segmentRows;
+    private final TupleSchema schema;
+
+    private long size;
+    private long heapEnd;
+
+    private MappedTupleStore(FileChannel dataChannel, FileChannel heapChannel, MappedByteBuffer header,
+                             byte[] kinds, int segmentSize, TupleSchema schema, long size, long heapEnd) {
+        this.dataChannel = dataChannel;
+        this.heapChannel = heapChannel;
+        this.header = header;
+        this.kinds = kinds;
+        this.segmentSize = segmentSize;
+        this.schema = schema;
+        this.size = size;
+        this.heapEnd = heapEnd;
+
+        offsets = new int[kinds.length];
+        int rowSize = 0;
+        for (int i = 0; i < kinds.length; i++) {
+            offsets[i] = rowSize;
+            rowSize += WIDTHS[kinds[i]];
+        }
+        this.rowSize = rowSize;
+        segmentRows = segmentSize / rowSize;
+    }
+
+    /**
+     * Create a store (overwrite the existing files), the column types must be {@code int.class}, {@code long.class},
+     * {@code double.class} or {@code String.class}. <br>
+     * 创建存储（覆盖已存在的文件），列的类型只能是 {@code int.class}、{@code long.class}、{@code double.class} 或 {@code String.class}。
+     *
+     * @param path        data file, the heap file is {@code <path>.heap}. 数据文件，堆文件为 {@code <path>.heap}
+     * @param segmentSize size in bytes of each mapped segment. 每个映射分段的字节数
+     * @param schema      aliases of columns, can be {@code null}, stored as string aliases. 列的别名，可以为 null，以字符串别名存储
+     * @param columnTypes types of columns. 列的类型
+     * @return store
+     * @throws IOException if an I/O error occurs
+     */
+    public static MappedTupleStore create(Path path, int segmentSize, TupleSchema schema, Class<?>... columnTypes) throws IOException {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(columnTypes);
+        if (columnTypes.length == 0 || columnTypes.length > 9)
+            throw new IllegalArgumentException("The number of columns must be in [1, 9]. 列的数量必须在1到9之间。");
+        if (schema != null && schema.size() != columnTypes.length)
+            throw new IllegalArgumentException("The size of schema is not equals " + columnTypes.length + ". schema的别名数量不等于" + columnTypes.length + "。");
+        if (segmentSize < 9 * 8) throw new IllegalArgumentException("Parameter `segmentSize` is too small. ");
+
+        byte[] kinds = new byte[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            int kind = Arrays.asList(TYPES).indexOf(columnTypes[i]);
+            if (kind == -1) throw new IllegalArgumentException("Unsupported column type: " + columnTypes[i] + ". 不支持的列类型。");
+            kinds[i] = (byte) kind;
+        }
+
+        FileChannel data = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        FileChannel heap = FileChannel.open(heapPath(path), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        MappedByteBuffer header = data.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putInt(8, kinds.length);
+        header.putInt(12, segmentSize);
+        header.putLong(SIZE_OFFSET, 0);
+        header.putLong(HEAP_END_OFFSET, 0);
+        int position = TYPES_OFFSET;
+        for (byte kind : kinds) header.put(position++, kind);
+        header.put(position++, (byte) (schema == null ? 0 : 1));
+        if (schema != null) {
+            for (String alias : schema.getAliases()) {
+                byte[] bytes = alias == null ? null : alias.getBytes(StandardCharsets.UTF_8);
+                if (position + 4 + (bytes == null ? 0 : bytes.length) > HEADER_SIZE) {
+                    data.close();
+                    heap.close();
+                    throw new IllegalArgumentException("The aliases are too long. 别名太长。");
+                }
+                header.putInt(position, bytes == null ? -1 : bytes.length);
+                position += 4;
+                if (bytes != null) {
+                    for (byte b : bytes) header.put(position++, b);
+                }
+            }
+        }
+        return new MappedTupleStore(data, heap, header, kinds, segmentSize, schema, 0, 0);
+    }
+
+    public static MappedTupleStore create(Path path, TupleSchema schema, Class<?>... columnTypes) throws IOException {
+        return create(path, DEFAULT_SEGMENT_SIZE, schema, columnTypes);
+    }
+
+    /**
+     * Reopen a store created by {@link #create(Path, int, TupleSchema, Class[])}, no rows are read. <br>
+     * 重新打开已创建的存储，不会读取任何行
+     *
+     * @param path data file. 数据文件
+     * @return store
+     * @throws IOException if an I/O error occurs or the file is not a tuple store
+     */
+    public static MappedTupleStore open(Path path) throws IOException {
+        Objects.requireNonNull(path);
+        FileChannel data = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (data.size() < HEADER_SIZE) {
+            data.close();
+            throw new IOException("Not a tuple store: " + path);
+        }
+        MappedByteBuffer header = data.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            data.close();
+            throw new IOException("Not a tuple store or unsupported version: " + path);
+        }
+        FileChannel heap = FileChannel.open(heapPath(path), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        byte[] kinds = new byte[header.getInt(8)];
+        int position = TYPES_OFFSET;
+        for (int i = 0; i < kinds.length; i++) kinds[i] = header.get(position++);
+        TupleSchema schema = null;
+        if (header.get(position++) == 1) {
+            String[] aliases = new String[kinds.length];
+            for (int i = 0; i < kinds.length; i++) {
+                int length = header.getInt(position);
+                position += 4;
+                if (length >= 0) {
+                    byte[] bytes = new byte[length];
+                    for (int j = 0; j < length; j++) bytes[j] = header.get(position++);
+                    aliases[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+            }
+            schema = TupleSchema.of(aliases);
+        }
+        return new MappedTupleStore(data, heap, header, kinds, header.getInt(12), schema,
+                header.getLong(SIZE_OFFSET), header.getLong(HEAP_END_OFFSET));
+    }
+
+    private static Path heapPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".heap");
+    }
+
+    private MappedByteBuffer dataSegment(int index) {
+        while (dataSegments.size() <= index) {
+            long position = HEADER_SIZE + (long) dataSegments.size() * segmentRows * rowSize;
+            dataSegments.add(map(dataChannel, position, (long) segmentRows * rowSize));
+        }
+        return dataSegments.get(index);
+    }
+
+    private MappedByteBuffer heapSegment(int index) {
+        while (heapSegments.size() <= index) {
+            heapSegments.add(map(heapChannel, (long) heapSegments.size() * segmentSize, segmentSize));
+        }
+        return heapSegments.get(index);
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long position, long size) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Append a tuple as a row. 追加一个元组作为一行
+     *
+     * @param tuple tuple
+     * @return index of the row. 行序号
+     * @throws IllegalArgumentException if a value doesn't fit the type of its column (primitive columns only accept lossless conversions)
+     * @throws UncheckedIOException     if mapping a new segment fails
+     */
+    public long append(Tuple tuple) {
+        Objects.requireNonNull(tuple);
+        if (tuple.arity() != kinds.length)
+            throw new IllegalArgumentException("`tuple.arity()` is not equals " + kinds.length + ". 参数tuple的元素数量不等于" + kinds.length + "。");
+        Object[] values = new Object[kinds.length];
+        for (int i = 0; i < kinds.length; i++) values[i] = tuple.element(i);
+        return appendRow(values);
+    }
+
+    /**
+     * Append the values as a row. 追加一行
+     *
+     * @param values values of the row
+     * @return index of the row. 行序号
+     * @throws IllegalArgumentException if a value doesn't fit the type of its column (primitive columns only accept lossless conversions)
+     * @throws UncheckedIOException     if mapping a new segment fails
+     */
+    public long appendRow(Object... values) {
+        Objects.requireNonNull(values);
+        if (values.length != kinds.length)
+            throw new IllegalArgumentException("`values.length` is not equals " + kinds.length + ". 参数values的长度不等于" + kinds.length + "。");
+        // 先校验所有值，避免写入半行数据
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case INT:
+                    TupleBatch.toInt(i, values[i]);
+                    break;
+                case LONG:
+                    TupleBatch.toLong(i, values[i]);
+                    break;
+                case DOUBLE:
+                    TupleBatch.toDouble(i, values[i]);
+                    break;
+                default:
+                    if (values[i] != null && !(values[i] instanceof String)) throw TupleBatch.typeMismatch(i, String.class, values[i]);
+            }
+        }
+
+        long row = size;
+        ByteBuffer segment = dataSegment((int) (row / segmentRows));
+        int base = (int) (row % segmentRows) * rowSize;
+        for (int i = 0; i < kinds.length; i++) {
+            int position = base + offsets[i];
+            switch (kinds[i]) {
+                case INT:
+                    segment.putInt(position, TupleBatch.toInt(i, values[i]));
+                    break;
+                case LONG:
+                    segment.putLong(position, TupleBatch.toLong(i, values[i]));
+                    break;
+                case DOUBLE:
+                    segment.putDouble(position, TupleBatch.toDouble(i, values[i]));
+                    break;
+                default:
+                    segment.putLong(position, values[i] == null ? NULL_STRING : putString((String) values[i]));
+            }
+        }
+        size = row + 1;
+        header.putLong(SIZE_OFFSET, size);
+        return row;
+    }
+
+    private long putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = 4 + bytes.length;
+        if (length > segmentSize) throw new IllegalArgumentException("The string is larger than the segment size. 字符串超过了分段大小。");
+        // 字符串不跨分段存储
+        if (heapEnd % segmentSize + length > segmentSize) heapEnd += segmentSize - heapEnd % segmentSize;
+
+        long offset = heapEnd;
+        ByteBuffer segment = heapSegment((int) (offset / segmentSize));
+        int position = (int) (offset % segmentSize);
+        segment.putInt(position, bytes.length);
+        for (int i = 0; i < bytes.length; i++) segment.put(position + 4 + i, bytes[i]);
+        heapEnd += length;
+        header.putLong(HEAP_END_OFFSET, heapEnd);
+        return offset;
+    }
+
+    private String getString(long offset) {
+        if (offset == NULL_STRING) return null;
+        ByteBuffer segment = heapSegment((int) (offset / segmentSize)).duplicate();
+        int position = (int) (offset % segmentSize);
+        byte[] bytes = new byte[segment.getInt(position)];
+        segment.position(position + 4);
+        segment.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void checkRow(long row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Index out of range: " + row + ", Size: " + size);
+    }
+
+    private int position(long row, int column) {
+        return (int) (row % segmentRows) * rowSize + offsets[column];
+    }
+
+    // 调用前必须先 checkRow，映射不存在的分段会扩展磁盘上的文件
+    private ByteBuffer segmentOf(long row) {
+        return dataSegment((int) (row / segmentRows));
+    }
+
+    public int getInt(long row, int column) {
+        checkKind(column, INT);
+        checkRow(row);
+        return segmentOf(row).getInt(position(row, column));
+    }
+
+    public long getLong(long row, int column) {
+        checkKind(column, LONG);
+        checkRow(row);
+        return segmentOf(row).getLong(position(row, column));
+    }
+
+    public double getDouble(long row, int column) {
+        checkKind(column, DOUBLE);
+        checkRow(row);
+        return segmentOf(row).getDouble(position(row, column));
+    }
+
+    public String getString(long row, int column) {
+        checkKind(column, STRING);
+        checkRow(row);
+        return getString(segmentOf(row).getLong(position(row, column)));
+    }
+
+    private void checkKind(int column, byte kind) {
+        if (kinds[column] != kind)
+            throw new IllegalArgumentException("The column " + column + " is " + TYPES[kinds[column]] + ", not " + TYPES[kind] + ". ");
+    }
+
+    /**
+     * Get the value of a cell, primitive values are boxed. 获取单元格的值，基本类型会被装箱
+     *
+     * @param row    index of row. 行序号
+     * @param column index of column. 列序号
+     * @param <R>    return type 返回值类型
+     * @return value
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R get(long row, int column) {
+        switch (kinds[column]) {
+            case INT:
+                return (R) Integer.valueOf(getInt(row, column));
+            case LONG:
+                return (R) Long.valueOf(getLong(row, column));
+            case DOUBLE:
+                return (R) Double.valueOf(getDouble(row, column));
+            default:
+                return (R) getString(row, column);
+        }
+    }
+
+    /**
+     * Read a row as a tuple, the aliases are set by the schema. 将一行读取为元组，并设置别名
+     *
+     * @param row index of row. 行序号
+     * @return tuple
+     */
+    public Tuple row(long row) {
+        checkRow(row);
+        Object[] v = new Object[kinds.length];
+        for (int i = 0; i < kinds.length; i++) v[i] = get(row, i);
+        Tuple tuple = TupleBase.tupleOf(v, false);
+        return schema == null ? tuple : tuple.alias(schema);
+    }
+
+    /**
+     * Sequential scan of all rows as tuples, created lazily. 顺序扫描所有行（延迟创建元组）
+     *
+     * @return stream of tuples
+     */
+    public Stream<Tuple> rows() {
+        return LongStream.range(0, size).mapToObj(this::row);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public int columnCount() {
+        return kinds.length;
+    }
+
+    public Class<?> columnType(int column) {
+        return TYPES[kinds[column]];
+    }
+
+    public TupleSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Write the mapped changes to disk. 将映射的修改写入磁盘
+     */
+    public void force() {
+        for (MappedByteBuffer segment : dataSegments) segment.force();
+        for (MappedByteBuffer segment : heapSegments) segment.force();
+        header.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        dataSegments.clear();
+        heapSegments.clear();
+        try {
+            dataChannel.close();
+        } finally {
+            heapChannel.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MappedTupleStore(columns=" + kinds.length + ", size=" + size + (schema == null ? "" : ", schema=" + schema) + ")";
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A mutable tuple of 3 {@code double} elements, without boxing, can be reused as the container of reducers and combiners,
+ * use {@link #freeze()} to get an immutable {@link DoubleTuple3}.
+ * Don't modify it while it is used as a key of hash map.<br>
+ * 3个 {@code double} 元素的可变元组，元素不装箱，可以在 reduce 与 combine 中复用，使用 {@link #freeze()} 获取不可变的 {@link DoubleTuple3}。
+ * 作为哈希表的键时不要修改它。
+ *
+ * @since 0.4.2
+ */
+public final class MutableDoubleTuple3 extends TupleBase {
+    private static final long serialVersionUID = 10065918143L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public double _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public double _2;
+    /**
+     * The 3rd element of this tuple.
+     */
+    public double _3;
+
+    /**
+     * Constructs a {@code MutableDoubleTuple3} with zero elements.　MutableDoubleTuple3构造器，元素均为0。
+     */
+    public MutableDoubleTuple3() {
+    }
+
+    /**
+     * Constructs a {@code MutableDoubleTuple3}.　MutableDoubleTuple3构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @param _3 The value of 3rd element
+     */
+    public MutableDoubleTuple3(double _1, double _2, double _3) {
+        this._1 = _1;
+        this._2 = _2;
+        this._3 = _3;
+    }
+
+    public static MutableDoubleTuple3 of(double _1, double _2, double _3) {
+        return new MutableDoubleTuple3(_1, _2, _3);
+    }
+
+    /**
+     * Set all elements. 设置所有元素
+     *
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @param _3 The value of 3rd element
+     * @return this tuple
+     */
+    public MutableDoubleTuple3 set(double _1, double _2, double _3) {
+        this._1 = _1;
+        this._2 = _2;
+        this._3 = _3;
+        return this;
+    }
+
+    public MutableDoubleTuple3 set1(double _1) {
+        this._1 = _1;
+        return this;
+    }
+
+    public MutableDoubleTuple3 set2(double _2) {
+        this._2 = _2;
+        return this;
+    }
+
+    public MutableDoubleTuple3 set3(double _3) {
+        this._3 = _3;
+        return this;
+    }
+
+    @Override
+    public int arity() {
+        return 3;
+    }
+
+    @Override
+    public MutableDoubleTuple3 alias(TupleAlias... aliases) {
+        return (MutableDoubleTuple3) super.alias(aliases);
+    }
+
+    @Override
+    public MutableDoubleTuple3 alias(String... aliases) {
+        return (MutableDoubleTuple3) super.alias(aliases);
+    }
+
+    @Override
+    public MutableDoubleTuple3 alias(TupleSchema schema) {
+        return (MutableDoubleTuple3) super.alias(schema);
+    }
+
+    @Override
+    public MutableDoubleTuple3 copyAliases(Tuple tuple) {
+        return (MutableDoubleTuple3) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) Double.valueOf(_1);
+            case 1:
+                return (R) Double.valueOf(_2);
+            case 2:
+                return (R) Double.valueOf(_3);
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public MutableDoubleTuple3 copy() {
+        return new MutableDoubleTuple3(_1, _2, _3).copyAliases(this);
+    }
+
+    /**
+     * Snapshot to an immutable tuple, the aliases are kept. 生成不可变元组的快照，保留别名
+     *
+     * @return immutable tuple
+     */
+    public DoubleTuple3 freeze() {
+        return new DoubleTuple3(_1, _2, _3).copyAliases(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj instanceof MutableDoubleTuple3) {
+            MutableDoubleTuple3 other = (MutableDoubleTuple3) obj;
+            return Double.doubleToLongBits(_1) == Double.doubleToLongBits(other._1) && Double.doubleToLongBits(_2) == Double.doubleToLongBits(other._2) && Double.doubleToLongBits(_3) == Double.doubleToLongBits(other._3) && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 3;
+        h = 31 * h + Double.hashCode(_1);
+        h = 31 * h + Double.hashCode(_2);
+        h = 31 * h + Double.hashCode(_3);
+        return h;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A mutable tuple of an {@code int} and a {@code double} element, without boxing, can be reused as the container of reducers and combiners,
+ * use {@link #freeze()} to get an immutable {@link IntDoubleTuple}.
+ * Don't modify it while it is used as a key of hash map.<br>
+ * 1个 {@code int} 元素与1个 {@code double} 元素的可变元组，元素不装箱，可以在 reduce 与 combine 中复用，使用 {@link #freeze()} 获取不可变的 {@link IntDoubleTuple}。
+ * 作为哈希表的键时不要修改它。
+ *
+ * @since 0.4.2
+ */
+public final class MutableIntDoubleTuple extends TupleBase {
+    private static final long serialVersionUID = 10065918152L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public int _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public double _2;
+
+    /**
+     * Constructs a {@code MutableIntDoubleTuple} with zero elements.　MutableIntDoubleTuple构造器，元素均为0。
+     */
+    public MutableIntDoubleTuple() {
+    }
+
+    /**
+     * Constructs a {@code MutableIntDoubleTuple}.　MutableIntDoubleTuple构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     */
+    public MutableIntDoubleTuple(int _1, double _2) {
+        this._1 = _1;
+        this._2 = _2;
+    }
+
+    public static MutableIntDoubleTuple of(int _1, double _2) {
+        return new MutableIntDoubleTuple(_1, _2);
+    }
+
+    /**
+     * Set all elements. 设置所有元素
+     *
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @return this tuple
+     */
+    public MutableIntDoubleTuple set(int _1, double _2) {
+        this._1 = _1;
+        this._2 = _2;
+        return this;
+    }
+
+    public MutableIntDoubleTuple set1(int _1) {
+        this._1 = _1;
+        return this;
+    }
+
+    public MutableIntDoubleTuple set2(double _2) {
+        this._2 = _2;
+        return this;
+    }
+
+    @Override
+    public int arity() {
+        return 2;
+    }
+
+    @Override
+    public MutableIntDoubleTuple alias(TupleAlias... aliases) {
+        return (MutableIntDoubleTuple) super.alias(aliases);
+    }
+
+    @Override
+    public MutableIntDoubleTuple alias(String... aliases) {
+        return (MutableIntDoubleTuple) super.alias(aliases);
+    }
+
+    @Override
+    public MutableIntDoubleTuple alias(TupleSchema schema) {
+        return (MutableIntDoubleTuple) super.alias(schema);
+    }
+
+    @Override
+    public MutableIntDoubleTuple copyAliases(Tuple tuple) {
+        return (MutableIntDoubleTuple) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) Integer.valueOf(_1);
+            case 1:
+                return (R) Double.valueOf(_2);
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public MutableIntDoubleTuple copy() {
+        return new MutableIntDoubleTuple(_1, _2).copyAliases(this);
+    }
+
+    /**
+     * Snapshot to an immutable tuple, the aliases are kept. 生成不可变元组的快照，保留别名
+     *
+     * @return immutable tuple
+     */
+    public IntDoubleTuple freeze() {
+        return new IntDoubleTuple(_1, _2).copyAliases(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj instanceof MutableIntDoubleTuple) {
+            MutableIntDoubleTuple other = (MutableIntDoubleTuple) obj;
+            return _1 == other._1 && Double.doubleToLongBits(_2) == Double.doubleToLongBits(other._2) && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 2;
+        h = 31 * h + Integer.hashCode(_1);
+        h = 31 * h + Double.hashCode(_2);
+        return h;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A mutable tuple of 2 {@code long} elements, without boxing, can be reused as the container of reducers and combiners,
+ * use {@link #freeze()} to get an immutable {@link LongTuple2}.
+ * Don't modify it while it is used as a key of hash map.<br>
+ * 2个 {@code long} 元素的可变元组，元素不装箱，可以在 reduce 与 combine 中复用，使用 {@link #freeze()} 获取不可变的 {@link LongTuple2}。
+ * 作为哈希表的键时不要修改它。
+ *
+ * @since 0.4.2
+ */
+public final class MutableLongTuple2 extends TupleBase {
+    private static final long serialVersionUID = 10065918132L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public long _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public long _2;
+
+    /**
+     * Constructs a {@code MutableLongTuple2} with zero elements.　MutableLongTuple2构造器，元素均为0。
+     */
+    public MutableLongTuple2() {
+    }
+
+    /**
+     * Constructs a {@code MutableLongTuple2}.　MutableLongTuple2构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     */
+    public MutableLongTuple2(long _1, long _2) {
+        this._1 = _1;
+        this._2 = _2;
+    }
+
+    public static MutableLongTuple2 of(long _1, long _2) {
+        return new MutableLongTuple2(_1, _2);
+    }
+
+    /**
+     * Set all elements. 设置所有元素
+     *
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @return this tuple
+     */
+    public MutableLongTuple2 set(long _1, long _2) {
+        this._1 = _1;
+        this._2 = _2;
+        return this;
+    }
+
+    public MutableLongTuple2 set1(long _1) {
+        this._1 = _1;
+        return this;
+    }
+
+    public MutableLongTuple2 set2(long _2) {
+        this._2 = _2;
+        return this;
+    }
+
+    @Override
+    public int arity() {
+        return 2;
+    }
+
+    @Override
+    public MutableLongTuple2 alias(TupleAlias... aliases) {
+        return (MutableLongTuple2) super.alias(aliases);
+    }
+
+    @Override
+    public MutableLongTuple2 alias(String... aliases) {
+        return (MutableLongTuple2) super.alias(aliases);
+    }
+
+    @Override
+    public MutableLongTuple2 alias(TupleSchema schema) {
+        return (MutableLongTuple2) super.alias(schema);
+    }
+
+    @Override
+    public MutableLongTuple2 copyAliases(Tuple tuple) {
+        return (MutableLongTuple2) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) Long.valueOf(_1);
+            case 1:
+                return (R) Long.valueOf(_2);
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public MutableLongTuple2 copy() {
+        return new MutableLongTuple2(_1, _2).copyAliases(this);
+    }
+
+    /**
+     * Snapshot to an immutable tuple, the aliases are kept. 生成不可变元组的快照，保留别名
+     *
+     * @return immutable tuple
+     */
+    public LongTuple2 freeze() {
+        return new LongTuple2(_1, _2).copyAliases(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj instanceof MutableLongTuple2) {
+            MutableLongTuple2 other = (MutableLongTuple2) obj;
+            return _1 == other._1 && _2 == other._2 && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 2;
+        h = 31 * h + Long.hashCode(_1);
+        h = 31 * h + Long.hashCode(_2);
+        return h;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A mutable tuple of 1 element, can be reused as the container of reducers and combiners,
+ * use {@link #freeze()} to get an immutable {@link Tuple1}.
+ * The hash code is not cached, don't modify it while it is used as a key of hash map.<br>
+ * 1个元素的可变元组，可以在 reduce 与 combine 中复用，避免每次更新都创建新元组，使用 {@link #freeze()} 获取不可变的 {@link Tuple1}。
+ * 哈希值不会被缓存，作为哈希表的键时不要修改它。
+ *
+ * @param <T1> type of the 1st element.　第1个元素的类型
+ * @since 0.4.2
+ */
+public class MutableTuple1<T1> extends TupleBase {
+    private static final long serialVersionUID = 10065918101L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public T1 _1;
+
+    /**
+     * Constructs a {@code MutableTuple1} with {@code null} elements.　MutableTuple1构造器，元素均为 null。
+     */
+    public MutableTuple1() {
+    }
+
+    /**
+     * Constructs a {@code MutableTuple1}.　MutableTuple1构造器。
+     * @param _1 The value of 1st element
+     */
+    public MutableTuple1(T1 _1) {
+        this._1 = _1;
+    }
+
+    public static <T1> MutableTuple1<T1> of(T1 _1) {
+        return new MutableTuple1<>(_1);
+    }
+
+    /**
+     * Set all elements. 设置所有元素
+     *
+     * @param _1 The value of 1st element
+     * @return this tuple
+     */
+    public MutableTuple1<T1> set(T1 _1) {
+        this._1 = _1;
+        return this;
+    }
+
+    public MutableTuple1<T1> set1(T1 _1) {
+        this._1 = _1;
+        return this;
+    }
+
+    @Override
+    public int arity() {
+        return 1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple1<T1> alias(TupleAlias... aliases) {
+        return (MutableTuple1<T1>) super.alias(aliases);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple1<T1> alias(String... aliases) {
+        return (MutableTuple1<T1>) super.alias(aliases);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple1<T1> alias(TupleSchema schema) {
+        return (MutableTuple1<T1>) super.alias(schema);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple1<T1> copyAliases(Tuple tuple) {
+        return (MutableTuple1<T1>) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) _1;
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public MutableTuple1<T1> copy() {
+        return new MutableTuple1<>(_1).copyAliases(this);
+    }
+
+    /**
+     * Snapshot to an immutable tuple, the aliases are kept. 生成不可变元组的快照，保留别名
+     *
+     * @return immutable tuple
+     */
+    public Tuple1<T1> freeze() {
+        return new Tuple1<>(_1).copyAliases(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return elementsHashCode();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A mutable tuple of 2 elements, can be reused as the container of reducers and combiners,
+ * use {@link #freeze()} to get an immutable {@link Tuple2}.
+ * The hash code is not cached, don't modify it while it is used as a key of hash map.<br>
+ * 2个元素的可变元组，可以在 reduce 与 combine 中复用，避免每次更新都创建新元组，使用 {@link #freeze()} 获取不可变的 {@link Tuple2}。
+ * 哈希值不会被缓存，作为哈希表的键时不要修改它。
+ *
+ * @param <T1> type of the 1st element.　第1个元素的类型
+ * @param <T2> type of the 2nd element.　第2个元素的类型
+ * @since 0.4.2
+ */
+public class MutableTuple2<T1, T2> extends TupleBase {
+    private static final long serialVersionUID = 10065918102L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public T1 _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public T2 _2;
+
+    /**
+     * Constructs a {@code MutableTuple2} with {@code null} elements.　MutableTuple2构造器，元素均为 null。
+     */
+    public MutableTuple2() {
+    }
+
+    /**
+     * Constructs a {@code MutableTuple2}.　MutableTuple2构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     */
+    public MutableTuple2(T1 _1, T2 _2) {
+        this._1 = _1;
+        this._2 = _2;
+    }
+
+    public static <T1, T2> MutableTuple2<T1, T2> of(T1 _1, T2 _2) {
+        return new MutableTuple2<>(_1, _2);
+    }
+
+    /**
+     * Set all elements. 设置所有元素
+     *
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @return this tuple
+     */
+    public MutableTuple2<T1, T2> set(T1 _1, T2 _2) {
+        this._1 = _1;
+        this._2 = _2;
+        return this;
+    }
+
+    public MutableTuple2<T1, T2> set1(T1 _1) {
+        this._1 = _1;
+        return this;
+    }
+
+    public MutableTuple2<T1, T2> set2(T2 _2) {
+        this._2 = _2;
+        return this;
+    }
+
+    @Override
+    public int arity() {
+        return 2;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple2<T1, T2> alias(TupleAlias... aliases) {
+        return (MutableTuple2<T1, T2>) super.alias(aliases);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple2<T1, T2> alias(String... aliases) {
+        return (MutableTuple2<T1, T2>) super.alias(aliases);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple2<T1, T2> alias(TupleSchema schema) {
+        return (MutableTuple2<T1, T2>) super.alias(schema);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple2<T1, T2> copyAliases(Tuple tuple) {
+        return (MutableTuple2<T1, T2>) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) _1;
+            case 1:
+                return (R) _2;
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public MutableTuple2<T1, T2> copy() {
+        return new MutableTuple2<>(_1, _2).copyAliases(this);
+    }
+
+    /**
+     * Snapshot to an immutable tuple, the aliases are kept. 生成不可变元组的快照，保留别名
+     *
+     * @return immutable tuple
+     */
+    public Tuple2<T1, T2> freeze() {
+        return new Tuple2<>(_1, _2).copyAliases(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return elementsHashCode();
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A mutable tuple of 5 elements, can be reused as the container of reducers and combiners,
+ * use {@link #freeze()} to get an immutable {@link Tuple5}.
+ * The hash code is not cached, don't modify it while it is used as a key of hash map.<br>
+ * 5个元素的可变元组，可以在 reduce 与 combine 中复用，避免每次更新都创建新元组，使用 {@link #freeze()} 获取不可变的 {@link Tuple5}。
+ * 哈希值不会被缓存，作为哈希表的键时不要修改它。
+ *
+ * @param <T1> type of the 1st element.　第1个元素的类型
+ * @param <T2> type of the 2nd element.　第2个元素的类型
+ * @param <T3> type of the 3rd element.　第3个元素的类型
+ * @param <T4> type of the 4th element.　第4个元素的类型
+ * @param <T5> type of the 5th element.　第5个元素的类型
+ * @since 0.4.2
+ */
+public class MutableTuple5<T1, T2, T3, T4, T5> extends TupleBase {
+    private static final long serialVersionUID = 10065918105L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public T1 _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public T2 _2;
+    /**
+     * The 3rd element of this tuple.
+     */
+    public T3 _3;
+    /**
+     * The 4th element of this tuple.
+     */
+    public T4 _4;
+    /**
+     * The 5th element of this tuple.
+     */
+    public T5 _5;
+
+    /**
+     * Constructs a {@code MutableTuple5} with {@code null} elements.　MutableTuple5构造器，元素均为 null。
+     */
+    public MutableTuple5() {
+    }
+
+    /**
+     * Constructs a {@code MutableTuple5}.　MutableTuple5构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @param _3 The value of 3rd element
+     * @param _4 The value of 4th element
+     * @param _5 The value of 5th element
+     */
+    public MutableTuple5(T1 _1, T2 _2, T3 _3, T4 _4, T5 _5) {
+        this._1 = _1;
+        this._2 = _2;
+        this._3 = _3;
+        this._4 = _4;
+        this._5 = _5;
+    }
+
+    public static <T1, T2, T3, T4, T5> MutableTuple5<T1, T2, T3, T4, T5> of(T1 _1, T2 _2, T3 _3, T4 _4, T5 _5) {
+        return new MutableTuple5<>(_1, _2, _3, _4, _5);
+    }
+
+    /**
+     * Set all elements. 设置所有元素
+     *
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @param _3 The value of 3rd element
+     * @param _4 The value of 4th element
+     * @param _5 The value of 5th element
+     * @return this tuple
+     */
+    public MutableTuple5<T1, T2, T3, T4, T5> set(T1 _1, T2 _2, T3 _3, T4 _4, T5 _5) {
+        this._1 = _1;
+        this._2 = _2;
+        this._3 = _3;
+        this._4 = _4;
+        this._5 = _5;
+        return this;
+    }
+
+    public MutableTuple5<T1, T2, T3, T4, T5> set1(T1 _1) {
+        this._1 = _1;
+        return this;
+    }
+
+    public MutableTuple5<T1, T2, T3, T4, T5> set2(T2 _2) {
+        this._2 = _2;
+        return this;
+    }
+
+    public MutableTuple5<T1, T2, T3, T4, T5> set3(T3 _3) {
+        this._3 = _3;
+        return this;
+    }
+
+    public MutableTuple5<T1, T2, T3, T4, T5> set4(T4 _4) {
+        this._4 = _4;
+        return this;
+    }
+
+    public MutableTuple5<T1, T2, T3, T4, T5> set5(T5 _5) {
+        this._5 = _5;
+        return this;
+    }
+
+    @Override
+    public int arity() {
+        return 5;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple5<T1, T2, T3, T4, T5> alias(TupleAlias... aliases) {
+        return (MutableTuple5<T1, T2, T3, T4, T5>) super.alias(aliases);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple5<T1, T2, T3, T4, T5> alias(String... aliases) {
+        return (MutableTuple5<T1, T2, T3, T4, T5>) super.alias(aliases);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple5<T1, T2, T3, T4, T5> alias(TupleSchema schema) {
+        return (MutableTuple5<T1, T2, T3, T4, T5>) super.alias(schema);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple5<T1, T2, T3, T4, T5> copyAliases(Tuple tuple) {
+        return (MutableTuple5<T1, T2, T3, T4, T5>) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) _1;
+            case 1:
+                return (R) _2;
+            case 2:
+                return (R) _3;
+            case 3:
+                return (R) _4;
+            case 4:
+                return (R) _5;
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public MutableTuple5<T1, T2, T3, T4, T5> copy() {
+        return new MutableTuple5<>(_1, _2, _3, _4, _5).copyAliases(this);
+    }
+
+    /**
+     * Snapshot to an immutable tuple, the aliases are kept. 生成不可变元组的快照，保留别名
+     *
+     * @return immutable tuple
+     */
+    public Tuple5<T1, T2, T3, T4, T5> freeze() {
+        return new Tuple5<>(_1, _2, _3, _4, _5).copyAliases(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return elementsHashCode();
+    }
+}
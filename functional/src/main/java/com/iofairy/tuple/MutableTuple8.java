@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A mutable tuple of 8 elements, can be reused as the container of reducers and combiners,
+ * use {@link #freeze()} to get an immutable {@link Tuple8}.
+ * The hash code is not cached, don't modify it while it is used as a key of hash map.<br>
+ * 8个元素的可变元组，可以在 reduce 与 combine 中复用，避免每次更新都创建新元组，使用 {@link #freeze()} 获取不可变的 {@link Tuple8}。
+ * 哈希值不会被缓存，作为哈希表的键时不要修改它。
+ *
+ * @param <T1> type of the 1st element.　第1个元素的类型
+ * @param <T2> type of the 2nd element.　第2个元素的类型
+ * @param <T3> type of the 3rd element.　第3个元素的类型
+ * @param <T4> type of the 4th element.　第4个元素的类型
+ * @param <T5> type of the 5th element.　第5个元素的类型
+ * @param <T6> type of the 6th element.　第6个元素的类型
+ * @param <T7> type of the 7th element.　第7个元素的类型
+ * @param <T8> type of the 8th element.　第8个元素的类型
+ * @since 0.4.2
+ */
+public class MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> extends TupleBase {
+    private static final long serialVersionUID = 10065918108L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public T1 _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public T2 _2;
+    /**
+     * The 3rd element of this tuple.
+     */
+    public T3 _3;
+    /**
+     * The 4th element of this tuple.
+     */
+    public T4 _4;
+    /**
+     * The 5th element of this tuple.
+     */
+    public T5 _5;
+    /**
+     * The 6th element of this tuple.
+     */
+    public T6 _6;
+    /**
+     * The 7th element of this tuple.
+     */
+    public T7 _7;
+    /**
+     * The 8th element of this tuple.
+     */
+    public T8 _8;
+
+    /**
+     * Constructs a {@code MutableTuple8} with {@code null} elements.　MutableTuple8构造器，元素均为 null。
+     */
+    public MutableTuple8() {
+    }
+
+    /**
+     * Constructs a {@code MutableTuple8}.　MutableTuple8构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @param _3 The value of 3rd element
+     * @param _4 The value of 4th element
+     * @param _5 The value of 5th element
+     * @param _6 The value of 6th element
+     * @param _7 The value of 7th element
+     * @param _8 The value of 8th element
+     */
+    public MutableTuple8(T1 _1, T2 _2, T3 _3, T4 _4, T5 _5, T6 _6, T7 _7, T8 _8) {
+        this._1 = _1;
+        this._2 = _2;
+        this._3 = _3;
+        this._4 = _4;
+        this._5 = _5;
+        this._6 = _6;
+        this._7 = _7;
+        this._8 = _8;
+    }
+
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> of(T1 _1, T2 _2, T3 _3, T4 _4, T5 _5, T6 _6, T7 _7, T8 _8) {
+        return new MutableTuple8<>(_1, _2, _3, _4, _5, _6, _7, _8);
+    }
+
+    /**
+     * Set all elements. 设置所有元素
+     *
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @param _3 The value of 3rd element
+     * @param _4 The value of 4th element
+     * @param _5 The value of 5th element
+     * @param _6 The value of 6th element
+     * @param _7 The value of 7th element
+     * @param _8 The value of 8th element
+     * @return this tuple
+     */
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> set(T1 _1, T2 _2, T3 _3, T4 _4, T5 _5, T6 _6, T7 _7, T8 _8) {
+        this._1 = _1;
+        this._2 = _2;
+        this._3 = _3;
+        this._4 = _4;
+        this._5 = _5;
+        this._6 = _6;
+        this._7 = _7;
+        this._8 = _8;
+        return this;
+    }
+
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> set1(T1 _1) {
+        this._1 = _1;
+        return this;
+    }
+
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> set2(T2 _2) {
+        this._2 = _2;
+        return this;
+    }
+
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> set3(T3 _3) {
+        this._3 = _3;
+        return this;
+    }
+
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> set4(T4 _4) {
+        this._4 = _4;
+        return this;
+    }
+
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> set5(T5 _5) {
+        this._5 = _5;
+        return this;
+    }
+
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> set6(T6 _6) {
+        this._6 = _6;
+        return this;
+    }
+
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> set7(T7 _7) {
+        this._7 = _7;
+        return this;
+    }
+
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> set8(T8 _8) {
+        this._8 = _8;
+        return this;
+    }
+
+    @Override
+    public int arity() {
+        return 8;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> alias(TupleAlias... aliases) {
+        return (MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8>) super.alias(aliases);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> alias(String... aliases) {
+        return (MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8>) super.alias(aliases);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> alias(TupleSchema schema) {
+        return (MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8>) super.alias(schema);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> copyAliases(Tuple tuple) {
+        return (MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8>) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) _1;
+            case 1:
+                return (R) _2;
+            case 2:
+                return (R) _3;
+            case 3:
+                return (R) _4;
+            case 4:
+                return (R) _5;
+            case 5:
+                return (R) _6;
+            case 6:
+                return (R) _7;
+            case 7:
+                return (R) _8;
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public MutableTuple8<T1, T2, T3, T4, T5, T6, T7, T8> copy() {
+        return new MutableTuple8<>(_1, _2, _3, _4, _5, _6, _7, _8).copyAliases(this);
+    }
+
+    /**
+     * Snapshot to an immutable tuple, the aliases are kept. 生成不可变元组的快照，保留别名
+     *
+     * @return immutable tuple
+     */
+    public Tuple8<T1, T2, T3, T4, T5, T6, T7, T8> freeze() {
+        return new Tuple8<>(_1, _2, _3, _4, _5, _6, _7, _8).copyAliases(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return elementsHashCode();
+    }
+}
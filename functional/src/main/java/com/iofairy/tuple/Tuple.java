@@ -85,6 +85,36 @@ public interface Tuple extends Serializable {
      */
     Tuple alias(String... aliases);
 
+    /**
+     * Setting tuple's aliases by a shared {@link TupleSchema}, tuples with the same schema share the aliases. <br>
+     * 使用共享的 {@link TupleSchema} 为元组设置别名，相同 schema 的元组共享同一份别名。
+     *
+     * @param schema schema of aliases.　别名的 schema
+     * @return tuple.　元组
+     * @throws NumberOfAliasesException if the size of schema is not equal {@link #arity()}. 如果 schema 的别名数量不等于 {@link #arity()}，抛出此异常
+     * @throws UnsupportedOperationException if this method is called by Tuple0.
+     * @since 0.4.2
+     */
+    default Tuple alias(TupleSchema schema) {
+        Objects.requireNonNull(schema);
+        return schema.getTupleAliases().isEmpty()
+                ? alias(schema.getAliases().toArray(new String[0]))
+                : alias(schema.getTupleAliases().toArray(new TupleAlias[0]));
+    }
+
+    /**
+     * Get the schema of aliases. 获取别名的 schema
+     *
+     * @return schema of aliases, or {@code null} if aliases not set.　别名的 schema，未设置别名时返回 null
+     * @since 0.4.2
+     */
+    default TupleSchema getSchema() {
+        List<TupleAlias> tupleAliases = getTupleAliases();
+        if (!tupleAliases.isEmpty()) return TupleSchema.of(tupleAliases.toArray(new TupleAlias[0]));
+        List<String> aliases = getAliases();
+        return aliases.isEmpty() ? null : TupleSchema.of(aliases.toArray(new String[0]));
+    }
+
     /**
      * Get current alias type: null, tuple, string. <br>
      * <b>null: </b>not set alias; <br>
@@ -54,6 +54,11 @@ public class Tuple0 extends TupleBase {
         return (Tuple0)super.alias(aliases);
     }
 
+    @Override
+    public Tuple0 alias(TupleSchema schema) {
+        return (Tuple0)super.alias(schema);
+    }
+
     @Override
     public Tuple0 copyAliases(Tuple tuple) {
         return (Tuple0)super.copyAliases(tuple);
@@ -55,6 +55,12 @@ public class Tuple1<T> extends TupleBase {
         return (Tuple1<T>)super.alias(aliases);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple1<T> alias(TupleSchema schema) {
+        return (Tuple1<T>)super.alias(schema);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Tuple1<T> copyAliases(Tuple tuple) {
@@ -62,6 +62,12 @@ public class Tuple2<T1, T2> extends TupleBase {
         return (Tuple2<T1, T2>)super.alias(aliases);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple2<T1, T2> alias(TupleSchema schema) {
+        return (Tuple2<T1, T2>)super.alias(schema);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Tuple2<T1, T2> copyAliases(Tuple tuple) {
@@ -69,6 +69,12 @@ public class Tuple3<T1, T2, T3> extends TupleBase {
         return (Tuple3<T1, T2, T3>)super.alias(aliases);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple3<T1, T2, T3> alias(TupleSchema schema) {
+        return (Tuple3<T1, T2, T3>)super.alias(schema);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Tuple3<T1, T2, T3> copyAliases(Tuple tuple) {
@@ -76,6 +76,12 @@ public class Tuple4<T1, T2, T3, T4> extends TupleBase {
         return (Tuple4<T1, T2, T3, T4>)super.alias(aliases);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple4<T1, T2, T3, T4> alias(TupleSchema schema) {
+        return (Tuple4<T1, T2, T3, T4>)super.alias(schema);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Tuple4<T1, T2, T3, T4> copyAliases(Tuple tuple) {
@@ -83,6 +83,12 @@ public class Tuple5<T1, T2, T3, T4, T5> extends TupleBase {
         return (Tuple5<T1, T2, T3, T4, T5>)super.alias(aliases);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple5<T1, T2, T3, T4, T5> alias(TupleSchema schema) {
+        return (Tuple5<T1, T2, T3, T4, T5>)super.alias(schema);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Tuple5<T1, T2, T3, T4, T5> copyAliases(Tuple tuple) {
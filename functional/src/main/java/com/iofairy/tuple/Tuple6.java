@@ -90,6 +90,12 @@ public class Tuple6<T1, T2, T3, T4, T5, T6> extends TupleBase {
         return (Tuple6<T1, T2, T3, T4, T5, T6>)super.alias(aliases);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple6<T1, T2, T3, T4, T5, T6> alias(TupleSchema schema) {
+        return (Tuple6<T1, T2, T3, T4, T5, T6>)super.alias(schema);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Tuple6<T1, T2, T3, T4, T5, T6> copyAliases(Tuple tuple) {
@@ -97,6 +97,12 @@ public class Tuple7<T1, T2, T3, T4, T5, T6, T7> extends TupleBase {
         return (Tuple7<T1, T2, T3, T4, T5, T6, T7>)super.alias(aliases);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple7<T1, T2, T3, T4, T5, T6, T7> alias(TupleSchema schema) {
+        return (Tuple7<T1, T2, T3, T4, T5, T6, T7>)super.alias(schema);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Tuple7<T1, T2, T3, T4, T5, T6, T7> copyAliases(Tuple tuple) {
@@ -104,6 +104,12 @@ public class Tuple8<T1, T2, T3, T4, T5, T6, T7, T8> extends TupleBase {
         return (Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>)super.alias(aliases);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple8<T1, T2, T3, T4, T5, T6, T7, T8> alias(TupleSchema schema) {
+        return (Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>)super.alias(schema);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Tuple8<T1, T2, T3, T4, T5, T6, T7, T8> copyAliases(Tuple tuple) {
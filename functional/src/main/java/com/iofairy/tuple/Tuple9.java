@@ -111,6 +111,12 @@ public class Tuple9<T1, T2, T3, T4, T5, T6, T7, T8, T9> extends TupleBase {
         return (Tuple9<T1, T2, T3, T4, T5, T6, T7, T8, T9>)super.alias(aliases);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple9<T1, T2, T3, T4, T5, T6, T7, T8, T9> alias(TupleSchema schema) {
+        return (Tuple9<T1, T2, T3, T4, T5, T6, T7, T8, T9>)super.alias(schema);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Tuple9<T1, T2, T3, T4, T5, T6, T7, T8, T9> copyAliases(Tuple tuple) {
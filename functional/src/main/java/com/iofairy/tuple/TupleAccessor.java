@@ -0,0 +1,307 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.util.Objects;
+
+/**
+ * Precompiled accessor of a tuple element, created by {@link TupleSchema#accessor(String, Class)}. The position is
+ * resolved once and kept in final fields, the element is read from the field ({@code _1}, {@code _2}, ...) directly,
+ * without alias lookup. When the accessor is held in a {@code static final} field, the JIT folds the {@code switch}
+ * to a single field load. Tuples of other types fall back to {@link Tuple#element(int)}. <br>
+ * The element is checked against the type of the accessor, so {@code accessor("price", String.class)} on a
+ * {@code Double} element fails with {@link ClassCastException} at the accessor instead of at the caller. <br>
+ * 预编译的元组元素访问器，通过 {@link TupleSchema#accessor(String, Class)} 创建。位置只解析一次并保存在 final 字段中，
+ * 之后直接读取字段（{@code _1}, {@code _2}, ...），不需要查找别名；访问器保存在 {@code static final} 字段中时，JIT 会把 {@code switch}
+ * 折叠成一次字段读取。其他类型的元组使用 {@link Tuple#element(int)} 读取。读取的元素会按访问器的类型进行检查。
+ * <p>
+ * <b>Examples:</b>
+ * <pre>
+ * TupleSchema schema = TupleSchema.of("id", "name", "price");
+ * TupleAccessor&lt;Double&gt; price = schema.accessor("price", Double.class);
+ * double total = 0;
+ * for (Tuple3&lt;Integer, String, Double&gt; row : rows) total += price.get(row);
+ * </pre>
+ *
+ * @param <R> type of element. 元素的类型
+ * @since 0.4.2
+ */
+public final class TupleAccessor<R> {
+    private static final TupleAccessor<?>[][] UNTYPED = new TupleAccessor<?>[10][];
+
+    static {
+        for (int arity = 1; arity <= 9; arity++) {
+            UNTYPED[arity] = new TupleAccessor<?>[arity];
+            for (int position = 0; position < arity; position++) {
+                UNTYPED[arity][position] = new TupleAccessor<>(arity, position, Object.class);
+            }
+        }
+    }
+
+    private final int arity;
+    private final int position;
+    private final Class<R> type;
+
+    private TupleAccessor(int arity, int position, Class<R> type) {
+        this.arity = arity;
+        this.position = position;
+        this.type = type;
+    }
+
+    /**
+     * Get the accessor of the position, the elements are checked against the type. <br>
+     * 获取指定位置的访问器，读取的元素会按类型进行检查
+     *
+     * @param arity    arity of tuples. 元组的元素数量
+     * @param position position of element (0-based). 元素的位置（从0开始）
+     * @param type     type of element, primitive types are replaced by their wrappers. 元素的类型，基本类型会替换为包装类型
+     * @param <R>      type of element. 元素的类型
+     * @return accessor
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> TupleAccessor<R> of(int arity, int position, Class<R> type) {
+        if (arity < 1 || arity > 9 || position < 0 || position >= arity)
+            throw new IndexOutOfBoundsException("Index out of range: " + position + ", Size: " + arity);
+        Objects.requireNonNull(type);
+        if (type == Object.class) return (TupleAccessor<R>) UNTYPED[arity][position];
+        return new TupleAccessor<>(arity, position, (Class<R>) wrap(type));
+    }
+
+    /**
+     * Get the shared untyped accessor of the position. 获取指定位置的（共享的）无类型访问器
+     *
+     * @param arity    arity of tuples. 元组的元素数量
+     * @param position position of element (0-based). 元素的位置（从0开始）
+     * @return accessor
+     */
+    public static TupleAccessor<Object> of(int arity, int position) {
+        return of(arity, position, Object.class);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) return type;
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == double.class) return Double.class;
+        if (type == boolean.class) return Boolean.class;
+        if (type == float.class) return Float.class;
+        if (type == short.class) return Short.class;
+        if (type == byte.class) return Byte.class;
+        if (type == char.class) return Character.class;
+        throw new IllegalArgumentException("`void` is not a type of element. void不是元素的类型。");
+    }
+
+    /**
+     * Read the element from the tuple. 从元组中读取元素
+     *
+     * @param tuple tuple
+     * @return element
+     * @throws ClassCastException if the element is not an instance of the accessor's type. 如果元素不是访问器类型的实例
+     */
+    public R get(Tuple tuple) {
+        Objects.requireNonNull(tuple);
+        switch (arity) {
+            case 1:
+                return type.cast(read1(tuple, position));
+            case 2:
+                return type.cast(read2(tuple, position));
+            case 3:
+                return type.cast(read3(tuple, position));
+            case 4:
+                return type.cast(read4(tuple, position));
+            case 5:
+                return type.cast(read5(tuple, position));
+            case 6:
+                return type.cast(read6(tuple, position));
+            case 7:
+                return type.cast(read7(tuple, position));
+            case 8:
+                return type.cast(read8(tuple, position));
+            default:
+                return type.cast(read9(tuple, position));
+        }
+    }
+
+    private static Object read1(Tuple tuple, int position) {
+        if (!(tuple instanceof Tuple1)) return tuple.element(position);
+        Tuple1<?> t1 = (Tuple1<?>) tuple;
+        switch (position) {
+            default:
+                return t1._1;
+        }
+    }
+
+    private static Object read2(Tuple tuple, int position) {
+        if (!(tuple instanceof Tuple2)) return tuple.element(position);
+        Tuple2<?, ?> t2 = (Tuple2<?, ?>) tuple;
+        switch (position) {
+            case 0:
+                return t2._1;
+            default:
+                return t2._2;
+        }
+    }
+
+    private static Object read3(Tuple tuple, int position) {
+        if (!(tuple instanceof Tuple3)) return tuple.element(position);
+        Tuple3<?, ?, ?> t3 = (Tuple3<?, ?, ?>) tuple;
+        switch (position) {
+            case 0:
+                return t3._1;
+            case 1:
+                return t3._2;
+            default:
+                return t3._3;
+        }
+    }
+
+    private static Object read4(Tuple tuple, int position) {
+        if (!(tuple instanceof Tuple4)) return tuple.element(position);
+        Tuple4<?, ?, ?, ?> t4 = (Tuple4<?, ?, ?, ?>) tuple;
+        switch (position) {
+            case 0:
+                return t4._1;
+            case 1:
+                return t4._2;
+            case 2:
+                return t4._3;
+            default:
+                return t4._4;
+        }
+    }
+
+    private static Object read5(Tuple tuple, int position) {
+        if (!(tuple instanceof Tuple5)) return tuple.element(position);
+        Tuple5<?, ?, ?, ?, ?> t5 = (Tuple5<?, ?, ?, ?, ?>) tuple;
+        switch (position) {
+            case 0:
+                return t5._1;
+            case 1:
+                return t5._2;
+            case 2:
+                return t5._3;
+            case 3:
+                return t5._4;
+            default:
+                return t5._5;
+        }
+    }
+
+    private static Object read6(Tuple tuple, int position) {
+        if (!(tuple instanceof Tuple6)) return tuple.element(position);
+        Tuple6<?, ?, ?, ?, ?, ?> t6 = (Tuple6<?, ?, ?, ?, ?, ?>) tuple;
+        switch (position) {
+            case 0:
+                return t6._1;
+            case 1:
+                return t6._2;
+            case 2:
+                return t6._3;
+            case 3:
+                return t6._4;
+            case 4:
+                return t6._5;
+            default:
+                return t6._6;
+        }
+    }
+
+    private static Object read7(Tuple tuple, int position) {
+        if (!(tuple instanceof Tuple7)) return tuple.element(position);
+        Tuple7<?, ?, ?, ?, ?, ?, ?> t7 = (Tuple7<?, ?, ?, ?, ?, ?, ?>) tuple;
+        switch (position) {
+            case 0:
+                return t7._1;
+            case 1:
+                return t7._2;
+            case 2:
+                return t7._3;
+            case 3:
+                return t7._4;
+            case 4:
+                return t7._5;
+            case 5:
+                return t7._6;
+            default:
+                return t7._7;
+        }
+    }
+
+    private static Object read8(Tuple tuple, int position) {
+        if (!(tuple instanceof Tuple8)) return tuple.element(position);
+        Tuple8<?, ?, ?, ?, ?, ?, ?, ?> t8 = (Tuple8<?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+        switch (position) {
+            case 0:
+                return t8._1;
+            case 1:
+                return t8._2;
+            case 2:
+                return t8._3;
+            case 3:
+                return t8._4;
+            case 4:
+                return t8._5;
+            case 5:
+                return t8._6;
+            case 6:
+                return t8._7;
+            default:
+                return t8._8;
+        }
+    }
+
+    private static Object read9(Tuple tuple, int position) {
+        if (!(tuple instanceof Tuple9)) return tuple.element(position);
+        Tuple9<?, ?, ?, ?, ?, ?, ?, ?, ?> t9 = (Tuple9<?, ?, ?, ?, ?, ?, ?, ?, ?>) tuple;
+        switch (position) {
+            case 0:
+                return t9._1;
+            case 1:
+                return t9._2;
+            case 2:
+                return t9._3;
+            case 3:
+                return t9._4;
+            case 4:
+                return t9._5;
+            case 5:
+                return t9._6;
+            case 6:
+                return t9._7;
+            case 7:
+                return t9._8;
+            default:
+                return t9._9;
+        }
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public Class<R> type() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "TupleAccessor(" + position + ", " + type.getSimpleName() + ")";
+    }
+}
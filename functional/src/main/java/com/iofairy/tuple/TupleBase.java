@@ -19,6 +19,9 @@ import com.iofairy.except.*;
 import com.iofairy.si.SI;
 import com.iofairy.top.G;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.util.*;
 
 /**
@@ -31,17 +34,17 @@ public abstract class TupleBase implements Tuple {
     private static final long serialVersionUID = 10065917090L;
 
     /**
-     * List of aliases.　普通别名列表。
+     * Aliases of this tuple, {@code null} if not set, shared by all tuples with the same aliases.　别名，未设置时为 null，所有别名相同的元组共享同一实例。
      */
-    private final List<String> aliasList = new ArrayList<>();
+    private TupleSchema schema;
     /**
-     * List of tuple aliases.　TupleAlias别名列表。
+     * Cached hash code of elements, 0 means not computed yet.　元素哈希值的缓存，0 表示尚未计算。
      */
-    private final List<TupleAlias> tupleAliasList = new ArrayList<>();
+    private transient int hash;
     /**
-     * Map of aliases.　别名与序号键值对
+     * Whether the computed hash code is 0.　计算出的哈希值是否为0，避免哈希值为0时重复计算。
      */
-    private final Map<String, Integer> alias_index = new HashMap<>();
+    private transient boolean hashIsZero;
 
     private final static String MSG_FOR_TUPLE0_UNSUPPORTED =
                     "`alias` method is unsupported in Tuple0. Because Tuple0 is empty tuple. " +
@@ -62,22 +65,13 @@ public abstract class TupleBase implements Tuple {
         clearAlias();
         if (aliases == null) {
             if (arity() == 1) {
-                alias((String[]) null);
-                tupleAliasList.add(null);
+                schema = TupleSchema.of(new TupleAlias[]{null});
                 return this;
             }
             throw new NumberOfAliasesException("aliases' length is not equals " + arity() + ". 参数aliases的长度不等于" + arity() + "。");
         }
 
-        List<TupleAlias> localAliases = Arrays.asList(aliases);
-        Set<TupleAlias> aliasSet = new HashSet<>(localAliases);
-        if (localAliases.size() != aliasSet.size()) throw new AliasDuplicateException("The aliases can't repeat. 别名不能重复！");
-
-        String[] localStrAliases = localAliases.stream().map( e -> e == null ? null : e.toString()).toArray(String[]::new);
-        alias(localStrAliases);
-        tupleAliasList.addAll(localAliases);
-
-        return this;
+        return alias(TupleSchema.of(aliases));
     }
 
     @Override
@@ -87,48 +81,42 @@ public abstract class TupleBase implements Tuple {
         clearAlias();
         if (aliases == null) {
             if (arity() == 1) {
-                putToMapAndList(null, 0);
+                schema = TupleSchema.of(new String[]{null});
                 return this;
             }
             throw new NumberOfAliasesException("aliases' length is not equals " + arity() + ". 参数aliases的长度不等于" + arity() + "。");
         }
 
-        List<String> localAliases = Arrays.asList(aliases);
-        Set<String> aliasSet = new HashSet<>(localAliases);
-        if (localAliases.size() != aliasSet.size()) throw new AliasDuplicateException("The aliases can't repeat. 别名不能重复！");
+        return alias(TupleSchema.of(aliases));
+    }
+
+    @Override
+    public Tuple alias(TupleSchema schema) {
+        if (arity() == 0) throw new UnsupportedOperationException(MSG_FOR_TUPLE0_UNSUPPORTED);
+        Objects.requireNonNull(schema);
 
-        if (arity() != aliases.length)
+        clearAlias();
+        if (arity() != schema.size())
             throw new NumberOfAliasesException("aliases' length is not equals " + arity() + ". 参数aliases的长度不等于" + arity() + "。");
-        for (int i = 0; i < aliases.length; i++) putToMapAndList(aliases[i], i);
+        this.schema = schema;
 
         return this;
     }
 
-    private void putToMapAndList(String alias, int index) {
-        alias_index.put(alias, index);
-        aliasList.add(alias);
+    @Override
+    public TupleSchema getSchema() {
+        return schema;
     }
 
     @Override
     public String aliasType() {
-        return !tupleAliasList.isEmpty() ? "tuple" : !aliasList.isEmpty() ? "string" : "null";
+        return schema == null ? "null" : schema.aliasType();
     }
 
     @Override
     public Tuple copyAliases(Tuple tuple) {
         if (tuple.arity() == arity()){
-            List<TupleAlias> tempTupleAliases = tuple.getTupleAliases();
-            List<String> tempAliases = tuple.getAliases();
-            clearAlias();
-            if (tempTupleAliases.isEmpty()) {
-                if (!tempAliases.isEmpty()) {
-                    String[] strAliases = tempAliases.toArray(new String[0]);
-                    alias(strAliases);
-                }
-            }else {
-                TupleAlias[] tupleAliases = tempTupleAliases.toArray(new TupleAlias[0]);
-                alias(tupleAliases);
-            }
+            schema = tuple.getSchema();
             return this;
         }
 
@@ -137,25 +125,23 @@ public abstract class TupleBase implements Tuple {
 
     @Override
     public void clearAlias() {
-        aliasList.clear();
-        tupleAliasList.clear();
-        alias_index.clear();
+        schema = null;
     }
 
     @Override
     public List<TupleAlias> getTupleAliases() {
-        return Collections.unmodifiableList(tupleAliasList);
+        return schema == null ? Collections.emptyList() : schema.getTupleAliases();
     }
 
     @Override
     public List<String> getAliases() {
-        return Collections.unmodifiableList(aliasList);
+        return schema == null ? Collections.emptyList() : schema.getAliases();
     }
 
     @Override
     public boolean aliasesEquals(Tuple tuple) {
         if (tuple == null || tuple.arity() != arity() || !tuple.aliasType().equals(aliasType())) return false;
-        if (arity() == 0) return true;
+        if (arity() == 0 || schema == tuple.getSchema()) return true;
 
         List<String> aliases1 = getAliases();
         List<String> aliases2 = tuple.getAliases();
@@ -176,11 +162,12 @@ public abstract class TupleBase implements Tuple {
 
     @Override
     public <R> R __(String alias) {
-        if (aliasList.isEmpty()) {
+        if (schema == null) {
             throw new AliasNotSetException(MSG_FOR_STRING_ALIASES);
         }
-        if (alias_index.containsKey(alias)) {
-            return element(alias_index.get(alias));
+        int index = schema.indexOf(alias);
+        if (index != -1) {
+            return element(index);
         }else {
             throw new AliasNotFoundException("the alias `" + alias + "` not found. "+" 别名`" + alias + "`没有找到。");
         }
@@ -188,12 +175,12 @@ public abstract class TupleBase implements Tuple {
 
     @Override
     public boolean containsAlias(TupleAlias alias) {
-        return !tupleAliasList.isEmpty() && containsAlias(alias.toString());
+        return !getTupleAliases().isEmpty() && containsAlias(alias.toString());
     }
 
     @Override
     public boolean containsAlias(String alias) {
-        return arity() != 0 && aliasList.contains(alias);
+        return arity() != 0 && schema != null && schema.contains(alias);
     }
 
     @Override
@@ -205,10 +192,10 @@ public abstract class TupleBase implements Tuple {
         Map<String, R> tupleMap = new HashMap<>();
         if (arity() == 0) return tupleMap;
         for (int i = 0; i < arity(); i++) {
-            if (aliasList.isEmpty()) {
+            if (schema == null) {
                 tupleMap.put("_" + (i + 1), element(i));
             }else {
-                tupleMap.put(aliasList.get(i), element(i));
+                tupleMap.put(schema.alias(i), element(i));
             }
         }
         return tupleMap;
@@ -223,10 +210,11 @@ public abstract class TupleBase implements Tuple {
     public <R> Tuple2<TupleAlias, R> elementWithTupleAlias(int n) {
         if (n >= arity()) throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
 
-        if (tupleAliasList.isEmpty()) {
+        List<TupleAlias> tupleAliases = getTupleAliases();
+        if (tupleAliases.isEmpty()) {
             throw new AliasNotSetException(MSG_FOR_TUPLE_ALIASES);
         }
-        TupleAlias alias = tupleAliasList.get(n);
+        TupleAlias alias = tupleAliases.get(n);
         R element = this.<R>element(n);
 
         return new Tuple2<>(alias, element);
@@ -236,10 +224,10 @@ public abstract class TupleBase implements Tuple {
     public <R> Tuple2<String, R> elementWithAlias(int n) {
         if (n >= arity()) throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
 
-        if (aliasList.isEmpty()) {
+        if (schema == null) {
             throw new AliasNotSetException(MSG_FOR_STRING_ALIASES);
         }
-        String alias = aliasList.get(n);
+        String alias = schema.alias(n);
         R element = this.<R>element(n);
 
         return new Tuple2<>(alias, element);
@@ -254,14 +242,14 @@ public abstract class TupleBase implements Tuple {
             for (int i = 0; i < arity(); i++) {
                 strList.add(G.toString((Object) element(i)));
             }
-            return alias_index.isEmpty() ? "(" + String.join(", ", strList) + ")" : "(" + concatElement(strList) + ")";
+            return schema == null ? "(" + String.join(", ", strList) + ")" : "(" + concatElement(strList) + ")";
         }
     }
 
     private String concatElement(List<String> strList) {
         ArrayList<String> tempStrList = new ArrayList<>();
         for (int i = 0; i < strList.size(); i++) {
-            String alias = aliasList.get(i);
+            String alias = schema.alias(i);
             alias = (alias == null ? "`null`" : alias);
             tempStrList.add(alias + ": " + strList.get(i));
         }
@@ -282,4 +270,98 @@ public abstract class TupleBase implements Tuple {
         return false;
     }
 
+    /**
+     * Create a tuple of the values. 使用数组创建元组
+     *
+     * @param v      values, length must be in [0, 9]
+     * @param easy   create {@link EasyTuple} or not
+     * @return tuple
+     */
+    static Tuple tupleOf(Object[] v, boolean easy) {
+        switch (v.length) {
+            case 0: return easy ? EasyTuple.empty() : Tuple.empty();
+            case 1: return easy ? EasyTuple.of(v[0]) : Tuple.of(v[0]);
+            case 2: return easy ? EasyTuple.of(v[0], v[1]) : Tuple.of(v[0], v[1]);
+            case 3: return easy ? EasyTuple.of(v[0], v[1], v[2]) : Tuple.of(v[0], v[1], v[2]);
+            case 4: return easy ? EasyTuple.of(v[0], v[1], v[2], v[3]) : Tuple.of(v[0], v[1], v[2], v[3]);
+            case 5: return easy ? EasyTuple.of(v[0], v[1], v[2], v[3], v[4]) : Tuple.of(v[0], v[1], v[2], v[3], v[4]);
+            case 6: return easy ? EasyTuple.of(v[0], v[1], v[2], v[3], v[4], v[5]) : Tuple.of(v[0], v[1], v[2], v[3], v[4], v[5]);
+            case 7: return easy ? EasyTuple.of(v[0], v[1], v[2], v[3], v[4], v[5], v[6]) : Tuple.of(v[0], v[1], v[2], v[3], v[4], v[5], v[6]);
+            case 8: return easy ? EasyTuple.of(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7]) : Tuple.of(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7]);
+            case 9: return easy ? EasyTuple.of(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8]) : Tuple.of(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8]);
+            default: throw new IllegalArgumentException("The number of elements must be in [0, 9]. 元素的数量必须在0到9之间。");
+        }
+    }
+
+    /**
+     * Serialize the built-in tuples by the compact {@link TupleCodec} format. Subclasses, and tuples with
+     * {@link TupleAlias} aliases that are not enums, use the default serialization. <br>
+     * 内置的元组使用紧凑的 {@link TupleCodec} 格式序列化；子类，以及使用非枚举 {@link TupleAlias} 别名的元组，使用默认的序列化方式。
+     *
+     * @return serialization proxy
+     */
+    protected Object writeReplace() {
+        return TupleCodec.isSupported(getClass()) && TupleCodec.isEncodable(schema) ? new TupleProxy(this) : this;
+    }
+
+    /**
+     * Read the aliases, streams written before 0.4.2 store them in the fields {@code aliasList} and {@code tupleAliasList},
+     * which are migrated to a {@link TupleSchema}. <br>
+     * 读取别名。0.4.2 之前写入的流将别名存储在 {@code aliasList} 与 {@code tupleAliasList} 字段中，读取时转换为 {@link TupleSchema}。
+     *
+     * @param in input stream
+     * @throws IOException            if an I/O error occurs
+     * @throws ClassNotFoundException if the class of an alias can't be found
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        ObjectStreamClass desc = fields.getObjectStreamClass();
+        if (desc.getField("schema") != null) {
+            schema = (TupleSchema) fields.get("schema", null);
+            return;
+        }
+        List<TupleAlias> tupleAliases = desc.getField("tupleAliasList") == null ? null : (List<TupleAlias>) fields.get("tupleAliasList", null);
+        List<String> aliases = desc.getField("aliasList") == null ? null : (List<String>) fields.get("aliasList", null);
+        if (tupleAliases != null && !tupleAliases.isEmpty()) {
+            schema = TupleSchema.of(tupleAliases.toArray(new TupleAlias[0]));
+        } else if (aliases != null && !aliases.isEmpty()) {
+            schema = TupleSchema.of(aliases.toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Hash code of elements, aliases are not included because they are mutable,
+     * and equal tuples always have equal elements. Computed lazily and cached because elements are final. <br>
+     * 基于元素计算的哈希值，不包含别名（别名可变，且相等的元组元素一定相等）。元素不可变，所以延迟计算并缓存。
+     *
+     * @return hash code
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0 && !hashIsZero) {
+            h = elementsHashCode();
+            if (h == 0) {
+                hashIsZero = true;
+            } else {
+                hash = h;
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Hash code of elements without caching, used by mutable tuples. 不使用缓存计算元素的哈希值，用于可变元组
+     *
+     * @return hash code
+     */
+    final int elementsHashCode() {
+        int h = arity();
+        for (int i = 0; i < arity(); i++) {
+            h = 31 * h + Objects.hashCode(element(i));
+        }
+        return h;
+    }
+
 }
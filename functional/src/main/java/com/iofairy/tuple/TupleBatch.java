@@ -0,0 +1,650 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Columnar storage of tuples: each position is stored as a column, {@code int}, {@code long} and {@code double}
+ * columns are primitive arrays, other columns are object arrays. All rows share one {@link TupleSchema}. <br>
+ * Rows are read through a reusable {@link Cursor} without allocation, and exported as {@link Tuple} only on demand.
+ * The column arrays are exposed for tight scanning loops that the JIT can vectorize. <br>
+ * 元组的列式存储：每个位置存储为一列，{@code int}、{@code long}、{@code double} 列使用基本类型数组，其他列使用对象数组，
+ * 所有行共享同一个 {@link TupleSchema}。通过可复用的 {@link Cursor} 读取行（无内存分配），仅在需要时才导出为 {@link Tuple}；
+ * 可以直接获取列数组，以便 JIT 对扫描循环进行向量化。<br>
+ * <b>注：</b>此类不是线程安全的。
+ *
+ * @since 0.4.2
+ */
+public class TupleBatch implements Iterable<Tuple> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int INT = 0;
+    private static final int LONG = 1;
+    private static final int DOUBLE = 2;
+    private static final int OBJECT = 3;
+
+    private final Class<?>[] columnTypes;
+    private final int[] kinds;
+    private final Object[] columns;
+    private final TupleSchema schema;
+    private int size;
+
+    /**
+     * Create a batch with the types of columns, {@code int.class}, {@code long.class} and {@code double.class} columns
+     * are stored as primitive arrays. <br>
+     * 使用列的类型创建 TupleBatch，{@code int.class}、{@code long.class}、{@code double.class} 列以基本类型数组存储。
+     *
+     * @param schema      aliases of columns, can be {@code null}. 列的别名，可以为 null
+     * @param capacity    initial capacity. 初始容量
+     * @param columnTypes types of columns. 列的类型
+     */
+    public TupleBatch(TupleSchema schema, int capacity, Class<?>... columnTypes) {
+        Objects.requireNonNull(columnTypes);
+        if (columnTypes.length == 0 || columnTypes.length > 9)
+            throw new IllegalArgumentException("The number of columns must be in [1, 9]. 列的数量必须在1到9之间。");
+        if (capacity < 0) throw new IllegalArgumentException("Parameter `capacity` must be >= 0. ");
+        if (schema != null && schema.size() != columnTypes.length)
+            throw new IllegalArgumentException("The size of schema is not equals " + columnTypes.length + ". schema的别名数量不等于" + columnTypes.length + "。");
+
+        this.schema = schema;
+        this.columnTypes = columnTypes.clone();
+        kinds = new int[columnTypes.length];
+        columns = new Object[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            Class<?> type = Objects.requireNonNull(columnTypes[i]);
+            kinds[i] = type == int.class ? INT : type == long.class ? LONG : type == double.class ? DOUBLE : OBJECT;
+            columns[i] = newColumn(kinds[i], capacity);
+        }
+    }
+
+    public TupleBatch(TupleSchema schema, Class<?>... columnTypes) {
+        this(schema, DEFAULT_CAPACITY, columnTypes);
+    }
+
+    public TupleBatch(Class<?>... columnTypes) {
+        this(null, DEFAULT_CAPACITY, columnTypes);
+    }
+
+    private static Object newColumn(int kind, int capacity) {
+        switch (kind) {
+            case INT:
+                return new int[capacity];
+            case LONG:
+                return new long[capacity];
+            case DOUBLE:
+                return new double[capacity];
+            default:
+                return new Object[capacity];
+        }
+    }
+
+    private static Object copyColumn(Object column, int newLength) {
+        if (column instanceof int[]) return Arrays.copyOf((int[]) column, newLength);
+        if (column instanceof long[]) return Arrays.copyOf((long[]) column, newLength);
+        if (column instanceof double[]) return Arrays.copyOf((double[]) column, newLength);
+        return Arrays.copyOf((Object[]) column, newLength);
+    }
+
+    private int capacity() {
+        return Array.getLength(columns[0]);
+    }
+
+    /**
+     * Ensure the capacity for bulk append. 批量追加前确保容量
+     *
+     * @param minCapacity minimum capacity. 最小容量
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = capacity();
+        if (minCapacity <= capacity) return;
+        int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1) + 1);
+        for (int i = 0; i < columns.length; i++) columns[i] = copyColumn(columns[i], newCapacity);
+    }
+
+    /**
+     * Append a tuple as a row, the tuple's elements are unboxed into primitive columns. <br>
+     * 追加一个元组作为一行，元素会被拆箱存入基本类型列
+     *
+     * @param tuple tuple
+     * @return this batch
+     * @throws IllegalArgumentException if a value doesn't fit the type of its column (primitive columns only accept lossless conversions)
+     */
+    public TupleBatch append(Tuple tuple) {
+        Objects.requireNonNull(tuple);
+        if (tuple.arity() != columns.length)
+            throw new IllegalArgumentException("`tuple.arity()` is not equals " + columns.length + ". 参数tuple的元素数量不等于" + columns.length + "。");
+        ensureCapacity(size + 1);
+        for (int i = 0; i < columns.length; i++) {
+            set(i, size, tuple.element(i));
+        }
+        size++;
+        return this;
+    }
+
+    /**
+     * Append the values as a row. 追加一行
+     *
+     * @param values values of the row
+     * @return this batch
+     * @throws IllegalArgumentException if a value doesn't fit the type of its column (primitive columns only accept lossless conversions)
+     */
+    public TupleBatch appendRow(Object... values) {
+        Objects.requireNonNull(values);
+        if (values.length != columns.length)
+            throw new IllegalArgumentException("`values.length` is not equals " + columns.length + ". 参数values的长度不等于" + columns.length + "。");
+        ensureCapacity(size + 1);
+        for (int i = 0; i < columns.length; i++) {
+            set(i, size, values[i]);
+        }
+        size++;
+        return this;
+    }
+
+    public TupleBatch appendAll(Collection<? extends Tuple> tuples) {
+        ensureCapacity(size + tuples.size());
+        for (Tuple tuple : tuples) append(tuple);
+        return this;
+    }
+
+    /**
+     * Bulk append whole columns, each argument is an array of the column's storage type
+     * ({@code int[]}, {@code long[]}, {@code double[]} or {@code Object[]}) and all arrays have the same length. <br>
+     * 批量追加整列数据，每个参数是与列存储类型相同的数组，且所有数组的长度相同。<br>
+     * The elements of object columns must be instances of the column type. 对象列的元素必须是列类型的实例。
+     *
+     * @param columnArrays arrays of columns. 各列的数组
+     * @return this batch
+     */
+    public TupleBatch appendColumns(Object... columnArrays) {
+        Objects.requireNonNull(columnArrays);
+        if (columnArrays.length != columns.length)
+            throw new IllegalArgumentException("`columnArrays.length` is not equals " + columns.length + ". 参数columnArrays的长度不等于" + columns.length + "。");
+        int length = Array.getLength(columnArrays[0]);
+        for (int i = 0; i < columns.length; i++) {
+            Object array = columnArrays[i];
+            if (array == null || array.getClass() != columns[i].getClass() && !(kinds[i] == OBJECT && array instanceof Object[]))
+                throw new IllegalArgumentException("The column " + i + " must be an array of " + columns[i].getClass().getComponentType() + ". ");
+            if (Array.getLength(array) != length)
+                throw new IllegalArgumentException("All column arrays must have the same length. 所有列数组的长度必须相同。");
+            if (kinds[i] == OBJECT && !columnTypes[i].isAssignableFrom(array.getClass().getComponentType())) {
+                // 数组的元素类型比列的类型宽（如 Object[]），逐个检查元素
+                for (Object value : (Object[]) array) {
+                    if (value != null && !columnTypes[i].isInstance(value)) throw typeMismatch(i, columnTypes[i], value);
+                }
+            }
+        }
+        ensureCapacity(size + length);
+        for (int i = 0; i < columns.length; i++) {
+            System.arraycopy(columnArrays[i], 0, columns[i], size, length);
+        }
+        size += length;
+        return this;
+    }
+
+    private void set(int column, int row, Object value) {
+        switch (kinds[column]) {
+            case INT:
+                ((int[]) columns[column])[row] = toInt(column, value);
+                break;
+            case LONG:
+                ((long[]) columns[column])[row] = toLong(column, value);
+                break;
+            case DOUBLE:
+                ((double[]) columns[column])[row] = toDouble(column, value);
+                break;
+            default:
+                if (value != null && !columnTypes[column].isInstance(value)) throw typeMismatch(column, columnTypes[column], value);
+                ((Object[]) columns[column])[row] = value;
+        }
+    }
+
+    /*
+     * Only exact conversions are accepted by primitive columns: an int column accepts Integer, Short and Byte,
+     * a long column also accepts Long, a double column accepts Double, Float, Integer, Short and Byte.
+     * 基本类型列只接受无损转换的值，其他值（如 Long 存入 int 列，Double 存入 int 列）会抛出异常。
+     */
+    static int toInt(int column, Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) return ((Number) value).intValue();
+        throw typeMismatch(column, int.class, value);
+    }
+
+    static long toLong(int column, Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) return ((Number) value).longValue();
+        throw typeMismatch(column, long.class, value);
+    }
+
+    static double toDouble(int column, Object value) {
+        if (value instanceof Double || value instanceof Float || value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return ((Number) value).doubleValue();
+        throw typeMismatch(column, double.class, value);
+    }
+
+    static RuntimeException typeMismatch(int column, Class<?> columnType, Object value) {
+        if (value == null)
+            return new NullPointerException("The column " + column + " is primitive, can't store `null`. 第" + column + "列是基本类型，不能存储null。");
+        String type = value.getClass().getName();
+        return new IllegalArgumentException("The column " + column + " is " + columnType.getName() + ", can't store the value `" + value + "` of " + type
+                + ". 第" + column + "列的类型是" + columnType.getName() + "，不能存储" + type + "类型的值`" + value + "`。");
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int columnCount() {
+        return columns.length;
+    }
+
+    public Class<?> columnType(int column) {
+        return columnTypes[column];
+    }
+
+    public TupleSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Index of the column by alias. 通过别名获取列的序号
+     *
+     * @param alias alias.　别名
+     * @return index of the column, or {@code -1} if not found
+     */
+    public int indexOf(String alias) {
+        return schema == null ? -1 : schema.indexOf(alias);
+    }
+
+    /**
+     * The backing array of an {@code int} column, only the first {@link #size()} elements are valid,
+     * the array is replaced when the batch grows. <br>
+     * 获取 {@code int} 列的底层数组，只有前 {@link #size()} 个元素有效，batch 扩容后会替换成新数组。
+     *
+     * @param column index of column. 列的序号
+     * @return backing array
+     */
+    public int[] intColumn(int column) {
+        return (int[]) columns[column];
+    }
+
+    public long[] longColumn(int column) {
+        return (long[]) columns[column];
+    }
+
+    public double[] doubleColumn(int column) {
+        return (double[]) columns[column];
+    }
+
+    public Object[] objectColumn(int column) {
+        return (Object[]) columns[column];
+    }
+
+    public int getInt(int row, int column) {
+        checkRow(row);
+        return ((int[]) columns[column])[row];
+    }
+
+    public long getLong(int row, int column) {
+        checkRow(row);
+        return ((long[]) columns[column])[row];
+    }
+
+    public double getDouble(int row, int column) {
+        checkRow(row);
+        return ((double[]) columns[column])[row];
+    }
+
+    /**
+     * Get the value of a cell, primitive values are boxed. 获取单元格的值，基本类型会被装箱
+     *
+     * @param row    index of row. 行序号
+     * @param column index of column. 列序号
+     * @param <R>    return type 返回值类型
+     * @return value
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R get(int row, int column) {
+        checkRow(row);
+        switch (kinds[column]) {
+            case INT:
+                return (R) Integer.valueOf(((int[]) columns[column])[row]);
+            case LONG:
+                return (R) Long.valueOf(((long[]) columns[column])[row]);
+            case DOUBLE:
+                return (R) Double.valueOf(((double[]) columns[column])[row]);
+            default:
+                return (R) ((Object[]) columns[column])[row];
+        }
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Index out of range: " + row + ", Size: " + size);
+    }
+
+    /**
+     * Sum of a numeric column, a tight loop over the primitive array. 数值列求和
+     *
+     * @param column index of column. 列的序号
+     * @return sum
+     */
+    public double sum(int column) {
+        double sum = 0;
+        switch (kinds[column]) {
+            case INT:
+                int[] ints = (int[]) columns[column];
+                long intSum = 0;
+                for (int i = 0; i < size; i++) intSum += ints[i];
+                return intSum;
+            case LONG:
+                long[] longs = (long[]) columns[column];
+                long longSum = 0;
+                for (int i = 0; i < size; i++) longSum += longs[i];
+                return longSum;
+            case DOUBLE:
+                double[] doubles = (double[]) columns[column];
+                for (int i = 0; i < size; i++) sum += doubles[i];
+                return sum;
+            default:
+                throw new UnsupportedOperationException("The column " + column + " is not a primitive column. 第" + column + "列不是基本类型列。");
+        }
+    }
+
+    /**
+     * Export a row as a tuple, the aliases are set by the schema. 将一行导出为元组，并设置别名
+     *
+     * @param row index of row. 行序号
+     * @return tuple
+     */
+    public Tuple row(int row) {
+        checkRow(row);
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) values[i] = get(row, i);
+        Tuple tuple = TupleBase.tupleOf(values, false);
+        return schema == null ? tuple : tuple.alias(schema);
+    }
+
+    /**
+     * Export all rows as tuples lazily. 延迟导出所有行为元组
+     *
+     * @return stream of tuples
+     */
+    public Stream<Tuple> rows() {
+        return IntStream.range(0, size).mapToObj(this::row);
+    }
+
+    @Override
+    public Iterator<Tuple> iterator() {
+        return rows().iterator();
+    }
+
+    /**
+     * A reusable cursor. 可复用的游标
+     *
+     * @return cursor before the first row
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Sort rows by the columns in ascending order, object columns must be {@link Comparable} ({@code null} first).
+     * The sort is stable, the row order is sorted as an {@code int[]} permutation and then applied to every column in place. <br>
+     * 按指定列升序排序（稳定排序），对象列必须实现 {@link Comparable}（null 排在最前）。
+     * 先对 {@code int[]} 行序号排列进行排序，再原地重排每一列。
+     *
+     * @param sortColumns indexes of columns. 列的序号
+     * @return this batch
+     */
+    public TupleBatch sort(int... sortColumns) {
+        return sort(false, sortColumns);
+    }
+
+    /**
+     * Same as {@link #sort(int...)}, but the row permutation is merge sorted in parallel with {@link ForkJoinPool#commonPool()}. <br>
+     * 与 {@link #sort(int...)} 相同，但使用 {@link ForkJoinPool#commonPool()} 对行序号排列并行归并排序。
+     *
+     * @param sortColumns indexes of columns. 列的序号
+     * @return this batch
+     */
+    public TupleBatch parallelSort(int... sortColumns) {
+        return sort(true, sortColumns);
+    }
+
+    private TupleBatch sort(boolean parallel, int[] sortColumns) {
+        Objects.requireNonNull(sortColumns);
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) order[i] = i;
+        IntBinaryOperator comparator = (a, b) -> {
+            for (int column : sortColumns) {
+                int c = compare(column, a, b);
+                if (c != 0) return c;
+            }
+            return 0;
+        };
+        int[] buffer = new int[size];
+        if (parallel && size > TupleBatchSortTask.PARALLEL_GRANULARITY && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new TupleBatchSortTask(order, buffer, 0, size, comparator));
+        } else {
+            TupleBatchSortTask.sort(order, buffer, 0, size, comparator);
+        }
+        buffer = null;
+        permute(order);
+        return this;
+    }
+
+    /*
+     * Row i becomes the old row order[i], each column is permuted in place by following the cycles of the permutation.
+     * 新的第 i 行是原来的第 order[i] 行，沿着排列的循环原地重排每一列。
+     */
+    private void permute(int[] order) {
+        BitSet done = new BitSet(size);
+        for (int column = 0; column < columns.length; column++) {
+            done.clear();
+            for (int start = 0; start < size; start++) {
+                if (order[start] == start || done.get(start)) continue;
+                switch (kinds[column]) {
+                    case INT: {
+                        int[] a = (int[]) columns[column];
+                        int tmp = a[start], j = start;
+                        for (int k = order[j]; k != start; j = k, k = order[j]) {
+                            a[j] = a[k];
+                            done.set(j);
+                        }
+                        a[j] = tmp;
+                        done.set(j);
+                        break;
+                    }
+                    case LONG: {
+                        long[] a = (long[]) columns[column];
+                        long tmp = a[start];
+                        int j = start;
+                        for (int k = order[j]; k != start; j = k, k = order[j]) {
+                            a[j] = a[k];
+                            done.set(j);
+                        }
+                        a[j] = tmp;
+                        done.set(j);
+                        break;
+                    }
+                    case DOUBLE: {
+                        double[] a = (double[]) columns[column];
+                        double tmp = a[start];
+                        int j = start;
+                        for (int k = order[j]; k != start; j = k, k = order[j]) {
+                            a[j] = a[k];
+                            done.set(j);
+                        }
+                        a[j] = tmp;
+                        done.set(j);
+                        break;
+                    }
+                    default: {
+                        Object[] a = (Object[]) columns[column];
+                        Object tmp = a[start];
+                        int j = start;
+                        for (int k = order[j]; k != start; j = k, k = order[j]) {
+                            a[j] = a[k];
+                            done.set(j);
+                        }
+                        a[j] = tmp;
+                        done.set(j);
+                    }
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compare(int column, int a, int b) {
+        switch (kinds[column]) {
+            case INT:
+                int[] ints = (int[]) columns[column];
+                return Integer.compare(ints[a], ints[b]);
+            case LONG:
+                long[] longs = (long[]) columns[column];
+                return Long.compare(longs[a], longs[b]);
+            case DOUBLE:
+                double[] doubles = (double[]) columns[column];
+                return Double.compare(doubles[a], doubles[b]);
+            default:
+                Comparable x = (Comparable) ((Object[]) columns[column])[a];
+                Comparable y = (Comparable) ((Object[]) columns[column])[b];
+                if (x == y) return 0;
+                if (x == null) return -1;
+                if (y == null) return 1;
+                return x.compareTo(y);
+        }
+    }
+
+    /**
+     * Filter rows into a new batch, the cursor passed to the predicate is reused and must not be kept. <br>
+     * 过滤行并生成新的 batch，传给 predicate 的游标会被复用，不要保存它。
+     *
+     * @param predicate predicate of row. 行的判断条件
+     * @return new batch
+     */
+    public TupleBatch filter(Predicate<? super Cursor> predicate) {
+        Objects.requireNonNull(predicate);
+        int[] rows = new int[size];
+        int count = 0;
+        Cursor cursor = new Cursor();
+        while (cursor.next()) {
+            if (predicate.test(cursor)) rows[count++] = cursor.row;
+        }
+        TupleBatch batch = new TupleBatch(schema, 0, columnTypes);
+        for (int i = 0; i < columns.length; i++) batch.columns[i] = gather(columns[i], rows, count, count);
+        batch.size = count;
+        return batch;
+    }
+
+    private static Object gather(Object column, int[] rows, int count, int capacity) {
+        if (column instanceof int[]) {
+            int[] src = (int[]) column, dest = new int[capacity];
+            for (int i = 0; i < count; i++) dest[i] = src[rows[i]];
+            return dest;
+        }
+        if (column instanceof long[]) {
+            long[] src = (long[]) column, dest = new long[capacity];
+            for (int i = 0; i < count; i++) dest[i] = src[rows[i]];
+            return dest;
+        }
+        if (column instanceof double[]) {
+            double[] src = (double[]) column, dest = new double[capacity];
+            for (int i = 0; i < count; i++) dest[i] = src[rows[i]];
+            return dest;
+        }
+        Object[] src = (Object[]) column, dest = new Object[capacity];
+        for (int i = 0; i < count; i++) dest[i] = src[rows[i]];
+        return dest;
+    }
+
+    @Override
+    public String toString() {
+        return "TupleBatch(columns=" + columns.length + ", size=" + size + (schema == null ? "" : ", schema=" + schema) + ")";
+    }
+
+    /**
+     * Cursor over the rows of the batch, reading cells without allocation. <br>
+     * 遍历 batch 各行的游标，读取单元格时没有内存分配
+     */
+    public final class Cursor {
+        private int row = -1;
+
+        private Cursor() {
+        }
+
+        /**
+         * Move to the next row. 移动到下一行
+         *
+         * @return {@code false} if no more rows
+         */
+        public boolean next() {
+            if (row + 1 >= size) return false;
+            row++;
+            return true;
+        }
+
+        /**
+         * Move to the row. 移动到指定行
+         *
+         * @param row index of row. 行序号
+         * @return this cursor
+         */
+        public Cursor moveTo(int row) {
+            checkRow(row);
+            this.row = row;
+            return this;
+        }
+
+        public Cursor reset() {
+            row = -1;
+            return this;
+        }
+
+        public int row() {
+            return row;
+        }
+
+        public int getInt(int column) {
+            return ((int[]) columns[column])[row];
+        }
+
+        public long getLong(int column) {
+            return ((long[]) columns[column])[row];
+        }
+
+        public double getDouble(int column) {
+            return ((double[]) columns[column])[row];
+        }
+
+        public <R> R get(int column) {
+            return TupleBatch.this.get(row, column);
+        }
+
+        /**
+         * Export the current row as a tuple. 将当前行导出为元组
+         *
+         * @return tuple
+         */
+        public Tuple toTuple() {
+            return TupleBatch.this.row(row);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Stable merge sort of row indexes used by {@link TupleBatch#sort(int...)} and {@link TupleBatch#parallelSort(int...)}.
+ * The rows are sorted as a primitive {@code int[]} permutation with one {@code int[]} buffer, no boxing. <br>
+ * 行序号的稳定归并排序，排序对象是基本类型 {@code int[]} 排列，只需一个 {@code int[]} 缓冲区，没有装箱。
+ *
+ * @since 0.4.2
+ */
+class TupleBatchSortTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    /**
+     * Ranges not larger than this are sorted sequentially. 不大于此长度的区间串行排序
+     */
+    static final int PARALLEL_GRANULARITY = 1 << 13;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final int[] rows;
+    private final int[] buffer;
+    private final int from;
+    private final int to;
+    private final IntBinaryOperator comparator;
+
+    TupleBatchSortTask(int[] rows, int[] buffer, int from, int to, IntBinaryOperator comparator) {
+        this.rows = rows;
+        this.buffer = buffer;
+        this.from = from;
+        this.to = to;
+        this.comparator = comparator;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= PARALLEL_GRANULARITY) {
+            sort(rows, buffer, from, to, comparator);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        invokeAll(new TupleBatchSortTask(rows, buffer, from, mid, comparator),
+                new TupleBatchSortTask(rows, buffer, mid, to, comparator));
+        merge(rows, buffer, from, mid, to, comparator);
+    }
+
+    /**
+     * Sort {@code rows[from, to)} sequentially, {@code buffer} must be at least as long as {@code rows}. <br>
+     * 串行排序 {@code rows[from, to)}，{@code buffer} 的长度不能小于 {@code rows}
+     */
+    static void sort(int[] rows, int[] buffer, int from, int to, IntBinaryOperator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int row = rows[i];
+                int j = i - 1;
+                while (j >= from && comparator.applyAsInt(rows[j], row) > 0) {
+                    rows[j + 1] = rows[j];
+                    j--;
+                }
+                rows[j + 1] = row;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sort(rows, buffer, from, mid, comparator);
+        sort(rows, buffer, mid, to, comparator);
+        merge(rows, buffer, from, mid, to, comparator);
+    }
+
+    private static void merge(int[] rows, int[] buffer, int from, int mid, int to, IntBinaryOperator comparator) {
+        // 两段已经有序
+        if (comparator.applyAsInt(rows[mid - 1], rows[mid]) <= 0) return;
+        System.arraycopy(rows, from, buffer, from, to - from);
+        int i = from, j = mid, k = from;
+        while (i < mid && j < to) {
+            rows[k++] = comparator.applyAsInt(buffer[j], buffer[i]) < 0 ? buffer[j++] : buffer[i++];
+        }
+        while (i < mid) rows[k++] = buffer[i++];
+        while (j < to) rows[k++] = buffer[j++];
+    }
+}
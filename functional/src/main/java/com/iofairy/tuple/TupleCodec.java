@@ -0,0 +1,569 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compact binary codec of tuples. Elements are written with varint type tags, with fast paths for primitives,
+ * strings and nested tuples (other values fall back to Java serialization). Aliases are written once per
+ * {@link TupleSchema} and referenced by id afterwards, so a codec instance should be used for one stream in one direction. <br>
+ * 元组的紧凑二进制编解码器。元素使用 varint 编码的类型标记，基本类型、字符串与嵌套元组有快速路径（其他值使用 Java 序列化）。
+ * 每个 {@link TupleSchema} 的别名只写一次，之后通过 id 引用，所以一个编解码器实例应只用于一个流的一个方向（写或读）。<br>
+ * 只支持字符串别名与枚举类型的 {@link TupleAlias} 别名；作为元素的元组如果是子类或者使用了其他别名，则使用 Java 序列化写入。
+ *
+ * @since 0.4.2
+ */
+public class TupleCodec {
+    private static final int TUPLE = 0;
+    private static final int EASY_TUPLE = 1;
+    private static final int INT_TUPLE2 = 2;
+    private static final int LONG_TUPLE2 = 3;
+    private static final int DOUBLE_TUPLE2 = 4;
+    private static final int DOUBLE_TUPLE3 = 5;
+    private static final int INT_DOUBLE_TUPLE = 6;
+    private static final int LONG_DOUBLE_TUPLE = 7;
+
+    private static final int NO_SCHEMA = 0;
+    private static final int STRING_SCHEMA = 1;
+    private static final int ENUM_SCHEMA = 2;
+    private static final int SCHEMA_REF = 3;
+
+    private static final int NULL = 0;
+    private static final int INT = 1;
+    private static final int LONG = 2;
+    private static final int DOUBLE = 3;
+    private static final int FLOAT = 4;
+    private static final int STRING = 5;
+    private static final int TRUE = 6;
+    private static final int FALSE = 7;
+    private static final int SHORT = 8;
+    private static final int BYTE = 9;
+    private static final int CHAR = 10;
+    private static final int NESTED_TUPLE = 11;
+    private static final int OBJECT = 12;
+    private static final int SERIALIZED = 13;
+
+    private static final Map<Class<?>, Integer> KINDS = new HashMap<>();
+
+    static {
+        for (Class<?> c : Arrays.asList(Tuple0.class, Tuple1.class, Tuple2.class, Tuple3.class, Tuple4.class,
+                Tuple5.class, Tuple6.class, Tuple7.class, Tuple8.class, Tuple9.class)) {
+            KINDS.put(c, TUPLE);
+        }
+        for (Class<?> c : Arrays.asList(EasyTuple0.class, EasyTuple1.class, EasyTuple2.class, EasyTuple3.class, EasyTuple4.class,
+                EasyTuple5.class, EasyTuple6.class, EasyTuple7.class, EasyTuple8.class, EasyTuple9.class)) {
+            KINDS.put(c, EASY_TUPLE);
+        }
+        KINDS.put(IntTuple2.class, INT_TUPLE2);
+        KINDS.put(LongTuple2.class, LONG_TUPLE2);
+        KINDS.put(DoubleTuple2.class, DOUBLE_TUPLE2);
+        KINDS.put(DoubleTuple3.class, DOUBLE_TUPLE3);
+        KINDS.put(IntDoubleTuple.class, INT_DOUBLE_TUPLE);
+        KINDS.put(LongDoubleTuple.class, LONG_DOUBLE_TUPLE);
+    }
+
+    private final Map<TupleSchema, Integer> writtenSchemas = new IdentityHashMap<>();
+    private final List<TupleSchema> readSchemas = new ArrayList<>();
+
+    /**
+     * Whether the tuple class is decoded to the same class. Other tuples are decoded as {@link Tuple}. <br>
+     * 该元组类型是否会被解码为相同的类型，其他类型的元组会被解码为普通的 {@link Tuple}。
+     *
+     * @param tupleClass class of tuple
+     * @return {@code true} if supported
+     */
+    public static boolean isSupported(Class<?> tupleClass) {
+        return KINDS.containsKey(tupleClass);
+    }
+
+    /**
+     * Whether the aliases can be written by the codec: string aliases, or {@link TupleAlias} aliases that are enums. <br>
+     * 别名是否可以被编解码器写出：字符串别名，或者枚举类型的 {@link TupleAlias} 别名。
+     *
+     * @param schema aliases, can be {@code null}
+     * @return {@code true} if encodable
+     */
+    static boolean isEncodable(TupleSchema schema) {
+        if (schema == null) return true;
+        for (TupleAlias alias : schema.getTupleAliases()) {
+            if (alias != null && !(alias instanceof Enum)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Encode a tuple to bytes. 将元组编码成字节数组
+     *
+     * @param tuple tuple
+     * @return bytes
+     */
+    public static byte[] encode(Tuple tuple) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            new TupleCodec().write(tuple, new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode a tuple from bytes. 从字节数组中解码元组
+     *
+     * @param bytes bytes
+     * @return tuple
+     */
+    public static Tuple decode(byte[] bytes) {
+        try {
+            return new TupleCodec().read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a tuple into the buffer. 将元组写入 buffer
+     *
+     * @param tuple  tuple
+     * @param buffer buffer
+     * @throws java.nio.BufferOverflowException if the buffer has no enough space
+     */
+    public void write(Tuple tuple, ByteBuffer buffer) {
+        try {
+            write(tuple, new DataOutputStream(new ByteBufferOutput(buffer)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read a tuple from the buffer. 从 buffer 中读取元组
+     *
+     * @param buffer buffer
+     * @return tuple
+     */
+    public Tuple read(ByteBuffer buffer) {
+        try {
+            return read(new DataInputStream(new ByteBufferInput(buffer)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a tuple. 写入元组
+     *
+     * @param tuple tuple
+     * @param out   output
+     * @throws IOException if an I/O error occurs, or an alias or element can't be serialized
+     */
+    public void write(Tuple tuple, DataOutput out) throws IOException {
+        Objects.requireNonNull(tuple);
+        Integer kind = KINDS.get(tuple.getClass());
+        if (kind == null) kind = tuple instanceof EasyTuple ? EASY_TUPLE : TUPLE;
+        writeVarint(out, kind);
+        if (kind == TUPLE || kind == EASY_TUPLE) writeVarint(out, tuple.arity());
+        writeSchema(tuple.getSchema(), out);
+
+        switch (kind) {
+            case INT_TUPLE2:
+                IntTuple2 intTuple2 = (IntTuple2) tuple;
+                writeVarint(out, zigzag(intTuple2._1));
+                writeVarint(out, zigzag(intTuple2._2));
+                break;
+            case LONG_TUPLE2:
+                LongTuple2 longTuple2 = (LongTuple2) tuple;
+                writeVarlong(out, zigzag(longTuple2._1));
+                writeVarlong(out, zigzag(longTuple2._2));
+                break;
+            case DOUBLE_TUPLE2:
+                DoubleTuple2 doubleTuple2 = (DoubleTuple2) tuple;
+                out.writeDouble(doubleTuple2._1);
+                out.writeDouble(doubleTuple2._2);
+                break;
+            case DOUBLE_TUPLE3:
+                DoubleTuple3 doubleTuple3 = (DoubleTuple3) tuple;
+                out.writeDouble(doubleTuple3._1);
+                out.writeDouble(doubleTuple3._2);
+                out.writeDouble(doubleTuple3._3);
+                break;
+            case INT_DOUBLE_TUPLE:
+                IntDoubleTuple intDoubleTuple = (IntDoubleTuple) tuple;
+                writeVarint(out, zigzag(intDoubleTuple._1));
+                out.writeDouble(intDoubleTuple._2);
+                break;
+            case LONG_DOUBLE_TUPLE:
+                LongDoubleTuple longDoubleTuple = (LongDoubleTuple) tuple;
+                writeVarlong(out, zigzag(longDoubleTuple._1));
+                out.writeDouble(longDoubleTuple._2);
+                break;
+            default:
+                for (int i = 0; i < tuple.arity(); i++) writeElement(tuple.element(i), out);
+        }
+    }
+
+    /**
+     * Read a tuple. 读取元组
+     *
+     * @param in input
+     * @return tuple
+     * @throws IOException if an I/O error occurs or the data is corrupted
+     */
+    public Tuple read(DataInput in) throws IOException {
+        int kind = readVarint(in);
+        int arity = kind == TUPLE || kind == EASY_TUPLE ? readVarint(in) : 0;
+        TupleSchema schema = readSchema(in);
+
+        Tuple tuple;
+        switch (kind) {
+            case TUPLE:
+            case EASY_TUPLE:
+                if (arity > 9) throw new StreamCorruptedException("Invalid arity: " + arity);
+                Object[] values = new Object[arity];
+                for (int i = 0; i < arity; i++) values[i] = readElement(in);
+                tuple = TupleBase.tupleOf(values, kind == EASY_TUPLE);
+                break;
+            case INT_TUPLE2:
+                tuple = new IntTuple2(unzigzag(readVarint(in)), unzigzag(readVarint(in)));
+                break;
+            case LONG_TUPLE2:
+                tuple = new LongTuple2(unzigzag(readVarlong(in)), unzigzag(readVarlong(in)));
+                break;
+            case DOUBLE_TUPLE2:
+                tuple = new DoubleTuple2(in.readDouble(), in.readDouble());
+                break;
+            case DOUBLE_TUPLE3:
+                tuple = new DoubleTuple3(in.readDouble(), in.readDouble(), in.readDouble());
+                break;
+            case INT_DOUBLE_TUPLE:
+                tuple = new IntDoubleTuple(unzigzag(readVarint(in)), in.readDouble());
+                break;
+            case LONG_DOUBLE_TUPLE:
+                tuple = new LongDoubleTuple(unzigzag(readVarlong(in)), in.readDouble());
+                break;
+            default:
+                throw new StreamCorruptedException("Invalid tuple kind: " + kind);
+        }
+        return schema == null ? tuple : tuple.alias(schema);
+    }
+
+    /**
+     * Forget the schemas written or read, e.g.: when the stream is reset. 清除已写入或已读取的 schema
+     */
+    public void reset() {
+        writtenSchemas.clear();
+        readSchemas.clear();
+    }
+
+    private void writeSchema(TupleSchema schema, DataOutput out) throws IOException {
+        if (schema == null) {
+            writeVarint(out, NO_SCHEMA);
+            return;
+        }
+        Integer id = writtenSchemas.get(schema);
+        if (id != null) {
+            writeVarint(out, SCHEMA_REF);
+            writeVarint(out, id);
+            return;
+        }
+
+        List<TupleAlias> tupleAliases = schema.getTupleAliases();
+        if (tupleAliases.isEmpty()) {
+            writeVarint(out, STRING_SCHEMA);
+            writeVarint(out, schema.size());
+            for (String alias : schema.getAliases()) writeNullableString(alias, out);
+        } else {
+            writeVarint(out, ENUM_SCHEMA);
+            writeVarint(out, schema.size());
+            for (TupleAlias alias : tupleAliases) {
+                if (alias == null) {
+                    writeNullableString(null, out);
+                } else if (alias instanceof Enum) {
+                    writeNullableString(((Enum<?>) alias).getDeclaringClass().getName(), out);
+                    writeNullableString(((Enum<?>) alias).name(), out);
+                } else {
+                    throw new NotSerializableException("Only enum TupleAlias is supported: " + alias.getClass().getName());
+                }
+            }
+        }
+        writtenSchemas.put(schema, writtenSchemas.size());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private TupleSchema readSchema(DataInput in) throws IOException {
+        int tag = readVarint(in);
+        switch (tag) {
+            case NO_SCHEMA:
+                return null;
+            case SCHEMA_REF:
+                int id = readVarint(in);
+                if (id >= readSchemas.size()) throw new StreamCorruptedException("Invalid schema reference: " + id);
+                return readSchemas.get(id);
+            case STRING_SCHEMA:
+                String[] aliases = new String[readVarint(in)];
+                for (int i = 0; i < aliases.length; i++) aliases[i] = readNullableString(in);
+                TupleSchema stringSchema = TupleSchema.of(aliases);
+                readSchemas.add(stringSchema);
+                return stringSchema;
+            case ENUM_SCHEMA:
+                TupleAlias[] tupleAliases = new TupleAlias[readVarint(in)];
+                for (int i = 0; i < tupleAliases.length; i++) {
+                    String className = readNullableString(in);
+                    if (className == null) continue;
+                    String name = readNullableString(in);
+                    try {
+                        Class enumClass = Class.forName(className, false, classLoader());
+                        tupleAliases[i] = (TupleAlias) Enum.valueOf(enumClass, name);
+                    } catch (ClassNotFoundException | IllegalArgumentException | ClassCastException e) {
+                        throw new InvalidClassException(className, "Can't resolve the alias `" + name + "`: " + e);
+                    }
+                }
+                TupleSchema enumSchema = TupleSchema.of(tupleAliases);
+                readSchemas.add(enumSchema);
+                return enumSchema;
+            default:
+                throw new StreamCorruptedException("Invalid schema tag: " + tag);
+        }
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader == null ? TupleCodec.class.getClassLoader() : loader;
+    }
+
+    private void writeElement(Object value, DataOutput out) throws IOException {
+        if (value == null) {
+            writeVarint(out, NULL);
+        } else if (value instanceof Integer) {
+            writeVarint(out, INT);
+            writeVarint(out, zigzag((Integer) value));
+        } else if (value instanceof Long) {
+            writeVarint(out, LONG);
+            writeVarlong(out, zigzag((Long) value));
+        } else if (value instanceof Double) {
+            writeVarint(out, DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            writeVarint(out, STRING);
+            writeString((String) value, out);
+        } else if (value instanceof Boolean) {
+            writeVarint(out, (Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Float) {
+            writeVarint(out, FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            writeVarint(out, SHORT);
+            writeVarint(out, zigzag((Short) value));
+        } else if (value instanceof Byte) {
+            writeVarint(out, BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            writeVarint(out, CHAR);
+            writeVarint(out, (Character) value);
+        } else if (value instanceof Tuple && isSupported(value.getClass()) && isEncodable(((Tuple) value).getSchema())) {
+            // 子类或使用非枚举 TupleAlias 别名的元组使用 Java 序列化，保留其类型与别名
+            writeVarint(out, NESTED_TUPLE);
+            write((Tuple) value, out);
+        } else if (out instanceof ObjectOutput) {
+            writeVarint(out, OBJECT);
+            ((ObjectOutput) out).writeObject(value);
+        } else {
+            writeVarint(out, SERIALIZED);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+                oos.writeObject(value);
+            }
+            writeVarint(out, bytes.size());
+            out.write(bytes.toByteArray());
+        }
+    }
+
+    private Object readElement(DataInput in) throws IOException {
+        int tag = readVarint(in);
+        switch (tag) {
+            case NULL:
+                return null;
+            case INT:
+                return unzigzag(readVarint(in));
+            case LONG:
+                return unzigzag(readVarlong(in));
+            case DOUBLE:
+                return in.readDouble();
+            case STRING:
+                return readString(in);
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case FLOAT:
+                return in.readFloat();
+            case SHORT:
+                return (short) unzigzag(readVarint(in));
+            case BYTE:
+                return in.readByte();
+            case CHAR:
+                return (char) readVarint(in);
+            case NESTED_TUPLE:
+                return read(in);
+            case OBJECT:
+                if (!(in instanceof ObjectInput)) throw new StreamCorruptedException("The object element must be read from an ObjectInput. ");
+                try {
+                    return ((ObjectInput) in).readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new InvalidClassException(e.getMessage());
+                }
+            case SERIALIZED:
+                byte[] bytes = new byte[readVarint(in)];
+                in.readFully(bytes);
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return ois.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new InvalidClassException(e.getMessage());
+                }
+            default:
+                throw new StreamCorruptedException("Invalid element tag: " + tag);
+        }
+    }
+
+    private static void writeString(String value, DataOutput out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarint(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 0 表示 null，否则为 长度 + 1
+     */
+    private static void writeNullableString(String value, DataOutput out) throws IOException {
+        if (value == null) {
+            writeVarint(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        int length = readVarint(in);
+        if (length == 0) return null;
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static void writeVarlong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarint(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new StreamCorruptedException("Malformed varint. ");
+    }
+
+    private static long readVarlong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new StreamCorruptedException("Malformed varlong. ");
+    }
+
+    private static class ByteBufferOutput extends OutputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferOutput(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.put(b, off, len);
+        }
+    }
+
+    private static class ByteBufferInput extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInput(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+    }
+}
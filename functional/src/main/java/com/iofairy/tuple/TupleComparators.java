@@ -0,0 +1,426 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Comparators of tuples. 元组的比较器
+ * <p>
+ * <b>Examples:</b>
+ * <pre>
+ * // order by 1st ascending (nulls first), then 2nd descending (nulls last)
+ * Comparator&lt;Tuple2&lt;String, Integer&gt;&gt; comparator = TupleComparators.lexicographic(TupleComparators.asc(), TupleComparators.desc());
+ * </pre>
+ *
+ * @since 0.4.2
+ */
+public final class TupleComparators {
+
+    private TupleComparators() {
+    }
+
+    /**
+     * Natural ascending order, {@code null} first. 自然升序，null 排在最前
+     *
+     * @param <T> type of element
+     * @return comparator
+     */
+    public static <T extends Comparable<? super T>> Comparator<T> asc() {
+        return Comparator.nullsFirst(Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Natural descending order, {@code null} last. 自然降序，null 排在最后
+     *
+     * @param <T> type of element
+     * @return comparator
+     */
+    public static <T extends Comparable<? super T>> Comparator<T> desc() {
+        return Comparator.nullsLast(Comparator.<T>reverseOrder());
+    }
+
+    /**
+     * Natural ordering of tuples whose elements are all {@link Comparable}: compare element by element
+     * ({@code null} first), then the shorter tuple first. <br>
+     * 所有元素都实现了 {@link Comparable} 的元组的自然顺序：逐个比较元素（null 排在最前），元素都相等时短的元组在前。
+     *
+     * @param <T> type of tuple
+     * @return comparator
+     * @throws ClassCastException if an element is not {@link Comparable}
+     */
+    public static <T extends Tuple> Comparator<T> naturalOrder() {
+        return TupleComparators::compareNatural;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareNatural(Tuple a, Tuple b) {
+        int arity = Math.min(a.arity(), b.arity());
+        for (int i = 0; i < arity; i++) {
+            Comparable x = a.element(i);
+            Comparable y = b.element(i);
+            if (x == y) continue;
+            if (x == null) return -1;
+            if (y == null) return 1;
+            int r = x.compareTo(y);
+            if (r != 0) return r;
+        }
+        return Integer.compare(a.arity(), b.arity());
+    }
+
+    /**
+     * Compare tuples by the elements at the positions in natural ascending order ({@code null} first),
+     * use {@link Comparator#reversed()} for descending. <br>
+     * 按指定位置的元素自然升序比较（null 排在最前）
+     *
+     * @param positions positions of elements (0-based). 元素的位置（从0开始）
+     * @param <T>       type of tuple
+     * @return comparator
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T extends Tuple> Comparator<T> byPositions(int... positions) {
+        Objects.requireNonNull(positions);
+        int[] keys = positions.clone();
+        return (a, b) -> {
+            for (int position : keys) {
+                Comparable x = a.element(position);
+                Comparable y = b.element(position);
+                if (x == y) continue;
+                if (x == null) return -1;
+                if (y == null) return 1;
+                int r = x.compareTo(y);
+                if (r != 0) return r;
+            }
+            return 0;
+        };
+    }
+
+    /**
+     * Lexicographic comparator of {@link Tuple1}, the elements are read from the fields directly. <br>
+     * {@link Tuple1} 的字典序比较器，直接读取字段，不经过 {@code element(n)}。
+     *
+     * @param c1 comparator of the 1st element. 第1个元素的比较器
+     * @param <T1> type of the 1st element
+     * @return comparator
+     */
+    public static <T1> Comparator<Tuple1<T1>> lexicographic(Comparator<? super T1> c1) {
+        Objects.requireNonNull(c1);
+        return (a, b) -> {
+            return c1.compare(a._1, b._1);
+        };
+    }
+
+    /**
+     * Lexicographic comparator of {@link Tuple2}, the elements are read from the fields directly. <br>
+     * {@link Tuple2} 的字典序比较器，直接读取字段，不经过 {@code element(n)}。
+     *
+     * @param c1 comparator of the 1st element. 第1个元素的比较器
+     * @param c2 comparator of the 2nd element. 第2个元素的比较器
+     * @param <T1> type of the 1st element
+     * @param <T2> type of the 2nd element
+     * @return comparator
+     */
+    public static <T1, T2> Comparator<Tuple2<T1, T2>> lexicographic(Comparator<? super T1> c1, Comparator<? super T2> c2) {
+        Objects.requireNonNull(c1);
+        Objects.requireNonNull(c2);
+        return (a, b) -> {
+            int r1 = c1.compare(a._1, b._1);
+            if (r1 != 0) return r1;
+            return c2.compare(a._2, b._2);
+        };
+    }
+
+    /**
+     * Lexicographic comparator of {@link Tuple3}, the elements are read from the fields directly. <br>
+     * {@link Tuple3} 的字典序比较器，直接读取字段，不经过 {@code element(n)}。
+     *
+     * @param c1 comparator of the 1st element. 第1个元素的比较器
+     * @param c2 comparator of the 2nd element. 第2个元素的比较器
+     * @param c3 comparator of the 3rd element. 第3个元素的比较器
+     * @param <T1> type of the 1st element
+     * @param <T2> type of the 2nd element
+     * @param <T3> type of the 3rd element
+     * @return comparator
+     */
+    public static <T1, T2, T3> Comparator<Tuple3<T1, T2, T3>> lexicographic(Comparator<? super T1> c1, Comparator<? super T2> c2, Comparator<? super T3> c3) {
+        Objects.requireNonNull(c1);
+        Objects.requireNonNull(c2);
+        Objects.requireNonNull(c3);
+        return (a, b) -> {
+            int r1 = c1.compare(a._1, b._1);
+            if (r1 != 0) return r1;
+            int r2 = c2.compare(a._2, b._2);
+            if (r2 != 0) return r2;
+            return c3.compare(a._3, b._3);
+        };
+    }
+
+    /**
+     * Lexicographic comparator of {@link Tuple4}, the elements are read from the fields directly. <br>
+     * {@link Tuple4} 的字典序比较器，直接读取字段，不经过 {@code element(n)}。
+     *
+     * @param c1 comparator of the 1st element. 第1个元素的比较器
+     * @param c2 comparator of the 2nd element. 第2个元素的比较器
+     * @param c3 comparator of the 3rd element. 第3个元素的比较器
+     * @param c4 comparator of the 4th element. 第4个元素的比较器
+     * @param <T1> type of the 1st element
+     * @param <T2> type of the 2nd element
+     * @param <T3> type of the 3rd element
+     * @param <T4> type of the 4th element
+     * @return comparator
+     */
+    public static <T1, T2, T3, T4> Comparator<Tuple4<T1, T2, T3, T4>> lexicographic(Comparator<? super T1> c1, Comparator<? super T2> c2, Comparator<? super T3> c3, Comparator<? super T4> c4) {
+        Objects.requireNonNull(c1);
+        Objects.requireNonNull(c2);
+        Objects.requireNonNull(c3);
+        Objects.requireNonNull(c4);
+        return (a, b) -> {
+            int r1 = c1.compare(a._1, b._1);
+            if (r1 != 0) return r1;
+            int r2 = c2.compare(a._2, b._2);
+            if (r2 != 0) return r2;
+            int r3 = c3.compare(a._3, b._3);
+            if (r3 != 0) return r3;
+            return c4.compare(a._4, b._4);
+        };
+    }
+
+    /**
+     * Lexicographic comparator of {@link Tuple5}, the elements are read from the fields directly. <br>
+     * {@link Tuple5} 的字典序比较器，直接读取字段，不经过 {@code element(n)}。
+     *
+     * @param c1 comparator of the 1st element. 第1个元素的比较器
+     * @param c2 comparator of the 2nd element. 第2个元素的比较器
+     * @param c3 comparator of the 3rd element. 第3个元素的比较器
+     * @param c4 comparator of the 4th element. 第4个元素的比较器
+     * @param c5 comparator of the 5th element. 第5个元素的比较器
+     * @param <T1> type of the 1st element
+     * @param <T2> type of the 2nd element
+     * @param <T3> type of the 3rd element
+     * @param <T4> type of the 4th element
+     * @param <T5> type of the 5th element
+     * @return comparator
+     */
+    public static <T1, T2, T3, T4, T5> Comparator<Tuple5<T1, T2, T3, T4, T5>> lexicographic(Comparator<? super T1> c1, Comparator<? super T2> c2, Comparator<? super T3> c3, Comparator<? super T4> c4, Comparator<? super T5> c5) {
+        Objects.requireNonNull(c1);
+        Objects.requireNonNull(c2);
+        Objects.requireNonNull(c3);
+        Objects.requireNonNull(c4);
+        Objects.requireNonNull(c5);
+        return (a, b) -> {
+            int r1 = c1.compare(a._1, b._1);
+            if (r1 != 0) return r1;
+            int r2 = c2.compare(a._2, b._2);
+            if (r2 != 0) return r2;
+            int r3 = c3.compare(a._3, b._3);
+            if (r3 != 0) return r3;
+            int r4 = c4.compare(a._4, b._4);
+            if (r4 != 0) return r4;
+            return c5.compare(a._5, b._5);
+        };
+    }
+
+    /**
+     * Lexicographic comparator of {@link Tuple6}, the elements are read from the fields directly. <br>
+     * {@link Tuple6} 的字典序比较器，直接读取字段，不经过 {@code element(n)}。
+     *
+     * @param c1 comparator of the 1st element. 第1个元素的比较器
+     * @param c2 comparator of the 2nd element. 第2个元素的比较器
+     * @param c3 comparator of the 3rd element. 第3个元素的比较器
+     * @param c4 comparator of the 4th element. 第4个元素的比较器
+     * @param c5 comparator of the 5th element. 第5个元素的比较器
+     * @param c6 comparator of the 6th element. 第6个元素的比较器
+     * @param <T1> type of the 1st element
+     * @param <T2> type of the 2nd element
+     * @param <T3> type of the 3rd element
+     * @param <T4> type of the 4th element
+     * @param <T5> type of the 5th element
+     * @param <T6> type of the 6th element
+     * @return comparator
+     */
+    public static <T1, T2, T3, T4, T5, T6> Comparator<Tuple6<T1, T2, T3, T4, T5, T6>> lexicographic(Comparator<? super T1> c1, Comparator<? super T2> c2, Comparator<? super T3> c3, Comparator<? super T4> c4, Comparator<? super T5> c5, Comparator<? super T6> c6) {
+        Objects.requireNonNull(c1);
+        Objects.requireNonNull(c2);
+        Objects.requireNonNull(c3);
+        Objects.requireNonNull(c4);
+        Objects.requireNonNull(c5);
+        Objects.requireNonNull(c6);
+        return (a, b) -> {
+            int r1 = c1.compare(a._1, b._1);
+            if (r1 != 0) return r1;
+            int r2 = c2.compare(a._2, b._2);
+            if (r2 != 0) return r2;
+            int r3 = c3.compare(a._3, b._3);
+            if (r3 != 0) return r3;
+            int r4 = c4.compare(a._4, b._4);
+            if (r4 != 0) return r4;
+            int r5 = c5.compare(a._5, b._5);
+            if (r5 != 0) return r5;
+            return c6.compare(a._6, b._6);
+        };
+    }
+
+    /**
+     * Lexicographic comparator of {@link Tuple7}, the elements are read from the fields directly. <br>
+     * {@link Tuple7} 的字典序比较器，直接读取字段，不经过 {@code element(n)}。
+     *
+     * @param c1 comparator of the 1st element. 第1个元素的比较器
+     * @param c2 comparator of the 2nd element. 第2个元素的比较器
+     * @param c3 comparator of the 3rd element. 第3个元素的比较器
+     * @param c4 comparator of the 4th element. 第4个元素的比较器
+     * @param c5 comparator of the 5th element. 第5个元素的比较器
+     * @param c6 comparator of the 6th element. 第6个元素的比较器
+     * @param c7 comparator of the 7th element. 第7个元素的比较器
+     * @param <T1> type of the 1st element
+     * @param <T2> type of the 2nd element
+     * @param <T3> type of the 3rd element
+     * @param <T4> type of the 4th element
+     * @param <T5> type of the 5th element
+     * @param <T6> type of the 6th element
+     * @param <T7> type of the 7th element
+     * @return comparator
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7> Comparator<Tuple7<T1, T2, T3, T4, T5, T6, T7>> lexicographic(Comparator<? super T1> c1, Comparator<? super T2> c2, Comparator<? super T3> c3, Comparator<? super T4> c4, Comparator<? super T5> c5, Comparator<? super T6> c6, Comparator<? super T7> c7) {
+        Objects.requireNonNull(c1);
+        Objects.requireNonNull(c2);
+        Objects.requireNonNull(c3);
+        Objects.requireNonNull(c4);
+        Objects.requireNonNull(c5);
+        Objects.requireNonNull(c6);
+        Objects.requireNonNull(c7);
+        return (a, b) -> {
+            int r1 = c1.compare(a._1, b._1);
+            if (r1 != 0) return r1;
+            int r2 = c2.compare(a._2, b._2);
+            if (r2 != 0) return r2;
+            int r3 = c3.compare(a._3, b._3);
+            if (r3 != 0) return r3;
+            int r4 = c4.compare(a._4, b._4);
+            if (r4 != 0) return r4;
+            int r5 = c5.compare(a._5, b._5);
+            if (r5 != 0) return r5;
+            int r6 = c6.compare(a._6, b._6);
+            if (r6 != 0) return r6;
+            return c7.compare(a._7, b._7);
+        };
+    }
+
+    /**
+     * Lexicographic comparator of {@link Tuple8}, the elements are read from the fields directly. <br>
+     * {@link Tuple8} 的字典序比较器，直接读取字段，不经过 {@code element(n)}。
+     *
+     * @param c1 comparator of the 1st element. 第1个元素的比较器
+     * @param c2 comparator of the 2nd element. 第2个元素的比较器
+     * @param c3 comparator of the 3rd element. 第3个元素的比较器
+     * @param c4 comparator of the 4th element. 第4个元素的比较器
+     * @param c5 comparator of the 5th element. 第5个元素的比较器
+     * @param c6 comparator of the 6th element. 第6个元素的比较器
+     * @param c7 comparator of the 7th element. 第7个元素的比较器
+     * @param c8 comparator of the 8th element. 第8个元素的比较器
+     * @param <T1> type of the 1st element
+     * @param <T2> type of the 2nd element
+     * @param <T3> type of the 3rd element
+     * @param <T4> type of the 4th element
+     * @param <T5> type of the 5th element
+     * @param <T6> type of the 6th element
+     * @param <T7> type of the 7th element
+     * @param <T8> type of the 8th element
+     * @return comparator
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> Comparator<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> lexicographic(Comparator<? super T1> c1, Comparator<? super T2> c2, Comparator<? super T3> c3, Comparator<? super T4> c4, Comparator<? super T5> c5, Comparator<? super T6> c6, Comparator<? super T7> c7, Comparator<? super T8> c8) {
+        Objects.requireNonNull(c1);
+        Objects.requireNonNull(c2);
+        Objects.requireNonNull(c3);
+        Objects.requireNonNull(c4);
+        Objects.requireNonNull(c5);
+        Objects.requireNonNull(c6);
+        Objects.requireNonNull(c7);
+        Objects.requireNonNull(c8);
+        return (a, b) -> {
+            int r1 = c1.compare(a._1, b._1);
+            if (r1 != 0) return r1;
+            int r2 = c2.compare(a._2, b._2);
+            if (r2 != 0) return r2;
+            int r3 = c3.compare(a._3, b._3);
+            if (r3 != 0) return r3;
+            int r4 = c4.compare(a._4, b._4);
+            if (r4 != 0) return r4;
+            int r5 = c5.compare(a._5, b._5);
+            if (r5 != 0) return r5;
+            int r6 = c6.compare(a._6, b._6);
+            if (r6 != 0) return r6;
+            int r7 = c7.compare(a._7, b._7);
+            if (r7 != 0) return r7;
+            return c8.compare(a._8, b._8);
+        };
+    }
+
+    /**
+     * Lexicographic comparator of {@link Tuple9}, the elements are read from the fields directly. <br>
+     * {@link Tuple9} 的字典序比较器，直接读取字段，不经过 {@code element(n)}。
+     *
+     * @param c1 comparator of the 1st element. 第1个元素的比较器
+     * @param c2 comparator of the 2nd element. 第2个元素的比较器
+     * @param c3 comparator of the 3rd element. 第3个元素的比较器
+     * @param c4 comparator of the 4th element. 第4个元素的比较器
+     * @param c5 comparator of the 5th element. 第5个元素的比较器
+     * @param c6 comparator of the 6th element. 第6个元素的比较器
+     * @param c7 comparator of the 7th element. 第7个元素的比较器
+     * @param c8 comparator of the 8th element. 第8个元素的比较器
+     * @param c9 comparator of the 9th element. 第9个元素的比较器
+     * @param <T1> type of the 1st element
+     * @param <T2> type of the 2nd element
+     * @param <T3> type of the 3rd element
+     * @param <T4> type of the 4th element
+     * @param <T5> type of the 5th element
+     * @param <T6> type of the 6th element
+     * @param <T7> type of the 7th element
+     * @param <T8> type of the 8th element
+     * @param <T9> type of the 9th element
+     * @return comparator
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, T9> Comparator<Tuple9<T1, T2, T3, T4, T5, T6, T7, T8, T9>> lexicographic(Comparator<? super T1> c1, Comparator<? super T2> c2, Comparator<? super T3> c3, Comparator<? super T4> c4, Comparator<? super T5> c5, Comparator<? super T6> c6, Comparator<? super T7> c7, Comparator<? super T8> c8, Comparator<? super T9> c9) {
+        Objects.requireNonNull(c1);
+        Objects.requireNonNull(c2);
+        Objects.requireNonNull(c3);
+        Objects.requireNonNull(c4);
+        Objects.requireNonNull(c5);
+        Objects.requireNonNull(c6);
+        Objects.requireNonNull(c7);
+        Objects.requireNonNull(c8);
+        Objects.requireNonNull(c9);
+        return (a, b) -> {
+            int r1 = c1.compare(a._1, b._1);
+            if (r1 != 0) return r1;
+            int r2 = c2.compare(a._2, b._2);
+            if (r2 != 0) return r2;
+            int r3 = c3.compare(a._3, b._3);
+            if (r3 != 0) return r3;
+            int r4 = c4.compare(a._4, b._4);
+            if (r4 != 0) return r4;
+            int r5 = c5.compare(a._5, b._5);
+            if (r5 != 0) return r5;
+            int r6 = c6.compare(a._6, b._6);
+            if (r6 != 0) return r6;
+            int r7 = c7.compare(a._7, b._7);
+            if (r7 != 0) return r7;
+            int r8 = c8.compare(a._8, b._8);
+            if (r8 != 0) return r8;
+            return c9.compare(a._9, b._9);
+        };
+    }
+}
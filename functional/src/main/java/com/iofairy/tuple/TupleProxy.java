@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.io.*;
+
+/**
+ * Serialization proxy of tuples, written by {@link TupleCodec}. <br>
+ * 元组的序列化代理，使用 {@link TupleCodec} 格式写入。
+ *
+ * @since 0.4.2
+ */
+final class TupleProxy implements Externalizable {
+    private static final long serialVersionUID = 10065917099L;
+
+    private Tuple tuple;
+
+    public TupleProxy() {
+    }
+
+    TupleProxy(Tuple tuple) {
+        this.tuple = tuple;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        new TupleCodec().write(tuple, out);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        tuple = new TupleCodec().read(in);
+    }
+
+    private Object readResolve() {
+        return tuple;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import com.iofairy.except.AliasDuplicateException;
+import com.iofairy.except.AliasNotFoundException;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable and interned aliases of tuple. Tuples with the same aliases share one schema by reference,
+ * so that aliased tuples cost one pointer each, and tuples without aliases cost nothing. <br>
+ * 不可变且被驻留（interned）的元组别名。别名相同的元组共享同一个 schema 实例，
+ * 所以设置了别名的元组只需一个引用的开销，未设置别名的元组没有额外开销。<br>
+ * <b>注：</b>schema 会一直驻留在内存中，不要使用动态生成的、数量无限的别名。
+ *
+ * @since 0.4.2
+ */
+public final class TupleSchema implements Serializable {
+    private static final long serialVersionUID = 10065917095L;
+
+    private static final Map<List<String>, TupleSchema> STRING_SCHEMAS = new ConcurrentHashMap<>();
+    private static final Map<List<TupleAlias>, TupleSchema> TUPLE_SCHEMAS = new ConcurrentHashMap<>();
+
+    /**
+     * List of aliases.　普通别名列表。
+     */
+    private final List<String> aliases;
+    /**
+     * List of tuple aliases, empty if created by {@link #of(String...)}.　TupleAlias别名列表。
+     */
+    private final List<TupleAlias> tupleAliases;
+    /**
+     * Map of aliases.　别名与序号键值对
+     */
+    private final Map<String, Integer> indexes;
+
+    private TupleSchema(List<String> aliases, List<TupleAlias> tupleAliases) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < aliases.size(); i++) {
+            if (indexes.put(aliases.get(i), i) != null) throw new AliasDuplicateException("The aliases can't repeat. 别名不能重复！");
+        }
+        this.aliases = aliases;
+        this.tupleAliases = tupleAliases;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Get the schema of string aliases. 获取字符串别名的 schema
+     *
+     * @param aliases aliases.　别名
+     * @return schema
+     * @throws AliasDuplicateException if the aliases repeat. 如果别名重复，抛出此异常
+     */
+    public static TupleSchema of(String... aliases) {
+        Objects.requireNonNull(aliases);
+        List<String> key = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(aliases)));
+        TupleSchema schema = STRING_SCHEMAS.get(key);
+        if (schema != null) return schema;
+        return STRING_SCHEMAS.computeIfAbsent(key, k -> new TupleSchema(k, Collections.emptyList()));
+    }
+
+    /**
+     * Get the schema of {@link TupleAlias}. 获取 {@link TupleAlias} 别名的 schema
+     *
+     * @param aliases aliases.　别名
+     * @return schema
+     * @throws AliasDuplicateException if the aliases repeat. 如果别名重复，抛出此异常
+     */
+    public static TupleSchema of(TupleAlias... aliases) {
+        Objects.requireNonNull(aliases);
+        List<TupleAlias> key = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(aliases)));
+        TupleSchema schema = TUPLE_SCHEMAS.get(key);
+        if (schema != null) return schema;
+        return TUPLE_SCHEMAS.computeIfAbsent(key, k -> {
+            String[] strAliases = k.stream().map(e -> e == null ? null : e.toString()).toArray(String[]::new);
+            return new TupleSchema(Collections.unmodifiableList(Arrays.asList(strAliases)), k);
+        });
+    }
+
+    /**
+     * Number of aliases. 别名的数量
+     *
+     * @return number of aliases
+     */
+    public int size() {
+        return aliases.size();
+    }
+
+    /**
+     * Index of the alias. 别名对应的序号
+     *
+     * @param alias alias.　别名
+     * @return index of the alias, or {@code -1} if not found
+     */
+    public int indexOf(String alias) {
+        Integer index = indexes.get(alias);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Precompiled accessor of the alias, the elements are checked against the type, see {@link TupleAccessor}. <br>
+     * 获取别名对应的预编译访问器，读取的元素会按类型进行检查
+     *
+     * @param alias alias.　别名
+     * @param type  type of element. 元素的类型
+     * @param <R>   type of element. 元素的类型
+     * @return accessor
+     * @throws AliasNotFoundException if the `alias` not found. 如果不存在该别名，抛出异常
+     */
+    public <R> TupleAccessor<R> accessor(String alias, Class<R> type) {
+        int index = indexOf(alias);
+        if (index == -1) throw new AliasNotFoundException("the alias `" + alias + "` not found. "+" 别名`" + alias + "`没有找到。");
+        return TupleAccessor.of(size(), index, type);
+    }
+
+    public <R> TupleAccessor<R> accessor(TupleAlias alias, Class<R> type) {
+        return accessor(alias == null ? null : alias.toString(), type);
+    }
+
+    /**
+     * Shared untyped accessor of the alias, see {@link TupleAccessor}. 获取别名对应的（共享的）无类型访问器
+     *
+     * @param alias alias.　别名
+     * @return accessor
+     * @throws AliasNotFoundException if the `alias` not found. 如果不存在该别名，抛出异常
+     */
+    public TupleAccessor<Object> accessor(String alias) {
+        return accessor(alias, Object.class);
+    }
+
+    public TupleAccessor<Object> accessor(TupleAlias alias) {
+        return accessor(alias, Object.class);
+    }
+
+    public boolean contains(String alias) {
+        return indexes.containsKey(alias);
+    }
+
+    /**
+     * The nth alias. 第n个别名
+     *
+     * @param n index 序号
+     * @return alias
+     */
+    public String alias(int n) {
+        return aliases.get(n);
+    }
+
+    public List<String> getAliases() {
+        return aliases;
+    }
+
+    public List<TupleAlias> getTupleAliases() {
+        return tupleAliases;
+    }
+
+    /**
+     * Alias type: tuple or string, see {@link Tuple#aliasType()}. 别名类型：tuple 或 string
+     *
+     * @return alias type
+     */
+    public String aliasType() {
+        return tupleAliases.isEmpty() ? "string" : "tuple";
+    }
+
+    private Object readResolve() {
+        return tupleAliases.isEmpty() ? of(aliases.toArray(new String[0])) : of(tupleAliases.toArray(new TupleAlias[0]));
+    }
+
+    @Override
+    public String toString() {
+        return aliasType() + aliases;
+    }
+}
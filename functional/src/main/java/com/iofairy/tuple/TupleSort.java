@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.util.*;
+
+/**
+ * Parallel sorting of tuple arrays, lists and {@link TupleBatch}. <br>
+ * 元组数组、列表与 {@link TupleBatch} 的并行排序
+ *
+ * @see TupleComparators
+ * @since 0.4.2
+ */
+public final class TupleSort {
+
+    private TupleSort() {
+    }
+
+    /**
+     * Sort the tuples by {@link Arrays#parallelSort(Object[], Comparator)}. 使用 {@link Arrays#parallelSort(Object[], Comparator)} 排序
+     *
+     * @param tuples     tuples
+     * @param comparator comparator, e.g.: {@link TupleComparators#lexicographic(Comparator, Comparator)}
+     * @param <T>        type of tuple
+     */
+    public static <T extends Tuple> void parallelSort(T[] tuples, Comparator<? super T> comparator) {
+        Arrays.parallelSort(tuples, Objects.requireNonNull(comparator));
+    }
+
+    /**
+     * Sort the tuples by natural ordering, see {@link TupleComparators#naturalOrder()}. 按自然顺序排序
+     *
+     * @param tuples tuples
+     * @param <T>    type of tuple
+     */
+    public static <T extends Tuple> void parallelSort(T[] tuples) {
+        Arrays.parallelSort(tuples, TupleComparators.naturalOrder());
+    }
+
+    /**
+     * Sort the list in parallel, like {@link List#sort(Comparator)}: the list is dumped to an array, sorted,
+     * and written back. <br>
+     * 并行排序列表，与 {@link List#sort(Comparator)} 类似：先转成数组排序，再写回列表。
+     *
+     * @param tuples     tuples
+     * @param comparator comparator
+     * @param <T>        type of tuple
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Tuple> void parallelSort(List<T> tuples, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator);
+        Object[] array = tuples.toArray();
+        Arrays.parallelSort(array, (Comparator<Object>) comparator);
+        ListIterator<T> iterator = tuples.listIterator();
+        for (Object tuple : array) {
+            iterator.next();
+            iterator.set((T) tuple);
+        }
+    }
+
+    /**
+     * Sort the rows of the batch by the columns in parallel, see {@link TupleBatch#parallelSort(int...)}. <br>
+     * 按指定列并行排序 batch 的行
+     *
+     * @param batch       batch
+     * @param sortColumns indexes of columns. 列的序号
+     * @return the batch
+     */
+    public static TupleBatch parallelSort(TupleBatch batch, int... sortColumns) {
+        return batch.parallelSort(sortColumns);
+    }
+}
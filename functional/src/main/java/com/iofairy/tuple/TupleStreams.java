@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * Stream utilities of tuples: zip, zip with index, unzip and teeing. <br>
+ * 元组相关的流工具：zip、zipWithIndex、unzip 与 teeing。
+ *
+ * @since 0.4.2
+ */
+public final class TupleStreams {
+
+    private TupleStreams() {
+    }
+
+    /**
+     * Zip two streams into a stream of {@link Tuple2}, the length is that of the shorter stream. When both streams have
+     * the same known size ({@link Spliterator#SUBSIZED}), the zipped stream is {@code SIZED} and {@code SUBSIZED} too,
+     * and splits in parallel as the first stream splits (the matching prefix of the second stream is buffered). <br>
+     * 将两个流合并成 {@link Tuple2} 的流，长度与较短的流相同。当两个流的大小已知且相等时，合并后的流也是 {@code SIZED} 与
+     * {@code SUBSIZED} 的，并行时按第一个流的方式分割（第二个流对应的前缀会被缓存）。对于 {@link List}，请使用 {@link #zip(List, List)}。
+     *
+     * @param as  the first stream
+     * @param bs  the second stream
+     * @param <A> type of elements of the first stream
+     * @param <B> type of elements of the second stream
+     * @return zipped stream
+     */
+    public static <A, B> Stream<Tuple2<A, B>> zip(Stream<A> as, Stream<B> bs) {
+        Objects.requireNonNull(as);
+        Objects.requireNonNull(bs);
+        ZipSpliterator<A, B> spliterator = new ZipSpliterator<>(as.spliterator(), bs.spliterator());
+        return StreamSupport.stream(spliterator, as.isParallel() || bs.isParallel())
+                .onClose(() -> {
+                    try {
+                        as.close();
+                    } finally {
+                        bs.close();
+                    }
+                });
+    }
+
+    /**
+     * Zip two lists by index, no buffering, splits evenly in parallel. <br>
+     * 按下标合并两个列表，无缓存，并行时均匀分割。
+     *
+     * @param as  the first list, should be {@link RandomAccess}
+     * @param bs  the second list, should be {@link RandomAccess}
+     * @param <A> type of elements of the first list
+     * @param <B> type of elements of the second list
+     * @return zipped stream
+     */
+    public static <A, B> Stream<Tuple2<A, B>> zip(List<A> as, List<B> bs) {
+        Objects.requireNonNull(as);
+        Objects.requireNonNull(bs);
+        return IntStream.range(0, Math.min(as.size(), bs.size())).mapToObj(i -> new Tuple2<>(as.get(i), bs.get(i)));
+    }
+
+    /**
+     * Pair each element with its index (0-based). Splits in parallel only when the stream is {@code SUBSIZED}. <br>
+     * 为每个元素加上其序号（从0开始），只有流是 {@code SUBSIZED} 时才能并行分割。
+     *
+     * @param stream stream
+     * @param <T>    type of elements
+     * @return stream of (element, index)
+     */
+    public static <T> Stream<Tuple2<T, Long>> zipWithIndex(Stream<T> stream) {
+        Objects.requireNonNull(stream);
+        return StreamSupport.stream(new IndexedSpliterator<>(stream.spliterator(), 0), stream.isParallel())
+                .onClose(stream::close);
+    }
+
+    /**
+     * Collector that unzips {@link Tuple2}s into two lists. 将 {@link Tuple2} 拆分成两个列表的收集器
+     *
+     * @param <A> type of the 1st elements
+     * @param <B> type of the 2nd elements
+     * @return collector
+     */
+    public static <A, B> Collector<Tuple2<? extends A, ? extends B>, ?, Tuple2<List<A>, List<B>>> unzip() {
+        return unzip(10);
+    }
+
+    /**
+     * Collector that unzips {@link Tuple2}s into two presized lists, for sequential streams. Each container is presized on
+     * its first element, so on a parallel stream every non-empty split presizes its own lists, use {@link #unzip(Stream)}
+     * or {@link #unzip()} for parallel streams. <br>
+     * 将 {@link Tuple2} 拆分成两个预设容量的列表的收集器，适用于顺序流。每个容器在收到第一个元素时预设容量，
+     * 所以并行流的每个非空分片都会预设容量，并行流请使用 {@link #unzip(Stream)} 或 {@link #unzip()}。
+     *
+     * @param expectedSize expected number of elements. 预期的元素数量
+     * @param <A>          type of the 1st elements
+     * @param <B>          type of the 2nd elements
+     * @return collector
+     */
+    public static <A, B> Collector<Tuple2<? extends A, ? extends B>, ?, Tuple2<List<A>, List<B>>> unzip(int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Parameter `expectedSize` must be >= 0. ");
+        return unzip0(expectedSize);
+    }
+
+    /**
+     * Unzip {@link Tuple2}s of the stream into two lists, the lists are presized with the exact size of the stream
+     * when it is known ({@link Spliterator#getExactSizeIfKnown()}). <br>
+     * 将流中的 {@link Tuple2} 拆分成两个列表。流的大小已知时，按准确的大小预设列表容量。
+     *
+     * @param stream stream of tuples
+     * @param <A>    type of the 1st elements
+     * @param <B>    type of the 2nd elements
+     * @return tuple of two lists
+     */
+    public static <A, B> Tuple2<List<A>, List<B>> unzip(Stream<? extends Tuple2<? extends A, ? extends B>> stream) {
+        Objects.requireNonNull(stream);
+        boolean parallel = stream.isParallel();
+        Spliterator<? extends Tuple2<? extends A, ? extends B>> spliterator = stream.spliterator();
+        if (parallel) return StreamSupport.stream(spliterator, true).collect(TupleStreams.<A, B>unzip0(0));
+
+        long size = spliterator.getExactSizeIfKnown();
+        int capacity = size < 0 || size > Integer.MAX_VALUE - 8 ? 10 : (int) size;
+        List<A> list1 = new ArrayList<>(capacity);
+        List<B> list2 = new ArrayList<>(capacity);
+        spliterator.forEachRemaining(tuple -> {
+            list1.add(tuple._1);
+            list2.add(tuple._2);
+        });
+        return new Tuple2<>(list1, list2);
+    }
+
+    private static <A, B> Collector<Tuple2<? extends A, ? extends B>, ?, Tuple2<List<A>, List<B>>> unzip0(int expectedSize) {
+        return Collector.<Tuple2<? extends A, ? extends B>, Tuple2<ArrayList<A>, ArrayList<B>>, Tuple2<List<A>, List<B>>>of(
+                () -> new Tuple2<>(new ArrayList<>(), new ArrayList<>()),
+                (columns, tuple) -> {
+                    if (columns._1.isEmpty()) {
+                        columns._1.ensureCapacity(expectedSize);
+                        columns._2.ensureCapacity(expectedSize);
+                    }
+                    columns._1.add(tuple._1);
+                    columns._2.add(tuple._2);
+                },
+                (left, right) -> {
+                    left._1.ensureCapacity(left._1.size() + right._1.size());
+                    left._2.ensureCapacity(left._2.size() + right._2.size());
+                    left._1.addAll(right._1);
+                    left._2.addAll(right._2);
+                    return left;
+                },
+                columns -> new Tuple2<>(columns._1, columns._2));
+    }
+
+    /**
+     * Collector that passes each element to two downstream collectors in one pass, and returns both results
+     * (same as {@code Collectors.teeing} of Java 12, usable on Java 8/9). <br>
+     * 一次遍历中将每个元素传给两个下游收集器，并返回两个结果（与 Java 12 的 {@code Collectors.teeing} 相同，可用于 Java 8/9）。
+     *
+     * @param downstream1 the first collector
+     * @param downstream2 the second collector
+     * @param <T>         type of elements
+     * @param <R1>        result type of the first collector
+     * @param <R2>        result type of the second collector
+     * @return collector
+     */
+    public static <T, R1, R2> Collector<T, ?, Tuple2<R1, R2>> teeing(Collector<? super T, ?, R1> downstream1,
+                                                                  Collector<? super T, ?, R2> downstream2) {
+        return teeing0(Objects.requireNonNull(downstream1), Objects.requireNonNull(downstream2));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, A1, A2, R1, R2> Collector<T, ?, Tuple2<R1, R2>> teeing0(Collector<? super T, A1, R1> downstream1,
+                                                                            Collector<? super T, A2, R2> downstream2) {
+        Supplier<A1> supplier1 = downstream1.supplier();
+        Supplier<A2> supplier2 = downstream2.supplier();
+        BiConsumer<A1, ? super T> accumulator1 = downstream1.accumulator();
+        BiConsumer<A2, ? super T> accumulator2 = downstream2.accumulator();
+        BinaryOperator<A1> combiner1 = downstream1.combiner();
+        BinaryOperator<A2> combiner2 = downstream2.combiner();
+        Function<A1, R1> finisher1 = downstream1.finisher();
+        Function<A2, R2> finisher2 = downstream2.finisher();
+
+        Set<Collector.Characteristics> characteristics = EnumSet.noneOf(Collector.Characteristics.class);
+        if (downstream1.characteristics().contains(Collector.Characteristics.UNORDERED)
+                && downstream2.characteristics().contains(Collector.Characteristics.UNORDERED)) {
+            characteristics.add(Collector.Characteristics.UNORDERED);
+        }
+
+        return Collector.of(
+                () -> new Object[]{supplier1.get(), supplier2.get()},
+                (containers, t) -> {
+                    accumulator1.accept((A1) containers[0], t);
+                    accumulator2.accept((A2) containers[1], t);
+                },
+                (left, right) -> {
+                    left[0] = combiner1.apply((A1) left[0], (A1) right[0]);
+                    left[1] = combiner2.apply((A2) left[1], (A2) right[1]);
+                    return left;
+                },
+                containers -> new Tuple2<>(finisher1.apply((A1) containers[0]), finisher2.apply((A2) containers[1])),
+                characteristics.toArray(new Collector.Characteristics[0]));
+    }
+
+    private static final int PASSED_CHARACTERISTICS = Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.CONCURRENT;
+
+    static final class ZipSpliterator<A, B> implements Spliterator<Tuple2<A, B>> {
+        private final Spliterator<A> as;
+        private final Spliterator<B> bs;
+        private A a;
+        private B b;
+
+        ZipSpliterator(Spliterator<A> as, Spliterator<B> bs) {
+            this.as = as;
+            this.bs = bs;
+        }
+
+        private boolean sameSize() {
+            long size = as.getExactSizeIfKnown();
+            return size != -1 && size == bs.getExactSizeIfKnown();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Tuple2<A, B>> action) {
+            if (as.tryAdvance(x -> a = x) && bs.tryAdvance(y -> b = y)) {
+                action.accept(new Tuple2<>(a, b));
+                a = null;
+                b = null;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Spliterator<Tuple2<A, B>> trySplit() {
+            if (!sameSize() || !as.hasCharacteristics(SUBSIZED) || !bs.hasCharacteristics(SUBSIZED)) return null;
+            Spliterator<A> prefix = as.trySplit();
+            if (prefix == null) return null;
+            long size = prefix.getExactSizeIfKnown();
+            if (size < 0 || size > Integer.MAX_VALUE - 8) throw new IllegalStateException("Can't split the zipped stream. ");
+
+            Object[] buffer = new Object[(int) size];
+            for (int i = 0; i < buffer.length; i++) {
+                int index = i;
+                bs.tryAdvance(y -> buffer[index] = y);
+            }
+            int characteristics = bs.characteristics() & (ORDERED | IMMUTABLE);
+            return new ZipSpliterator<>(prefix, (Spliterator<B>) Spliterators.spliterator(buffer, characteristics));
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.min(as.estimateSize(), bs.estimateSize());
+        }
+
+        @Override
+        public int characteristics() {
+            int characteristics = as.characteristics() & bs.characteristics() & PASSED_CHARACTERISTICS | NONNULL;
+            return sameSize() && as.hasCharacteristics(SUBSIZED) && bs.hasCharacteristics(SUBSIZED)
+                    ? characteristics | SIZED | SUBSIZED
+                    : characteristics;
+        }
+    }
+
+    static final class IndexedSpliterator<T> implements Spliterator<Tuple2<T, Long>> {
+        private final Spliterator<T> source;
+        private long index;
+
+        IndexedSpliterator(Spliterator<T> source, long index) {
+            this.source = source;
+            this.index = index;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Tuple2<T, Long>> action) {
+            return source.tryAdvance(t -> action.accept(new Tuple2<>(t, index++)));
+        }
+
+        @Override
+        public Spliterator<Tuple2<T, Long>> trySplit() {
+            if (!source.hasCharacteristics(SUBSIZED)) return null;
+            Spliterator<T> prefix = source.trySplit();
+            if (prefix == null) return null;
+            IndexedSpliterator<T> split = new IndexedSpliterator<>(prefix, index);
+            index += prefix.getExactSizeIfKnown();
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & (PASSED_CHARACTERISTICS | SIZED | SUBSIZED) | NONNULL;
+        }
+    }
+}
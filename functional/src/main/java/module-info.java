@@ -25,6 +25,8 @@ module iofairy.functional {
     exports com.iofairy.pattern.type;
     exports com.iofairy.pattern.mapping;
     exports com.iofairy.pattern.matcher;
+    exports com.iofairy.pattern.compiled;
+    exports com.iofairy.pattern.rule;
     exports com.iofairy.si;
     exports com.iofairy.top;
     exports com.iofairy.tcf;